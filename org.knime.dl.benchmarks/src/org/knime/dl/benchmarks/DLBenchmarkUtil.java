@@ -0,0 +1,195 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+
+import org.knime.dl.core.DLDefaultFixedTensorShape;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorFactory;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.knime.dl.python.core.DLPythonDefaultTensorFactory;
+
+import com.google.common.primitives.UnsignedBytes;
+
+/**
+ * Shapes, tensors and data shared by the deep learning benchmarks.
+ *
+ * @author agent, agent@local
+ */
+final class DLBenchmarkUtil {
+
+	/**
+	 * A single value per example, e.g. a regression output.
+	 */
+	static final String SCALAR = "scalar";
+
+	/**
+	 * A 1000-wide vector per example, e.g. the softmax output of an ImageNet classifier.
+	 */
+	static final String VECTOR = "vector";
+
+	/**
+	 * A 224x224x3 image per example, e.g. the input of an ImageNet classifier.
+	 */
+	static final String IMAGE = "image";
+
+	/**
+	 * The tensor factory of the Python back ends, i.e. the one whose tensors are used in production.
+	 */
+	static final DLTensorFactory TENSOR_FACTORY = new DLPythonDefaultTensorFactory();
+
+	private DLBenchmarkUtil() {
+	}
+
+	static long[] getShape(final String shape) {
+		switch (shape) {
+			case SCALAR:
+				return new long[] { 1 };
+			case VECTOR:
+				return new long[] { 1000 };
+			case IMAGE:
+				return new long[] { 224, 224, 3 };
+			default:
+				throw new IllegalArgumentException("Unknown benchmark shape '" + shape + "'.");
+		}
+	}
+
+	static int getExampleSize(final String shape) {
+		long size = 1;
+		for (final long dim : getShape(shape)) {
+			size *= dim;
+		}
+		return (int) size;
+	}
+
+	/**
+	 * @param bufferType a buffer interface such as <code>DLReadableFloatBuffer</code> or
+	 *            <code>DLWritableUnsignedByteBuffer</code>
+	 * @return the element type of tensors that provide buffers of the given type
+	 */
+	static Class<?> getElementType(final Class<? extends DLBuffer> bufferType) {
+		final String name = bufferType.getSimpleName().replaceFirst("^DL(Readable|Writable)", "")
+				.replaceFirst("Buffer$", "");
+		switch (name) {
+			case "Double":
+				return double.class;
+			case "Float":
+				return float.class;
+			case "Long":
+				return long.class;
+			case "Int":
+				return int.class;
+			case "Short":
+				return short.class;
+			case "Byte":
+				return byte.class;
+			case "UnsignedByte":
+				return UnsignedBytes.class;
+			case "Bit":
+				return boolean.class;
+			case "String":
+				return String.class;
+			default:
+				throw new IllegalArgumentException("Unsupported buffer type '" + bufferType.getName() + "'.");
+		}
+	}
+
+	static DLTensorSpec createTensorSpec(final Class<?> elementType, final long batchSize, final long[] shape) {
+		return new DLDefaultTensorSpec(new DLDefaultTensorId("benchmark"), "benchmark", batchSize,
+				new DLDefaultFixedTensorShape(shape), elementType, DLDimensionOrder.TDHWC);
+	}
+
+	/**
+	 * Creates a tensor whose buffer implements the given buffer type.
+	 */
+	@SuppressWarnings("unchecked")
+	static <B extends DLBuffer> DLTensor<B> createTensor(final Class<? extends DLBuffer> bufferType,
+			final long batchSize, final long[] shape) {
+		return (DLTensor<B>) TENSOR_FACTORY
+				.createWritableTensor(createTensorSpec(getElementType(bufferType), batchSize, shape));
+	}
+
+	/**
+	 * Fills the given buffer up to its capacity with random values.
+	 */
+	static void fillRandom(final DLWrappingDataBuffer<?> buffer, final Random random) {
+		buffer.reset();
+		final Object storage = buffer.getStorageForWriting(0, buffer.getCapacity());
+		final int length = Array.getLength(storage);
+		for (int i = 0; i < length; i++) {
+			if (storage instanceof double[]) {
+				((double[]) storage)[i] = random.nextDouble();
+			} else if (storage instanceof float[]) {
+				((float[]) storage)[i] = random.nextFloat();
+			} else if (storage instanceof long[]) {
+				((long[]) storage)[i] = random.nextLong();
+			} else if (storage instanceof int[]) {
+				((int[]) storage)[i] = random.nextInt();
+			} else if (storage instanceof short[]) {
+				((short[]) storage)[i] = (short) random.nextInt(256);
+			} else if (storage instanceof byte[]) {
+				((byte[]) storage)[i] = (byte) random.nextInt();
+			} else if (storage instanceof boolean[]) {
+				((boolean[]) storage)[i] = random.nextBoolean();
+			} else if (storage instanceof String[]) {
+				((String[]) storage)[i] = Integer.toString(random.nextInt());
+			} else {
+				throw new IllegalArgumentException(
+						"Unsupported buffer storage '" + storage.getClass().getSimpleName() + "'.");
+			}
+		}
+	}
+}
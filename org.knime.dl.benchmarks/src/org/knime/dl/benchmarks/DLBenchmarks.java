@@ -0,0 +1,96 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the deep learning benchmarks and writes their results as JSON so that they can be compared across versions.
+ * <P>
+ * The benchmarks must be run on a flat class path (not within an OSGi container) that contains this bundle, its
+ * <code>lib/</code> jars and the bundles it requires. All standard JMH command line options are supported, e.g.
+ * <code>DLBenchmarks DLPythonSerdeBenchmark -p shape=image -rff serde.json</code>. Unless specified otherwise, all
+ * benchmarks are run and the results are written to {@value #DEFAULT_RESULT_FILE}.
+ *
+ * @author agent, agent@local
+ */
+public final class DLBenchmarks {
+
+	private static final String DEFAULT_RESULT_FILE = "dl-benchmarks.json";
+
+	private DLBenchmarks() {
+	}
+
+	/**
+	 * @param args JMH command line options
+	 * @throws CommandLineOptionException if the options cannot be parsed
+	 * @throws RunnerException if running the benchmarks failed
+	 */
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+		final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		final OptionsBuilder builder = new OptionsBuilder();
+		if (commandLineOptions.getIncludes().isEmpty()) {
+			builder.include(DLBenchmarks.class.getPackage().getName() + ".*Benchmark");
+		}
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!commandLineOptions.getResult().hasValue()) {
+			builder.result(DEFAULT_RESULT_FILE);
+		}
+		final Options options = builder.parent(commandLineOptions).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.data.vector.bitvector.DenseBitVector;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.data.vector.bytevector.ByteVectorValue;
+import org.knime.core.data.vector.bytevector.DenseByteVector;
+import org.knime.core.data.vector.bytevector.DenseByteVectorCellFactory;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverter;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of a batch of data rows into a tensor for each
+ * {@link DLDataValueToTensorConverterFactory} that is registered by the core plug-in. Converters whose source type is
+ * a scalar read one cell per tensor element, vector and collection converters read one cell per example.
+ *
+ * @author agent, agent@local
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DLDataValueToTensorConverterBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+
+	/**
+	 * Keep in sync with the converter factories registered in the plugin.xml of org.knime.dl.
+	 */
+	@Param({ "org.knime.dl.core.data.convert.DLBitVectorToBitTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLBooleanValueToBitTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLByteVectorToByteTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLDoubleValueToDoubleTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLDoubleValueToFloatTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLIntValueToFloatTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLIntValueToIntTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLLongValueToDoubleTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLLongValueToLongTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLIntCollectionValueToOneHotFloatTensorConverterFactory",
+			"org.knime.dl.core.data.convert.DLStringValueToStringTensorConverterFactory" })
+	public String factory;
+
+	@Param({ DLBenchmarkUtil.SCALAR, DLBenchmarkUtil.VECTOR, DLBenchmarkUtil.IMAGE })
+	public String shape;
+
+	private DLDataValueToTensorConverter<DataValue, DLWritableBuffer> m_converter;
+
+	private List<List<DataValue>> m_rows;
+
+	private DLTensor<DLWritableBuffer> m_tensor;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		final DLDataValueToTensorConverterFactory<DataValue, DLWritableBuffer> converterFactory =
+				(DLDataValueToTensorConverterFactory<DataValue, DLWritableBuffer>) Class.forName(factory)
+						.newInstance();
+		m_converter = converterFactory.createConverter();
+		final int exampleSize = DLBenchmarkUtil.getExampleSize(shape);
+		final Random random = new Random(42);
+		m_rows = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			m_rows.add(createRow(converterFactory.getSourceType(), exampleSize, random));
+		}
+		m_tensor = DLBenchmarkUtil.createTensor(converterFactory.getBufferType(), BATCH_SIZE,
+				DLBenchmarkUtil.getShape(shape));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		m_tensor.close();
+	}
+
+	@Benchmark
+	public DLTensor<DLWritableBuffer> convert() {
+		m_tensor.getBuffer().reset();
+		for (final List<DataValue> row : m_rows) {
+			m_converter.convert(row, m_tensor);
+		}
+		return m_tensor;
+	}
+
+	private static List<DataValue> createRow(final Class<? extends DataValue> sourceType, final int exampleSize,
+			final Random random) {
+		if (sourceType == BitVectorValue.class) {
+			final DenseBitVector vector = new DenseBitVector(exampleSize);
+			for (int i = 0; i < exampleSize; i++) {
+				if (random.nextBoolean()) {
+					vector.set(i);
+				}
+			}
+			return Collections.singletonList(new DenseBitVectorCellFactory(vector).createDataCell());
+		} else if (sourceType == ByteVectorValue.class) {
+			final DenseByteVector vector = new DenseByteVector(exampleSize);
+			for (int i = 0; i < exampleSize; i++) {
+				vector.set(i, random.nextInt(256));
+			}
+			return Collections.singletonList(new DenseByteVectorCellFactory(vector).createDataCell());
+		} else if (sourceType == CollectionDataValue.class) {
+			// one-hot encoding: a single class index per example
+			return Collections.singletonList(CollectionCellFactory
+					.createListCell(Collections.singletonList(new IntCell(random.nextInt(exampleSize)))));
+		}
+		final List<DataValue> row = new ArrayList<>(exampleSize);
+		for (int i = 0; i < exampleSize; i++) {
+			row.add(createScalarCell(sourceType, random));
+		}
+		return row;
+	}
+
+	private static DataCell createScalarCell(final Class<? extends DataValue> sourceType, final Random random) {
+		if (sourceType == DoubleValue.class) {
+			return new DoubleCell(random.nextDouble());
+		} else if (sourceType == IntValue.class) {
+			return new IntCell(random.nextInt());
+		} else if (sourceType == LongValue.class) {
+			return new LongCell(random.nextLong());
+		} else if (sourceType == BooleanValue.class) {
+			return random.nextBoolean() ? BooleanCell.TRUE : BooleanCell.FALSE;
+		} else if (sourceType == StringValue.class) {
+			return new StringCell(Integer.toString(random.nextInt()));
+		}
+		throw new IllegalArgumentException("Unsupported source type '" + sourceType.getName() + "'.");
+	}
+}
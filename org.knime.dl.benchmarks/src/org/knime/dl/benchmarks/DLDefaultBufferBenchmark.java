@@ -0,0 +1,499 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.dl.core.data.DLDefaultBitBuffer;
+import org.knime.dl.core.data.DLDefaultByteBuffer;
+import org.knime.dl.core.data.DLDefaultDoubleBuffer;
+import org.knime.dl.core.data.DLDefaultFloatBuffer;
+import org.knime.dl.core.data.DLDefaultIntBuffer;
+import org.knime.dl.core.data.DLDefaultLongBuffer;
+import org.knime.dl.core.data.DLDefaultShortBuffer;
+import org.knime.dl.core.data.DLDefaultUnsignedByteBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the element-wise and bulk write and read paths of the default buffers. One invocation writes or reads a
+ * single example of the selected shape.
+ *
+ * @author agent, agent@local
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DLDefaultBufferBenchmark {
+
+	@Param({ "FLOAT", "DOUBLE", "INT", "LONG", "SHORT", "BYTE", "UNSIGNED_BYTE", "BIT" })
+	public Kind kind;
+
+	@Param({ DLBenchmarkUtil.SCALAR, DLBenchmarkUtil.VECTOR, DLBenchmarkUtil.IMAGE })
+	public String shape;
+
+	private DLWrappingDataBuffer<?> m_buffer;
+
+	private Object m_values;
+
+	private Object m_dest;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final int size = DLBenchmarkUtil.getExampleSize(shape);
+		m_buffer = kind.createBuffer(size);
+		m_values = kind.createValues(size, new Random(42));
+		m_dest = kind.createValues(size, new Random(42));
+		// the read benchmarks re-read this content, the write benchmarks reset the buffer
+		kind.putAll(m_buffer, m_values);
+	}
+
+	@Benchmark
+	public void put() {
+		m_buffer.reset();
+		kind.put(m_buffer, m_values);
+	}
+
+	@Benchmark
+	public void putAll() {
+		m_buffer.reset();
+		kind.putAll(m_buffer, m_values);
+	}
+
+	@Benchmark
+	public void readNext(final Blackhole blackhole) {
+		m_buffer.resetRead();
+		kind.readNext(m_buffer, blackhole);
+	}
+
+	@Benchmark
+	public Object readToArray() {
+		m_buffer.resetRead();
+		kind.readToArray(m_buffer, m_dest);
+		return m_dest;
+	}
+
+	/**
+	 * The benchmarked buffer types and their type-specific access methods.
+	 */
+	public enum Kind {
+
+			FLOAT {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultFloatBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final float[] values = new float[size];
+					for (int i = 0; i < size; i++) {
+						values[i] = random.nextFloat();
+					}
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultFloatBuffer b = (DLDefaultFloatBuffer) buffer;
+					for (final float value : (float[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultFloatBuffer) buffer).putAll((float[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultFloatBuffer b = (DLDefaultFloatBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextFloat());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultFloatBuffer) buffer).readToFloatArray((float[]) dest, 0, ((float[]) dest).length);
+				}
+			},
+
+			DOUBLE {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultDoubleBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final double[] values = new double[size];
+					for (int i = 0; i < size; i++) {
+						values[i] = random.nextDouble();
+					}
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultDoubleBuffer b = (DLDefaultDoubleBuffer) buffer;
+					for (final double value : (double[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultDoubleBuffer) buffer).putAll((double[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultDoubleBuffer b = (DLDefaultDoubleBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextDouble());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultDoubleBuffer) buffer).readToDoubleArray((double[]) dest, 0, ((double[]) dest).length);
+				}
+			},
+
+			INT {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultIntBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final int[] values = new int[size];
+					for (int i = 0; i < size; i++) {
+						values[i] = random.nextInt();
+					}
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultIntBuffer b = (DLDefaultIntBuffer) buffer;
+					for (final int value : (int[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultIntBuffer) buffer).putAll((int[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultIntBuffer b = (DLDefaultIntBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextInt());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultIntBuffer) buffer).readToIntArray((int[]) dest, 0, ((int[]) dest).length);
+				}
+			},
+
+			LONG {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultLongBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final long[] values = new long[size];
+					for (int i = 0; i < size; i++) {
+						values[i] = random.nextLong();
+					}
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultLongBuffer b = (DLDefaultLongBuffer) buffer;
+					for (final long value : (long[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultLongBuffer) buffer).putAll((long[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultLongBuffer b = (DLDefaultLongBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextLong());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultLongBuffer) buffer).readToLongArray((long[]) dest, 0, ((long[]) dest).length);
+				}
+			},
+
+			SHORT {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultShortBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					return createShortValues(size, random);
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultShortBuffer b = (DLDefaultShortBuffer) buffer;
+					for (final short value : (short[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultShortBuffer) buffer).putAll((short[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultShortBuffer b = (DLDefaultShortBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextShort());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultShortBuffer) buffer).readToShortArray((short[]) dest, 0, ((short[]) dest).length);
+				}
+			},
+
+			BYTE {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultByteBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final byte[] values = new byte[size];
+					random.nextBytes(values);
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultByteBuffer b = (DLDefaultByteBuffer) buffer;
+					for (final byte value : (byte[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultByteBuffer) buffer).putAll((byte[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultByteBuffer b = (DLDefaultByteBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextByte());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultByteBuffer) buffer).readToByteArray((byte[]) dest, 0, ((byte[]) dest).length);
+				}
+			},
+
+			UNSIGNED_BYTE {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultUnsignedByteBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					return createShortValues(size, random);
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultUnsignedByteBuffer b = (DLDefaultUnsignedByteBuffer) buffer;
+					for (final short value : (short[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultUnsignedByteBuffer) buffer).putAll((short[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultUnsignedByteBuffer b = (DLDefaultUnsignedByteBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextUnsignedByte());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultUnsignedByteBuffer) buffer).readToUnsignedByteArray((short[]) dest, 0,
+							((short[]) dest).length);
+				}
+			},
+
+			BIT {
+
+				@Override
+				DLWrappingDataBuffer<?> createBuffer(final long capacity) {
+					return new DLDefaultBitBuffer(capacity);
+				}
+
+				@Override
+				Object createValues(final int size, final Random random) {
+					final boolean[] values = new boolean[size];
+					for (int i = 0; i < size; i++) {
+						values[i] = random.nextBoolean();
+					}
+					return values;
+				}
+
+				@Override
+				void put(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					final DLDefaultBitBuffer b = (DLDefaultBitBuffer) buffer;
+					for (final boolean value : (boolean[]) values) {
+						b.put(value);
+					}
+				}
+
+				@Override
+				void putAll(final DLWrappingDataBuffer<?> buffer, final Object values) {
+					((DLDefaultBitBuffer) buffer).putAll((boolean[]) values);
+				}
+
+				@Override
+				void readNext(final DLWrappingDataBuffer<?> buffer, final Blackhole blackhole) {
+					final DLDefaultBitBuffer b = (DLDefaultBitBuffer) buffer;
+					for (long i = 0; i < b.size(); i++) {
+						blackhole.consume(b.readNextBit());
+					}
+				}
+
+				@Override
+				void readToArray(final DLWrappingDataBuffer<?> buffer, final Object dest) {
+					((DLDefaultBitBuffer) buffer).readToBitArray((boolean[]) dest, 0, ((boolean[]) dest).length);
+				}
+			};
+
+		abstract DLWrappingDataBuffer<?> createBuffer(long capacity);
+
+		abstract Object createValues(int size, Random random);
+
+		abstract void put(DLWrappingDataBuffer<?> buffer, Object values);
+
+		abstract void putAll(DLWrappingDataBuffer<?> buffer, Object values);
+
+		abstract void readNext(DLWrappingDataBuffer<?> buffer, Blackhole blackhole);
+
+		abstract void readToArray(DLWrappingDataBuffer<?> buffer, Object dest);
+
+		private static short[] createShortValues(final int size, final Random random) {
+			final short[] values = new short[size];
+			for (int i = 0; i < size; i++) {
+				// within the unsigned byte range so that the values are valid for both short and unsigned byte buffers
+				values[i] = (short) random.nextInt(256);
+			}
+			return values;
+		}
+	}
+}
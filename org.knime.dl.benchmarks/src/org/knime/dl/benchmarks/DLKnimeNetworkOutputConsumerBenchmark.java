@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.data.DLReadableBuffer;
+import org.knime.dl.core.data.DLReadableDoubleBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.knime.dl.core.data.convert.DLDoubleTensorToDoubleCellConverterFactory;
+import org.knime.dl.core.data.convert.DLDoubleTensorToDoubleVectorCellConverterFactory;
+import org.knime.dl.core.data.convert.DLTensorToDataCellConverterFactory;
+import org.knime.dl.core.data.convert.DLTensorToListCellConverterFactory;
+import org.knime.dl.core.execution.DLKnimeNetworkOutputConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link DLKnimeNetworkOutputConsumer#accept(Map)}, i.e. the conversion of a batch of network output into
+ * rows of the executor's output table, for the output cell types that are offered for double tensors.
+ *
+ * @author agent, agent@local
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DLKnimeNetworkOutputConsumerBenchmark {
+
+	private static final int BATCH_SIZE = 100;
+
+	@Param({ "cells", "list", "vector" })
+	public String output;
+
+	@Param({ DLBenchmarkUtil.SCALAR, DLBenchmarkUtil.VECTOR })
+	public String shape;
+
+	@Param({ "true", "false" })
+	public boolean append;
+
+	private DLTensor<DLReadableDoubleBuffer> m_tensor;
+
+	private Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> m_tensors;
+
+	private DLKnimeNetworkOutputConsumer m_consumer;
+
+	@Setup(Level.Trial)
+	public void setup(final Blackhole blackhole) {
+		m_tensor = DLBenchmarkUtil.createTensor(DLReadableDoubleBuffer.class, BATCH_SIZE,
+				DLBenchmarkUtil.getShape(shape));
+		DLBenchmarkUtil.fillRandom((DLWrappingDataBuffer<?>) m_tensor.getBuffer(), new Random(42));
+		final DLTensorId id = m_tensor.getSpec().getIdentifier();
+		m_tensors = Collections.singletonMap(id, m_tensor);
+		final LinkedHashMap<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> converters = new LinkedHashMap<>();
+		converters.put(id, createFactory(output));
+		// the base row carries a single input column, as if the executor kept its input columns
+		final DataRow baseRow = new DefaultRow("Row0", new DoubleCell(0));
+		m_consumer = new DLKnimeNetworkOutputConsumer(new BlackholeRowOutput(blackhole), () -> baseRow, append,
+				converters, null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		m_tensor.close();
+	}
+
+	@Benchmark
+	public void accept() {
+		m_tensor.getBuffer().resetRead();
+		m_consumer.accept(m_tensors);
+	}
+
+	private static DLTensorToDataCellConverterFactory<?, ?> createFactory(final String output) {
+		switch (output) {
+			case "cells":
+				return new DLDoubleTensorToDoubleCellConverterFactory();
+			case "list":
+				return new DLTensorToListCellConverterFactory<>(new DLDoubleTensorToDoubleCellConverterFactory());
+			case "vector":
+				return new DLDoubleTensorToDoubleVectorCellConverterFactory();
+			default:
+				throw new IllegalArgumentException("Unknown output '" + output + "'.");
+		}
+	}
+
+	private static final class BlackholeRowOutput extends RowOutput {
+
+		private final Blackhole m_blackhole;
+
+		private BlackholeRowOutput(final Blackhole blackhole) {
+			m_blackhole = blackhole;
+		}
+
+		@Override
+		public void push(final DataRow row) {
+			m_blackhole.consume(row);
+		}
+
+		@Override
+		public void close() {
+			// nothing to do
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.knime.core.data.DataCell;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.knime.dl.python.core.data.serde.DLPythonBitBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonBitBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonByteBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonByteBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonDeserializer;
+import org.knime.dl.python.core.data.serde.DLPythonDoubleBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonDoubleBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonFloatBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonFloatBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonIntBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonIntBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonLongBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonLongBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonShortBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonShortBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonUnsignedByteBufferDeserializerFactory;
+import org.knime.dl.python.core.data.serde.DLPythonUnsignedByteBufferSerializerFactory;
+import org.knime.dl.python.core.data.serde.DLSerializerFactory;
+import org.knime.python.typeextension.DeserializerFactory;
+import org.knime.python.typeextension.Serializer;
+import org.knime.python.typeextension.SerializerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.primitives.UnsignedBytes;
+
+/**
+ * Measures the serializer and deserializer pairs that transfer tensors between KNIME and Python. One invocation
+ * transfers a batch of examples of the selected shape.
+ *
+ * @author agent, agent@local
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DLPythonSerdeBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+
+	@Param({ "FLOAT", "DOUBLE", "INT", "LONG", "SHORT", "BYTE", "UNSIGNED_BYTE", "BIT" })
+	public Kind kind;
+
+	@Param({ DLBenchmarkUtil.SCALAR, DLBenchmarkUtil.VECTOR, DLBenchmarkUtil.IMAGE })
+	public String shape;
+
+	private DLTensor<DLWrappingDataBuffer<?>> m_tensor;
+
+	private Serializer<DLWrappingDataBuffer<?>> m_serializer;
+
+	private Serializer<DLWrappingDataBuffer<?>> m_pooledSerializer;
+
+	private DLPythonDeserializer<DLWrappingDataBuffer<?>> m_deserializer;
+
+	private byte[] m_bytes;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		m_tensor = (DLTensor<DLWrappingDataBuffer<?>>) DLBenchmarkUtil.TENSOR_FACTORY.createWritableTensor(
+				DLBenchmarkUtil.createTensorSpec(kind.m_elementType, BATCH_SIZE, DLBenchmarkUtil.getShape(shape)));
+		DLBenchmarkUtil.fillRandom(m_tensor.getBuffer(), new Random(42));
+		final SerializerFactory<?> serializerFactory = kind.m_serializerFactory.get();
+		m_serializer = (Serializer<DLWrappingDataBuffer<?>>) serializerFactory.createSerializer();
+		m_pooledSerializer =
+				(Serializer<DLWrappingDataBuffer<?>>) ((DLSerializerFactory) serializerFactory).createPooledSerializer();
+		m_deserializer = (DLPythonDeserializer<DLWrappingDataBuffer<?>>) kind.m_deserializerFactory.get()
+				.createDeserializer();
+		m_bytes = m_serializer.serialize(m_tensor.getBuffer());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		m_tensor.close();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return m_serializer.serialize(m_tensor.getBuffer());
+	}
+
+	@Benchmark
+	public byte[] serializePooled() throws IOException {
+		return m_pooledSerializer.serialize(m_tensor.getBuffer());
+	}
+
+	@Benchmark
+	public DLTensor<DLWrappingDataBuffer<?>> deserializeIntoTensor() {
+		// keeps the content, deserialization starts writing at the current size
+		m_tensor.getBuffer().resetWrite();
+		m_deserializer.deserialize(m_bytes, m_tensor);
+		return m_tensor;
+	}
+
+	@Benchmark
+	public DataCell deserializeCell() throws IOException {
+		return m_deserializer.deserialize(m_bytes, null);
+	}
+
+	/**
+	 * The benchmarked tensor element types and their serializer and deserializer factories.
+	 */
+	public enum Kind {
+
+			FLOAT(float.class, DLPythonFloatBufferSerializerFactory::new, DLPythonFloatBufferDeserializerFactory::new),
+
+			DOUBLE(double.class, DLPythonDoubleBufferSerializerFactory::new,
+					DLPythonDoubleBufferDeserializerFactory::new),
+
+			INT(int.class, DLPythonIntBufferSerializerFactory::new, DLPythonIntBufferDeserializerFactory::new),
+
+			LONG(long.class, DLPythonLongBufferSerializerFactory::new, DLPythonLongBufferDeserializerFactory::new),
+
+			SHORT(short.class, DLPythonShortBufferSerializerFactory::new, DLPythonShortBufferDeserializerFactory::new),
+
+			BYTE(byte.class, DLPythonByteBufferSerializerFactory::new, DLPythonByteBufferDeserializerFactory::new),
+
+			UNSIGNED_BYTE(UnsignedBytes.class, DLPythonUnsignedByteBufferSerializerFactory::new,
+					DLPythonUnsignedByteBufferDeserializerFactory::new),
+
+			BIT(boolean.class, DLPythonBitBufferSerializerFactory::new, DLPythonBitBufferDeserializerFactory::new);
+
+		private final Class<?> m_elementType;
+
+		private final Supplier<? extends SerializerFactory<?>> m_serializerFactory;
+
+		private final Supplier<? extends DeserializerFactory> m_deserializerFactory;
+
+		Kind(final Class<?> elementType, final Supplier<? extends SerializerFactory<?>> serializerFactory,
+				final Supplier<? extends DeserializerFactory> deserializerFactory) {
+			m_elementType = elementType;
+			m_serializerFactory = serializerFactory;
+			m_deserializerFactory = deserializerFactory;
+		}
+	}
+}
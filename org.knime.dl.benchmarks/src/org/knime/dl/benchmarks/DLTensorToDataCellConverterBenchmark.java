@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.benchmarks;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.data.DLReadableBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.knime.dl.core.data.convert.DLTensorToDataCellConverter;
+import org.knime.dl.core.data.convert.DLTensorToDataCellConverterFactory;
+import org.knime.dl.core.data.convert.DLTensorToListCellConverterFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of an output tensor into the cells of a batch of rows for each
+ * {@link DLTensorToDataCellConverterFactory} that is registered by the core plug-in, as well as for the list variants
+ * that the converter registry derives from the factories with more than one output cell.
+ *
+ * @author agent, agent@local
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DLTensorToDataCellConverterBenchmark {
+
+	private static final int BATCH_SIZE = 16;
+
+	private static final String LIST_PREFIX = "list:";
+
+	/**
+	 * Keep in sync with the converter factories registered in the plugin.xml of org.knime.dl. Entries prefixed with
+	 * {@value #LIST_PREFIX} are wrapped in a {@link DLTensorToListCellConverterFactory}.
+	 */
+	@Param({ "org.knime.dl.core.data.convert.DLDoubleTensorToDoubleCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLDoubleTensorToDoubleVectorCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLIntTensorToIntCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLLongTensorToLongCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLBitTensorToBooleanCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLBitTensorToBitVectorCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLUnsignedByteTensorToByteVectorCellConverterFactory",
+			"org.knime.dl.core.data.convert.DLStringTensorToStringCellConverterFactory",
+			LIST_PREFIX + "org.knime.dl.core.data.convert.DLDoubleTensorToDoubleCellConverterFactory",
+			LIST_PREFIX + "org.knime.dl.core.data.convert.DLIntTensorToIntCellConverterFactory",
+			LIST_PREFIX + "org.knime.dl.core.data.convert.DLLongTensorToLongCellConverterFactory",
+			LIST_PREFIX + "org.knime.dl.core.data.convert.DLBitTensorToBooleanCellConverterFactory",
+			LIST_PREFIX + "org.knime.dl.core.data.convert.DLStringTensorToStringCellConverterFactory" })
+	public String factory;
+
+	@Param({ DLBenchmarkUtil.SCALAR, DLBenchmarkUtil.VECTOR, DLBenchmarkUtil.IMAGE })
+	public String shape;
+
+	private DLTensorToDataCellConverter<DLReadableBuffer, DataCell> m_converter;
+
+	private DLTensor<DLReadableBuffer> m_tensor;
+
+	private DataCell[] m_scratch;
+
+	private DataCell[][] m_rows;
+
+	private int m_numCellsPerExample;
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		final DLTensorToDataCellConverterFactory<DLReadableBuffer, DataCell> converterFactory = createFactory(factory);
+		m_converter = converterFactory.createConverter();
+		m_tensor = DLBenchmarkUtil.createTensor(converterFactory.getBufferType(), BATCH_SIZE,
+				DLBenchmarkUtil.getShape(shape));
+		DLBenchmarkUtil.fillRandom((DLWrappingDataBuffer<?>) m_tensor.getBuffer(), new Random(42));
+		m_numCellsPerExample = (int) converterFactory.getDestCount(m_tensor.getSpec()).getAsLong();
+		m_scratch = (DataCell[]) Array.newInstance(converterFactory.getDestType().getCellClass(),
+				BATCH_SIZE * m_numCellsPerExample);
+		m_rows = new DataCell[BATCH_SIZE][m_numCellsPerExample];
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		m_tensor.close();
+	}
+
+	@Benchmark
+	public DataCell[][] convert() {
+		m_tensor.getBuffer().resetRead();
+		m_converter.convertToRows(m_tensor, m_scratch, m_rows, 0, m_numCellsPerExample, null);
+		return m_rows;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static DLTensorToDataCellConverterFactory<DLReadableBuffer, DataCell> createFactory(final String factory)
+			throws ReflectiveOperationException {
+		if (factory.startsWith(LIST_PREFIX)) {
+			return (DLTensorToDataCellConverterFactory) new DLTensorToListCellConverterFactory<>(
+					createFactory(factory.substring(LIST_PREFIX.length())));
+		}
+		return (DLTensorToDataCellConverterFactory) Class.forName(factory).newInstance();
+	}
+}
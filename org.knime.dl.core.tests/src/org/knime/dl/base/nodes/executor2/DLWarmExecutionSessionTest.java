@@ -0,0 +1,290 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.base.nodes.executor2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.dl.core.DLCancelable;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLNetwork;
+import org.knime.dl.core.DLNetworkInputPreparer;
+import org.knime.dl.core.DLNetworkSpec;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorFactory;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLReadableBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.execution.DLExecutionContext;
+import org.knime.dl.core.execution.DLExecutionMonitor;
+import org.knime.dl.core.execution.DLNetworkExecutionSession;
+import org.knime.dl.core.execution.DLNetworkOutputConsumer;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLWarmExecutionSessionTest {
+
+    private static final PortObject PORT_OBJECT = FlowVariablePortObject.INSTANCE;
+
+    private static final Set<DLTensorSpec> INPUT_SPECS = Collections.emptySet();
+
+    private static final Set<DLTensorId> REQUESTED_OUTPUTS = Collections.singleton(new DLDefaultTensorId("output"));
+
+    @Test
+    public void testConsecutiveExecutionsReuseSession() throws Exception {
+        final TestNetwork network = new TestNetwork();
+        final TestExecutionContext executionContext = new TestExecutionContext();
+        try (final DLWarmExecutionSession warmSession = createWarmSession(network, executionContext)) {
+            final TestOutputConsumer firstOutput = new TestOutputConsumer();
+            warmSession.run(new TestInputPreparer(3), firstOutput, null);
+            // the node may have been reset in between, the next execution reuses the session if it matches
+            assertTrue(warmSession.matches(PORT_OBJECT, network, executionContext, INPUT_SPECS, REQUESTED_OUTPUTS));
+            final TestOutputConsumer secondOutput = new TestOutputConsumer();
+            warmSession.run(new TestInputPreparer(2), secondOutput, null);
+
+            assertEquals(1, executionContext.m_numCreatedSessions);
+            assertEquals(2, executionContext.m_session.m_numRuns);
+            assertFalse(executionContext.m_session.m_closed);
+            assertFalse(executionContext.m_context.m_closed);
+            assertEquals(3, firstOutput.m_numBatches);
+            assertEquals(2, secondOutput.m_numBatches);
+        }
+        assertTrue(executionContext.m_session.m_closed);
+        assertTrue(executionContext.m_context.m_closed);
+    }
+
+    @Test
+    public void testSessionDoesNotMatchDifferentExecution() throws Exception {
+        final TestNetwork network = new TestNetwork();
+        final TestExecutionContext executionContext = new TestExecutionContext();
+        try (final DLWarmExecutionSession warmSession = createWarmSession(network, executionContext)) {
+            assertFalse(warmSession.matches(InactiveBranchPortObject.INSTANCE, network, executionContext, INPUT_SPECS,
+                REQUESTED_OUTPUTS));
+            assertFalse(warmSession.matches(PORT_OBJECT, new TestNetwork(), executionContext, INPUT_SPECS,
+                REQUESTED_OUTPUTS));
+            assertFalse(warmSession.matches(PORT_OBJECT, network, executionContext, INPUT_SPECS,
+                Collections.singleton(new DLDefaultTensorId("hidden"))));
+        }
+    }
+
+    @Test
+    public void testSessionDoesNotMatchBeforeItIsSetUp() throws Exception {
+        final TestNetwork network = new TestNetwork();
+        final TestExecutionContext executionContext = new TestExecutionContext();
+        try (final DLWarmExecutionSession warmSession = new DLWarmExecutionSession(PORT_OBJECT, network,
+            executionContext, INPUT_SPECS, REQUESTED_OUTPUTS, executionContext.createDefaultContext())) {
+            assertFalse(warmSession.matches(PORT_OBJECT, network, executionContext, INPUT_SPECS, REQUESTED_OUTPUTS));
+        }
+    }
+
+    /**
+     * Sets up the warm session the same way the executor node model does on its first execution.
+     */
+    private static DLWarmExecutionSession createWarmSession(final TestNetwork network,
+        final TestExecutionContext executionContext) {
+        final TestContext context = executionContext.createDefaultContext();
+        final DLWarmExecutionSession warmSession = new DLWarmExecutionSession(PORT_OBJECT, network, executionContext,
+            INPUT_SPECS, REQUESTED_OUTPUTS, context);
+        warmSession.setSession(executionContext.createExecutionSession(context, network, INPUT_SPECS,
+            REQUESTED_OUTPUTS, warmSession.getInputPreparer(), warmSession.getOutputConsumer()));
+        return warmSession;
+    }
+
+    private static final class TestNetwork implements DLNetwork {
+
+        @Override
+        public DLNetworkSpec getSpec() {
+            return null;
+        }
+    }
+
+    private static final class TestContext implements AutoCloseable {
+
+        private boolean m_closed;
+
+        @Override
+        public void close() {
+            m_closed = true;
+        }
+    }
+
+    private static final class TestExecutionContext implements DLExecutionContext<TestContext, TestNetwork> {
+
+        private int m_numCreatedSessions;
+
+        private TestContext m_context;
+
+        private TestSession m_session;
+
+        @Override
+        public Class<TestNetwork> getNetworkType() {
+            return TestNetwork.class;
+        }
+
+        @Override
+        public String getName() {
+            return "Test";
+        }
+
+        @Override
+        public DLTensorFactory getTensorFactory() {
+            return null;
+        }
+
+        @Override
+        public void checkAvailability(final TestContext context, final boolean forceRefresh, final int timeout,
+            final DLCancelable cancelable) {
+            // always available
+        }
+
+        @Override
+        public TestContext createDefaultContext() {
+            m_context = new TestContext();
+            return m_context;
+        }
+
+        @Override
+        public DLNetworkExecutionSession createExecutionSession(final TestContext context, final TestNetwork network,
+            final Set<DLTensorSpec> executionInputSpecs, final Set<DLTensorId> requestedOutputs,
+            final DLNetworkInputPreparer inputPreparer, final DLNetworkOutputConsumer outputConsumer) {
+            m_numCreatedSessions++;
+            m_session = new TestSession(network, inputPreparer, outputConsumer);
+            return m_session;
+        }
+    }
+
+    private static final class TestSession implements DLNetworkExecutionSession {
+
+        private final DLNetwork m_network;
+
+        private final DLNetworkInputPreparer m_inputPreparer;
+
+        private final DLNetworkOutputConsumer m_outputConsumer;
+
+        private int m_numRuns;
+
+        private boolean m_closed;
+
+        private TestSession(final DLNetwork network, final DLNetworkInputPreparer inputPreparer,
+            final DLNetworkOutputConsumer outputConsumer) {
+            m_network = network;
+            m_inputPreparer = inputPreparer;
+            m_outputConsumer = outputConsumer;
+        }
+
+        @Override
+        public DLNetwork getNetwork() {
+            return m_network;
+        }
+
+        @Override
+        public void run(final DLExecutionMonitor monitor) throws Exception {
+            m_numRuns++;
+            while (m_inputPreparer.hasNext()) {
+                m_inputPreparer.prepareNext(Collections.emptyMap());
+                m_outputConsumer.accept(Collections.emptyMap());
+            }
+        }
+
+        @Override
+        public void close() {
+            m_closed = true;
+        }
+    }
+
+    private static final class TestInputPreparer implements DLNetworkInputPreparer {
+
+        private int m_numRemainingBatches;
+
+        private TestInputPreparer(final int numBatches) {
+            m_numRemainingBatches = numBatches;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_numRemainingBatches > 0;
+        }
+
+        @Override
+        public void prepareNext(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input) {
+            m_numRemainingBatches--;
+        }
+
+        @Override
+        public void close() {
+            // no op
+        }
+    }
+
+    private static final class TestOutputConsumer implements DLNetworkOutputConsumer {
+
+        private int m_numBatches;
+
+        @Override
+        public void accept(final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> output) {
+            m_numBatches++;
+        }
+
+        @Override
+        public void close() {
+            // no op
+        }
+    }
+}
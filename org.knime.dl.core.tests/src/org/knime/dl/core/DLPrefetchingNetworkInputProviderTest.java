@@ -0,0 +1,223 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ */
+package org.knime.dl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.dl.core.data.DLWritableBuffer;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLPrefetchingNetworkInputProviderTest {
+
+	@Test
+	public void testBatchesAreProvidedInCyclicOrder() throws Exception {
+		final DLTestingPreparer preparer = new DLTestingPreparer(3, -1);
+		try (final DLPrefetchingNetworkInputProvider provider = new DLPrefetchingNetworkInputProvider(preparer, 2,
+				HashMap::new)) {
+			assertEquals(3, provider.getNumBatches());
+			for (long i = 0; i < 10; i++) {
+				final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = provider.get(i % 3);
+				assertSame(preparer.m_prepared.get((int) i), input);
+				// at most the prefetch depth plus the batch that is handed out can be prepared at any time
+				assertTrue(provider.getNumProducedBatches() <= i + 1 + provider.getPrefetchDepth() + 1);
+			}
+		}
+		for (int i = 0; i < preparer.m_preparedIndices.size(); i++) {
+			assertEquals(i % 3, preparer.m_preparedIndices.get(i).longValue());
+		}
+	}
+
+	@Test
+	public void testRingOfTensorSetsIsReused() throws Exception {
+		final AtomicInteger numCreatedTensorSets = new AtomicInteger();
+		try (final DLPrefetchingNetworkInputProvider provider = new DLPrefetchingNetworkInputProvider(
+				new DLTestingPreparer(5, -1), 1, () -> {
+					numCreatedTensorSets.incrementAndGet();
+					return new HashMap<>();
+				})) {
+			for (long i = 0; i < 20; i++) {
+				provider.get(i % 5);
+			}
+		}
+		assertEquals(2, numCreatedTensorSets.get());
+	}
+
+	@Test
+	public void testTensorSetsAreCreatedPerBucket() throws Exception {
+		final Map<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>, Integer> bucketOfTensorSet =
+				Collections.synchronizedMap(new IdentityHashMap<>());
+		final DLTestingBucketedPreparer preparer = new DLTestingBucketedPreparer(5, 2);
+		try (final DLPrefetchingNetworkInputProvider provider =
+				new DLPrefetchingNetworkInputProvider(preparer, 1, bucket -> {
+					final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>();
+					bucketOfTensorSet.put(input, bucket);
+					return input;
+				})) {
+			for (long i = 0; i < 20; i++) {
+				final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = provider.get(i % 5);
+				assertEquals(preparer.getBucket(i % 5), bucketOfTensorSet.get(input).intValue());
+			}
+		}
+		// at most one tensor set per bucket and element of the ring
+		assertTrue(bucketOfTensorSet.size() <= 2 * 2);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testOutOfOrderRequestFails() throws Exception {
+		try (final DLPrefetchingNetworkInputProvider provider = new DLPrefetchingNetworkInputProvider(
+				new DLTestingPreparer(3, -1), 2, HashMap::new)) {
+			provider.get(0);
+			provider.get(2);
+		}
+	}
+
+	@Test
+	public void testPreparationFailureIsPropagated() throws Exception {
+		try (final DLPrefetchingNetworkInputProvider provider = new DLPrefetchingNetworkInputProvider(
+				new DLTestingPreparer(4, 2), 2, HashMap::new)) {
+			provider.get(0);
+			provider.get(1);
+			for (int i = 0; i < 2; i++) {
+				try {
+					provider.get(2);
+				} catch (final DLInvalidNetworkInputException e) {
+					// expected, also on subsequent calls
+					continue;
+				}
+				throw new AssertionError("Preparation failure was not propagated.");
+			}
+		}
+	}
+
+	private static class DLTestingPreparer implements DLNetworkFixedSizeInputPreparer {
+
+		private final long m_numBatches;
+
+		private final long m_failAt;
+
+		private final List<Long> m_preparedIndices = Collections.synchronizedList(new ArrayList<>());
+
+		private final List<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_prepared =
+				Collections.synchronizedList(new ArrayList<>());
+
+		private long m_numPrepared;
+
+		private DLTestingPreparer(final long numBatches, final long failAt) {
+			m_numBatches = numBatches;
+			m_failAt = failAt;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		@Override
+		public void prepareNext(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public long getNumBatches() {
+			return m_numBatches;
+		}
+
+		@Override
+		public synchronized void prepare(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input,
+				final long batchIndex) throws DLInvalidNetworkInputException {
+			if (m_numPrepared++ == m_failAt) {
+				throw new DLInvalidNetworkInputException("Invalid batch.");
+			}
+			m_preparedIndices.add(batchIndex);
+			m_prepared.add(input);
+		}
+
+		@Override
+		public void close() {
+			// no op
+		}
+	}
+
+	private static final class DLTestingBucketedPreparer extends DLTestingPreparer
+			implements DLShapeBucketedInputPreparer {
+
+		private final int m_numBuckets;
+
+		private DLTestingBucketedPreparer(final long numBatches, final int numBuckets) {
+			super(numBatches, -1);
+			m_numBuckets = numBuckets;
+		}
+
+		@Override
+		public int getNumBuckets() {
+			return m_numBuckets;
+		}
+
+		@Override
+		public int getBucket(final long batchIndex) {
+			return (int) (batchIndex % m_numBuckets);
+		}
+
+		@Override
+		public Map<DLTensorId, long[]> getBucketShapes(final int bucket) {
+			return Collections.emptyMap();
+		}
+	}
+}
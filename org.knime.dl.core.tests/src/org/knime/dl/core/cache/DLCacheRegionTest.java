@@ -0,0 +1,116 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLCacheRegionTest {
+
+	@Test
+	public void testLeastRecentlyUsedValuesAreEvictedWhenCapacityIsExceeded() {
+		final DLCacheRegion<String, String> region = new DLCacheRegion<>("test", 100);
+		region.put("a", "a", 40);
+		region.put("b", "b", 40);
+		region.get("a");
+		region.put("c", "c", 40);
+		assertTrue(region.get("a").isPresent());
+		assertFalse(region.get("b").isPresent());
+		assertTrue(region.get("c").isPresent());
+		final DLCacheStatistics stats = region.getStatistics();
+		assertEquals(2, stats.getNumEntries());
+		assertEquals(80, stats.getSize());
+		assertEquals(100, stats.getCapacity());
+		assertEquals(1, stats.getEvictionCount());
+	}
+
+	@Test
+	public void testValuesLargerThanCapacityAreNotRetained() {
+		final DLCacheRegion<String, String> region = new DLCacheRegion<>("test", 100);
+		region.put("a", "a", 101);
+		assertFalse(region.get("a").isPresent());
+	}
+
+	@Test
+	public void testValuesAreLoadedOnce() throws Exception {
+		final DLCacheRegion<String, String> region = new DLCacheRegion<>("test", 100);
+		final AtomicInteger numLoads = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			assertEquals("value", region.get("key", () -> {
+				numLoads.incrementAndGet();
+				return "value";
+			}, String::length));
+		}
+		assertEquals(1, numLoads.get());
+		final DLCacheStatistics stats = region.getStatistics();
+		assertEquals(5, stats.getSize());
+		assertEquals(2, stats.getHitCount());
+		assertEquals(1, stats.getMissCount());
+	}
+
+	@Test
+	public void testClearRemovesAllValues() {
+		final DLCacheRegion<String, String> region = new DLCacheRegion<>("test", 100);
+		region.put("a", "a", 10);
+		region.put("b", "b", 10);
+		region.clear();
+		assertFalse(region.get("a").isPresent());
+		assertFalse(region.get("b").isPresent());
+		assertEquals(0, region.getStatistics().getSize());
+		assertEquals(0, region.getStatistics().getEvictionCount());
+	}
+}
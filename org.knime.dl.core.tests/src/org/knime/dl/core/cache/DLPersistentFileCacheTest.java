@@ -0,0 +1,113 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLPersistentFileCacheTest {
+
+	@Rule
+	public TemporaryFolder m_folder = new TemporaryFolder();
+
+	@Test
+	public void testEntriesPersistAcrossInstances() throws IOException {
+		final File directory = new File(m_folder.getRoot(), "cache");
+		new DLPersistentFileCache(directory, ".test", 8).put("key", new byte[] { 1, 2, 3 });
+		final DLPersistentFileCache cache = new DLPersistentFileCache(directory, ".test", 8);
+		assertArrayEquals(new byte[] { 1, 2, 3 }, cache.get("key").get());
+		assertFalse(cache.get("other key").isPresent());
+		cache.remove("key");
+		assertFalse(cache.get("key").isPresent());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesArePruned() throws IOException {
+		final File directory = m_folder.getRoot();
+		final DLPersistentFileCache cache = new DLPersistentFileCache(directory, ".test", 2);
+		cache.put("a", new byte[0]);
+		cache.put("b", new byte[0]);
+		// file modification times may have a granularity of one second
+		final File[] entries = directory.listFiles();
+		for (final File entry : entries) {
+			entry.setLastModified(System.currentTimeMillis() - 10000);
+		}
+		cache.get("a");
+		cache.put("c", new byte[0]);
+		assertTrue(cache.get("a").isPresent());
+		assertFalse(cache.get("b").isPresent());
+		assertTrue(cache.get("c").isPresent());
+		assertEquals(2, directory.listFiles().length);
+	}
+
+	@Test(expected = IOException.class)
+	public void testCorruptEntriesAreReported() throws IOException {
+		final File directory = m_folder.getRoot();
+		final DLPersistentFileCache cache = new DLPersistentFileCache(directory, ".test", 2);
+		cache.put("key", new byte[] { 1 });
+		for (final File entry : directory.listFiles()) {
+			Files.write(entry.toPath(), "not an entry".getBytes(StandardCharsets.UTF_8));
+		}
+		cache.get("key");
+	}
+}
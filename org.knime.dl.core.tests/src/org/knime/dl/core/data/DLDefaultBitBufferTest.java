@@ -76,10 +76,10 @@ public void testPutBoolean() throws Exception {
         try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(10)) {
             assertEquals(buffer.m_nextWrite, 0);
             buffer.put(true);
-            assertEquals(true, buffer.m_storage[0]);
+            assertEquals(true, buffer.toBitArray()[0]);
             assertEquals(1, buffer.m_nextWrite);
             buffer.put(false);
-            assertEquals(false, buffer.m_storage[1]);
+            assertEquals(false, buffer.toBitArray()[1]);
         }
     }
 
@@ -96,7 +96,45 @@ public void testPutAllBoolean() throws Exception {
         try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(10)) {
             final boolean[] expected = alternatingBooleanArray(10);
             buffer.putAll(expected);
-            assertArrayEquals(expected, buffer.m_storage);
+            assertArrayEquals(expected, buffer.toBitArray());
+        }
+    }
+
+    @Test
+    public void testPutAllWords() throws Exception {
+        try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(200)) {
+            final boolean[] expected = alternatingBooleanArray(200);
+            final long[] words = new long[2];
+            for (int i = 0; i < 100; i++) {
+                if (expected[i + 3]) {
+                    words[i / 64] |= 1L << i;
+                }
+            }
+            // unaligned start position, spans a word boundary
+            buffer.putAll(Arrays.copyOf(expected, 3));
+            buffer.putAll(words, 100);
+            assertEquals(103, buffer.size());
+            buffer.putAll(Arrays.copyOfRange(expected, 103, 200));
+            assertArrayEquals(expected, buffer.toBitArray());
+        }
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testPutAllWordsOverflow() throws Exception {
+        try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(10)) {
+            buffer.putAll(new long[1], 11);
+        }
+    }
+
+    @Test
+    public void testCopyBits() throws Exception {
+        final long[] src = new long[] { 0x0123456789ABCDEFL, 0xFEDCBA9876543210L, 0x0F0F0F0F0F0F0F0FL };
+        final long[] dest = new long[3];
+        Arrays.fill(dest, -1L);
+        DLDefaultBitBuffer.copyBits(src, 5, dest, 61, 120);
+        for (int i = 0; i < 192; i++) {
+            final boolean expected = i >= 61 && i < 181 ? DLDefaultBitBuffer.getBits(src, i - 56, 1) != 0 : true;
+            assertEquals(expected, DLDefaultBitBuffer.getBits(dest, i, 1) != 0);
         }
     }
 
@@ -576,7 +614,7 @@ public void testZeroPad() throws Exception {
             buffer.reset();
             buffer.zeroPad(10);
             final boolean[] expected = new boolean[10];
-            assertArrayEquals(expected, buffer.m_storage);
+            assertArrayEquals(expected, buffer.toBitArray());
         }
     }
 
@@ -597,17 +635,19 @@ public void testZeroPadOverflow() throws Exception {
     @Test
     public void testSetStorage() throws Exception {
         try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(10)) {
-            final boolean[] expected = booleanRange(10);
+            final long[] expected = new long[] { 0b1010 };
             buffer.setStorage(expected, 10);
             assertEquals(0, buffer.m_nextRead);
             assertArrayEquals(expected, buffer.m_storage);
+            assertEquals(false, buffer.readNextBit());
+            assertEquals(true, buffer.readNextBit());
         }
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void testSetStorageWrongCapacity() throws Exception {
         try (DLDefaultBitBuffer buffer = new DLDefaultBitBuffer(10)) {
-            final boolean[] storage = booleanRange(11);
+            final long[] storage = new long[2];
             buffer.setStorage(storage, 10);
         }
     }
@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ */
+package org.knime.dl.core.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.knime.dl.testing.DLTestUtil.DOUBLE_EPSILON;
+import static org.knime.dl.testing.DLTestUtil.alternatingBooleanArray;
+import static org.knime.dl.testing.DLTestUtil.doubleRange;
+import static org.knime.dl.testing.DLTestUtil.intRange;
+import static org.knime.dl.testing.DLTestUtil.toDouble;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+import org.junit.Test;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLOffHeapDoubleBufferTest {
+
+	/**
+	 * Small segments (four elements per segment) to test reads and writes across segment boundaries.
+	 */
+	private static final int SEGMENT_SIZE = 4 * Double.BYTES;
+
+	@Test
+	public void testPutDouble() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			assertEquals(0, buffer.size());
+			buffer.put(1.0);
+			assertEquals(1, buffer.size());
+			buffer.put(-5.0);
+			assertEquals(1.0, buffer.readNextDouble(), DOUBLE_EPSILON);
+			assertEquals(-5.0, buffer.readNextDouble(), DOUBLE_EPSILON);
+		}
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testPutDoubleOverflow() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(1, SEGMENT_SIZE)) {
+			buffer.put(1.0);
+			buffer.put(2.0);
+		}
+	}
+
+	@Test
+	public void testPutAllDoubleAcrossSegments() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			final double[] expected = doubleRange(10);
+			buffer.putAll(expected);
+			assertEquals(10, buffer.size());
+			assertArrayEquals(expected, buffer.toDoubleArray(), DOUBLE_EPSILON);
+		}
+	}
+
+	@Test(expected = BufferOverflowException.class)
+	public void testPutAllDoubleOverflow() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(5, SEGMENT_SIZE)) {
+			buffer.putAll(doubleRange(10));
+		}
+	}
+
+	@Test
+	public void testPutAllBoolean() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			final boolean[] expected = alternatingBooleanArray(10);
+			buffer.putAll(expected);
+			assertArrayEquals(toDouble(expected), buffer.toDoubleArray(), DOUBLE_EPSILON);
+		}
+	}
+
+	@Test
+	public void testPutAllInt() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			final int[] expected = intRange(10);
+			buffer.putAll(expected);
+			assertArrayEquals(toDouble(expected), buffer.toDoubleArray(), DOUBLE_EPSILON);
+		}
+	}
+
+	@Test
+	public void testReadToDoubleArrayAcrossSegments() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			buffer.putAll(doubleRange(10));
+			final double[] first = new double[3];
+			buffer.readToDoubleArray(first, 0, 3);
+			assertArrayEquals(doubleRange(3), first, DOUBLE_EPSILON);
+			final double[] rest = new double[9];
+			buffer.readToDoubleArray(rest, 2, 7);
+			for (int i = 0; i < 7; i++) {
+				assertEquals(i + 3, rest[i + 2], DOUBLE_EPSILON);
+			}
+			assertEquals(10, buffer.getNextReadPosition());
+		}
+	}
+
+	@Test(expected = BufferUnderflowException.class)
+	public void testReadToDoubleArrayUnderflow() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			buffer.putAll(doubleRange(5));
+			buffer.readToDoubleArray(new double[10], 0, 6);
+		}
+	}
+
+	@Test
+	public void testZeroPad() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			buffer.putAll(doubleRange(10));
+			buffer.reset();
+			buffer.put(7.0);
+			buffer.zeroPad(9);
+			final double[] expected = new double[10];
+			expected[0] = 7.0;
+			assertArrayEquals(expected, buffer.toDoubleArray(), DOUBLE_EPSILON);
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		try (DLOffHeapDoubleBuffer buffer = new DLOffHeapDoubleBuffer(10, SEGMENT_SIZE)) {
+			buffer.putAll(doubleRange(10));
+			buffer.readNextDouble();
+			buffer.resetRead();
+			assertEquals(0, buffer.getNextReadPosition());
+			assertEquals(10, buffer.size());
+			buffer.reset();
+			assertEquals(0, buffer.size());
+		}
+	}
+}
@@ -121,6 +121,28 @@ public void testMatching() {
 		testForSourceDestCombination(src, dest, "1");
 	}
 
+	@Test
+	public void testRepeatedLookupsAreConsistent() {
+		final DataType src = ListCell.getCollectionType(DoubleCell.TYPE);
+		final Class<? extends DLWritableBuffer> dest = DLWritableFloatBuffer.class;
+		final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> first = REGISTRY
+				.getConverterFactories(src, dest);
+		final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> second = REGISTRY
+				.getConverterFactories(src, dest);
+		Assert.assertEquals(first, second);
+		// returned lists are independent of the memoized ones
+		first.clear();
+		Assert.assertEquals(second, REGISTRY.getConverterFactories(src, dest));
+		Assert.assertEquals(REGISTRY.getPreferredConverterFactory(src, dest),
+				REGISTRY.getPreferredConverterFactory(src, dest));
+		// collection converter factories are interned
+		for (final DLDataValueToTensorConverterFactory<? extends DataValue, ?> factory : second) {
+			if (factory instanceof DLCollectionDataValueToTensorConverterFactory) {
+				Assert.assertSame(factory, REGISTRY.getConverterFactory(factory.getIdentifier()).get());
+			}
+		}
+	}
+
 	private void testForSourceDestCombination(final DataType source, final Class<? extends DLWritableBuffer> dest,
 			final String input) {
 		final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> converterFactories = REGISTRY
@@ -1,11 +1,13 @@
 package org.knime.dl.core.data.convert;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.knime.dl.testing.DLTestUtil.DOUBLE_EPSILON;
 import static org.knime.dl.testing.DLTestUtil.createTensor;
 
 import org.junit.Test;
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.dl.core.DLDefaultFixedTensorShape;
@@ -45,6 +47,29 @@ public void testConvert() {
 		assertEquals(1d / 0d, output[2].getDoubleValue(), DOUBLE_EPSILON);
 	}
 
+	@Test
+	public void testConvertToRows() {
+		final DLDoubleTensorToDoubleCellConverterFactory factory = new DLDoubleTensorToDoubleCellConverterFactory();
+		final DLTensorToDataCellConverter<DLReadableDoubleBuffer, DoubleCell> converter = factory.createConverter();
+		final DLTensor<DLReadableDoubleBuffer> input = (DLTensor<DLReadableDoubleBuffer>) createTensor(Double.class, 2,
+				3);
+		final DLWritableDoubleBuffer buffer = (DLWritableDoubleBuffer) input.getBuffer();
+		for (int i = 0; i < 6; i++) {
+			buffer.put(i);
+		}
+
+		final DataCell[][] output = new DataCell[2][4];
+
+		converter.convertToRows(input, new DoubleCell[6], output, 1, 3, null);
+
+		for (int r = 0; r < 2; r++) {
+			assertNull(output[r][0]);
+			for (int c = 0; c < 3; c++) {
+				assertEquals(r * 3 + c, ((DoubleCell) output[r][c + 1]).getDoubleValue(), DOUBLE_EPSILON);
+			}
+		}
+	}
+
 	@Test
 	public void testGetDestCount() {
 		final DLDoubleTensorToDoubleCellConverterFactory factory = new DLDoubleTensorToDoubleCellConverterFactory();
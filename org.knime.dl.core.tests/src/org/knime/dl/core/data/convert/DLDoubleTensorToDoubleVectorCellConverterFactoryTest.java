@@ -0,0 +1,79 @@
+package org.knime.dl.core.data.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.knime.dl.testing.DLTestUtil.DOUBLE_EPSILON;
+import static org.knime.dl.testing.DLTestUtil.createTensor;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.vector.doublevector.DoubleVectorCellFactory;
+import org.knime.core.data.vector.doublevector.DoubleVectorValue;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.data.DLReadableDoubleBuffer;
+import org.knime.dl.core.data.DLWritableFloatBuffer;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLDoubleTensorToDoubleVectorCellConverterFactoryTest {
+
+	@Test
+	public void testConvert() {
+		final DLTensorToDataCellConverter<DLReadableDoubleBuffer, DataCell> converter =
+				new DLDoubleTensorToDoubleVectorCellConverterFactory().createConverter();
+		final DLTensor<DLReadableDoubleBuffer> input = createFilledFloatTensor(2, 3);
+
+		final DataCell[] output = new DataCell[2];
+
+		converter.convert(input, output, null);
+
+		assertVector(output[0], 0f, 1f, 2f);
+		assertVector(output[1], 3f, 4f, 5f);
+	}
+
+	@Test
+	public void testConvertToRows() {
+		final DLTensorToDataCellConverter<DLReadableDoubleBuffer, DataCell> converter =
+				new DLDoubleTensorToDoubleVectorCellConverterFactory().createConverter();
+		final DLTensor<DLReadableDoubleBuffer> input = createFilledFloatTensor(2, 3);
+
+		final DataCell[][] output = new DataCell[2][2];
+
+		converter.convertToRows(input, new DataCell[2], output, 1, 1, null);
+
+		assertVector(output[0][1], 0f, 1f, 2f);
+		assertVector(output[1][1], 3f, 4f, 5f);
+	}
+
+	@Test
+	public void testGetDestCount() {
+		final DLTensor<DLReadableDoubleBuffer> input = createFilledFloatTensor(2, 3);
+		assertEquals(1l, new DLDoubleTensorToDoubleVectorCellConverterFactory().getDestCount(input.getSpec())
+				.getAsLong());
+	}
+
+	@Test
+	public void testGetDestType() {
+		assertEquals(DoubleVectorCellFactory.TYPE, new DLDoubleTensorToDoubleVectorCellConverterFactory().getDestType());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static DLTensor<DLReadableDoubleBuffer> createFilledFloatTensor(final long batchSize,
+			final long exampleSize) {
+		final DLTensor<DLReadableDoubleBuffer> input = (DLTensor<DLReadableDoubleBuffer>) createTensor(Float.class,
+				batchSize, exampleSize);
+		final DLWritableFloatBuffer buffer = (DLWritableFloatBuffer) input.getBuffer();
+		for (int i = 0; i < batchSize * exampleSize; i++) {
+			buffer.put(i);
+		}
+		return input;
+	}
+
+	private static void assertVector(final DataCell cell, final double... expected) {
+		final DoubleVectorValue vector = (DoubleVectorValue) cell;
+		assertEquals(expected.length, vector.getLength());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], vector.getValue(i), DOUBLE_EPSILON);
+		}
+	}
+}
@@ -71,6 +71,7 @@
 import org.knime.dl.core.DLTensor;
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.DLDefaultFloatBuffer;
+import org.knime.dl.core.data.DLDefaultIndexEncodedFloatBuffer;
 import org.knime.dl.core.data.DLWritableFloatBuffer;
 import org.knime.dl.core.data.convert.DLDataValueToTensorConverter;
 import org.knime.dl.core.data.convert.DLIntCollectionValueToOneHotFloatTensorConverterFactory;
@@ -199,4 +200,21 @@ public void testCreateConverter() throws Exception {
 			assertEquals(0, buffer.readNextFloat(), EPSILON);
 		}
 	}
+
+	@Test
+	public void testCreateConverterIndexEncoded() throws Exception {
+		DLIntCollectionValueToOneHotFloatTensorConverterFactory factory =
+				new DLIntCollectionValueToOneHotFloatTensorConverterFactory();
+		List<CollectionDataValue> value = Arrays.asList(createCollectionValue("2,0,4", "i,i,i"));
+		DLTensorSpec spec = createTensorSpec("?,5");
+		int exampleSize = 15;
+		DLDataValueToTensorConverter<CollectionDataValue, DLWritableFloatBuffer> converter = factory.createConverter();
+		// index-encoded buffers reject dense writes, one-hot converters must only write indices into them
+		try (DLDefaultIndexEncodedFloatBuffer buffer = new DLDefaultIndexEncodedFloatBuffer(exampleSize, 5);
+				DLTensor<DLWritableFloatBuffer> tensor = new DLDefaultTensor<>(spec, buffer, exampleSize)) {
+			converter.convert(value, tensor);
+			assertEquals(exampleSize, buffer.size());
+			assertArrayEquals(new int[] {2, 0, 4}, buffer.getStorageForReading(0, 3));
+		}
+	}
 }
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.execution;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.dl.core.DLAbstractRowIterator;
+import org.knime.dl.core.DLDefaultPartialTensorShape;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLRowIterator;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.convert.DLBitVectorToBitTensorConverterFactory;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLShapeBucketedRowStreamTest {
+
+	private static final DLTensorId INPUT_ID = new DLDefaultTensorId("input");
+
+	@Test
+	public void testBatchesArePaddedToTheirLargestRow() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShapeBucketedRowStream stream = createStream(new int[] { 3, 1, 5, 2, 4, 4 }, output, 2, 6, false)) {
+			final List<DLShapeBucketedRowStream.Bucket> buckets = stream.nextWindow();
+			// batches in input order: [3, 1] -> 3, [5, 2] -> 5, [4, 4] -> 4
+			assertEquals(3, buckets.size());
+			assertBucket(buckets.get(0), 3, "Row0", "Row1");
+			assertBucket(buckets.get(1), 5, "Row2", "Row3");
+			assertBucket(buckets.get(2), 4, "Row4", "Row5");
+		}
+	}
+
+	@Test
+	public void testBatchesOfEqualShapesFormOneBucket() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShapeBucketedRowStream stream = createStream(new int[] { 2, 3, 5, 1, 1, 3 }, output, 2, 6, false)) {
+			final List<DLShapeBucketedRowStream.Bucket> buckets = stream.nextWindow();
+			// batches in input order: [2, 3] -> 3, [5, 1] -> 5, [1, 3] -> 3
+			assertEquals(2, buckets.size());
+			assertBucket(buckets.get(0), 3, "Row0", "Row1", "Row4", "Row5");
+			assertBucket(buckets.get(1), 5, "Row2", "Row3");
+		}
+	}
+
+	@Test
+	public void testSortingGroupsRowsOfSimilarLengths() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShapeBucketedRowStream stream = createStream(new int[] { 3, 1, 5, 2 }, output, 2, 4, true)) {
+			final List<DLShapeBucketedRowStream.Bucket> buckets = stream.nextWindow();
+			// sorted: [1, 2] -> 2, [3, 5] -> 5; buckets are ordered by their first input row
+			assertEquals(2, buckets.size());
+			assertBucket(buckets.get(0), 5, "Row0", "Row2");
+			assertBucket(buckets.get(1), 2, "Row1", "Row3");
+		}
+	}
+
+	@Test
+	public void testOutputIsWrittenInInputOrder() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShapeBucketedRowStream stream = createStream(new int[] { 3, 1, 5, 2, 4, 1, 2 }, output, 2, 4, true)) {
+			int numWindows = 0;
+			while (stream.hasNextWindow()) {
+				final List<DLShapeBucketedRowStream.Bucket> buckets = stream.nextWindow();
+				// the last bucket finishes first
+				Collections.reverse(buckets);
+				for (final DLShapeBucketedRowStream.Bucket bucket : buckets) {
+					final DLRowIterator rows = bucket.getRowIterator();
+					while (rows.hasNext()) {
+						bucket.getRowOutput().push(rows.next());
+					}
+				}
+				stream.completeWindow();
+				numWindows++;
+			}
+			assertEquals(2, numWindows);
+		}
+		assertEquals(7, output.size());
+		for (int i = 0; i < output.size(); i++) {
+			assertEquals("Row" + i, output.get(i).getKey().getString());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCompletingWindowWithMissingRowsFails() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShapeBucketedRowStream stream = createStream(new int[] { 3, 1, 5, 2 }, output, 2, 4, false)) {
+			final DLShapeBucketedRowStream.Bucket bucket = stream.nextWindow().get(0);
+			bucket.getRowOutput().push(bucket.getRowIterator().next());
+			stream.completeWindow();
+		}
+	}
+
+	private static void assertBucket(final DLShapeBucketedRowStream.Bucket bucket, final long length,
+			final String... rowKeys) {
+		assertArrayEquals(new long[] { length }, bucket.getExecutionShapes().get(INPUT_ID));
+		assertEquals(rowKeys.length, bucket.size());
+		final DLRowIterator rows = bucket.getRowIterator();
+		for (final String rowKey : rowKeys) {
+			assertEquals(rowKey, rows.next().getKey().getString());
+		}
+		assertFalse(rows.hasNext());
+	}
+
+	private static DLShapeBucketedRowStream createStream(final int[] lengths, final List<DataRow> output,
+			final int batchSize, final int windowSize, final boolean sortByLength) {
+		final Map<DLTensorId, int[]> columns = Collections.singletonMap(INPUT_ID, new int[] { 0 });
+		final DLTensorSpec spec = new DLDefaultTensorSpec(INPUT_ID, "input", batchSize,
+				new DLDefaultPartialTensorShape(new OptionalLong[] { OptionalLong.empty() }), boolean.class,
+				DLDimensionOrder.TDHWC);
+		final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> converters = new LinkedHashMap<>();
+		converters.put(spec, new DLBitVectorToBitTensorConverterFactory());
+		return new DLShapeBucketedRowStream(createSource(lengths, columns), createOutput(output),
+				new DataTableSpec(), columns, converters, batchSize, windowSize, sortByLength);
+	}
+
+	private static DLRowIterator createSource(final int[] lengths, final Map<DLTensorId, int[]> columns) {
+		final List<DataRow> rows = new ArrayList<>(lengths.length);
+		for (int i = 0; i < lengths.length; i++) {
+			rows.add(new DefaultRow("Row" + i, new DenseBitVectorCellFactory(lengths[i]).createDataCell()));
+		}
+		final Iterator<DataRow> iterator = rows.iterator();
+		return new DLAbstractRowIterator(new DataTableSpec(), columns) {
+
+			@Override
+			public long size() {
+				return lengths.length;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public DataRow peek() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public DataRow next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void reset() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void close() {
+				// no op
+			}
+		};
+	}
+
+	private static RowOutput createOutput(final List<DataRow> output) {
+		return new RowOutput() {
+
+			@Override
+			public void push(final DataRow row) {
+				output.add(row);
+			}
+
+			@Override
+			public void close() {
+				// no op
+			}
+		};
+	}
+}
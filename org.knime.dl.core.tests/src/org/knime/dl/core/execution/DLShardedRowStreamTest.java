@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ */
+package org.knime.dl.core.execution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.dl.core.DLAbstractRowIterator;
+import org.knime.dl.core.DLRowIterator;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLShardedRowStreamTest {
+
+	@Test
+	public void testOutputIsWrittenInInputOrder() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShardedRowStream stream = new DLShardedRowStream(createSource(7), 2, createOutput(output),
+				new DataTableSpec(), Collections.emptyMap(), 10)) {
+			final DLShardedRowStream.Partition first = stream.createPartition();
+			final DLShardedRowStream.Partition second = stream.createPartition();
+			// shards: [0, 1] -> first, [2, 3] -> second, [4, 5] -> second, [6] -> first
+			final List<DataRow> firstRows = take(first.getRowIterator(), 2);
+			final List<DataRow> secondRows = take(second.getRowIterator(), 2);
+			secondRows.addAll(take(second.getRowIterator(), 2));
+			firstRows.addAll(take(first.getRowIterator(), 2));
+			assertEquals(3, firstRows.size());
+			assertEquals(4, secondRows.size());
+			assertFalse(first.getRowIterator().hasNext());
+			assertFalse(second.getRowIterator().hasNext());
+			// the second partition finishes first, its rows must be held back until the first shard is done
+			for (final DataRow row : secondRows) {
+				second.getRowOutput().push(row);
+			}
+			assertTrue(output.isEmpty());
+			for (final DataRow row : firstRows) {
+				first.getRowOutput().push(row);
+			}
+			assertTrue(stream.isComplete());
+		}
+		assertEquals(7, output.size());
+		for (int i = 0; i < output.size(); i++) {
+			assertEquals("Row" + i, output.get(i).getKey().getString());
+		}
+	}
+
+	@Test
+	public void testIncompleteWhenRowsAreMissing() throws Exception {
+		final List<DataRow> output = new ArrayList<>();
+		try (DLShardedRowStream stream = new DLShardedRowStream(createSource(4), 2, createOutput(output),
+				new DataTableSpec(), Collections.emptyMap(), 10)) {
+			final DLShardedRowStream.Partition partition = stream.createPartition();
+			final List<DataRow> rows = take(partition.getRowIterator(), 2);
+			for (final DataRow row : rows) {
+				partition.getRowOutput().push(row);
+			}
+			assertEquals(2, output.size());
+			assertFalse(stream.isComplete());
+		}
+	}
+
+	private static List<DataRow> take(final DLRowIterator iterator, final int count) {
+		final List<DataRow> rows = new ArrayList<>(count);
+		for (int i = 0; i < count && iterator.hasNext(); i++) {
+			rows.add(iterator.next());
+		}
+		return rows;
+	}
+
+	private static DLRowIterator createSource(final int numRows) {
+		final List<DataRow> rows = new ArrayList<>(numRows);
+		for (int i = 0; i < numRows; i++) {
+			rows.add(new DefaultRow("Row" + i, new IntCell(i)));
+		}
+		final Iterator<DataRow> iterator = rows.iterator();
+		return new DLAbstractRowIterator(new DataTableSpec(), Collections.emptyMap()) {
+
+			@Override
+			public long size() {
+				return numRows;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public DataRow peek() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public DataRow next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void reset() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void close() {
+				// no op
+			}
+		};
+	}
+
+	private static RowOutput createOutput(final List<DataRow> output) {
+		return new RowOutput() {
+
+			@Override
+			public void push(final DataRow row) {
+				output.add(row);
+			}
+
+			@Override
+			public void close() {
+				// no op
+			}
+		};
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.training;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCellFactory;
+import org.knime.dl.core.DLAbstractRowIterator;
+import org.knime.dl.core.DLDefaultPartialTensorShape;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLRowIterator;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLReadableBitBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.convert.DLBitVectorToBitTensorConverterFactory;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.knime.dl.testing.DLTestingTensorFactory;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLKnimeNetworkShapeBucketedInputPreparerTest {
+
+	private static final DLTensorId INPUT_ID = new DLDefaultTensorId("input");
+
+	private static final DLTestingTensorFactory TENSOR_FACTORY = new DLTestingTensorFactory();
+
+	@Test
+	public void testBatchesArePaddedToTheirLargestRow() throws Exception {
+		try (DLKnimeNetworkShapeBucketedInputPreparer preparer =
+				createPreparer(new int[] { 3, 1, 5, 2, 3, 3 }, 2, 6, false, null)) {
+			// batches in input order: [3, 1] -> 3, [5, 2] -> 5, [3, 3] -> 3
+			assertEquals(3, preparer.getNumBatches());
+			assertEquals(2, preparer.getNumBuckets());
+			assertBatch(preparer, 2, 0, 3, 4);
+			assertBatch(preparer, 2, 1, 5, 7);
+			assertBatch(preparer, 2, 2, 3, 6);
+			assertEquals(preparer.getBucket(0), preparer.getBucket(2));
+		}
+	}
+
+	@Test
+	public void testSortingGroupsRowsOfSimilarLengths() throws Exception {
+		try (DLKnimeNetworkShapeBucketedInputPreparer preparer =
+				createPreparer(new int[] { 3, 1, 5, 2 }, 2, 4, true, null)) {
+			// sorted: [1, 2] -> 2, [3, 5] -> 5
+			assertEquals(2, preparer.getNumBatches());
+			assertBatch(preparer, 2, 0, 2, 3);
+			assertBatch(preparer, 2, 1, 5, 8);
+		}
+	}
+
+	@Test
+	public void testLastBatchIsFilledUpWithItsRows() throws Exception {
+		try (DLKnimeNetworkShapeBucketedInputPreparer preparer =
+				createPreparer(new int[] { 2, 3, 1 }, 2, 2, false, null)) {
+			// windows [2, 3] and [1], the single row of the last batch is repeated
+			assertEquals(2, preparer.getNumBatches());
+			assertBatch(preparer, 2, 0, 3, 5);
+			assertBatch(preparer, 2, 1, 1, 2);
+			// the next pass starts at the beginning of the data
+			assertBatch(preparer, 2, 0, 3, 5);
+		}
+	}
+
+	@Test
+	public void testShufflingPermutesBatchesWithinWindows() throws Exception {
+		final int[] lengths = { 1, 2, 3, 4, 5, 6, 7, 8 };
+		try (DLKnimeNetworkShapeBucketedInputPreparer preparer =
+				createPreparer(lengths, 1, 4, false, new Random(42))) {
+			for (int pass = 0; pass < 3; pass++) {
+				final Set<Long> firstWindow = new HashSet<>();
+				final Set<Long> secondWindow = new HashSet<>();
+				for (int i = 0; i < lengths.length; i++) {
+					// the bucket of a batch is queried before it is prepared, as done by the consumers
+					final long length = preparer.getBucketShapes(preparer.getBucket(i)).get(INPUT_ID)[0];
+					assertBatch(preparer, 1, i, length, (int) length);
+					(i < 4 ? firstWindow : secondWindow).add(length);
+				}
+				assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L, 4L)), firstWindow);
+				assertEquals(new HashSet<>(Arrays.asList(5L, 6L, 7L, 8L)), secondWindow);
+			}
+		}
+	}
+
+	private static void assertBatch(final DLKnimeNetworkShapeBucketedInputPreparer preparer, final int batchSize,
+			final long batchIndex, final long length, final int numSetBits) throws Exception {
+		final long[] shape = preparer.getBucketShapes(preparer.getBucket(batchIndex)).get(INPUT_ID);
+		assertArrayEquals(new long[] { length }, shape);
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>();
+		try (final DLTensor<? extends DLWritableBuffer> tensor = TENSOR_FACTORY.createWritableTensor(
+				TENSOR_FACTORY.createExecutionTensorSpec(createSpec(batchSize), batchSize, shape))) {
+			input.put(INPUT_ID, tensor);
+			preparer.prepare(input, batchIndex);
+			final boolean[] bits = ((DLReadableBitBuffer) tensor.getBuffer()).toBitArray();
+			assertEquals(batchSize * length, bits.length);
+			int numBits = 0;
+			for (final boolean bit : bits) {
+				numBits += bit ? 1 : 0;
+			}
+			assertEquals(numSetBits, numBits);
+		}
+	}
+
+	private static DLKnimeNetworkShapeBucketedInputPreparer createPreparer(final int[] lengths, final int batchSize,
+			final int windowSize, final boolean sortByLength, final Random shuffleRandom) throws Exception {
+		final Map<DLTensorId, int[]> columns = Collections.singletonMap(INPUT_ID, new int[] { 0 });
+		final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> converters = new LinkedHashMap<>();
+		converters.put(createSpec(batchSize), new DLBitVectorToBitTensorConverterFactory());
+		return new DLKnimeNetworkShapeBucketedInputPreparer(createSource(lengths, columns), columns, batchSize,
+				converters, windowSize, sortByLength, shuffleRandom);
+	}
+
+	private static DLTensorSpec createSpec(final long batchSize) {
+		return new DLDefaultTensorSpec(INPUT_ID, "input", batchSize,
+				new DLDefaultPartialTensorShape(new OptionalLong[] { OptionalLong.empty() }), boolean.class,
+				DLDimensionOrder.TDHWC);
+	}
+
+	/**
+	 * Creates a resettable source of rows whose bit vectors have the given lengths and all bits set.
+	 */
+	private static DLRowIterator createSource(final int[] lengths, final Map<DLTensorId, int[]> columns) {
+		final List<DataRow> rows = new ArrayList<>(lengths.length);
+		for (int i = 0; i < lengths.length; i++) {
+			final DenseBitVectorCellFactory factory = new DenseBitVectorCellFactory(lengths[i]);
+			for (int j = 0; j < lengths[i]; j++) {
+				factory.set(j);
+			}
+			rows.add(new DefaultRow("Row" + i, factory.createDataCell()));
+		}
+		return new DLAbstractRowIterator(new DataTableSpec(), columns) {
+
+			private int m_next = 0;
+
+			@Override
+			public long size() {
+				return lengths.length;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return m_next < rows.size();
+			}
+
+			@Override
+			public DataRow peek() {
+				return rows.get(m_next);
+			}
+
+			@Override
+			public DataRow next() {
+				return rows.get(m_next++);
+			}
+
+			@Override
+			public void reset() {
+				m_next = 0;
+			}
+
+			@Override
+			public void close() {
+				// no op
+			}
+		};
+	}
+}
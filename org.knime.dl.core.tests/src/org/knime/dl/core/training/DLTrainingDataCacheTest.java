@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.training;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.dl.core.DLDefaultFixedTensorShape;
+import org.knime.dl.core.DLDefaultTensor;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
+import org.knime.dl.core.data.DLDefaultDoubleBuffer;
+import org.knime.dl.core.data.DLDefaultFloatBuffer;
+import org.knime.dl.core.data.DLDefaultStringBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLTrainingDataCacheTest {
+
+	private static final DLTensorId FLOAT_ID = new DLDefaultTensorId("float");
+
+	private static final DLTensorId DOUBLE_ID = new DLDefaultTensorId("double");
+
+	private static final DLTensorId BIT_ID = new DLDefaultTensorId("bit");
+
+	@Test
+	public void testExamplesAreReadInArbitraryOrder() throws Exception {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> batch = createTensors(2);
+		assertTrue(DLTrainingDataCache.isCacheable(batch));
+		try (final DLTrainingDataCache cache = new DLTrainingDataCache(batch)) {
+			// two batches, the second one is incomplete
+			((DLDefaultFloatBuffer) batch.get(FLOAT_ID).getBuffer()).putAll(new float[] { 0, 1, 2, 10, 11, 12 });
+			((DLDefaultDoubleBuffer) batch.get(DOUBLE_ID).getBuffer()).putAll(new double[] { 0.5, 10.5 });
+			cache.append(batch, 2);
+			batch.values().forEach(t -> t.getBuffer().reset());
+			((DLDefaultFloatBuffer) batch.get(FLOAT_ID).getBuffer()).putAll(new float[] { 20, 21, 22 });
+			((DLDefaultDoubleBuffer) batch.get(DOUBLE_ID).getBuffer()).putAll(new double[] { 20.5 });
+			cache.append(batch, 1);
+			assertFalse(cache.isSealed());
+			cache.seal();
+			assertEquals(3, cache.getNumExamples());
+
+			final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> target = createTensors(3);
+			cache.read(2, target);
+			cache.read(0, target);
+			cache.read(1, target);
+			final DLDefaultFloatBuffer floats = (DLDefaultFloatBuffer) target.get(FLOAT_ID).getBuffer();
+			assertEquals(9, floats.size());
+			assertArrayEquals(new float[] { 20, 21, 22, 0, 1, 2, 10, 11, 12 }, floats.getStorageForReading(0, 9),
+					0f);
+			final DLDefaultDoubleBuffer doubles = (DLDefaultDoubleBuffer) target.get(DOUBLE_ID).getBuffer();
+			assertEquals(3, doubles.size());
+			assertArrayEquals(new double[] { 20.5, 0.5, 10.5 }, doubles.getStorageForReading(0, 3), 0d);
+		}
+	}
+
+	@Test
+	public void testPackedBitExamplesAreReadInArbitraryOrder() throws Exception {
+		// examples do not start at word boundaries and span multiple words
+		final int exampleSize = 70;
+		final boolean[] bits = new boolean[3 * exampleSize];
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] = i % 3 == 0 || i % 7 == 0;
+		}
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> batch = createBitTensors(3, exampleSize);
+		assertTrue(DLTrainingDataCache.isCacheable(batch));
+		try (final DLTrainingDataCache cache = new DLTrainingDataCache(batch)) {
+			((DLDefaultBitBuffer) batch.get(BIT_ID).getBuffer()).putAll(bits);
+			cache.append(batch, 3);
+			cache.seal();
+
+			final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> target = createBitTensors(3, exampleSize);
+			cache.read(2, target);
+			cache.read(0, target);
+			cache.read(1, target);
+			final DLDefaultBitBuffer buffer = (DLDefaultBitBuffer) target.get(BIT_ID).getBuffer();
+			assertEquals(3 * exampleSize, buffer.size());
+			final boolean[] expected = new boolean[bits.length];
+			System.arraycopy(bits, 2 * exampleSize, expected, 0, exampleSize);
+			System.arraycopy(bits, 0, expected, exampleSize, exampleSize);
+			System.arraycopy(bits, exampleSize, expected, 2 * exampleSize, exampleSize);
+			assertArrayEquals(expected, buffer.toBitArray());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReadingBeforeSealingFails() throws Exception {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> batch = createTensors(1);
+		try (final DLTrainingDataCache cache = new DLTrainingDataCache(batch)) {
+			cache.read(0, batch);
+		}
+	}
+
+	@Test
+	public void testObjectTensorsAreNotCacheable() {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors = createTensors(1);
+		final DLTensorId id = new DLDefaultTensorId("string");
+		tensors.put(id, new DLDefaultTensor<>(new DLDefaultTensorSpec(id, "string", 1,
+				new DLDefaultFixedTensorShape(new long[] { 1 }), String.class, DLDimensionOrder.TDHWC),
+				new DLDefaultStringBuffer(1), 1));
+		assertFalse(DLTrainingDataCache.isCacheable(tensors));
+	}
+
+	private static Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createTensors(final int batchSize) {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors = new LinkedHashMap<>();
+		tensors.put(FLOAT_ID, new DLDefaultTensor<>(new DLDefaultTensorSpec(FLOAT_ID, "float", batchSize,
+				new DLDefaultFixedTensorShape(new long[] { 3 }), float.class, DLDimensionOrder.TDHWC),
+				new DLDefaultFloatBuffer(batchSize * 3), 3));
+		tensors.put(DOUBLE_ID, new DLDefaultTensor<>(new DLDefaultTensorSpec(DOUBLE_ID, "double", batchSize,
+				new DLDefaultFixedTensorShape(new long[] { 1 }), double.class, DLDimensionOrder.TDHWC),
+				new DLDefaultDoubleBuffer(batchSize), 1));
+		return tensors;
+	}
+
+	private static Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createBitTensors(final int batchSize,
+			final int exampleSize) {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors = new LinkedHashMap<>();
+		tensors.put(BIT_ID, new DLDefaultTensor<>(new DLDefaultTensorSpec(BIT_ID, "bit", batchSize,
+				new DLDefaultFixedTensorShape(new long[] { exampleSize }), boolean.class, DLDimensionOrder.TDHWC),
+				new DLDefaultBitBuffer(batchSize * exampleSize), exampleSize));
+		return tensors;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.base.nodes.learner.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author agent, agent@local
+ */
+public final class DLDecimatedLinePlotSeriesTest {
+
+    @Test
+    public void testExactBelowMaxNumBuckets() {
+        final DLDecimatedLinePlotSeries series = new DLDecimatedLinePlotSeries(8, 0);
+        for (int i = 0; i < 8; i++) {
+            series.add(i);
+        }
+        assertEquals(8, series.getNumValues());
+        assertEquals(8, series.getNumBuckets());
+        assertEquals(1, series.getBucketWidth());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, series.getMin(i), 0f);
+            assertEquals(i, series.getMax(i), 0f);
+            assertEquals(i, series.getMean(i), 0f);
+        }
+    }
+
+    @Test
+    public void testCompactionRetainsExtremaAndMeans() {
+        final DLDecimatedLinePlotSeries series = new DLDecimatedLinePlotSeries(4, 4);
+        // 9 values: buckets are merged twice, resulting in buckets of width 4
+        final float[] values = { 1, 2, 3, 100, 5, 6, -7, 8, 9 };
+        for (final float value : values) {
+            series.add(value);
+        }
+        assertEquals(9, series.getNumValues());
+        assertEquals(4, series.getBucketWidth());
+        assertEquals(3, series.getNumBuckets());
+        assertEquals(1, series.getMin(0), 0f);
+        assertEquals(100, series.getMax(0), 0f);
+        assertEquals(106 / 4f, series.getMean(0), 0f);
+        assertEquals(-7, series.getMin(1), 0f);
+        assertEquals(8, series.getMax(1), 0f);
+        assertEquals(1, series.getNumValues(2));
+        assertEquals(9, series.getMean(2), 0f);
+        assertEquals(-7, series.getMinValue(), 0f);
+        assertEquals(100, series.getMaxValue(), 0f);
+        assertEquals(1, series.getMinPositiveValue(), 0f);
+        assertEquals(9, series.getLastValue(), 0f);
+    }
+
+    @Test
+    public void testDecimateEmitsEnvelopeInOrder() {
+        final DLDecimatedLinePlotSeries series = new DLDecimatedLinePlotSeries();
+        for (int i = 0; i < 1000; i++) {
+            series.add(i == 500 ? 1000f : i % 2);
+        }
+        final List<double[]> points = new ArrayList<>();
+        series.decimate(0, Long.MAX_VALUE, 10, (x, y) -> points.add(new double[] { x, y }));
+        assertTrue(points.size() <= 10);
+        boolean spikeFound = false;
+        for (int i = 0; i < points.size(); i++) {
+            if (i > 0) {
+                assertTrue(points.get(i - 1)[0] <= points.get(i)[0]);
+            }
+            spikeFound |= points.get(i)[1] == 1000;
+        }
+        assertTrue(spikeFound);
+
+        // a small range is emitted exactly
+        points.clear();
+        series.decimate(10, 12, 10, (x, y) -> points.add(new double[] { x, y }));
+        assertEquals(3, points.size());
+        assertEquals(10, points.get(0)[0], 0d);
+        assertEquals(0, points.get(0)[1], 0d);
+        assertEquals(11, points.get(1)[0], 0d);
+        assertEquals(1, points.get(1)[1], 0d);
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final DLDecimatedLinePlotSeries series = new DLDecimatedLinePlotSeries(16, 0);
+        for (int i = 0; i < 37; i++) {
+            series.add(i * 0.5f);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objOut = new ObjectOutputStream(bytes)) {
+            series.writeExternal(objOut);
+        }
+        final DLDecimatedLinePlotSeries deserialized = new DLDecimatedLinePlotSeries();
+        try (ObjectInputStream objIn = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized.readExternal(objIn);
+        }
+        assertEquals(series.getNumValues(), deserialized.getNumValues());
+        assertEquals(series.getNumBuckets(), deserialized.getNumBuckets());
+        assertEquals(series.getBucketWidth(), deserialized.getBucketWidth());
+        for (int i = 0; i < series.getNumBuckets(); i++) {
+            assertEquals(series.getMin(i), deserialized.getMin(i), 0f);
+            assertEquals(series.getMax(i), deserialized.getMax(i), 0f);
+            assertEquals(series.getMean(i), deserialized.getMean(i), 0f);
+        }
+        assertEquals(series.getLastValue(), deserialized.getLastValue(), 0f);
+        // further values can be added after deserialization
+        deserialized.add(100);
+        assertEquals(series.getNumValues() + 1, deserialized.getNumValues());
+        assertEquals(100, deserialized.getMaxValue(), 0f);
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.dl.keras.core.h5.DLKerasJsonParser;
+import org.knime.dl.keras.jvm.core.DLKerasJvmLayers.Weights;
+
+/**
+ * Checks the JVM layers against outputs of the corresponding Keras layers (TensorFlow back end). The configurations
+ * are those serialized by Keras. The fixtures are small enough to be verified by hand and cover the conventions in
+ * which Keras differs from a naive implementation, e.g. the asymmetric 'same' padding or the averaging over unpadded
+ * elements only.
+ *
+ * @author agent, agent@local
+ */
+public class DLKerasJvmLayersTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    @SuppressWarnings("unchecked")
+    private static DLKerasJvmLayer createLayer(final String className, final String config, final Weights weights)
+        throws Exception {
+        return DLKerasJvmLayers.create(className, (Map<String, Object>)DLKerasJsonParser.parse(config), weights);
+    }
+
+    private static void assertOutput(final DLKerasJvmLayer layer, final DLKerasJvmTensor input,
+        final int[] expectedShape, final float... expected) {
+        assertOutput(layer, Collections.singletonList(input), expectedShape, expected);
+    }
+
+    private static void assertOutput(final DLKerasJvmLayer layer, final List<DLKerasJvmTensor> inputs,
+        final int[] expectedShape, final float... expected) {
+        final DLKerasJvmTensor output = layer.apply(inputs);
+        assertArrayEquals(expectedShape, output.getShape());
+        assertArrayEquals(expected, output.getData(), EPSILON);
+    }
+
+    private static DLKerasJvmTensor tensor(final int[] shape, final float... data) {
+        return new DLKerasJvmTensor(shape, data);
+    }
+
+    @Test
+    public void testConv1DValid() throws Exception {
+        final Weights weights = new Weights("conv1d_1");
+        // kernel of shape (kernel_size, in_channels, filters): filter 0 is [1, -1], filter 1 is [0.5, 0.5]
+        weights.put("kernel", new int[]{2, 1, 2}, new float[]{1f, 0.5f, -1f, 0.5f});
+        weights.put("bias", new int[]{2}, new float[]{0.1f, -0.2f});
+        final DLKerasJvmLayer layer = createLayer("Conv1D",
+            "{\"name\": \"conv1d_1\", \"trainable\": true, \"filters\": 2, \"kernel_size\": [2], \"strides\": [1], "
+                + "\"padding\": \"valid\", \"data_format\": \"channels_last\", \"dilation_rate\": [1], "
+                + "\"activation\": \"linear\", \"use_bias\": true}",
+            weights);
+        assertOutput(layer, tensor(new int[]{1, 4, 1}, 1f, 2f, 3f, 4f), new int[]{1, 3, 2}, //
+            -0.9f, 1.3f, -0.9f, 2.3f, -0.9f, 3.3f);
+    }
+
+    @Test
+    public void testConv1DSameWithStridesPadsAtTheEnd() throws Exception {
+        final Weights weights = new Weights("conv1d_2");
+        weights.put("kernel", new int[]{3, 1, 1}, new float[]{1f, 1f, 1f});
+        final DLKerasJvmLayer layer = createLayer("Conv1D",
+            "{\"name\": \"conv1d_2\", \"trainable\": true, \"filters\": 1, \"kernel_size\": [3], \"strides\": [2], "
+                + "\"padding\": \"same\", \"data_format\": \"channels_last\", \"dilation_rate\": [1], "
+                + "\"activation\": \"linear\", \"use_bias\": false}",
+            weights);
+        // TensorFlow puts the odd padding element after the input: windows [1, 2, 3] and [3, 4, 0]
+        assertOutput(layer, tensor(new int[]{1, 4, 1}, 1f, 2f, 3f, 4f), new int[]{1, 2, 1}, 6f, 7f);
+    }
+
+    @Test
+    public void testConv2DWithActivation() throws Exception {
+        final Weights weights = new Weights("conv2d_1");
+        weights.put("kernel", new int[]{2, 2, 1, 1}, new float[]{1f, 2f, 3f, 4f});
+        weights.put("bias", new int[]{1}, new float[]{-40f});
+        final DLKerasJvmLayer layer = createLayer("Conv2D",
+            "{\"name\": \"conv2d_1\", \"trainable\": true, \"filters\": 1, \"kernel_size\": [2, 2], "
+                + "\"strides\": [1, 1], \"padding\": \"valid\", \"data_format\": \"channels_last\", "
+                + "\"dilation_rate\": [1, 1], \"activation\": \"relu\", \"use_bias\": true}",
+            weights);
+        // pre-activations 37, 47, 67, 77 minus the bias
+        assertOutput(layer, tensor(new int[]{1, 3, 3, 1}, 1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f),
+            new int[]{1, 2, 2, 1}, 0f, 7f, 27f, 37f);
+    }
+
+    @Test
+    public void testConv2DMixesChannels() throws Exception {
+        final Weights weights = new Weights("conv2d_2");
+        // kernel of shape (1, 1, in_channels, filters): the filters select channel 0, channel 1 and their sum
+        weights.put("kernel", new int[]{1, 1, 2, 3}, new float[]{1f, 0f, 1f, 0f, 1f, 1f});
+        final DLKerasJvmLayer layer = createLayer("Conv2D",
+            "{\"name\": \"conv2d_2\", \"trainable\": true, \"filters\": 3, \"kernel_size\": [1, 1], "
+                + "\"strides\": [1, 1], \"padding\": \"valid\", \"data_format\": \"channels_last\", "
+                + "\"dilation_rate\": [1, 1], \"activation\": \"linear\", \"use_bias\": false}",
+            weights);
+        assertOutput(layer, tensor(new int[]{1, 1, 2, 2}, 1f, 2f, 3f, 4f), new int[]{1, 1, 2, 3}, //
+            1f, 2f, 3f, 3f, 4f, 7f);
+    }
+
+    @Test
+    public void testMaxPooling2D() throws Exception {
+        final DLKerasJvmLayer layer = createLayer("MaxPooling2D",
+            "{\"name\": \"max_pooling2d_1\", \"trainable\": true, \"pool_size\": [2, 2], \"padding\": \"valid\", "
+                + "\"strides\": [2, 2], \"data_format\": \"channels_last\"}",
+            null);
+        final float[] input = new float[16];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = i + 1;
+        }
+        assertOutput(layer, tensor(new int[]{1, 4, 4, 1}, input), new int[]{1, 2, 2, 1}, 6f, 8f, 14f, 16f);
+    }
+
+    @Test
+    public void testSamePoolingIgnoresPadding() throws Exception {
+        final String config = "{\"name\": \"pooling1d_1\", \"trainable\": true, \"strides\": [2], "
+            + "\"pool_size\": [2], \"padding\": \"same\", \"data_format\": \"channels_last\"}";
+        final DLKerasJvmTensor input = tensor(new int[]{1, 3, 1}, 1f, 3f, -2f);
+        // the last window only contains the last input element
+        assertOutput(createLayer("MaxPooling1D", config, null), input, new int[]{1, 2, 1}, 3f, -2f);
+        assertOutput(createLayer("AveragePooling1D", config, null), input, new int[]{1, 2, 1}, 2f, -2f);
+    }
+
+    @Test
+    public void testGlobalPooling() throws Exception {
+        final String config = "{\"name\": \"global_pooling_1\", \"trainable\": true, "
+            + "\"data_format\": \"channels_last\"}";
+        final DLKerasJvmTensor input = tensor(new int[]{2, 3, 2}, 1f, 2f, 3f, -4f, 5f, 6f, 0f, 0f, 1f, 1f, 2f, 8f);
+        assertOutput(createLayer("GlobalAveragePooling1D", config, null), input, new int[]{2, 2}, //
+            3f, 4f / 3f, 1f, 3f);
+        assertOutput(createLayer("GlobalMaxPooling1D", config, null), input, new int[]{2, 2}, 5f, 6f, 2f, 8f);
+    }
+
+    @Test
+    public void testBatchNormalization() throws Exception {
+        final Weights weights = new Weights("batch_normalization_1");
+        weights.put("gamma", new int[]{2}, new float[]{2f, 1f});
+        weights.put("beta", new int[]{2}, new float[]{0.5f, 0f});
+        weights.put("moving_mean", new int[]{2}, new float[]{1f, -1f});
+        weights.put("moving_variance", new int[]{2}, new float[]{4f, 0.25f});
+        final DLKerasJvmLayer layer = createLayer("BatchNormalization",
+            "{\"name\": \"batch_normalization_1\", \"trainable\": true, \"axis\": -1, \"momentum\": 0.99, "
+                + "\"epsilon\": 0.001, \"center\": true, \"scale\": true}",
+            weights);
+        // gamma * (x - mean) / sqrt(variance + epsilon) + beta
+        assertOutput(layer, tensor(new int[]{2, 2}, 3f, 0f, 1f, -1f), new int[]{2, 2}, //
+            2.49975f, 1.996012f, 0.5f, 0f);
+    }
+
+    @Test
+    public void testBatchNormalizationWithoutScale() throws Exception {
+        final Weights weights = new Weights("batch_normalization_2");
+        weights.put("beta", new int[]{1}, new float[]{1f});
+        weights.put("moving_mean", new int[]{1}, new float[]{2f});
+        weights.put("moving_variance", new int[]{1}, new float[]{0.999f});
+        final DLKerasJvmLayer layer = createLayer("BatchNormalization",
+            "{\"name\": \"batch_normalization_2\", \"trainable\": true, \"axis\": [2], \"momentum\": 0.99, "
+                + "\"epsilon\": 0.001, \"center\": true, \"scale\": false}",
+            weights);
+        assertOutput(layer, tensor(new int[]{1, 2, 1}, 4f, 2f), new int[]{1, 2, 1}, 3f, 1f);
+    }
+
+    @Test
+    public void testEmbedding() throws Exception {
+        final Weights weights = new Weights("embedding_1");
+        weights.put("embeddings", new int[]{4, 2}, new float[]{0f, 0.1f, 1f, 1.1f, 2f, 2.1f, 3f, 3.1f});
+        final DLKerasJvmLayer layer = createLayer("Embedding",
+            "{\"name\": \"embedding_1\", \"trainable\": true, \"batch_input_shape\": [null, 3], "
+                + "\"dtype\": \"float32\", \"input_dim\": 4, \"output_dim\": 2, \"mask_zero\": false, "
+                + "\"input_length\": 3}",
+            weights);
+        assertOutput(layer, tensor(new int[]{2, 3}, 0f, 3f, 1f, 2f, 2f, 0f), new int[]{2, 3, 2}, //
+            0f, 0.1f, 3f, 3.1f, 1f, 1.1f, 2f, 2.1f, 2f, 2.1f, 0f, 0.1f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmbeddingIndexOutOfRangeFails() throws Exception {
+        final Weights weights = new Weights("embedding_2");
+        weights.put("embeddings", new int[]{2, 1}, new float[]{0f, 1f});
+        createLayer("Embedding", "{\"name\": \"embedding_2\", \"input_dim\": 2, \"output_dim\": 1}", weights)
+            .apply(Collections.singletonList(tensor(new int[]{1, 1}, 2f)));
+    }
+
+    @Test
+    public void testElementwiseMerges() throws Exception {
+        final List<DLKerasJvmTensor> inputs = Arrays.asList(tensor(new int[]{2, 2}, 1f, -2f, 3f, 4f),
+            tensor(new int[]{2, 2}, 2f, 2f, -1f, 0.5f));
+        final int[] shape = {2, 2};
+        assertOutput(createLayer("Add", "{\"name\": \"add_1\", \"trainable\": true}", null), inputs, shape, //
+            3f, 0f, 2f, 4.5f);
+        assertOutput(createLayer("Subtract", "{\"name\": \"subtract_1\", \"trainable\": true}", null), inputs,
+            shape, -1f, -4f, 4f, 3.5f);
+        assertOutput(createLayer("Multiply", "{\"name\": \"multiply_1\", \"trainable\": true}", null), inputs,
+            shape, 2f, -4f, -3f, 2f);
+        assertOutput(createLayer("Average", "{\"name\": \"average_1\", \"trainable\": true}", null), inputs, shape,
+            1.5f, 0f, 1f, 2.25f);
+        assertOutput(createLayer("Maximum", "{\"name\": \"maximum_1\", \"trainable\": true}", null), inputs, shape,
+            2f, 2f, 3f, 4f);
+        assertOutput(createLayer("Minimum", "{\"name\": \"minimum_1\", \"trainable\": true}", null), inputs, shape,
+            1f, -2f, -1f, 0.5f);
+    }
+
+    @Test
+    public void testConcatenate() throws Exception {
+        final List<DLKerasJvmTensor> inputs = Arrays.asList(tensor(new int[]{2, 1, 2}, 1f, 2f, 3f, 4f),
+            tensor(new int[]{2, 1, 1}, 5f, 6f));
+        assertOutput(createLayer("Concatenate", "{\"name\": \"concatenate_1\", \"trainable\": true, \"axis\": -1}",
+            null), inputs, new int[]{2, 1, 3}, 1f, 2f, 5f, 3f, 4f, 6f);
+        final List<DLKerasJvmTensor> rows = Arrays.asList(tensor(new int[]{1, 1, 2}, 1f, 2f),
+            tensor(new int[]{1, 2, 2}, 3f, 4f, 5f, 6f));
+        assertOutput(createLayer("Concatenate", "{\"name\": \"concatenate_2\", \"trainable\": true, \"axis\": 1}",
+            null), rows, new int[]{1, 3, 2}, 1f, 2f, 3f, 4f, 5f, 6f);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.dl.keras.core.h5.DLKerasH5File;
+import org.knime.dl.util.DLUtils;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLKerasJvmModelTest {
+
+    private static final String BUNDLE_ID = "org.knime.dl.keras.tests";
+
+    private static File getFile(final String path) throws Exception {
+        return DLUtils.Files.getFileFromBundle(BUNDLE_ID, path);
+    }
+
+    private static float[] createInput(final int size) {
+        return createInput(size, 0);
+    }
+
+    private static float[] createInput(final int size, final int offset) {
+        final float[] input = new float[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = (float)Math.sin(i + offset);
+        }
+        return input;
+    }
+
+    /**
+     * Computes the output of a Keras Dense layer with linear activation from the weights in the given file.
+     */
+    private static float[] dense(final File file, final String layerName, final float[] input, final int numRows,
+        final int inputDim, final int units) throws Exception {
+        final String prefix = "/model_weights/" + layerName + "/" + layerName + "/";
+        final float[] output = new float[numRows * units];
+        try (final DLKerasH5File h5 = DLKerasH5File.open(file)) {
+            final float[] kernel = h5.readFloatDataset(prefix + "kernel:0");
+            final float[] bias = h5.readFloatDataset(prefix + "bias:0");
+            for (int r = 0; r < numRows; r++) {
+                for (int o = 0; o < units; o++) {
+                    float sum = bias[o];
+                    for (int i = 0; i < inputDim; i++) {
+                        sum += input[r * inputDim + i] * kernel[i * units + o];
+                    }
+                    output[r * units + o] = sum;
+                }
+            }
+        }
+        return output;
+    }
+
+    @Test
+    public void testSequentialMatchesManualComputation() throws Exception {
+        final File file = getFile("data/simple_test_model.h5");
+        final DLKerasJvmModel model = DLKerasJvmModel.read(file);
+        assertEquals(Collections.singletonList("dense_1_input"), model.getInputLayerNames());
+        assertEquals(Collections.singletonList("dense_3"), model.getOutputLayerNames());
+
+        final float[] input = createInput(2 * 20);
+        final Map<String, DLKerasJvmTensor> outputs =
+            model.execute(Collections.singletonList(new DLKerasJvmTensor(new int[]{2, 20}, input)),
+                Arrays.asList("dense_1", "dense_3"));
+
+        final float[] expected = new float[2 * 64];
+        try (final DLKerasH5File h5 = DLKerasH5File.open(file)) {
+            final float[] kernel = h5.readFloatDataset("/model_weights/dense_1/dense_1/kernel:0");
+            final float[] bias = h5.readFloatDataset("/model_weights/dense_1/dense_1/bias:0");
+            for (int r = 0; r < 2; r++) {
+                for (int o = 0; o < 64; o++) {
+                    float sum = bias[o];
+                    for (int i = 0; i < 20; i++) {
+                        sum += input[r * 20 + i] * kernel[i * 64 + o];
+                    }
+                    // dense_1 uses a relu activation
+                    expected[r * 64 + o] = Math.max(sum, 0f);
+                }
+            }
+        }
+        assertArrayEquals(new int[]{2, 64}, outputs.get("dense_1").getShape());
+        assertArrayEquals(expected, outputs.get("dense_1").getData(), 1e-5f);
+
+        // dense_3 uses a softmax activation
+        final DLKerasJvmTensor output = outputs.get("dense_3");
+        assertArrayEquals(new int[]{2, 10}, output.getShape());
+        for (int r = 0; r < 2; r++) {
+            float sum = 0f;
+            for (int o = 0; o < 10; o++) {
+                sum += output.getData()[r * 10 + o];
+            }
+            assertEquals(1f, sum, 1e-5f);
+        }
+    }
+
+    @Test
+    public void testFunctionalMultipleInputsAndOutputs() throws Exception {
+        final DLKerasJvmModel model = DLKerasJvmModel.read(getFile("data/3in_3out.h5"));
+        assertEquals(Arrays.asList("input_1", "input_2", "input_3"), model.getInputLayerNames());
+        assertEquals(Arrays.asList("dense_4", "dense_5", "dense_6"), model.getOutputLayerNames());
+        final DLKerasJvmTensor input = new DLKerasJvmTensor(new int[]{3, 5}, createInput(3 * 5));
+        final Map<String, DLKerasJvmTensor> outputs =
+            model.execute(Arrays.asList(input, input, input), model.getOutputLayerNames());
+        for (final String name : model.getOutputLayerNames()) {
+            assertArrayEquals(new int[]{3, 5}, outputs.get(name).getShape());
+        }
+    }
+
+    @Test
+    public void testAddMatchesManualComputation() throws Exception {
+        final File file = getFile("data/3in_3out.h5");
+        final DLKerasJvmModel model = DLKerasJvmModel.read(file);
+        final float[] input1 = createInput(3 * 5, 0);
+        final float[] input2 = createInput(3 * 5, 100);
+        final float[] input3 = createInput(3 * 5, 200);
+        final int[] shape = {3, 5};
+        final Map<String, DLKerasJvmTensor> outputs = model.execute(
+            Arrays.asList(new DLKerasJvmTensor(shape, input1), new DLKerasJvmTensor(shape, input2),
+                new DLKerasJvmTensor(shape, input3)),
+            Arrays.asList("add_3", "dense_4", "dense_6"));
+        // add_3 adds input_3 to the sum of input_1 and input_2
+        final float[] sum = new float[3 * 5];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = input1[i] + input2[i] + input3[i];
+        }
+        assertArrayEquals(shape, outputs.get("add_3").getShape());
+        assertArrayEquals(sum, outputs.get("add_3").getData(), 1e-5f);
+        assertArrayEquals(dense(file, "dense_4", sum, 3, 5, 5), outputs.get("dense_4").getData(), 1e-5f);
+        assertArrayEquals(dense(file, "dense_6", sum, 3, 5, 5), outputs.get("dense_6").getData(), 1e-5f);
+    }
+
+    @Test
+    public void testConcatenateMatchesManualComputation() throws Exception {
+        final File file = getFile("data/multi_in_out.h5");
+        final DLKerasJvmModel model = DLKerasJvmModel.read(file);
+        final float[] input1 = createInput(2 * 10, 0);
+        final float[] input2 = createInput(2 * 5, 100);
+        final Map<String, DLKerasJvmTensor> outputs = model.execute(
+            Arrays.asList(new DLKerasJvmTensor(new int[]{2, 10}, input1),
+                new DLKerasJvmTensor(new int[]{2, 5}, input2)),
+            Arrays.asList("concatenate_1", "dense_1", "dense_2"));
+        // concatenate_1 concatenates the rows of input_1 and input_2 along the last axis
+        final float[] concatenated = new float[2 * 15];
+        for (int r = 0; r < 2; r++) {
+            System.arraycopy(input1, r * 10, concatenated, r * 15, 10);
+            System.arraycopy(input2, r * 5, concatenated, r * 15 + 10, 5);
+        }
+        assertArrayEquals(new int[]{2, 15}, outputs.get("concatenate_1").getShape());
+        assertArrayEquals(concatenated, outputs.get("concatenate_1").getData(), 0f);
+        assertArrayEquals(new int[]{2, 1}, outputs.get("dense_1").getShape());
+        assertArrayEquals(dense(file, "dense_1", concatenated, 2, 15, 1), outputs.get("dense_1").getData(), 1e-5f);
+        assertArrayEquals(dense(file, "dense_2", concatenated, 2, 15, 5), outputs.get("dense_2").getData(), 1e-5f);
+    }
+
+    @Test(expected = DLKerasJvmUnsupportedNetworkException.class)
+    public void testWeightsOnlyFileIsUnsupported() throws Exception {
+        DLKerasJvmModel.read(getFile("data/simple_test_model_weights.h5"));
+    }
+}
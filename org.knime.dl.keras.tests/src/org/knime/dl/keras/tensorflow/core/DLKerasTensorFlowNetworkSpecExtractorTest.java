@@ -0,0 +1,126 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.tensorflow.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+
+import org.junit.Test;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.keras.core.h5.DLKerasH5UnsupportedFormatException;
+import org.knime.dl.util.DLUtils;
+
+/**
+ * @author agent, agent@local
+ */
+public class DLKerasTensorFlowNetworkSpecExtractorTest {
+
+    private static final String BUNDLE_ID = "org.knime.dl.keras.tests";
+
+    private static File getFile(final String path) throws Exception {
+        return DLUtils.Files.getFileFromBundle(BUNDLE_ID, path);
+    }
+
+    private static void assertSpec(final DLTensorSpec spec, final String id, final String name, final long... shape) {
+        assertEquals(id, spec.getIdentifier().getIdentifierString());
+        assertEquals(name, spec.getName());
+        assertFalse(spec.getBatchSize().isPresent());
+        assertArrayEquals(shape, DLUtils.Shapes.getFixedShape(spec.getShape()).get());
+        assertEquals(float.class, spec.getElementType());
+        assertEquals(DLDimensionOrder.TDHWC, spec.getDimensionOrder());
+    }
+
+    @Test
+    public void testFunctional() throws Exception {
+        final DLKerasTensorFlowNetworkSpec spec =
+            DLKerasTensorFlowNetworkSpecExtractor.extract(getFile("data/multi_in_out.h5"));
+        final DLTensorSpec[] inputs = spec.getInputSpecs();
+        assertEquals(2, inputs.length);
+        assertSpec(inputs[0], "input_1_0:0", "input_1:0", 10);
+        assertSpec(inputs[1], "input_2_0:0", "input_2:0", 5);
+        // same as on Python side, the outputs of the input layers are also hidden outputs
+        final DLTensorSpec[] hiddenOutputs = spec.getHiddenOutputSpecs();
+        assertEquals(3, hiddenOutputs.length);
+        assertSpec(hiddenOutputs[0], "input_1_0:0", "input_1_0:0", 10);
+        assertSpec(hiddenOutputs[1], "input_2_0:0", "input_2_0:0", 5);
+        assertSpec(hiddenOutputs[2], "concatenate_1_0:0", "concatenate_1_0:0", 15);
+        final DLTensorSpec[] outputs = spec.getOutputSpecs();
+        assertEquals(2, outputs.length);
+        assertSpec(outputs[0], "dense_1_0:0", "dense_1_0:0", 1);
+        assertSpec(outputs[1], "dense_2_0:0", "dense_2_0:0", 5);
+    }
+
+    @Test
+    public void testMergeLayers() throws Exception {
+        final DLKerasTensorFlowNetworkSpec spec =
+            DLKerasTensorFlowNetworkSpecExtractor.extract(getFile("data/3in_3out.h5"));
+        assertEquals(3, spec.getInputSpecs().length);
+        assertEquals(5, spec.getHiddenOutputSpecs().length);
+        assertSpec(spec.getHiddenOutputSpecs()[4], "add_3_0:0", "add_3_0:0", 5);
+        assertEquals(3, spec.getOutputSpecs().length);
+        assertSpec(spec.getOutputSpecs()[2], "dense_6_0:0", "dense_6_0:0", 5);
+    }
+
+    /**
+     * Older Keras versions wrap sequential models differently when reading them in Python.
+     */
+    @Test(expected = DLKerasH5UnsupportedFormatException.class)
+    public void testOldSequentialIsRejected() throws Exception {
+        DLKerasTensorFlowNetworkSpecExtractor.extract(getFile("data/simple_test_model.h5"));
+    }
+
+    @Test(expected = DLKerasH5UnsupportedFormatException.class)
+    public void testWeightsOnlyFileIsRejected() throws Exception {
+        DLKerasTensorFlowNetworkSpecExtractor.extract(getFile("data/simple_test_model_weights.h5"));
+    }
+}
@@ -139,6 +139,8 @@ class DLKerasNetwork(DLPythonNetwork):
     def __init__(self, model, compatibility_mode=False):
         super().__init__(DLKerasNetwork._convert_sequential_to_model(model, compatibility_mode))
         self._training_monitor = None
+        # models that expose the requested (hidden) outputs, keyed by the tuple of requested output identifiers
+        self._intermediate_models = {}
 
     @abc.abstractmethod
     def _extract_model_spec(self):
@@ -151,34 +153,23 @@ class DLKerasNetwork(DLPythonNetwork):
         return self._spec
 
     def execute(self, in_data, batch_size, output_identifiers):
-        model = self._model
         X = self._format_input(in_data, batch_size)
-
-        # Get the requested output tensors
-        outputs = []
-        for id in output_identifiers:
-            matcher = re.match(r'^(.*)_(\d+):(\d+)$', id)
-            layer_name = matcher.group(1)
-            node_idx = int(matcher.group(2))
-            tensor_idx = int(matcher.group(3))
-            output_tensors = model.get_layer(layer_name).get_output_at(node_idx)
-            if not isinstance(output_tensors, list):
-                output_tensors = [output_tensors]
-            if output_tensors[tensor_idx] in model.inputs:
-                output_tensors[tensor_idx] = Lambda(lambda x: x)(output_tensors[tensor_idx])
-            outputs.append(output_tensors[tensor_idx])
-
-        # Build the model with the requested outputs
-        intermediate_model = Model(inputs=model.inputs, outputs=outputs)
+        intermediate_model = self._get_intermediate_model(output_identifiers)
         Y = intermediate_model.predict(X, batch_size=batch_size, verbose=0)
         return self._format_output(Y, output_identifiers)
 
+    def clear_caches(self):
+        self._intermediate_models.clear()
+
     def train(self, training_data_supplier, validation_data_supplier=None, send_to_java=None):
         assert training_data_supplier is not None
         config = self._spec.training_config
         if not config:
             raise ValueError("No training configuration available. Set configuration before training the network.")
 
+        # cached intermediate models were compiled against the pre-training state of the model
+        self.clear_caches()
+
         # TODO: before training: (re)compile model! (if pre-compiled: only compile if training config changed) Note that
         # we currently make some assumptions on how a model is compiled - e.g. we expect metrics to contain 'acc'.
         # HACK: old code, this should be a dictionary (layer_name, loss)!
@@ -194,7 +185,8 @@ class DLKerasNetwork(DLPythonNetwork):
         self._model.compile(loss=loss, optimizer=config.optimizer, metrics=metrics)
 
         if not any(isinstance(c, DLKerasTrainingMonitor) for c in config.callbacks):
-            training_monitor = DLKerasTrainingMonitor(self)
+            training_monitor = DLKerasTrainingMonitor(self, config.metrics_report_batches,
+                                                      config.metrics_report_interval)
             config.callbacks.append(training_monitor)
             self._training_monitor = training_monitor
 
@@ -216,7 +208,7 @@ class DLKerasNetwork(DLPythonNetwork):
                                             callbacks=config.callbacks,
                                             validation_data=validation_data_generator,
                                             validation_steps=validation_steps,
-                                            **{kw_max_queue: 1})
+                                            **{kw_max_queue: config.max_queue_size})
         return history.history
 
     def stop_early(self):
@@ -236,6 +228,31 @@ class DLKerasNetwork(DLPythonNetwork):
 
     # "Protected" helper methods:
 
+    def _get_intermediate_model(self, output_identifiers):
+        # Building the model (and, on TensorFlow, its predict function) is expensive, so it is only done once per set of
+        # requested outputs.
+        key = tuple(output_identifiers)
+        intermediate_model = self._intermediate_models.get(key)
+        if intermediate_model is None:
+            model = self._model
+            # Get the requested output tensors
+            outputs = []
+            for id in output_identifiers:
+                matcher = re.match(r'^(.*)_(\d+):(\d+)$', id)
+                layer_name = matcher.group(1)
+                node_idx = int(matcher.group(2))
+                tensor_idx = int(matcher.group(3))
+                output_tensors = model.get_layer(layer_name).get_output_at(node_idx)
+                if not isinstance(output_tensors, list):
+                    output_tensors = [output_tensors]
+                if output_tensors[tensor_idx] in model.inputs:
+                    output_tensors[tensor_idx] = Lambda(lambda x: x)(output_tensors[tensor_idx])
+                outputs.append(output_tensors[tensor_idx])
+            # Build the model with the requested outputs
+            intermediate_model = Model(inputs=model.inputs, outputs=outputs)
+            self._intermediate_models[key] = intermediate_model
+        return intermediate_model
+
     def _format_input(self, in_data, batch_size):
         return self._format_tensor(in_data, self.spec.input_specs, batch_size)
 
@@ -312,3 +329,8 @@ class DLKerasTrainingConfig(DLPythonTrainingConfig):
         self.loss = {}
         self.metrics = ['acc']
         self.callbacks = []
+        self.max_queue_size = 1
+        # batch metrics are reported to Java in messages of at most this many batches...
+        self.metrics_report_batches = 1
+        # ...or after at most this many milliseconds (if non-zero)
+        self.metrics_report_interval = 0
@@ -50,6 +50,7 @@
 
 import abc
 import sys
+import time
 
 from keras.callbacks import Callback
 from keras.callbacks import EarlyStopping
@@ -107,10 +108,18 @@ class DLKerasTerminateOnNaN(TerminateOnNaN, DLKerasAbstractTrainingCallback):
 
 
 class DLKerasTrainingMonitor(Callback, DLKerasAbstractTrainingCallback):
-    def __init__(self, network):
+    def __init__(self, network, report_batches=1, report_interval=0):
         super().__init__()
         self._network = network
         self._stop_training = False
+        # Batch metrics are either sent one by one ('batch_begin'/'batch_end') or, if aggregation is configured,
+        # collected and sent in a single 'batch_ends' message once report_batches batches are pending or
+        # report_interval milliseconds have passed. Pending metrics are always sent at the end of an epoch.
+        self._report_batches = max(1, report_batches)
+        self._report_interval = max(0, report_interval) / 1000.0
+        self._aggregate = self._report_batches > 1
+        self._pending_batches = []
+        self._last_report = time.monotonic()
 
     def stop_early(self):
         self._stop_training = True
@@ -122,6 +131,7 @@ class DLKerasTrainingMonitor(Callback, DLKerasAbstractTrainingCallback):
         self._stop_training = False
 
     def on_train_end(self, logs=None):
+        self._report_pending_batches()
         if self._stop_training:
             # flush pending Keras logs before printing our own status message
             sys.stdout.flush()
@@ -131,6 +141,7 @@ class DLKerasTrainingMonitor(Callback, DLKerasAbstractTrainingCallback):
         self.send_to_java('epoch_begin')
 
     def on_epoch_end(self, epoch, logs=None):
+        self._report_pending_batches()
         if logs:
             loss = logs.get('val_loss')
             acc = logs.get('val_acc')
@@ -146,7 +157,8 @@ class DLKerasTrainingMonitor(Callback, DLKerasAbstractTrainingCallback):
             self.send_to_java('epoch_end', str(acc) + ';' + str(loss))
 
     def on_batch_begin(self, batch, logs=None):
-        self.send_to_java('batch_begin')
+        if not self._aggregate:
+            self.send_to_java('batch_begin')
 
     def on_batch_end(self, batch, logs=None):
         if logs:
@@ -159,4 +171,20 @@ class DLKerasTrainingMonitor(Callback, DLKerasAbstractTrainingCallback):
                 accs = [v for k, v in logs.items() if k.endswith('_acc')]
                 acc = sum(accs) / len(accs)
 
-            self.send_to_java('batch_end', str(acc) + ';' + str(loss))
+            metrics = str(acc) + ';' + str(loss)
+            if not self._aggregate:
+                self.send_to_java('batch_end', metrics)
+                return
+            self._pending_batches.append(metrics)
+            steps = self.params.get('steps')
+            if (len(self._pending_batches) >= self._report_batches
+                    or (self._report_interval > 0 and time.monotonic() - self._last_report >= self._report_interval)
+                    or (steps is not None and batch >= steps - 1)
+                    or self.model.stop_training):
+                self._report_pending_batches()
+
+    def _report_pending_batches(self):
+        if self._pending_batches:
+            self.send_to_java('batch_ends', '|'.join(self._pending_batches))
+            self._pending_batches = []
+        self._last_report = time.monotonic()
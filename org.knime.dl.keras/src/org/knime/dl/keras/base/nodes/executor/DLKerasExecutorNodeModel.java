@@ -47,17 +47,16 @@
 package org.knime.dl.keras.base.nodes.executor;
 
 import java.util.Map;
+import java.util.Set;
 
-import org.knime.core.data.DataRow;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
-import org.knime.dl.core.DLExecutionSpecCreator;
-import org.knime.dl.core.DLMissingExtensionException;
 import org.knime.dl.core.DLNetwork;
 import org.knime.dl.core.DLNetworkInputPreparer;
 import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.convert.DLTensorToDataCellConverterFactory;
 import org.knime.dl.core.execution.DLExecutionContext;
 import org.knime.dl.core.execution.DLNetworkExecutionSession;
@@ -91,16 +90,28 @@ static DLKerasGpuSelectionConfig createGpuSelectionConfig() {
 
     @Override
     protected <N extends DLNetwork> DLNetworkExecutionSession createExecutionSession(final DLPythonContext context,
-        final N network, final int batchSize, final Map<DLTensorId, int[]> columnsForTensorId,
+        final N network, final Set<DLTensorSpec> executionInputSpecs,
         final Map<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId,
-        final DataRow firstRow, final DLNetworkInputPreparer inputPreparer,
-        final DLNetworkOutputConsumer outputConsumer) throws DLMissingExtensionException, InvalidSettingsException {
+        final DLNetworkInputPreparer inputPreparer, final DLNetworkOutputConsumer outputConsumer)
+        throws InvalidSettingsException {
 
         final DLExecutionContext<DLPythonContext, N> ctx = getExecutionContext(context);
-        final DLNetworkExecutionSession session = ctx.createExecutionSession(
-            context, network, DLExecutionSpecCreator.createExecutionSpecs(firstRow, ctx.getTensorFactory(), batchSize,
-                columnsForTensorId, m_inputConverters),
+        final DLNetworkExecutionSession session = ctx.createExecutionSession(context, network, executionInputSpecs,
             outputConverterForTensorId.keySet(), inputPreparer, outputConsumer);
+        if (session instanceof DLPythonNetworkExecutionSession) {
+            ((DLPythonNetworkExecutionSession)session).setPipelinedExecution(isPipelinedExecution());
+            ((DLPythonNetworkExecutionSession)session).setBatchesPerTransfer(getBatchesPerTransfer());
+            ((DLPythonNetworkExecutionSession)session).setKeepNetworkLoaded(isKeepNetworkLoaded());
+        } else {
+            if (isPipelinedExecution()) {
+                LOGGER.warn("Pipelined execution was requested but is not supported by the selected back end. "
+                    + "Batches will be executed sequentially.");
+            }
+            if (isKeepNetworkLoaded()) {
+                LOGGER.warn("Keeping the network loaded was requested but is not supported by the selected back end. "
+                    + "The network will be loaded again on each execution.");
+            }
+        }
         if (!m_gpuSelection.getCudaVisibleDevices().getValue().isEmpty()) {
             if (session instanceof DLPythonNetworkExecutionSession) {
                 ((DLPythonNetworkExecutionSession)session).setKernelEnvironmentVariable(CUDA_VISIBLE_DEVICES_VAR_NAME,
@@ -114,6 +125,14 @@ protected <N extends DLNetwork> DLNetworkExecutionSession createExecutionSession
         return session;
     }
 
+    @Override
+    protected void configureBucketSession(final DLNetworkExecutionSession session) {
+        if (session instanceof DLPythonNetworkExecutionSession) {
+            // the buckets share one kernel, the network is only loaded once per execution
+            ((DLPythonNetworkExecutionSession)session).setShareLoadedNetwork(true);
+        }
+    }
+
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         super.saveSettingsTo(settings);
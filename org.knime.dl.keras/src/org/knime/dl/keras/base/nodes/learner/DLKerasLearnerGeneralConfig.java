@@ -103,6 +103,20 @@ final class DLKerasLearnerGeneralConfig extends AbstractConfig implements DLGene
 
 	static final String CFG_KEY_RANDOM_SEED = "random_seed";
 
+	static final String CFG_KEY_PREFETCH_DEPTH = "prefetch_depth";
+
+	static final String CFG_KEY_CONVERSION_THREADS = "conversion_threads";
+
+	static final String CFG_KEY_METRICS_REPORTING_BATCHES = "metrics_reporting_batches";
+
+	static final String CFG_KEY_METRICS_REPORTING_INTERVAL = "metrics_reporting_interval";
+
+	static final String CFG_KEY_CACHE_TRAINING_DATA = "cache_training_data";
+
+	static final String CFG_KEY_DYNAMIC_INPUT_SHAPES = "dynamic_input_shapes";
+
+	static final String CFG_KEY_LENGTH_SORTING_WINDOW = "length_sorting_window";
+
 	static Collection<DLKerasTrainingContext<?>> getAvailableTrainingContexts(
 			final Class<? extends DLNetwork> networkType) {
 		return DLTrainingContextRegistry.getInstance().getTrainingContextsForNetworkType((networkType)) //
@@ -216,6 +230,69 @@ protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings,
 			}
 		};
 		put(randomSeed);
+		put(new DefaultConfigEntry<Integer>(CFG_KEY_PREFETCH_DEPTH, Integer.class, 2) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): prepare batches on demand as before
+				m_value = 0;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Integer>(CFG_KEY_CONVERSION_THREADS, Integer.class, 1) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): convert rows on the preparing thread as before
+				m_value = 1;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Integer>(CFG_KEY_METRICS_REPORTING_BATCHES, Integer.class, 10) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): report each batch on its own as before
+				m_value = 1;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Integer>(CFG_KEY_METRICS_REPORTING_INTERVAL, Integer.class, 1000) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): do not hold back batch metrics as before
+				m_value = 0;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Boolean>(CFG_KEY_CACHE_TRAINING_DATA, Boolean.class, false) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): convert the training data in each epoch as before
+				m_value = false;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Boolean>(CFG_KEY_DYNAMIC_INPUT_SHAPES, Boolean.class, false) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): derive the input shapes from the first row as before
+				m_value = false;
+				return true;
+			}
+		});
+		put(new DefaultConfigEntry<Integer>(CFG_KEY_LENGTH_SORTING_WINDOW, Integer.class, 0) {
+
+			@Override
+			protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+				// backward compatibility (4.3): do not sort the training rows if entry is not present in the settings
+				m_value = 0;
+				return true;
+			}
+		});
 	}
 
 	@Override
@@ -276,6 +353,34 @@ ConfigEntry<Long> getRandomSeed() {
 		return get(CFG_KEY_RANDOM_SEED, Long.class);
 	}
 
+	ConfigEntry<Integer> getPrefetchDepthEntry() {
+		return get(CFG_KEY_PREFETCH_DEPTH, Integer.class);
+	}
+
+	ConfigEntry<Integer> getConversionThreadsEntry() {
+		return get(CFG_KEY_CONVERSION_THREADS, Integer.class);
+	}
+
+	ConfigEntry<Integer> getMetricsReportingBatchesEntry() {
+		return get(CFG_KEY_METRICS_REPORTING_BATCHES, Integer.class);
+	}
+
+	ConfigEntry<Integer> getMetricsReportingIntervalEntry() {
+		return get(CFG_KEY_METRICS_REPORTING_INTERVAL, Integer.class);
+	}
+
+	ConfigEntry<Boolean> getCacheTrainingDataEntry() {
+		return get(CFG_KEY_CACHE_TRAINING_DATA, Boolean.class);
+	}
+
+	ConfigEntry<Boolean> getDynamicInputShapesEntry() {
+		return get(CFG_KEY_DYNAMIC_INPUT_SHAPES, Boolean.class);
+	}
+
+	ConfigEntry<Integer> getLengthSortingWindowEntry() {
+		return get(CFG_KEY_LENGTH_SORTING_WINDOW, Integer.class);
+	}
+
 	void copyClipSettingsToOptimizer() {
 		final DLKerasOptimizer optimizer = getOptimizerEntry().getValue();
 		if (optimizer != null) {
@@ -102,6 +102,33 @@ class DLKerasLearnerGeneralPanel extends AbstractGridBagDialogComponentGroup {
 		addNumberSpinnerRowComponent(
 				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getValidationBatchSizeEntry(), 1, Integer.MAX_VALUE),
 				"Validation batch size", 1);
+
+		addNumberSpinnerRowComponent(
+				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getPrefetchDepthEntry(), 0, Integer.MAX_VALUE),
+				"Number of batches to prefetch", 1);
+
+		addNumberSpinnerRowComponent(
+				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getConversionThreadsEntry(), 1, Integer.MAX_VALUE),
+				"Number of threads for input conversion", 1);
+
+		addNumberSpinnerRowComponent(
+				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getMetricsReportingBatchesEntry(), 1, Integer.MAX_VALUE),
+				"Number of batches per progress report", 1);
+
+		addNumberSpinnerRowComponent(
+				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getMetricsReportingIntervalEntry(), 0,
+						Integer.MAX_VALUE),
+				"Maximum progress report interval (ms)", 100);
+
+		addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getCacheTrainingDataEntry()),
+				"Cache converted training data between epochs", true);
+
+		addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getDynamicInputShapesEntry()),
+				"Train on rows of different shapes in shape buckets", true);
+
+		addNumberSpinnerRowComponent(
+				ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getLengthSortingWindowEntry(), 0, Integer.MAX_VALUE),
+				"Number of rows to sort by length (0 disables sorting)", 100);
 		
 		ConfigEntry<Boolean> shuffleEntry = m_cfg.getShuffleTrainingData();
 		addCheckboxRow(ConfigUtil.toSettingsModelBoolean(shuffleEntry),
@@ -93,14 +93,19 @@
 import org.knime.dl.core.DLExecutionSpecCreator;
 import org.knime.dl.core.DLInstallationTestTimeoutException;
 import org.knime.dl.core.DLMissingDependencyException;
+import org.knime.dl.core.DLMissingExtensionException;
 import org.knime.dl.core.DLNetwork;
+import org.knime.dl.core.DLNetworkInputProvider;
 import org.knime.dl.core.DLNetworkSpec;
 import org.knime.dl.core.DLNotCancelable;
+import org.knime.dl.core.DLPrefetchingNetworkInputProvider;
 import org.knime.dl.core.DLRowIterator;
 import org.knime.dl.core.DLShuffleDataTableRowIterator;
 import org.knime.dl.core.DLTensorId;
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.knime.dl.core.training.DLAbstractKnimeNetworkFixedSizeInputPreparer;
+import org.knime.dl.core.training.DLKnimeNetworkShapeBucketedInputPreparer;
 import org.knime.dl.core.training.DLKnimeNetworkTrainingInputPreparer;
 import org.knime.dl.core.training.DLKnimeNetworkValidationInputPreparer;
 import org.knime.dl.core.training.DLKnimeTrainingMonitor;
@@ -674,51 +679,56 @@ private <N extends DLKerasNetwork> PortObject executeInternal(final PortObject i
                 new LinkedHashMap<>(columnsForTensorId.size());
             fillInputAndTargetSpecificMaps(inTableSpec, columnsForTensorId, converterForTensorId);
 
-            // TODO: only valid if we don't crop the last batch. This has to be considered if we want to add 'crop' as an
-            // alternative strategy for handling incomplete batches.
-            final int numTrainingBatchesPerEpoch =
-                (int)Math.ceil(inTable.size() / (double)trainingConfig.getBatchSize());
-            final int totalNumTrainingBatches = trainingConfig.getEpochs() * numTrainingBatchesPerEpoch;
-            final int numBatchesPerValidation = doValidation
-                ? (int)Math.ceil(inValidationTable.size() / (double)trainingConfig.getValidationBatchSize()) : 0;
-            final int totalNumValidationBatches = trainingConfig.getEpochs() * numBatchesPerValidation;
-
-            prepareView(doValidation, totalNumTrainingBatches, totalNumValidationBatches);
-
             final Random random = createRandom();
 
-            m_status = new DLKerasDefaultTrainingStatus(trainingConfig.getEpochs(), numTrainingBatchesPerEpoch);
             try (final DLRowIterator rowIterator = createRowIterator(inTable, columnsForTensorId, random, exec);
-                    final DLKnimeNetworkTrainingInputPreparer inputPreparer = new DLKnimeNetworkTrainingInputPreparer(
-                        rowIterator, (int)trainingConfig.getBatchSize(), converterForTensorId);
-                    final DLKnimeNetworkValidationInputPreparer validationPreparer =
-                        doValidation ? new DLKnimeNetworkValidationInputPreparer(
-                            new DLDataTableRowIterator(inValidationTable, columnsForTensorId),
-                            (int)trainingConfig.getValidationBatchSize(), converterForTensorId) : null;
-                    DLKerasNetworkTrainingSession session =
-                        ctx.createTrainingSession(context, inNetwork, trainingConfig,
-                            DLExecutionSpecCreator.createExecutionSpecs(rowIterator.peek(), ctx.getTensorFactory(),
-                                trainingConfig.getBatchSize(), columnsForTensorId, m_converters),
-                            inputPreparer, validationPreparer);) {
-                m_session = session; // Needed for early stopping.
-                final DLKnimeTrainingMonitor<DLKerasTrainingStatus> monitor =
-                    new DLKnimeTrainingMonitor<>(exec, m_status);
-                setupTrainingStatus(doValidation, trainingConfig, numTrainingBatchesPerEpoch, totalNumTrainingBatches,
-                    monitor);
-                final String cudaVisibleDevices = m_gpuSelection.getCudaVisibleDevices().getValue();
-                if (!cudaVisibleDevices.isEmpty()) {
-                    session.setKernelEnvironmentVariable("CUDA_VISIBLE_DEVICES", cudaVisibleDevices);
+                    final DLAbstractKnimeNetworkFixedSizeInputPreparer inputPreparer =
+                        createTrainingInputPreparer(rowIterator, (int)trainingConfig.getBatchSize(),
+                            columnsForTensorId, converterForTensorId, random);
+                    final DLAbstractKnimeNetworkFixedSizeInputPreparer validationPreparer =
+                        doValidation ? createValidationInputPreparer(inValidationTable,
+                            (int)trainingConfig.getValidationBatchSize(), columnsForTensorId, converterForTensorId)
+                            : null) {
+                final int numTrainingBatchesPerEpoch = (int)inputPreparer.getNumBatches();
+                final int totalNumTrainingBatches = trainingConfig.getEpochs() * numTrainingBatchesPerEpoch;
+                final int numBatchesPerValidation = doValidation ? (int)validationPreparer.getNumBatches() : 0;
+                final int totalNumValidationBatches = trainingConfig.getEpochs() * numBatchesPerValidation;
+
+                prepareView(doValidation, totalNumTrainingBatches, totalNumValidationBatches);
+
+                m_status = new DLKerasDefaultTrainingStatus(trainingConfig.getEpochs(), numTrainingBatchesPerEpoch);
+                // in shape-bucketed mode, the execution specs of the first row only serve as templates of the
+                // tensors of the shape buckets
+                try (DLKerasNetworkTrainingSession session =
+                    ctx.createTrainingSession(context, inNetwork, trainingConfig,
+                        DLExecutionSpecCreator.createExecutionSpecs(rowIterator.peek(), ctx.getTensorFactory(),
+                            trainingConfig.getBatchSize(), columnsForTensorId, m_converters),
+                        inputPreparer, validationPreparer)) {
+                    m_session = session; // Needed for early stopping.
+                    final int numConversionThreads = m_generalCfg.getConversionThreadsEntry().getValue();
+                    inputPreparer.setConversionParallelism(numConversionThreads, ctx.getTensorFactory());
+                    if (validationPreparer != null) {
+                        validationPreparer.setConversionParallelism(numConversionThreads, ctx.getTensorFactory());
+                    }
+                    final DLKnimeTrainingMonitor<DLKerasTrainingStatus> monitor =
+                        new DLKnimeTrainingMonitor<>(exec, m_status);
+                    setupTrainingStatus(doValidation, trainingConfig, numTrainingBatchesPerEpoch,
+                        totalNumTrainingBatches, monitor, session.getTrainingInputProvider());
+                    final String cudaVisibleDevices = m_gpuSelection.getCudaVisibleDevices().getValue();
+                    if (!cudaVisibleDevices.isEmpty()) {
+                        session.setKernelEnvironmentVariable("CUDA_VISIBLE_DEVICES", cudaVisibleDevices);
+                    }
+                    session.run(monitor);
+                    exec.setMessage("Saving trained Keras deep learning network...");
+                    return session.getTrainedNetwork(exec);
+                } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
+                    m_status.setStatus(Status.USER_INTERRUPTED);
+                    throw e;
+                } catch (final Exception e) {
+                    throw handleGeneralException(e);
+                } finally {
+                    m_session = null;
                 }
-                session.run(monitor);
-                exec.setMessage("Saving trained Keras deep learning network...");
-                return session.getTrainedNetwork(exec);
-            } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
-                m_status.setStatus(Status.USER_INTERRUPTED);
-                throw e;
-            } catch (final Exception e) {
-                throw handleGeneralException(e);
-            } finally {
-                m_session = null;
             }
         }
     }
@@ -746,7 +756,8 @@ private RuntimeException handleGeneralException(final Exception e) throws Cancel
 
     private void setupTrainingStatus(final boolean doValidation, final DLKerasTrainingConfig trainingConfig,
         final int numTrainingBatchesPerEpoch, final int totalNumTrainingBatches,
-        final DLKnimeTrainingMonitor<DLKerasTrainingStatus> monitor) {
+        final DLKnimeTrainingMonitor<DLKerasTrainingStatus> monitor,
+        final DLNetworkInputProvider trainingInputProvider) {
         final NodeContext nodeContext = NodeContext.getContext();
         m_status.setViewSpecs(m_viewSpecs);
         m_status.setViewData(m_viewData);
@@ -791,13 +802,20 @@ private void setupTrainingStatus(final boolean doValidation, final DLKerasTraini
         	final int currentEpoch = m_status.getCurrentEpoch() + 1;
         	final double progress = ((currentEpoch - 1) * numTrainingBatchesPerEpoch + currentBatch)
         			/ (double) totalNumTrainingBatches;
-        	monitor.setProgress(progress, "Processing batch " + currentBatch + " of " + numTrainingBatchesPerEpoch
-        			+ " in epoch " + currentEpoch + " of " + trainingConfig.getEpochs() + "...");
+        	String message = "Processing batch " + currentBatch + " of " + numTrainingBatchesPerEpoch + " in epoch "
+        			+ currentEpoch + " of " + trainingConfig.getEpochs();
+        	if (trainingInputProvider instanceof DLPrefetchingNetworkInputProvider) {
+        		final DLPrefetchingNetworkInputProvider prefetcher =
+        				(DLPrefetchingNetworkInputProvider) trainingInputProvider;
+        		message += " (" + prefetcher.getNumPrefetchedBatches() + " of " + prefetcher.getPrefetchDepth()
+        				+ " batches prefetched, " + prefetcher.getNumProducedBatches() + " prepared in total)";
+        	}
+        	monitor.setProgress(progress, message + "...");
         });
         m_status.batchEnded().addListener((src, metrics) -> {
         	// update view
-        	((DLDenseLinePlotViewData) m_viewData[0].get(0)).getDataY().add(metrics.get("accuracy").getValue());
-        	((DLDenseLinePlotViewData) m_viewData[1].get(0)).getDataY().add(metrics.get("loss").getValue());
+        	((DLDenseLinePlotViewData) m_viewData[0].get(0)).add(metrics.get("accuracy").getValue());
+        	((DLDenseLinePlotViewData) m_viewData[1].get(0)).add(metrics.get("loss").getValue());
             try {
                 notifyViewsWithNodeContext(nodeContext, m_status);
             } catch (final Exception e) {
@@ -894,8 +912,12 @@ private DLKerasTrainingConfig createTrainingConfig(final DLKerasNetworkSpec inNe
 		final DLKerasOptimizer optimizer = m_generalCfg.getOptimizerEntry().getValue();
         final Map<DLTensorId, DLKerasLossFunction> lossFunctions = createLossFunctionMap(inNetworkSpec);
 		final ArrayList<DLKerasCallback> callbacks = createCallbackList();
+		final int prefetchDepth = m_generalCfg.getPrefetchDepthEntry().getValue();
+		final int metricsReportingBatches = m_generalCfg.getMetricsReportingBatchesEntry().getValue();
+		final int metricsReportingInterval = m_generalCfg.getMetricsReportingIntervalEntry().getValue();
 		return new DLKerasDefaultTrainingConfig(numEpochs, trainingBatchSize,
-				validationBatchSize, optimizer, lossFunctions, callbacks);
+				validationBatchSize, optimizer, lossFunctions, callbacks, prefetchDepth, metricsReportingBatches,
+				metricsReportingInterval);
     }
 
     private ArrayList<DLKerasCallback> createCallbackList() {
@@ -951,10 +973,57 @@ private Random createRandom() {
 	private DLRowIterator createRowIterator(final BufferedDataTable inTable,
 			final Map<DLTensorId, int[]> columnsForTensorId, final Random random, final ExecutionContext exec) {
 		final boolean doShuffle = m_generalCfg.getShuffleTrainingData().getValue();
-		if (doShuffle) {
+		// shape-bucketed preparers plan their batches once and therefore rely on a stable row order, they shuffle the
+		// order of their batches instead
+		if (doShuffle && !m_generalCfg.getDynamicInputShapesEntry().getValue()) {
 			return new DLShuffleDataTableRowIterator(inTable, columnsForTensorId, random.nextLong(),
 					exec.createSubExecutionContext(0));
 		}
 		return new DLDataTableRowIterator(inTable, columnsForTensorId);
 	}
+
+	private DLAbstractKnimeNetworkFixedSizeInputPreparer createTrainingInputPreparer(final DLRowIterator rowIterator,
+			final int batchSize, final Map<DLTensorId, int[]> columnsForTensorId,
+			final Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> converterForTensorId, final Random random)
+			throws DLMissingExtensionException {
+		final boolean doShuffle = m_generalCfg.getShuffleTrainingData().getValue();
+		if (m_generalCfg.getDynamicInputShapesEntry().getValue()) {
+			// converted batches differ in shape, the epoch cache does not apply
+			return createShapeBucketedInputPreparer(rowIterator, batchSize, columnsForTensorId,
+					doShuffle ? new Random(random.nextLong()) : null);
+		}
+		final DLKnimeNetworkTrainingInputPreparer inputPreparer =
+				new DLKnimeNetworkTrainingInputPreparer(rowIterator, batchSize, converterForTensorId);
+		if (m_generalCfg.getCacheTrainingDataEntry().getValue()) {
+			inputPreparer.enableEpochCache(doShuffle ? new Random(random.nextLong()) : null);
+		}
+		return inputPreparer;
+	}
+
+	private DLAbstractKnimeNetworkFixedSizeInputPreparer createValidationInputPreparer(
+			final BufferedDataTable inValidationTable, final int batchSize,
+			final Map<DLTensorId, int[]> columnsForTensorId,
+			final Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> converterForTensorId)
+			throws DLMissingExtensionException {
+		final DLRowIterator rowIterator = new DLDataTableRowIterator(inValidationTable, columnsForTensorId);
+		if (m_generalCfg.getDynamicInputShapesEntry().getValue()) {
+			try {
+				return createShapeBucketedInputPreparer(rowIterator, batchSize, columnsForTensorId, null);
+			} catch (final DLMissingExtensionException | RuntimeException e) {
+				rowIterator.close();
+				throw e;
+			}
+		}
+		return new DLKnimeNetworkValidationInputPreparer(rowIterator, batchSize, converterForTensorId);
+	}
+
+	private DLKnimeNetworkShapeBucketedInputPreparer createShapeBucketedInputPreparer(final DLRowIterator rowIterator,
+			final int batchSize, final Map<DLTensorId, int[]> columnsForTensorId, final Random shuffleRandom)
+			throws DLMissingExtensionException {
+		final int sortingWindow = m_generalCfg.getLengthSortingWindowEntry().getValue();
+		final boolean sortByLength = sortingWindow > 0;
+		final int windowSize = sortByLength ? Math.max(sortingWindow, batchSize) : batchSize;
+		return new DLKnimeNetworkShapeBucketedInputPreparer(rowIterator, columnsForTensorId, batchSize, m_converters,
+				windowSize, sortByLength, shuffleRandom);
+	}
 }
@@ -0,0 +1,405 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.base.nodes.learner.view;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+/**
+ * Append-only series of float values that keeps a bounded number of min/max/mean buckets instead of every single
+ * value. As long as the number of values does not exceed the maximum number of buckets, each bucket holds exactly one
+ * value and the series is exact. Once all buckets are in use, adjacent buckets are merged pairwise and the bucket width
+ * is doubled. Memory consumption and rendering effort are therefore bounded independently of the length of the
+ * training run while minima and maxima (e.g. loss spikes) are retained.
+ * <P>
+ * All methods are synchronized: values are usually added by the training thread while the series is read by the EDT.
+ *
+ * @author agent, agent@local
+ */
+public final class DLDecimatedLinePlotSeries implements Externalizable {
+
+	/**
+	 * The default maximum number of buckets. Should be well above the horizontal resolution of common screens.
+	 */
+	public static final int DEFAULT_MAX_NUM_BUCKETS = 1 << 14;
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private int m_maxNumBuckets;
+
+	private float[] m_min;
+
+	private float[] m_max;
+
+	private double[] m_sum;
+
+	private int m_numBuckets;
+
+	private long m_bucketWidth;
+
+	private long m_numValues;
+
+	private float m_minValue;
+
+	private float m_maxValue;
+
+	private float m_minPositiveValue;
+
+	private float m_lastValue;
+
+	/**
+	 * Creates a new series with the {@link #DEFAULT_MAX_NUM_BUCKETS default maximum number of buckets}. Also serves as
+	 * deserialization constructor.
+	 */
+	public DLDecimatedLinePlotSeries() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity the expected number of values, used to presize the buckets
+	 */
+	public DLDecimatedLinePlotSeries(final int initialCapacity) {
+		this(DEFAULT_MAX_NUM_BUCKETS, initialCapacity);
+	}
+
+	/**
+	 * @param maxNumBuckets the maximum number of buckets, must be even and positive
+	 * @param initialCapacity the expected number of values, used to presize the buckets
+	 */
+	public DLDecimatedLinePlotSeries(final int maxNumBuckets, final int initialCapacity) {
+		checkArgument(maxNumBuckets > 0 && maxNumBuckets % 2 == 0,
+				"Maximum number of buckets must be even and positive but was %s.", maxNumBuckets);
+		checkArgument(initialCapacity >= 0, "Initial capacity must be non-negative but was %s.", initialCapacity);
+		m_maxNumBuckets = maxNumBuckets;
+		final int capacity = Math.max(1, Math.min(initialCapacity, maxNumBuckets));
+		m_min = new float[capacity];
+		m_max = new float[capacity];
+		m_sum = new double[capacity];
+		m_bucketWidth = 1;
+		m_minValue = Float.POSITIVE_INFINITY;
+		m_maxValue = Float.NEGATIVE_INFINITY;
+		m_minPositiveValue = Float.POSITIVE_INFINITY;
+		m_lastValue = Float.NaN;
+	}
+
+	/**
+	 * @param value the value to append
+	 */
+	public synchronized void add(final float value) {
+		if (m_numBuckets == 0 || getNumValuesInBucket(m_numBuckets - 1) == m_bucketWidth) {
+			if (m_numBuckets == m_maxNumBuckets) {
+				compact();
+			}
+			ensureCapacity(m_numBuckets + 1);
+			m_min[m_numBuckets] = value;
+			m_max[m_numBuckets] = value;
+			m_sum[m_numBuckets] = value;
+			m_numBuckets++;
+		} else {
+			final int last = m_numBuckets - 1;
+			m_min[last] = Math.min(m_min[last], value);
+			m_max[last] = Math.max(m_max[last], value);
+			m_sum[last] += value;
+		}
+		m_numValues++;
+		m_minValue = Math.min(m_minValue, value);
+		m_maxValue = Math.max(m_maxValue, value);
+		if (value > 0) {
+			m_minPositiveValue = Math.min(m_minPositiveValue, value);
+		}
+		m_lastValue = value;
+	}
+
+	/**
+	 * @return the number of values that were added to this series
+	 */
+	public synchronized long getNumValues() {
+		return m_numValues;
+	}
+
+	/**
+	 * @return the number of buckets
+	 */
+	public synchronized int getNumBuckets() {
+		return m_numBuckets;
+	}
+
+	/**
+	 * @return the number of values per bucket, the last bucket may hold fewer values
+	 */
+	public synchronized long getBucketWidth() {
+		return m_bucketWidth;
+	}
+
+	/**
+	 * @param bucket the index of the bucket
+	 * @return the 0-based index of the first value within the bucket
+	 */
+	public synchronized long getFirstIndex(final int bucket) {
+		checkBucketIndex(bucket);
+		return bucket * m_bucketWidth;
+	}
+
+	/**
+	 * @param bucket the index of the bucket
+	 * @return the number of values within the bucket
+	 */
+	public synchronized long getNumValues(final int bucket) {
+		checkBucketIndex(bucket);
+		return getNumValuesInBucket(bucket);
+	}
+
+	/**
+	 * @param bucket the index of the bucket
+	 * @return the minimum of the values within the bucket
+	 */
+	public synchronized float getMin(final int bucket) {
+		checkBucketIndex(bucket);
+		return m_min[bucket];
+	}
+
+	/**
+	 * @param bucket the index of the bucket
+	 * @return the maximum of the values within the bucket
+	 */
+	public synchronized float getMax(final int bucket) {
+		checkBucketIndex(bucket);
+		return m_max[bucket];
+	}
+
+	/**
+	 * @param bucket the index of the bucket
+	 * @return the mean of the values within the bucket
+	 */
+	public synchronized float getMean(final int bucket) {
+		checkBucketIndex(bucket);
+		return (float) (m_sum[bucket] / getNumValuesInBucket(bucket));
+	}
+
+	/**
+	 * @return the minimum of all values, {@link Float#NaN} if the series is empty
+	 */
+	public synchronized float getMinValue() {
+		return m_numValues != 0 ? m_minValue : Float.NaN;
+	}
+
+	/**
+	 * @return the maximum of all values, {@link Float#NaN} if the series is empty
+	 */
+	public synchronized float getMaxValue() {
+		return m_numValues != 0 ? m_maxValue : Float.NaN;
+	}
+
+	/**
+	 * @return the minimum of all positive values, {@link Float#NaN} if there are none
+	 */
+	public synchronized float getMinPositiveValue() {
+		return m_minPositiveValue != Float.POSITIVE_INFINITY ? m_minPositiveValue : Float.NaN;
+	}
+
+	/**
+	 * @return the most recently added value, {@link Float#NaN} if the series is empty
+	 */
+	public synchronized float getLastValue() {
+		return m_lastValue;
+	}
+
+	/**
+	 * Reduces the values within the given index range to at most the given number of points. The buckets that overlap
+	 * the range are divided into groups of adjacent buckets; for each group, its minimum and its maximum are emitted in
+	 * the order in which they occurred. Groups that consist of a single exact value emit one point only.
+	 *
+	 * @param fromIndex the 0-based index of the first value of interest, inclusive
+	 * @param toIndex the 0-based index of the last value of interest, inclusive
+	 * @param maxNumPoints the maximum number of points to emit, at least two
+	 * @param consumer receives the points in ascending order of their x-values. An x-value is the 0-based index of the
+	 *            emitted value if it is exact, or the center of the bucket that contains the emitted value otherwise.
+	 */
+	public synchronized void decimate(final long fromIndex, final long toIndex, final int maxNumPoints,
+			final DLDecimatedLinePlotPointConsumer consumer) {
+		checkArgument(maxNumPoints >= 2, "Maximum number of points must be at least two but was %s.", maxNumPoints);
+		if (m_numBuckets == 0 || toIndex < fromIndex) {
+			return;
+		}
+		final int fromBucket = (int) Math.max(0, Math.min(m_numBuckets, fromIndex / m_bucketWidth));
+		final long lastBucket = toIndex / m_bucketWidth;
+		final int toBucket = lastBucket >= m_numBuckets ? m_numBuckets : (int) Math.max(0, lastBucket + 1);
+		final int numBuckets = toBucket - fromBucket;
+		if (numBuckets <= 0) {
+			return;
+		}
+		final int numGroups = maxNumPoints / 2;
+		final int groupSize = (numBuckets + numGroups - 1) / numGroups;
+		for (int groupStart = fromBucket; groupStart < toBucket; groupStart += groupSize) {
+			final int groupEnd = Math.min(groupStart + groupSize, toBucket);
+			int minBucket = groupStart;
+			int maxBucket = groupStart;
+			for (int b = groupStart + 1; b < groupEnd; b++) {
+				if (m_min[b] < m_min[minBucket]) {
+					minBucket = b;
+				}
+				if (m_max[b] > m_max[maxBucket]) {
+					maxBucket = b;
+				}
+			}
+			if (groupEnd - groupStart == 1 && getNumValuesInBucket(groupStart) == 1) {
+				consumer.accept(getCenter(groupStart), m_min[groupStart]);
+			} else if (minBucket <= maxBucket) {
+				consumer.accept(getCenter(minBucket), m_min[minBucket]);
+				consumer.accept(getCenter(maxBucket), m_max[maxBucket]);
+			} else {
+				consumer.accept(getCenter(maxBucket), m_max[maxBucket]);
+				consumer.accept(getCenter(minBucket), m_min[minBucket]);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void writeExternal(final ObjectOutput objOut) throws IOException {
+		objOut.writeInt(m_maxNumBuckets);
+		objOut.writeLong(m_bucketWidth);
+		objOut.writeLong(m_numValues);
+		objOut.writeInt(m_numBuckets);
+		for (int i = 0; i < m_numBuckets; i++) {
+			objOut.writeFloat(m_min[i]);
+			objOut.writeFloat(m_max[i]);
+			objOut.writeDouble(m_sum[i]);
+		}
+		objOut.writeFloat(m_minValue);
+		objOut.writeFloat(m_maxValue);
+		objOut.writeFloat(m_minPositiveValue);
+		objOut.writeFloat(m_lastValue);
+	}
+
+	@Override
+	public synchronized void readExternal(final ObjectInput objIn) throws IOException, ClassNotFoundException {
+		m_maxNumBuckets = objIn.readInt();
+		m_bucketWidth = objIn.readLong();
+		m_numValues = objIn.readLong();
+		m_numBuckets = objIn.readInt();
+		if (m_maxNumBuckets <= 0 || m_maxNumBuckets % 2 != 0 || m_bucketWidth <= 0 || m_numBuckets < 0
+				|| m_numBuckets > m_maxNumBuckets) {
+			throw new IOException("Corrupt line plot data: invalid bucket layout.");
+		}
+		final int capacity = Math.max(1, m_numBuckets);
+		m_min = new float[capacity];
+		m_max = new float[capacity];
+		m_sum = new double[capacity];
+		for (int i = 0; i < m_numBuckets; i++) {
+			m_min[i] = objIn.readFloat();
+			m_max[i] = objIn.readFloat();
+			m_sum[i] = objIn.readDouble();
+		}
+		m_minValue = objIn.readFloat();
+		m_maxValue = objIn.readFloat();
+		m_minPositiveValue = objIn.readFloat();
+		m_lastValue = objIn.readFloat();
+	}
+
+	private long getNumValuesInBucket(final int bucket) {
+		return bucket < m_numBuckets - 1 ? m_bucketWidth : m_numValues - (m_numBuckets - 1) * m_bucketWidth;
+	}
+
+	private double getCenter(final int bucket) {
+		return bucket * m_bucketWidth + (getNumValuesInBucket(bucket) - 1) / 2d;
+	}
+
+	private void checkBucketIndex(final int bucket) {
+		if (bucket < 0 || bucket >= m_numBuckets) {
+			throw new IndexOutOfBoundsException(
+					"Bucket index " + bucket + " is out of bounds for " + m_numBuckets + " buckets.");
+		}
+	}
+
+	private void ensureCapacity(final int capacity) {
+		if (capacity > m_min.length) {
+			final int newCapacity = (int) Math.min(m_maxNumBuckets, Math.max(capacity, 2L * m_min.length));
+			m_min = Arrays.copyOf(m_min, newCapacity);
+			m_max = Arrays.copyOf(m_max, newCapacity);
+			m_sum = Arrays.copyOf(m_sum, newCapacity);
+		}
+	}
+
+	/**
+	 * Merges adjacent buckets pairwise. Only called if all buckets are full.
+	 */
+	private void compact() {
+		final int numBuckets = m_numBuckets / 2;
+		for (int i = 0; i < numBuckets; i++) {
+			final int left = 2 * i;
+			final int right = left + 1;
+			m_min[i] = Math.min(m_min[left], m_min[right]);
+			m_max[i] = Math.max(m_max[left], m_max[right]);
+			m_sum[i] = m_sum[left] + m_sum[right];
+		}
+		m_numBuckets = numBuckets;
+		m_bucketWidth *= 2;
+	}
+
+	/**
+	 * Receives the points emitted by {@link DLDecimatedLinePlotSeries#decimate(long, long, int,
+	 * DLDecimatedLinePlotPointConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface DLDecimatedLinePlotPointConsumer {
+
+		/**
+		 * @param x the x-value of the point
+		 * @param y the y-value of the point
+		 */
+		void accept(double x, float y);
+	}
+}
@@ -64,6 +64,15 @@
 public final class DLDefaultLinePlotViewDataCollection<S extends DLLinePlotViewSpec>
     implements DLLinePlotViewDataCollection {
 
+    // Earlier versions wrote a boolean (dense: true, sparse: false) in front of each entry. The type bytes below are
+    // compatible with that encoding. Dense data written that way holds every single value.
+
+    private static final byte TYPE_SPARSE = 0;
+
+    private static final byte TYPE_LEGACY_DENSE = 1;
+
+    private static final byte TYPE_DENSE = 2;
+
     private final S m_spec;
 
     private DLLinePlotViewData[] m_viewData;
@@ -107,7 +116,7 @@ public Iterator<DLLinePlotViewData> iterator() {
     public void writeExternal(final ObjectOutput objOut) throws IOException {
         objOut.writeInt(m_viewData.length);
         for (int i = 0; i < m_viewData.length; i++) {
-            objOut.writeBoolean(m_viewData[i].getClass() == DLDenseLinePlotViewData.class);
+            objOut.writeByte(m_viewData[i].getClass() == DLDenseLinePlotViewData.class ? TYPE_DENSE : TYPE_SPARSE);
             m_viewData[i].writeExternal(objOut);
         }
     }
@@ -116,10 +125,22 @@ public void writeExternal(final ObjectOutput objOut) throws IOException {
     public void readExternal(final ObjectInput objIn) throws IOException, ClassNotFoundException {
         m_viewData = new DLLinePlotViewData[objIn.readInt()];
         for (int i = 0; i < m_viewData.length; i++) {
-            final DLLinePlotViewData viewData =
-                objIn.readBoolean() ? new DLDenseLinePlotViewData() : new DLSparseLinePlotViewData();
-            viewData.readExternal(objIn);
-            m_viewData[i] = viewData;
+            final byte type = objIn.readByte();
+            if (type == TYPE_SPARSE) {
+                final DLSparseLinePlotViewData viewData = new DLSparseLinePlotViewData();
+                viewData.readExternal(objIn);
+                m_viewData[i] = viewData;
+            } else if (type == TYPE_LEGACY_DENSE || type == TYPE_DENSE) {
+                final DLDenseLinePlotViewData viewData = new DLDenseLinePlotViewData();
+                if (type == TYPE_LEGACY_DENSE) {
+                    viewData.readLegacyExternal(objIn);
+                } else {
+                    viewData.readExternal(objIn);
+                }
+                m_viewData[i] = viewData;
+            } else {
+                throw new IOException("Unknown line plot data type: " + type + ".");
+            }
         }
     }
 }
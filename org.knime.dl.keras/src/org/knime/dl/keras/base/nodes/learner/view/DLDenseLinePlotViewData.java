@@ -55,15 +55,18 @@
 import gnu.trove.TFloatArrayList;
 
 /**
+ * Line plot data with one value per x-value (e.g. per training batch). The values are kept in a
+ * {@link DLDecimatedLinePlotSeries} whose size is bounded independently of the number of values.
+ *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
 public final class DLDenseLinePlotViewData implements DLLinePlotViewData {
 
-	private TFloatArrayList m_dataY;
+	private DLDecimatedLinePlotSeries m_series;
 
 	public DLDenseLinePlotViewData(final int capacity) {
-		m_dataY = new TFloatArrayList(capacity);
+		m_series = new DLDecimatedLinePlotSeries(capacity);
 	}
 
 	/**
@@ -72,52 +75,76 @@ public DLDenseLinePlotViewData(final int capacity) {
 	public DLDenseLinePlotViewData() {
 	}
 
-	public TFloatArrayList getDataY() {
-		return m_dataY;
+	public void add(final float value) {
+		m_series.add(value);
+	}
+
+	public DLDecimatedLinePlotSeries getSeries() {
+		return m_series;
 	}
 
+	/**
+	 * Iterates over the buckets of the underlying series. Each entry's x-value is the 0-based index of the first value
+	 * of its bucket, its y-value is the mean of the bucket.
+	 * <P>
+	 * Inherited documentation: {@inheritDoc}
+	 */
 	@Override
 	public Iterator<DLLinePlotViewDataEntry> iterator() {
-		return new DLDenseLinePlotViewDataIterator(m_dataY);
+		return new DLDenseLinePlotViewDataIterator(m_series);
 	}
 
 	@Override
 	public void writeExternal(final ObjectOutput objOut) throws IOException {
-		m_dataY.writeExternal(objOut);
+		m_series.writeExternal(objOut);
 	}
 
 	@Override
 	public void readExternal(final ObjectInput objIn) throws IOException, ClassNotFoundException {
-		m_dataY = new TFloatArrayList(0);
-		m_dataY.readExternal(objIn);
+		m_series = new DLDecimatedLinePlotSeries();
+		m_series.readExternal(objIn);
+	}
+
+	/**
+	 * Reads data that was written by versions that stored every single value.
+	 */
+	void readLegacyExternal(final ObjectInput objIn) throws IOException {
+		final TFloatArrayList dataY = new TFloatArrayList(0);
+		dataY.readExternal(objIn);
+		m_series = new DLDecimatedLinePlotSeries(dataY.size());
+		for (int i = 0; i < dataY.size(); i++) {
+			m_series.add(dataY.get(i));
+		}
 	}
 
 	private static class DLDenseLinePlotViewDataIterator implements Iterator<DLLinePlotViewDataEntry> {
 
-		private final TFloatArrayList m_dataY;
+		private final DLDecimatedLinePlotSeries m_series;
 
 		private final DLMutableLinePlotViewDataEntry m_proxy;
 
 		private int m_idx = -1;
 
-		public DLDenseLinePlotViewDataIterator(final TFloatArrayList dataY) {
-			m_dataY = dataY;
+		public DLDenseLinePlotViewDataIterator(final DLDecimatedLinePlotSeries series) {
+			m_series = series;
 			m_proxy = new DLMutableLinePlotViewDataEntry();
 		}
 
 		@Override
 		public boolean hasNext() {
-			return m_idx < m_dataY.size() - 1;
+			return m_idx < m_series.getNumBuckets() - 1;
 		}
 
 		@Override
 		public DLLinePlotViewDataEntry next() throws NoSuchElementException {
 			m_idx++;
-			m_proxy.setX(m_idx);
-			try {
-				m_proxy.setY(m_dataY.get(m_idx));
-			} catch (final ArrayIndexOutOfBoundsException e) {
-				throw new NoSuchElementException();
+			synchronized (m_series) {
+				try {
+					m_proxy.setX((int) m_series.getFirstIndex(m_idx));
+					m_proxy.setY(m_series.getMean(m_idx));
+				} catch (final IndexOutOfBoundsException e) {
+					throw new NoSuchElementException();
+				}
 			}
 			return m_proxy;
 		}
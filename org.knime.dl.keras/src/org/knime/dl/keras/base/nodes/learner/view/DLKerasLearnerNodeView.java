@@ -57,7 +57,6 @@
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -77,7 +76,6 @@
 import org.knime.core.node.NodeView;
 import org.knime.dl.core.DLDefaultEvent;
 import org.knime.dl.core.DLEvent;
-import org.knime.dl.keras.base.nodes.learner.view.DLLinePlotViewData.DLLinePlotViewDataEntry;
 import org.knime.dl.keras.base.nodes.learner.view.jfreechart.DLJFreeChartLinePlotViewSpec;
 import org.knime.dl.keras.base.nodes.learner.view.jfreechart.DLJFreeChartLinePlotWithHistoryView;
 
@@ -217,10 +215,10 @@ private static String formatElapsedTime(final Duration elapsedTime) {
         private final JTextArea m_pythonStdErrOutputArea;
 
         /**
-         * Data iterators for this view. Its important that each view has its own iterator state if we open several
-         * views at once.
+         * Data of this view. The plot views keep track of what they have already displayed. Its important that each
+         * view has its own state if we open several views at once.
          */
-        private Map<String, List<Iterator<DLLinePlotViewDataEntry>>> m_dataIterators;
+        private Map<String, List<DLLinePlotViewData>> m_viewData;
 
         private int m_lastEpoch = 0;
 
@@ -351,16 +349,15 @@ public DLEvent<Void> userStoppedLearning() {
         }
 
         public void update(final DLProgressMonitor monitor) {
-            if (m_dataIterators == null && monitor.hasData()) {
-                // Initialize view data iterators
+            if (m_viewData == null && monitor.hasData()) {
+                // Initialize view data
                 final DLViewDataCollection[] viewData = monitor.getViewData();
-                m_dataIterators = new HashMap<>(viewData.length);
+                m_viewData = new HashMap<>(viewData.length);
                 for (final DLViewDataCollection vdc : viewData) {
-                    final List<Iterator<DLLinePlotViewDataEntry>> dataIterators =
+                    final List<DLLinePlotViewData> data =
                         StreamSupport.stream(((DLLinePlotViewDataCollection)vdc).spliterator(), false) //
-                            .map(vd -> vd.iterator()) //
                             .collect(Collectors.toList());
-                    m_dataIterators.put(vdc.getSpec().id(), dataIterators);
+                    m_viewData.put(vdc.getSpec().id(), data);
                 }
             }
 
@@ -414,10 +411,10 @@ public void update(final DLProgressMonitor monitor) {
             for (final DLViewSpec spec : m_viewSpecs) {
                 final DLJFreeChartLinePlotWithHistoryView view = m_views.get(spec.id());
                 view.setIsRunning(monitor.isRunning());
-                if (m_dataIterators != null) {
-                    final List<Iterator<DLLinePlotViewDataEntry>> iterators = m_dataIterators.get(spec.id());
-                    for (int i = 0; i < iterators.size(); i++) {
-                        view.update(((DLJFreeChartLinePlotViewSpec)spec).getLineLabel(i), iterators.get(i));
+                if (m_viewData != null) {
+                    final List<DLLinePlotViewData> data = m_viewData.get(spec.id());
+                    for (int i = 0; i < data.size(); i++) {
+                        view.update(((DLJFreeChartLinePlotViewSpec)spec).getLineLabel(i), data.get(i));
                     }
                 }
             }
@@ -47,9 +47,6 @@
 package org.knime.dl.keras.base.nodes.learner.view;
 
 import java.awt.Component;
-import java.util.Iterator;
-
-import org.knime.dl.keras.base.nodes.learner.view.DLLinePlotViewData.DLLinePlotViewDataEntry;
 
 /**
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
@@ -60,5 +57,13 @@
 
 	Component getComponent();
 
-	void update(String lineLabel, Iterator<DLLinePlotViewDataEntry> iterator);
+	/**
+	 * Brings the line with the given label up to date with the given data. Called repeatedly with the same, growing
+	 * data object while learning is in progress; implementations are responsible for keeping track of what they have
+	 * already displayed.
+	 *
+	 * @param lineLabel the label of the line
+	 * @param data the data of the line
+	 */
+	void update(String lineLabel, DLLinePlotViewData data);
 }
@@ -63,35 +63,47 @@
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.swing.AbstractListModel;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.Icon;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
 import javax.swing.JTabbedPane;
-import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.event.DocumentListener;
-import javax.swing.text.DefaultCaret;
 
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.data.Range;
 import org.knime.core.node.util.SharedIcons;
+import org.knime.dl.keras.base.nodes.learner.view.DLDecimatedLinePlotSeries;
+import org.knime.dl.keras.base.nodes.learner.view.DLDenseLinePlotViewData;
 import org.knime.dl.keras.base.nodes.learner.view.DLLinePlotView;
+import org.knime.dl.keras.base.nodes.learner.view.DLLinePlotViewData;
 import org.knime.dl.keras.base.nodes.learner.view.DLLinePlotViewData.DLLinePlotViewDataEntry;
 import org.knime.dl.keras.base.nodes.learner.view.rangeslider.RangeSlider;
 
+import gnu.trove.TFloatArrayList;
 import gnu.trove.TObjectFloatHashMap;
 
 /**
  * DLView containing of a {@link JFreeChartLinePlotPanel} and a textual history view.
+ * <P>
+ * Dense lines (one value per batch) are not plotted point by point but re-rendered at screen resolution from their
+ * {@link DLDecimatedLinePlotSeries}, see {@link #renderDenseLines()}. Their history is a list whose cells are created
+ * on demand. This keeps the view responsive on long training runs.
  *
  * @author David Kolb, KNIME GmbH, Konstanz, Germany
  */
@@ -103,9 +115,39 @@ public class DLJFreeChartLinePlotWithHistoryView implements DLLinePlotView<DLJFr
 
     final static Dimension RESET_BUTON_DIMENSION = new Dimension(10, 10);
 
+    /**
+     * The number of points that are rendered per dense line if the chart has not been laid out yet.
+     */
+    private final static int MIN_NUM_RENDERED_POINTS = 1000;
+
+    private final static String HISTORY_PROTOTYPE_CELL_VALUE = "0.00000000 [0.00000000, 0.00000000]";
+
     private final JFreeChartLinePlotPanel m_linePlot;
 
-    private final Map<String, JTextArea> m_historyAreas = new HashMap<>();
+    private final Map<String, HistoryListModel> m_historyModels = new HashMap<>();
+
+    private final Map<String, JList<String>> m_historyLists = new HashMap<>();
+
+    /**
+     * Sparse lines are plotted incrementally, each one has its own iterator.
+     */
+    private final Map<String, Iterator<DLLinePlotViewDataEntry>> m_sparseLineIterators = new HashMap<>();
+
+    /**
+     * Dense lines are re-rendered as a whole, see {@link #renderDenseLines()}.
+     */
+    private final Map<String, DLDecimatedLinePlotSeries> m_denseLines = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean m_isRenderingPending = new AtomicBoolean();
+
+    /* The horizontal range the dense lines were last rendered for. Only accessed in the EDT. */
+    private Range m_renderedRange;
+
+    private boolean m_isRendering = false;
+
+    private double[] m_renderedValuesX = new double[0];
+
+    private float[] m_renderedValuesY = new float[0];
 
     private final Map<String, JLabel> m_currentValueLabels = new HashMap<>();
 
@@ -141,14 +183,14 @@ public DLJFreeChartLinePlotWithHistoryView(final DLJFreeChartLinePlotViewSpec pl
         GridBagConstraints gbc;
 
         for (int i = 0; i < plotViewSpec.numPlots(); i++) {
-            final JTextArea historyArea = new JTextArea();
-            final DefaultCaret caret = (DefaultCaret)historyArea.getCaret();
-            // Enable automatic to bottom scrolling
-            caret.setUpdatePolicy(DefaultCaret.ALWAYS_UPDATE);
-            historyArea.setEditable(false);
-            m_historyAreas.put(plotViewSpec.getLineLabel(i), historyArea);
-
-            final JScrollPane historyScroller = new JScrollPane(historyArea);
+            final HistoryListModel historyModel = new HistoryListModel();
+            final JList<String> historyList = new JList<>(historyModel);
+            // Avoids measuring each cell when computing the size of the list.
+            historyList.setPrototypeCellValue(HISTORY_PROTOTYPE_CELL_VALUE);
+            m_historyModels.put(plotViewSpec.getLineLabel(i), historyModel);
+            m_historyLists.put(plotViewSpec.getLineLabel(i), historyList);
+
+            final JScrollPane historyScroller = new JScrollPane(historyList);
             final JPanel historyWrapper = new JPanel(new GridBagLayout());
             gbc = new GridBagConstraints();
             gbc.gridx = 0;
@@ -183,6 +225,12 @@ public DLJFreeChartLinePlotWithHistoryView(final DLJFreeChartLinePlotViewSpec pl
         gbc.fill = GridBagConstraints.BOTH;
         m_linePlot = new JFreeChartLinePlotPanel(plotViewSpec);
         m_component.add(createPlotWithControlsPanel(m_linePlot), gbc);
+        // Zooming changes the resolution at which the dense lines have to be rendered.
+        m_linePlot.getHorizontalAxis().addChangeListener(e -> {
+            if (!m_isRendering && !m_linePlot.getHorizontalAxis().getRange().equals(m_renderedRange)) {
+                scheduleDenseLinesRendering();
+            }
+        });
 
         historyTabsPane.setPreferredSize(new Dimension(180, 500));
         historyTabsPane.setMinimumSize(new Dimension(180, 500));
@@ -412,17 +460,117 @@ public Component getComponent() {
     }
 
     @Override
-    public void update(final String lineLabel, final Iterator<DLLinePlotViewDataEntry> iterator) {
+    public void update(final String lineLabel, final DLLinePlotViewData data) {
+        if (data instanceof DLDenseLinePlotViewData) {
+            m_denseLines.put(lineLabel, ((DLDenseLinePlotViewData)data).getSeries());
+            scheduleDenseLinesRendering();
+        } else {
+            updateSparseLine(lineLabel, data);
+        }
+    }
+
+    private void updateSparseLine(final String lineLabel, final DLLinePlotViewData data) {
+        final Iterator<DLLinePlotViewDataEntry> iterator =
+            m_sparseLineIterators.computeIfAbsent(lineLabel, l -> data.iterator());
+        if (!iterator.hasNext()) {
+            return;
+        }
+        final TFloatArrayList values = new TFloatArrayList();
         while (iterator.hasNext()) {
             final DLLinePlotViewDataEntry dataEntry = iterator.next();
 
             m_linePlot.plotNext(lineLabel, dataEntry.getX() + 1, dataEntry.getY()); // x-values are 0-based
-            m_historyAreas.get(lineLabel).append(dataEntry.getY() + "\n");
+            values.add(dataEntry.getY());
             m_currentValues.put(lineLabel, dataEntry.getY());
 
             m_sliderPlotSync.updateMaxXValue(dataEntry.getX() + 1);
             m_sliderPlotSync.updateYBounds(dataEntry.getY());
-            m_sliderPlotSync.updateOnData();
+        }
+        m_sliderPlotSync.updateOnData();
+        SwingUtilities.invokeLater(() -> {
+            m_historyModels.get(lineLabel).append(values);
+            scrollHistoryToEnd(lineLabel);
+        });
+    }
+
+    /**
+     * Coalesces rendering requests: no matter how many batches end in the meantime, the dense lines are rendered at
+     * most once per EDT cycle.
+     */
+    private void scheduleDenseLinesRendering() {
+        if (m_isRenderingPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::renderDenseLines);
+        }
+    }
+
+    /**
+     * Renders the dense lines at screen resolution: the values within the visible horizontal range are reduced to
+     * about two points (minimum and maximum) per horizontal pixel of the chart. The rendering effort is therefore
+     * independent of the length of the training run, while spikes remain visible. Must be called in the EDT.
+     */
+    private void renderDenseLines() {
+        m_isRenderingPending.set(false);
+        if (m_denseLines.isEmpty()) {
+            return;
+        }
+        m_isRendering = true;
+        try {
+            renderDenseLinesInternal();
+        } finally {
+            m_isRendering = false;
+        }
+    }
+
+    private void renderDenseLinesInternal() {
+        for (final Entry<String, DLDecimatedLinePlotSeries> line : m_denseLines.entrySet()) {
+            final DLDecimatedLinePlotSeries series = line.getValue();
+            if (series.getNumValues() == 0) {
+                continue;
+            }
+            m_currentValues.put(line.getKey(), series.getLastValue());
+            m_historyModels.get(line.getKey()).setSeries(series);
+            scrollHistoryToEnd(line.getKey());
+
+            m_sliderPlotSync.updateMaxXValue(series.getNumValues()); // x-values are 0-based
+            m_sliderPlotSync.updateYBounds(series.getMinValue());
+            m_sliderPlotSync.updateYBounds(series.getMaxValue());
+            final float minPositiveValue = series.getMinPositiveValue();
+            if (!Float.isNaN(minPositiveValue)) {
+                m_sliderPlotSync.updateYBounds(minPositiveValue);
+            }
+        }
+        // Adjust the horizontal range first, so we only render what is going to be visible.
+        m_sliderPlotSync.updateOnData();
+
+        final NumberAxis axis = m_linePlot.getHorizontalAxis();
+        final Range range = axis.getRange();
+        final int maxNumPoints = Math.max(2 * m_linePlot.getChartPanel().getWidth(), MIN_NUM_RENDERED_POINTS);
+        if (m_renderedValuesX.length < maxNumPoints) {
+            m_renderedValuesX = new double[maxNumPoints];
+            m_renderedValuesY = new float[maxNumPoints];
+        }
+        for (final Entry<String, DLDecimatedLinePlotSeries> line : m_denseLines.entrySet()) {
+            final DLDecimatedLinePlotSeries series = line.getValue();
+            // x-values are 0-based, plotted x-values are 1-based. Include one point on each side of the visible range
+            // so that the line does not end before the border of the plot.
+            final long fromIndex = axis.isAutoRange() ? 0 : Math.max(0, (long)Math.floor(range.getLowerBound()) - 2);
+            final long toIndex = axis.isAutoRange() ? series.getNumValues() : (long)Math.ceil(range.getUpperBound());
+            final int[] numPoints = new int[1];
+            series.decimate(fromIndex, toIndex, maxNumPoints, (x, y) -> {
+                m_renderedValuesX[numPoints[0]] = x + 1;
+                m_renderedValuesY[numPoints[0]] = y;
+                numPoints[0]++;
+            });
+            m_linePlot.setLine(line.getKey(), m_renderedValuesX, m_renderedValuesY, numPoints[0]);
+        }
+        m_renderedRange = axis.getRange();
+    }
+
+    private void scrollHistoryToEnd(final String lineLabel) {
+        final JList<String> historyList = m_historyLists.get(lineLabel);
+        final int size = historyList.getModel().getSize();
+        if (size > 0) {
+            historyList.ensureIndexIsVisible(size - 1);
         }
     }
 
@@ -444,6 +592,86 @@ public void setIsRunning(final boolean isRunning) {
         m_isRunning = isRunning;
     }
 
+    /**
+     * List model of a history view. Cells are created on demand, so the history of long training runs is never
+     * materialized as text. Must only be accessed in the EDT.
+     */
+    private static final class HistoryListModel extends AbstractListModel<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Backs the history of a dense line, each cell represents a bucket of the series. <code>null</code> for sparse
+         * lines.
+         */
+        private DLDecimatedLinePlotSeries m_series;
+
+        /**
+         * Backs the history of a sparse line.
+         */
+        private final TFloatArrayList m_values = new TFloatArrayList();
+
+        private int m_size = 0;
+
+        private long m_bucketWidth = 1;
+
+        @Override
+        public int getSize() {
+            return m_size;
+        }
+
+        @Override
+        public String getElementAt(final int index) {
+            if (m_series == null) {
+                return Float.toString(m_values.get(index));
+            }
+            synchronized (m_series) {
+                if (index >= m_series.getNumBuckets()) {
+                    // buckets were merged in the meantime, an update of the model is pending
+                    return "";
+                }
+                if (m_series.getNumValues(index) == 1) {
+                    return Float.toString(m_series.getMin(index));
+                }
+                return m_series.getMean(index) + " [" + m_series.getMin(index) + ", " + m_series.getMax(index) + "]";
+            }
+        }
+
+        private void append(final TFloatArrayList values) {
+            final int oldSize = m_size;
+            m_values.add(values.toNativeArray());
+            m_size = m_values.size();
+            if (m_size > oldSize) {
+                fireIntervalAdded(this, oldSize, m_size - 1);
+            }
+        }
+
+        private void setSeries(final DLDecimatedLinePlotSeries series) {
+            final int oldSize = m_size;
+            final long oldBucketWidth = m_bucketWidth;
+            m_series = series;
+            synchronized (series) {
+                m_size = series.getNumBuckets();
+                m_bucketWidth = series.getBucketWidth();
+            }
+            final int numRetained = Math.min(oldSize, m_size);
+            if (m_bucketWidth != oldBucketWidth) {
+                // buckets were merged, all retained cells changed
+                if (numRetained > 0) {
+                    fireContentsChanged(this, 0, numRetained - 1);
+                }
+            } else if (numRetained > 0) {
+                // the last bucket may have received further values
+                fireContentsChanged(this, numRetained - 1, numRetained - 1);
+            }
+            if (m_size < oldSize) {
+                fireIntervalRemoved(this, m_size, oldSize - 1);
+            } else if (m_size > oldSize) {
+                fireIntervalAdded(this, oldSize, m_size - 1);
+            }
+        }
+    }
+
     /**
      * A JTextField that turns red if no double number is entered.
      */
@@ -291,6 +291,31 @@ public void plotNext(final String lineLabel, final int valueX, final float value
         });
     }
 
+    /**
+     * Replaces all points of the line with the specified label at once, e.g. by a decimated version of the line's data.
+     * Listeners are notified only once. Must be called in the EDT.
+     *
+     * @param lineLabel the label of the line to replace
+     * @param valuesX the x-values of the new points
+     * @param valuesY the y-values of the new points
+     * @param numValues the number of new points, the arrays may be larger
+     */
+    public void setLine(final String lineLabel, final double[] valuesX, final float[] valuesY, final int numValues) {
+        final XYSeries line = m_dataset.getSeries(lineLabel);
+        line.setNotify(false);
+        line.clear();
+        for (int i = 0; i < numValues; i++) {
+            line.add(valuesX[i], valuesY[i], false);
+        }
+        line.setNotify(true);
+        // The smoothed line is derived from the replaced points and needs to be recomputed from scratch.
+        if (m_smoothedLinesEnabled && !m_smoothedLineOutdated.get(lineLabel + SMOOTHED_LINE_KEY_SUFFIX).get()) {
+            initSmoothingIter(lineLabel, m_smoothingAlpha);
+            clearSmoothedLine(lineLabel);
+        }
+        plotSmoothed(lineLabel);
+    }
+
     /**
      * Trigger a redraw of the smoothed lines. This will only happen if smoothed lines are enabled and the smoothing
      * alpha changed.
@@ -391,11 +416,17 @@ private void plotSmoothed(final String lineLabel) {
 
         final XYSeries line = m_dataset.getSeries(lineLabel + SMOOTHED_LINE_KEY_SUFFIX);
         final ExponentialSmoothingIterator iter = m_smoothingIters.get(lineLabel + SMOOTHED_LINE_KEY_SUFFIX);
-        while (iter.hasNext()) {
-            if (lineOutdated.get()) {
-                return;
+        // Notify listeners once per call instead of once per point.
+        line.setNotify(false);
+        try {
+            while (iter.hasNext()) {
+                if (lineOutdated.get()) {
+                    return;
+                }
+                line.add(iter.next(), false);
             }
-            line.add(iter.next());
+        } finally {
+            line.setNotify(true);
         }
     }
 
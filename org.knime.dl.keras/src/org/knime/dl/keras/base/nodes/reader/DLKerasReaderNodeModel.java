@@ -56,6 +56,7 @@
 import java.net.URL;
 import java.nio.file.InvalidPathException;
 import java.util.List;
+import java.util.Optional;
 
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.node.CanceledExecutionException;
@@ -85,7 +86,11 @@
 import org.knime.dl.keras.base.portobjects.DLKerasNetworkPortObjectSpec;
 import org.knime.dl.keras.core.DLKerasNetwork;
 import org.knime.dl.keras.core.DLKerasNetworkLoader;
+import org.knime.dl.keras.core.DLKerasNetworkSpec;
+import org.knime.dl.keras.core.DLKerasNetworkSpecCache;
 import org.knime.dl.keras.core.DLKerasPythonContext;
+import org.knime.dl.keras.tensorflow.core.DLKerasTensorFlowNetworkLoader;
+import org.knime.dl.keras.tensorflow.core.DLKerasTensorFlowNetworkSpecExtractor;
 import org.knime.dl.python.core.DLPythonContext;
 import org.knime.dl.python.core.DLPythonDefaultNetworkReader;
 import org.knime.dl.python.core.DLPythonNetworkLoader;
@@ -173,8 +178,16 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
                 "File path '" + filePath + "' cannot be resolved to a valid URI. Message: " + e.getMessage(), e);
         }
         final DLKerasNetworkLoader<?> loader = getBackend(backendId);
+        final URL url;
+        try {
+            url = loader.validateSource(uri);
+        } catch (final DLInvalidSourceException e) {
+            throw new InvalidSettingsException(e.getMessage(), e);
+        }
+        final File file = getLocalFile(url);
         try (final DLPythonContext context =
             new DLKerasPythonContext(getConfiguredPythonCommand(m_pythonCommandConfig))) {
+            // the result of the availability check is kept for the session, Python is only started on the first check
             try {
                 DLPythonNetworkLoaderRegistry.getInstance();
                 loader.checkAvailability(context, false, DLPythonNetworkLoaderRegistry.getInstallationTestTimeout(),
@@ -185,10 +198,15 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
                     "Selected Keras back end '" + loader.getName() + "' is not available anymore. "
                         + "Please check your local installation.\nDetails: " + e.getMessage());
             }
-            try {
-                loader.validateSource(uri);
-            } catch (final DLInvalidSourceException e) {
-                throw new InvalidSettingsException(e.getMessage(), e);
+            // reading the spec via Python is only needed if it can neither be taken from the cache nor be extracted
+            // from the file
+            if (file != null) {
+                final DLKerasNetwork network = readNetworkWithoutPython(loader, uri, file);
+                if (network != null) {
+                    m_network = network;
+                    return new PortObjectSpec[]{
+                        new DLKerasNetworkPortObjectSpec(m_network.getSpec(), m_network.getClass())};
+                }
             }
             try {
                 // TODO: We could allow the user to configure "loadTrainingConfig" flag.
@@ -206,10 +224,51 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
                 }
                 throw new InvalidSettingsException(message, e);
             }
+            if (file != null) {
+                DLKerasNetworkSpecCache.getInstance().put(file, loader.getNetworkType(), m_network.getSpec());
+            }
             return new PortObjectSpec[]{new DLKerasNetworkPortObjectSpec(m_network.getSpec(), m_network.getClass())};
         }
     }
 
+    /**
+     * @return the file if it is accessible via the local file system, <code>null</code> otherwise
+     */
+    private static File getLocalFile(final URL url) {
+        try {
+            return FileUtil.getFileFromURL(url);
+        } catch (final IllegalArgumentException e) {
+            // remote location
+            return null;
+        }
+    }
+
+    /**
+     * Tries to take the network spec from the cache and, for TensorFlow networks, to extract it directly from the
+     * file.
+     *
+     * @return the network or <code>null</code> if its spec has to be read via Python
+     */
+    private static DLKerasNetwork readNetworkWithoutPython(final DLKerasNetworkLoader<?> loader, final URI uri,
+        final File file) {
+        final DLKerasNetworkSpecCache cache = DLKerasNetworkSpecCache.getInstance();
+        try {
+            final Optional<DLKerasNetworkSpec> cachedSpec = cache.get(file, loader.getNetworkType());
+            if (cachedSpec.isPresent()) {
+                return cachedSpec.get().create(new DLNetworkReferenceLocation(uri), false);
+            }
+            if (loader instanceof DLKerasTensorFlowNetworkLoader) {
+                final DLKerasNetworkSpec spec = DLKerasTensorFlowNetworkSpecExtractor.extract(file);
+                cache.put(file, loader.getNetworkType(), spec);
+                return spec.create(new DLNetworkReferenceLocation(uri), false);
+            }
+        } catch (final Exception e) {
+            LOGGER.debug("Network spec could not be read without Python, falling back to Python. Cause: "
+                + e.getMessage(), e);
+        }
+        return null;
+    }
+
     private static DLKerasNetworkLoader<?> getBackend(final String loaderClassName) throws InvalidSettingsException {
         final DLPythonNetworkLoader<?> backend =
             DLPythonNetworkLoaderRegistry.getInstance().getNetworkLoader(loaderClassName)
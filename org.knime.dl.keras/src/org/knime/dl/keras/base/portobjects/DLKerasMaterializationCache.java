@@ -0,0 +1,292 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.base.portobjects;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.dl.core.DLInvalidSourceException;
+import org.knime.dl.core.DLNetworkFileStoreLocation;
+import org.knime.dl.keras.core.DLKerasNetwork;
+import org.knime.dl.keras.core.DLKerasNetworkSpec;
+import org.knime.dl.keras.core.config.initializer.DLKerasInitializer;
+import org.knime.dl.keras.core.layers.DLKerasBaseNetworkTensorSpecOutput;
+import org.knime.dl.keras.core.layers.DLKerasInnerLayer;
+import org.knime.dl.keras.core.layers.DLKerasInputLayer;
+import org.knime.dl.keras.core.layers.DLKerasLayer;
+import org.knime.dl.keras.core.layers.DLKerasNetworkGraphIterator.DLKerasLayerVisitor;
+import org.knime.dl.keras.core.layers.DLKerasNetworkGraphSerializer;
+import org.knime.dl.keras.core.layers.DLKerasNetworkGraphTopologicalOrderIterator;
+import org.knime.dl.keras.core.struct.instance.MemberReadWriteInstance;
+import org.knime.dl.keras.core.struct.param.ParameterStructs;
+import org.knime.python2.PythonCommand;
+
+import com.google.common.io.Files;
+
+/**
+ * Caches the networks that result from materializing Keras layer graphs, such that re-executing a layer graph that has
+ * already been materialized (e.g. within a loop or after resetting a downstream node) does not require launching Python
+ * again.
+ * <P>
+ * Entries are keyed by a content hash of the layer graph (see {@link DLKerasNetworkGraphSerializer#hashGraph(List)})
+ * and the Python command. Each entry holds a private copy of the saved network file and the network's spec. Hits copy
+ * that file into the requesting port object's own file store, so port objects never share files. The number of
+ * entries can be specified via VM option {@link #CACHE_SIZE_VM_OPT} and defaults to {@link #DEFAULT_CACHE_SIZE}, a
+ * value of zero disables the cache. The least recently used entries are evicted and their files deleted if the limit
+ * is exceeded.
+ * <P>
+ * Only graphs whose initializers are all {@link DLKerasInitializer#isDeterministic() deterministic} are cached, i.e.
+ * graphs in which each random initializer has a seed. Materializing other graphs again is expected to yield different
+ * initial weights. The seeds are part of the layer settings and therefore of the cache key.
+ *
+ * @author agent, agent@local
+ */
+final class DLKerasMaterializationCache {
+
+    /**
+     * The maximum number of cached networks.
+     */
+    static final String CACHE_SIZE_VM_OPT = "knime.dl.keras.materializationcachesize";
+
+    static final int DEFAULT_CACHE_SIZE = 32;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DLKerasMaterializationCache.class);
+
+    private static DLKerasMaterializationCache instance;
+
+    static synchronized DLKerasMaterializationCache getInstance() {
+        if (instance == null) {
+            instance = new DLKerasMaterializationCache();
+        }
+        return instance;
+    }
+
+    private static int parseCapacity() {
+        int capacity = -1;
+        try {
+            capacity = Integer.parseInt(System.getProperty(CACHE_SIZE_VM_OPT, Integer.toString(DEFAULT_CACHE_SIZE)));
+        } catch (final NumberFormatException ex) {
+            // Ignore, see below.
+        }
+        if (capacity < 0) {
+            capacity = DEFAULT_CACHE_SIZE;
+            LOGGER.warn("The VM option -D" + CACHE_SIZE_VM_OPT
+                + " was not set to a non-negative integer value, and thus defaults to " + capacity + ".");
+        }
+        return capacity;
+    }
+
+    /**
+     * Access-ordered, i.e. iteration starts at the least recently used entry.
+     */
+    private final LinkedHashMap<String, CachedNetwork> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int m_capacity;
+
+    private File m_directory;
+
+    private DLKerasMaterializationCache() {
+        m_capacity = parseCapacity();
+    }
+
+    /**
+     * @param outputLayers the output layers of the graph
+     * @param command the Python command that is used to materialize the graph
+     * @return the cache key of the graph, empty if the cache is disabled, the graph is randomly initialized or could
+     *         not be hashed
+     */
+    Optional<String> createKey(final List<DLKerasLayer> outputLayers, final PythonCommand command) {
+        if (m_capacity == 0) {
+            return Optional.empty();
+        }
+        if (isRandomlyInitialized(outputLayers)) {
+            LOGGER.debug("Keras layer graph contains initializers without a seed. The materialized network will not "
+                + "be cached.");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(DLKerasNetworkGraphSerializer.hashGraph(outputLayers).toString() + "|"
+                + String.join(" ", command.createProcessBuilder().command()));
+        } catch (final IOException ex) {
+            LOGGER.debug("Failed to hash Keras layer graph. The materialized network will not be cached.", ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copies the cached network file of the given key into the given location and creates the network from there.
+     *
+     * @param key the cache key
+     * @param saveLocation the location to which the network file is copied
+     * @return the network, empty if there is no entry for the key or restoring the entry failed
+     */
+    synchronized Optional<DLKerasNetwork> get(final String key, final DLNetworkFileStoreLocation saveLocation) {
+        final CachedNetwork cached = m_entries.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        try {
+            Files.copy(cached.m_file, saveLocation.getFileStore().getFile());
+            return Optional.of(cached.m_spec.create(saveLocation, false));
+        } catch (final IOException | DLInvalidSourceException ex) {
+            LOGGER.debug("Failed to restore cached Keras network. The network will be materialized again.", ex);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a copy of the given network's file.
+     *
+     * @param key the cache key
+     * @param network the materialized network, must be file-based
+     */
+    synchronized void put(final String key, final DLKerasNetwork network) {
+        try {
+            if (m_directory == null) {
+                m_directory = FileUtil.createTempDir("knime-dl-keras-materialization-cache");
+            }
+            final File file = new File(m_directory, UUID.randomUUID().toString() + ".h5");
+            Files.copy(new File(network.getSource().getURI()), file);
+            final CachedNetwork previous = m_entries.put(key, new CachedNetwork(file, network.getSpec()));
+            if (previous != null) {
+                previous.delete();
+            }
+        } catch (final IOException | IllegalArgumentException ex) {
+            LOGGER.debug("Failed to cache materialized Keras network.", ex);
+            return;
+        }
+        for (final Iterator<Map.Entry<String, CachedNetwork>> it = m_entries.entrySet().iterator(); it.hasNext()
+            && m_entries.size() > m_capacity;) {
+            it.next().getValue().delete();
+            it.remove();
+        }
+    }
+
+    /**
+     * Layers that are taken from a base network keep their weights, all other layers with weights expose their
+     * initializers as parameters.
+     */
+    private static boolean isRandomlyInitialized(final List<DLKerasLayer> outputLayers) {
+        final AtomicBoolean random = new AtomicBoolean();
+        new DLKerasNetworkGraphTopologicalOrderIterator(outputLayers).visitAll(new DLKerasLayerVisitor() {
+
+            @Override
+            public void visitOutput(final DLKerasInnerLayer outputLayer) {
+                visitHidden(outputLayer);
+            }
+
+            @Override
+            public void visitHidden(final DLKerasInnerLayer hiddenLayer) {
+                for (final MemberReadWriteInstance<?> parameter : ParameterStructs.createInstance(hiddenLayer)) {
+                    try {
+                        final Object value = parameter.get();
+                        if (value instanceof DLKerasInitializer && !((DLKerasInitializer)value).isDeterministic()) {
+                            random.set(true);
+                        }
+                    } catch (final InvalidSettingsException ex) {
+                        // cannot tell, better do not cache the graph
+                        random.set(true);
+                    }
+                }
+            }
+
+            @Override
+            public void visitInput(final DLKerasInputLayer inputLayer) {
+                // input layers do not have weights
+            }
+
+            @Override
+            public void visitInputOutput(final DLKerasInputLayer inputOutputLayer) {
+                // input layers do not have weights
+            }
+
+            @Override
+            public void visitBaseNetworkOutput(final DLKerasBaseNetworkTensorSpecOutput baseNetworkOutput) {
+                // the weights of base networks are loaded from their files
+            }
+        });
+        return random.get();
+    }
+
+    private void remove(final String key) {
+        final CachedNetwork removed = m_entries.remove(key);
+        if (removed != null) {
+            removed.delete();
+        }
+    }
+
+    private static final class CachedNetwork {
+
+        private final File m_file;
+
+        private final DLKerasNetworkSpec m_spec;
+
+        private CachedNetwork(final File file, final DLKerasNetworkSpec spec) {
+            m_file = file;
+            m_spec = spec;
+        }
+
+        private void delete() {
+            if (!m_file.delete()) {
+                LOGGER.debug("Failed to delete cached Keras network file '" + m_file.getPath() + "'.");
+            }
+        }
+    }
+}
@@ -51,6 +51,7 @@
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 
 import org.knime.core.data.filestore.FileStore;
@@ -69,6 +70,7 @@
 import org.knime.dl.keras.core.layers.DLKerasLayer;
 import org.knime.dl.keras.core.layers.DLKerasNetworkGraphSerializer;
 import org.knime.dl.python.prefs.DLPythonPreferences;
+import org.knime.python2.PythonCommand;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -121,11 +123,25 @@ private DLKerasUnmaterializedNetworkPortObject(final DLKerasPortObjectContent co
     @Override
     public DLKerasNetwork getNetwork() throws DLInvalidSourceException, IOException {
         if (m_content instanceof DLKerasUnmaterializedPortObjectContent) {
+            final DLKerasUnmaterializedPortObjectContent unmaterialized =
+                (DLKerasUnmaterializedPortObjectContent)m_content;
             final DLNetworkFileStoreLocation saveLocation = new DLNetworkFileStoreLocation(getFileStore(0));
-            try (final DLKerasPythonContext context =
-                // FIXME: how to get the correct Python command here? The current way of obtaining it is not portable.
-                new DLKerasPythonContext(DLPythonPreferences.getPythonKerasCommandPreference())) {
-                m_content = ((DLKerasUnmaterializedPortObjectContent)m_content).materialize(context, saveLocation);
+            // FIXME: how to get the correct Python command here? The current way of obtaining it is not portable.
+            final PythonCommand command = DLPythonPreferences.getPythonKerasCommandPreference();
+            final DLKerasMaterializationCache cache = DLKerasMaterializationCache.getInstance();
+            final Optional<String> cacheKey = cache.createKey(unmaterialized.getSpec().getOutputLayers(), command);
+            final Optional<DLKerasNetwork> cached = cacheKey.flatMap(k -> cache.get(k, saveLocation));
+            if (cached.isPresent()) {
+                m_content = new DLKerasMaterializedPortObjectContent(cached.get());
+            } else {
+                try (final DLKerasPythonContext context = new DLKerasPythonContext(command)) {
+                    final DLKerasMaterializedPortObjectContent materialized =
+                        unmaterialized.materialize(context, saveLocation);
+                    m_content = materialized;
+                    if (cacheKey.isPresent()) {
+                        cache.put(cacheKey.get(), materialized.getNetwork());
+                    }
+                }
             }
         }
         final DLKerasMaterializedPortObjectContent materialized = (DLKerasMaterializedPortObjectContent)m_content;
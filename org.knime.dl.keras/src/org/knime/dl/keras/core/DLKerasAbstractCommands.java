@@ -179,6 +179,10 @@ public void setNetworkTrainingConfig(final DLPythonNetworkHandle handle, final D
 		.n("config.epochs = ").a(config.getEpochs()) //
 		.n("config.batch_size = ").a(config.getBatchSize()) //
 		.n("config.validation_batch_size = ").a(config.getValidationBatchSize()) //
+		// Python needs to queue at least one batch, Java prepares the batches ahead of the queue
+		.n("config.max_queue_size = ").a(Math.max(1, config.getPrefetchDepth())) //
+		.n("config.metrics_report_batches = ").a(config.getMetricsReportingBatches()) //
+		.n("config.metrics_report_interval = ").a(config.getMetricsReportingInterval()) //
 		// TODO: How to import dependencies (here: of optimizer and losses) in a generic way?
 		.n("import keras") //
 		.n("config.optimizer = ").a(config.getOptimizer().getBackendRepresentation()) //
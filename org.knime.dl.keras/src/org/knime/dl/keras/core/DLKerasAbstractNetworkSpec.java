@@ -106,6 +106,22 @@ protected DLKerasAbstractNetworkSpec(final Version pythonVersion, final Version
         m_kerasVersion = checkNotNull(kerasVersion);
     }
 
+    /**
+     * Creates a new instance of this network spec. And sets the Python version to null. Meant for specs that were
+     * extracted without consulting Python.
+     *
+     * @param kerasVersion the Keras version of the network
+     * @param inputSpecs the input tensor specs, can be empty
+     * @param hiddenOutputSpecs the hidden output tensor specs, can be empty
+     * @param outputSpecs the output tensor specs, can be empty
+     */
+    protected DLKerasAbstractNetworkSpec(final Version kerasVersion, final DLTensorSpec[] inputSpecs,
+        final DLTensorSpec[] hiddenOutputSpecs, final DLTensorSpec[] outputSpecs) {
+        super(DLKerasNetworkSpec.getKerasBundleVersion(), inputSpecs, hiddenOutputSpecs, outputSpecs);
+        m_pythonVersion = null;
+        m_kerasVersion = checkNotNull(kerasVersion);
+    }
+
     /**
      * Creates a new instance of this network spec. And sets the Python and Keras version to null.
      *
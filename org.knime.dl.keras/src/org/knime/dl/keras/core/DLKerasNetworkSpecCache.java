@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Optional;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.dl.core.DLNetworkSpec;
+import org.knime.dl.core.cache.DLMemoryAlertAwareGuavaCache;
+import org.knime.dl.core.cache.DLPersistentFileCache;
+
+/**
+ * Persistent cache of the specs of Keras network files. Reading a network spec via Python requires starting Python
+ * and loading the entire network, the cache allows to skip this if the spec of the very same file was read before,
+ * e.g. in a previous session.
+ * <P>
+ * Entries are keyed by the network type, the version of the Keras integration and the location, size and
+ * modification time of the file. The content of the file is not hashed, as this would require reading the entire
+ * file, which can be several gigabytes large. Consequently, a file that is replaced by one of the same size without
+ * changing its modification time yields a stale entry. The cache is best-effort: failures to read or write entries
+ * are logged and treated as cache misses.
+ * <P>
+ * The persistent entries are backed by the {@link DLMemoryAlertAwareGuavaCache#getSpecs() spec region} of the
+ * in-memory cache, which uses the same keys. Repeated lookups within a session therefore do not read the entry from
+ * disk.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasNetworkSpecCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DLKerasNetworkSpecCache.class);
+
+    private static final String ENTRY_FILE_EXTENSION = ".spec";
+
+    private static final int MAX_NUM_ENTRIES = 256;
+
+    private static DLKerasNetworkSpecCache instance;
+
+    /**
+     * @return the cache instance that stores its entries in the KNIME home directory
+     */
+    public static synchronized DLKerasNetworkSpecCache getInstance() {
+        if (instance == null) {
+            instance = new DLKerasNetworkSpecCache(new File(KNIMEConstants.getKNIMEHomeDir(), "dl_keras_spec_cache"));
+        }
+        return instance;
+    }
+
+    private final DLPersistentFileCache m_entries;
+
+    /**
+     * @param directory the directory in which the entries are stored, is created if it does not exist
+     */
+    DLKerasNetworkSpecCache(final File directory) {
+        m_entries = new DLPersistentFileCache(directory, ENTRY_FILE_EXTENSION, MAX_NUM_ENTRIES);
+    }
+
+    /**
+     * @param file the network file
+     * @param networkType the type of the network
+     * @return the cached spec of the network file if present
+     */
+    public Optional<DLKerasNetworkSpec> get(final File file, final Class<? extends DLKerasNetwork> networkType) {
+        try {
+            final String key = createKey(file, networkType);
+            final Optional<DLNetworkSpec> inMemory = DLMemoryAlertAwareGuavaCache.CACHE.getSpecs().get(key);
+            if (inMemory.isPresent() && inMemory.get() instanceof DLKerasNetworkSpec) {
+                return Optional.of((DLKerasNetworkSpec)inMemory.get());
+            }
+            final Optional<byte[]> entry = m_entries.get(key);
+            if (!entry.isPresent()) {
+                return Optional.empty();
+            }
+            try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(entry.get()))) {
+                final DLKerasNetworkSpec spec = (DLKerasNetworkSpec)in.readObject();
+                DLMemoryAlertAwareGuavaCache.CACHE.getSpecs().put(key, spec, entry.get().length);
+                return Optional.of(spec);
+            } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+                LOGGER.debug("Discarding unreadable network spec cache entry of network file '" + file + "'.", e);
+                m_entries.remove(key);
+                return Optional.empty();
+            }
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to look up the spec of network file '" + file + "' in the cache.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param file the network file
+     * @param networkType the type of the network
+     * @param spec the spec of the network file
+     */
+    public void put(final File file, final Class<? extends DLKerasNetwork> networkType,
+        final DLKerasNetworkSpec spec) {
+        try {
+            final String key = createKey(file, networkType);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(spec);
+            }
+            DLMemoryAlertAwareGuavaCache.CACHE.getSpecs().put(key, spec, bytes.size());
+            m_entries.put(key, bytes.toByteArray());
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to cache the spec of network file '" + file + "'.", e);
+        }
+    }
+
+    private static String createKey(final File file, final Class<? extends DLKerasNetwork> networkType)
+        throws IOException {
+        final File canonicalFile = file.getCanonicalFile();
+        return networkType.getName() + "\n" + DLKerasNetworkSpec.getKerasBundleVersion() + "\n"
+            + canonicalFile.toURI() + "\n" + canonicalFile.length() + "\n" + canonicalFile.lastModified();
+    }
+}
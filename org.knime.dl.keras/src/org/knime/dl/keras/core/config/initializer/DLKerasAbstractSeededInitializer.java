@@ -68,6 +68,11 @@ public DLKerasAbstractSeededInitializer(String kerasIdentifier) {
         super(kerasIdentifier);
     }
 
+    @Override
+    public boolean isDeterministic() {
+        return m_seed != null && m_seed.isEnabled();
+    }
+
     @Override
     protected void populateParameters(List<String> positionalParams, Map<String, String> namedParams) {
         namedParams.put("seed", m_seed == null ? DLPythonUtils.NONE : m_seed.toPytonSeed());
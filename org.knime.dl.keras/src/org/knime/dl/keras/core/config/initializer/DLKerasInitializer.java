@@ -52,5 +52,12 @@
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public interface DLKerasInitializer extends DLKerasConfigObject {
-    // NB: marker interface
+
+    /**
+     * @return <code>true</code> if initializing the same tensor twice yields the same values, i.e. the initializer
+     *         either does not draw random values or draws them using a fixed seed
+     */
+    default boolean isDeterministic() {
+        return true;
+    }
 }
@@ -0,0 +1,873 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.core.h5;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Minimal read-only access to the subset of the HDF5 file format that is written by Keras (via h5py) when saving a
+ * model: version 0 superblocks, version 1 object headers, groups that are backed by symbol tables or compact link
+ * storage, string attributes and contiguous or compact numeric datasets.
+ * <p>
+ * Anything outside of this subset (e.g. chunked or compressed datasets or dense attribute storage) is reported via a
+ * {@link DLKerasH5UnsupportedFormatException} which allows callers to fall back to reading the file via Python.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasH5File implements AutoCloseable {
+
+    private static final byte[] SIGNATURE = {(byte)0x89, 'H', 'D', 'F', '\r', '\n', 0x1a, '\n'};
+
+    private static final int MSG_DATASPACE = 0x0001;
+
+    private static final int MSG_LINK_INFO = 0x0002;
+
+    private static final int MSG_DATATYPE = 0x0003;
+
+    private static final int MSG_LINK = 0x0006;
+
+    private static final int MSG_LAYOUT = 0x0008;
+
+    private static final int MSG_FILTER_PIPELINE = 0x000B;
+
+    private static final int MSG_ATTRIBUTE = 0x000C;
+
+    private static final int MSG_CONTINUATION = 0x0010;
+
+    private static final int MSG_SYMBOL_TABLE = 0x0011;
+
+    private static final int MSG_ATTRIBUTE_INFO = 0x0015;
+
+    private static final int CLASS_FIXED_POINT = 0;
+
+    private static final int CLASS_FLOATING_POINT = 1;
+
+    private static final int CLASS_STRING = 3;
+
+    private static final int CLASS_VARIABLE_LENGTH = 9;
+
+    /**
+     * Opens the given file for reading.
+     *
+     * @param file the HDF5 file
+     * @return the opened file, must be {@link #close() closed} by the caller
+     * @throws DLKerasH5UnsupportedFormatException if the file is not an HDF5 file or uses a format version that is not
+     *             supported
+     * @throws IOException if reading the file failed
+     */
+    public static DLKerasH5File open(final File file) throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new DLKerasH5File(channel);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private final FileChannel m_channel;
+
+    private final Map<Long, ObjectHeader> m_headers = new HashMap<>();
+
+    private final Map<Long, Map<Integer, byte[]>> m_globalHeaps = new HashMap<>();
+
+    private int m_offsetSize;
+
+    private int m_lengthSize;
+
+    private long m_baseAddress;
+
+    private long m_rootAddress;
+
+    private DLKerasH5File(final FileChannel channel) throws IOException {
+        m_channel = channel;
+        readSuperblock();
+    }
+
+    /**
+     * @param path the absolute path of the object, segments are separated by '/'
+     * @return true if an object (group or dataset) exists at the given path
+     * @throws IOException if reading the file failed
+     */
+    public boolean exists(final String path) throws IOException {
+        return findObject(path) != -1;
+    }
+
+    /**
+     * @param path the absolute path of a group
+     * @return the names of the group's members in storage order
+     * @throws IOException if the group does not exist or reading the file failed
+     */
+    public List<String> getMemberNames(final String path) throws IOException {
+        return new ArrayList<>(readLinks(getObjectHeader(path)).keySet());
+    }
+
+    /**
+     * @param path the absolute path of a group or dataset
+     * @param name the name of the attribute
+     * @return the value of the scalar string attribute, empty if the attribute does not exist
+     * @throws DLKerasH5UnsupportedFormatException if the attribute is not a scalar string
+     * @throws IOException if the object does not exist or reading the file failed
+     */
+    public Optional<String> getStringAttribute(final String path, final String name) throws IOException {
+        final Optional<List<String>> values = getStringArrayAttribute(path, name);
+        if (values.isPresent() && values.get().size() != 1) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Attribute '" + name + "' of object '" + path + "' is not a scalar string.");
+        }
+        return values.map(v -> v.get(0));
+    }
+
+    /**
+     * @param path the absolute path of a group or dataset
+     * @param name the name of the attribute
+     * @return the values of the string array attribute, empty if the attribute does not exist
+     * @throws DLKerasH5UnsupportedFormatException if the attribute does not consist of strings
+     * @throws IOException if the object does not exist or reading the file failed
+     */
+    public Optional<List<String>> getStringArrayAttribute(final String path, final String name) throws IOException {
+        final ObjectHeader header = getObjectHeader(path);
+        for (final Message message : header.m_messages) {
+            if (message.m_type == MSG_ATTRIBUTE) {
+                final Attribute attribute = parseAttribute(message.data());
+                if (attribute.m_name.equals(name)) {
+                    return Optional.of(decodeStrings(parseDatatype(attribute.m_datatype),
+                        parseDataspace(attribute.m_dataspace), attribute.m_data,
+                        "attribute '" + name + "' of object '" + path + "'"));
+                }
+            } else if (message.m_type == MSG_ATTRIBUTE_INFO) {
+                final ByteBuffer data = message.data();
+                data.get(); // version
+                final int flags = data.get() & 0xff;
+                if ((flags & 0x1) != 0) {
+                    data.getShort(); // maximum creation index
+                }
+                if (!isUndefined(readOffset(data))) {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "Object '" + path + "' uses dense attribute storage which is not supported.");
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param path the absolute path of a dataset
+     * @return the shape of the dataset, empty for scalar datasets
+     * @throws IOException if the dataset does not exist or reading the file failed
+     */
+    public long[] getDatasetShape(final String path) throws IOException {
+        return parseDataspace(getMessage(getObjectHeader(path), MSG_DATASPACE, path).data());
+    }
+
+    /**
+     * Reads a numeric dataset and converts its elements to floats.
+     *
+     * @param path the absolute path of a dataset
+     * @return the elements of the dataset in row-major order
+     * @throws DLKerasH5UnsupportedFormatException if the dataset's storage layout or element type is not supported
+     * @throws IOException if the dataset does not exist or reading the file failed
+     */
+    public float[] readFloatDataset(final String path) throws IOException {
+        final ObjectHeader header = getObjectHeader(path);
+        for (final Message message : header.m_messages) {
+            if (message.m_type == MSG_FILTER_PIPELINE) {
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Dataset '" + path + "' is filtered (e.g. compressed) which is not supported.");
+            }
+        }
+        final Datatype datatype = parseDatatype(getMessage(header, MSG_DATATYPE, path));
+        final long numElements = getNumElements(parseDataspace(getMessage(header, MSG_DATASPACE, path).data()));
+        if (numElements * datatype.m_size > Integer.MAX_VALUE) {
+            throw new DLKerasH5UnsupportedFormatException("Dataset '" + path + "' is too large.");
+        }
+        final int numBytes = (int)numElements * datatype.m_size;
+        final ByteBuffer data = readLayout(getMessage(header, MSG_LAYOUT, path).data(), numBytes, path);
+        data.order(datatype.m_byteOrder);
+        final float[] values = new float[(int)numElements];
+        if (datatype.m_class == CLASS_FLOATING_POINT && datatype.m_size == 4) {
+            data.asFloatBuffer().get(values);
+        } else if (datatype.m_class == CLASS_FLOATING_POINT && datatype.m_size == 8) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (float)data.getDouble();
+            }
+        } else if (datatype.m_class == CLASS_FIXED_POINT) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readInteger(data, datatype);
+            }
+        } else {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Dataset '" + path + "' has an element type that is not supported.");
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+    }
+
+    // -- superblock & objects --
+
+    private void readSuperblock() throws IOException {
+        // the superblock may be preceded by a user block whose size is a power of two >= 512
+        long address = 0;
+        final long size = m_channel.size();
+        while (address + SIGNATURE.length <= size) {
+            final byte[] signature = new byte[SIGNATURE.length];
+            read(address, SIGNATURE.length).get(signature);
+            if (Arrays.equals(signature, SIGNATURE)) {
+                break;
+            }
+            address = address == 0 ? 512 : address * 2;
+        }
+        if (address + SIGNATURE.length > size) {
+            throw new DLKerasH5UnsupportedFormatException("The file is not an HDF5 file.");
+        }
+        final ByteBuffer buffer = read(address + SIGNATURE.length, 16);
+        final int version = buffer.get() & 0xff;
+        if (version != 0 && version != 1) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 superblock version " + version + " is not supported.");
+        }
+        buffer.position(5);
+        m_offsetSize = buffer.get() & 0xff;
+        m_lengthSize = buffer.get() & 0xff;
+        // skip reserved byte, group K values, file consistency flags and (version 1) indexed storage K
+        final int fixedPartSize = SIGNATURE.length + 16 + (version == 1 ? 4 : 0);
+        final ByteBuffer addresses = read(address + fixedPartSize, 4 * m_offsetSize + 2 * m_offsetSize);
+        m_baseAddress = readOffset(addresses);
+        readOffset(addresses); // free-space info
+        readOffset(addresses); // end of file
+        readOffset(addresses); // driver info
+        // root group symbol table entry
+        readOffset(addresses); // link name offset
+        m_rootAddress = m_baseAddress + readOffset(addresses);
+    }
+
+    private long findObject(final String path) throws IOException {
+        long address = m_rootAddress;
+        for (final String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            final Long child = readLinks(readObjectHeader(address)).get(segment);
+            if (child == null) {
+                return -1;
+            }
+            address = child;
+        }
+        return address;
+    }
+
+    private ObjectHeader getObjectHeader(final String path) throws IOException {
+        final long address = findObject(path);
+        if (address == -1) {
+            throw new IOException("Object '" + path + "' does not exist.");
+        }
+        return readObjectHeader(address);
+    }
+
+    private ObjectHeader readObjectHeader(final long address) throws IOException {
+        ObjectHeader header = m_headers.get(address);
+        if (header != null) {
+            return header;
+        }
+        final ByteBuffer prefix = read(address, 16);
+        final int version = prefix.get() & 0xff;
+        if (version != 1) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 object header version " + version + " is not supported.");
+        }
+        prefix.get(); // reserved
+        final int numMessages = prefix.getShort() & 0xffff;
+        prefix.getInt(); // reference count
+        final long headerSize = prefix.getInt() & 0xffffffffL;
+        final List<Message> messages = new ArrayList<>(numMessages);
+        // each block is {address, length}, the first block directly follows the (aligned) prefix
+        final Deque<long[]> blocks = new ArrayDeque<>();
+        blocks.add(new long[]{address + 16, headerSize});
+        int numRead = 0;
+        while (!blocks.isEmpty() && numRead < numMessages) {
+            final long[] block = blocks.poll();
+            final ByteBuffer buffer = read(block[0], checkedLength(block[1]));
+            while (buffer.remaining() >= 8 && numRead < numMessages) {
+                final int type = buffer.getShort() & 0xffff;
+                final int size = buffer.getShort() & 0xffff;
+                final int flags = buffer.get() & 0xff;
+                buffer.position(buffer.position() + 3);
+                if (size > buffer.remaining()) {
+                    throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 object header.");
+                }
+                final ByteBuffer data = (ByteBuffer)buffer.slice().limit(size);
+                buffer.position(buffer.position() + size);
+                numRead++;
+                if (type == MSG_CONTINUATION) {
+                    final ByteBuffer continuation = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                    final long continuationAddress = readOffset(continuation);
+                    blocks.add(new long[]{m_baseAddress + continuationAddress, readLength(continuation)});
+                } else if (type != 0) {
+                    messages.add(new Message(type, flags, data));
+                }
+            }
+        }
+        header = new ObjectHeader(messages);
+        m_headers.put(address, header);
+        return header;
+    }
+
+    private static Message getMessage(final ObjectHeader header, final int type, final String path)
+        throws IOException {
+        for (final Message message : header.m_messages) {
+            if (message.m_type == type) {
+                if ((message.m_flags & 0x2) != 0) {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "Object '" + path + "' uses shared header messages which are not supported.");
+                }
+                return message;
+            }
+        }
+        throw new IOException("Object '" + path + "' is not a dataset.");
+    }
+
+    // -- groups --
+
+    private Map<String, Long> readLinks(final ObjectHeader header) throws IOException {
+        if (header.m_links != null) {
+            return header.m_links;
+        }
+        final Map<String, Long> links = new LinkedHashMap<>();
+        for (final Message message : header.m_messages) {
+            if (message.m_type == MSG_SYMBOL_TABLE) {
+                final ByteBuffer data = message.data();
+                final long btreeAddress = readOffset(data);
+                final long heapAddress = readOffset(data);
+                final ByteBuffer heap = read(m_baseAddress + heapAddress, 8 + 2 * m_lengthSize + m_offsetSize);
+                if (!"HEAP".equals(readSignature(heap))) {
+                    throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 local heap.");
+                }
+                heap.position(8 + 2 * m_lengthSize);
+                final long heapDataAddress = m_baseAddress + readOffset(heap);
+                collectBTreeLinks(m_baseAddress + btreeAddress, heapDataAddress, links);
+            } else if (message.m_type == MSG_LINK) {
+                parseLink(message.data(), links);
+            } else if (message.m_type == MSG_LINK_INFO) {
+                final ByteBuffer data = message.data();
+                data.get(); // version
+                final int flags = data.get() & 0xff;
+                if ((flags & 0x1) != 0) {
+                    data.getLong(); // maximum creation index
+                }
+                if (!isUndefined(readOffset(data))) {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "Groups with dense link storage are not supported.");
+                }
+            }
+        }
+        header.m_links = Collections.unmodifiableMap(links);
+        return header.m_links;
+    }
+
+    private void collectBTreeLinks(final long address, final long heapDataAddress, final Map<String, Long> links)
+        throws IOException {
+        final ByteBuffer prefix = read(address, 8);
+        if (!"TREE".equals(readSignature(prefix))) {
+            throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 group B-tree.");
+        }
+        final int nodeType = prefix.get() & 0xff;
+        final int level = prefix.get() & 0xff;
+        final int numEntries = prefix.getShort() & 0xffff;
+        if (nodeType != 0) {
+            throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 group B-tree.");
+        }
+        // skip siblings and the first key, then read the alternating child addresses and keys
+        final ByteBuffer node = read(address + 8 + 2L * m_offsetSize,
+            m_lengthSize + numEntries * (m_offsetSize + m_lengthSize));
+        node.position(m_lengthSize);
+        for (int i = 0; i < numEntries; i++) {
+            final long child = m_baseAddress + readOffset(node);
+            readLength(node); // key
+            if (level > 0) {
+                collectBTreeLinks(child, heapDataAddress, links);
+            } else {
+                collectSymbolNodeLinks(child, heapDataAddress, links);
+            }
+        }
+    }
+
+    private void collectSymbolNodeLinks(final long address, final long heapDataAddress, final Map<String, Long> links)
+        throws IOException {
+        final ByteBuffer prefix = read(address, 8);
+        if (!"SNOD".equals(readSignature(prefix))) {
+            throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 symbol table node.");
+        }
+        prefix.position(6);
+        final int numSymbols = prefix.getShort() & 0xffff;
+        final int entrySize = 2 * m_offsetSize + 24;
+        final ByteBuffer entries = read(address + 8, numSymbols * entrySize);
+        for (int i = 0; i < numSymbols; i++) {
+            entries.position(i * entrySize);
+            final long nameOffset = readOffset(entries);
+            final long objectAddress = m_baseAddress + readOffset(entries);
+            links.put(readNullTerminatedString(heapDataAddress + nameOffset), objectAddress);
+        }
+    }
+
+    private void parseLink(final ByteBuffer data, final Map<String, Long> links) throws IOException {
+        data.get(); // version
+        final int flags = data.get() & 0xff;
+        final int linkType = (flags & 0x8) != 0 ? data.get() & 0xff : 0;
+        if ((flags & 0x4) != 0) {
+            data.getLong(); // creation order
+        }
+        if ((flags & 0x10) != 0) {
+            data.get(); // character set
+        }
+        final int nameLength = (int)readUnsigned(data, 1 << (flags & 0x3));
+        final byte[] name = new byte[nameLength];
+        data.get(name);
+        if (linkType != 0) {
+            // soft and external links are not written by Keras, ignore them
+            return;
+        }
+        links.put(new String(name, StandardCharsets.UTF_8), m_baseAddress + readOffset(data));
+    }
+
+    // -- attributes, datatypes & dataspaces --
+
+    private Attribute parseAttribute(final ByteBuffer data) throws IOException {
+        final int version = data.get() & 0xff;
+        if (version < 1 || version > 3) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 attribute message version " + version + " is not supported.");
+        }
+        final int flags = data.get() & 0xff;
+        if (version > 1 && (flags & 0x3) != 0) {
+            throw new DLKerasH5UnsupportedFormatException("Shared attribute datatypes are not supported.");
+        }
+        final int nameSize = data.getShort() & 0xffff;
+        final int datatypeSize = data.getShort() & 0xffff;
+        final int dataspaceSize = data.getShort() & 0xffff;
+        if (version == 3) {
+            data.get(); // name character set
+        }
+        // version 1 pads all fields to multiples of eight bytes
+        final int alignment = version == 1 ? 8 : 1;
+        final byte[] name = new byte[nameSize];
+        data.get(name);
+        skipPadding(data, nameSize, alignment);
+        final ByteBuffer datatype = (ByteBuffer)data.slice().limit(datatypeSize);
+        data.position(data.position() + datatypeSize);
+        skipPadding(data, datatypeSize, alignment);
+        final ByteBuffer dataspace = ((ByteBuffer)data.slice().limit(dataspaceSize)).order(ByteOrder.LITTLE_ENDIAN);
+        data.position(data.position() + dataspaceSize);
+        skipPadding(data, dataspaceSize, alignment);
+        int nameLength = 0;
+        while (nameLength < nameSize && name[nameLength] != 0) {
+            nameLength++;
+        }
+        // datatype and dataspace are only parsed on demand, other attributes may use unsupported datatypes
+        return new Attribute(new String(name, 0, nameLength, StandardCharsets.UTF_8),
+            datatype.order(ByteOrder.LITTLE_ENDIAN), dataspace, data.slice().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static Datatype parseDatatype(final Message message) throws IOException {
+        return parseDatatype(message.data());
+    }
+
+    private static Datatype parseDatatype(final ByteBuffer data) throws IOException {
+        final int typeClass = data.get() & 0x0f;
+        final int bitField = data.get() & 0xff;
+        data.get();
+        data.get();
+        final int size = data.getInt();
+        final boolean signed = typeClass == CLASS_FIXED_POINT && (bitField & 0x8) != 0;
+        final ByteOrder byteOrder = (bitField & 0x1) == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        if (typeClass == CLASS_VARIABLE_LENGTH && (bitField & 0xf) == 1) {
+            // variable-length string, h5py writes Python 3 strings this way
+            return new Datatype(typeClass, size, false, ByteOrder.LITTLE_ENDIAN);
+        }
+        if (typeClass != CLASS_FIXED_POINT && typeClass != CLASS_FLOATING_POINT && typeClass != CLASS_STRING) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 datatype class " + typeClass + " is not supported.");
+        }
+        return new Datatype(typeClass, size, signed, byteOrder);
+    }
+
+    private long[] parseDataspace(final ByteBuffer data) throws IOException {
+        final int version = data.get() & 0xff;
+        final int rank = data.get() & 0xff;
+        data.get(); // flags
+        if (version == 1) {
+            data.position(data.position() + 5);
+        } else if (version == 2) {
+            if ((data.get() & 0xff) == 2) {
+                // null dataspace
+                return new long[]{0};
+            }
+        } else {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 dataspace message version " + version + " is not supported.");
+        }
+        final long[] shape = new long[rank];
+        for (int i = 0; i < rank; i++) {
+            shape[i] = readLength(data);
+        }
+        return shape;
+    }
+
+    private List<String> decodeStrings(final Datatype datatype, final long[] shape, final ByteBuffer data,
+        final String description) throws IOException {
+        final int numElements = (int)getNumElements(shape);
+        if (numElements == 0) {
+            // empty arrays are written with a numeric datatype by h5py
+            return new ArrayList<>(0);
+        }
+        if (datatype.m_class != CLASS_STRING && datatype.m_class != CLASS_VARIABLE_LENGTH) {
+            throw new DLKerasH5UnsupportedFormatException("The value of " + description + " is not a string.");
+        }
+        final List<String> values = new ArrayList<>(numElements);
+        final byte[] fixedLengthElement = new byte[datatype.m_size];
+        for (int i = 0; i < numElements; i++) {
+            final byte[] element;
+            if (datatype.m_class == CLASS_VARIABLE_LENGTH) {
+                final int length = data.getInt();
+                final byte[] object = readGlobalHeapObject(m_baseAddress + readOffset(data), data.getInt());
+                element = Arrays.copyOf(object, Math.min(length, object.length));
+            } else {
+                element = fixedLengthElement;
+                data.get(element);
+            }
+            // strings are either null-terminated, null-padded or space-padded
+            int length = 0;
+            while (length < element.length && element[length] != 0) {
+                length++;
+            }
+            while (length > 0 && element[length - 1] == ' ') {
+                length--;
+            }
+            values.add(new String(element, 0, length, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static long getNumElements(final long[] shape) {
+        long numElements = 1;
+        for (final long dim : shape) {
+            numElements *= dim;
+        }
+        return numElements;
+    }
+
+    private static float readInteger(final ByteBuffer data, final Datatype datatype) throws IOException {
+        switch (datatype.m_size) {
+            case 1:
+                final byte b = data.get();
+                return datatype.m_signed ? b : b & 0xff;
+            case 2:
+                final short s = data.getShort();
+                return datatype.m_signed ? s : s & 0xffff;
+            case 4:
+                final int i = data.getInt();
+                return datatype.m_signed ? i : i & 0xffffffffL;
+            case 8:
+                return data.getLong();
+            default:
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Integer datasets of size " + datatype.m_size + " are not supported.");
+        }
+    }
+
+    // -- raw data --
+
+    private ByteBuffer readLayout(final ByteBuffer layout, final int numBytes, final String path) throws IOException {
+        final int version = layout.get() & 0xff;
+        final int layoutClass;
+        long address = -1;
+        if (version == 1 || version == 2) {
+            final int rank = layout.get() & 0xff;
+            layoutClass = layout.get() & 0xff;
+            layout.position(layout.position() + 5);
+            if (layoutClass != 0) {
+                address = readOffset(layout);
+            }
+            layout.position(layout.position() + 4 * rank);
+            if (layoutClass == 0) {
+                layout.getInt(); // compact data size
+            }
+        } else if (version == 3 || version == 4) {
+            layoutClass = layout.get() & 0xff;
+            if (layoutClass == 0) {
+                layout.getShort(); // compact data size
+            } else if (layoutClass == 1) {
+                address = readOffset(layout);
+            }
+        } else {
+            throw new DLKerasH5UnsupportedFormatException(
+                "HDF5 data layout message version " + version + " is not supported.");
+        }
+        if (layoutClass == 0) {
+            if (layout.remaining() < numBytes) {
+                throw new DLKerasH5UnsupportedFormatException("Corrupt compact dataset '" + path + "'.");
+            }
+            return (ByteBuffer)layout.slice().limit(numBytes);
+        } else if (layoutClass == 1) {
+            if (isUndefined(address)) {
+                // storage was never allocated, i.e. the dataset only consists of (zero) fill values
+                return ByteBuffer.allocate(numBytes);
+            }
+            return read(m_baseAddress + address, numBytes);
+        }
+        throw new DLKerasH5UnsupportedFormatException(
+            "Dataset '" + path + "' uses a chunked or virtual storage layout which is not supported.");
+    }
+
+    private ByteBuffer read(final long address, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        long position = address;
+        while (buffer.hasRemaining()) {
+            final int read = m_channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of HDF5 file.");
+            }
+            position += read;
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private byte[] readGlobalHeapObject(final long collectionAddress, final int index) throws IOException {
+        Map<Integer, byte[]> objects = m_globalHeaps.get(collectionAddress);
+        if (objects == null) {
+            final ByteBuffer prefix = read(collectionAddress, 8 + m_lengthSize);
+            if (!"GCOL".equals(readSignature(prefix))) {
+                throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 global heap.");
+            }
+            prefix.position(8);
+            final int collectionSize = checkedLength(readLength(prefix));
+            final ByteBuffer collection = read(collectionAddress, collectionSize);
+            collection.position(8 + m_lengthSize);
+            objects = new HashMap<>();
+            while (collection.remaining() >= 8 + m_lengthSize) {
+                final int objectIndex = collection.getShort() & 0xffff;
+                collection.position(collection.position() + 6); // reference count & reserved
+                final int objectSize = checkedLength(readLength(collection));
+                if (objectIndex == 0) {
+                    // free space, marks the end of the collection
+                    break;
+                }
+                final byte[] object = new byte[objectSize];
+                collection.get(object);
+                skipPadding(collection, objectSize, 8);
+                objects.put(objectIndex, object);
+            }
+            m_globalHeaps.put(collectionAddress, objects);
+        }
+        final byte[] object = objects.get(index);
+        if (object == null) {
+            throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 global heap.");
+        }
+        return object;
+    }
+
+    private String readNullTerminatedString(final long address) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        final byte[] chunk = new byte[64];
+        long position = address;
+        while (true) {
+            final int length = (int)Math.min(chunk.length, m_channel.size() - position);
+            if (length <= 0) {
+                throw new EOFException("Unexpected end of HDF5 file.");
+            }
+            read(position, length).get(chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                if (chunk[i] == 0) {
+                    builder.append(new String(chunk, 0, i, StandardCharsets.UTF_8));
+                    return builder.toString();
+                }
+            }
+            builder.append(new String(chunk, 0, length, StandardCharsets.UTF_8));
+            position += length;
+        }
+    }
+
+    private long readOffset(final ByteBuffer buffer) throws IOException {
+        return readUnsigned(buffer, m_offsetSize);
+    }
+
+    private long readLength(final ByteBuffer buffer) throws IOException {
+        return readUnsigned(buffer, m_lengthSize);
+    }
+
+    private static long readUnsigned(final ByteBuffer buffer, final int size) throws IOException {
+        switch (size) {
+            case 1:
+                return buffer.get() & 0xffL;
+            case 2:
+                return buffer.getShort() & 0xffffL;
+            case 4:
+                return buffer.getInt() & 0xffffffffL;
+            case 8:
+                return buffer.getLong();
+            default:
+                throw new DLKerasH5UnsupportedFormatException("HDF5 offsets of size " + size + " are not supported.");
+        }
+    }
+
+    private boolean isUndefined(final long address) {
+        // the undefined address consists of all ones
+        return m_offsetSize == 8 ? address == -1 : address == (1L << (8 * m_offsetSize)) - 1;
+    }
+
+    private static int checkedLength(final long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new DLKerasH5UnsupportedFormatException("Corrupt HDF5 object header.");
+        }
+        return (int)length;
+    }
+
+    private static String readSignature(final ByteBuffer buffer) {
+        final byte[] signature = new byte[4];
+        buffer.get(signature);
+        return new String(signature, StandardCharsets.US_ASCII);
+    }
+
+    private static void skipPadding(final ByteBuffer buffer, final int size, final int alignment) {
+        final int remainder = size % alignment;
+        if (remainder != 0) {
+            buffer.position(buffer.position() + alignment - remainder);
+        }
+    }
+
+    private static final class ObjectHeader {
+
+        private final List<Message> m_messages;
+
+        private Map<String, Long> m_links;
+
+        private ObjectHeader(final List<Message> messages) {
+            m_messages = messages;
+        }
+    }
+
+    private static final class Message {
+
+        private final int m_type;
+
+        private final int m_flags;
+
+        private final ByteBuffer m_data;
+
+        private Message(final int type, final int flags, final ByteBuffer data) {
+            m_type = type;
+            m_flags = flags;
+            m_data = data;
+        }
+
+        private ByteBuffer data() {
+            return m_data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private static final class Datatype {
+
+        private final int m_class;
+
+        private final int m_size;
+
+        private final boolean m_signed;
+
+        private final ByteOrder m_byteOrder;
+
+        private Datatype(final int typeClass, final int size, final boolean signed, final ByteOrder byteOrder) {
+            m_class = typeClass;
+            m_size = size;
+            m_signed = signed;
+            m_byteOrder = byteOrder;
+        }
+    }
+
+    private static final class Attribute {
+
+        private final String m_name;
+
+        private final ByteBuffer m_datatype;
+
+        private final ByteBuffer m_dataspace;
+
+        private final ByteBuffer m_data;
+
+        private Attribute(final String name, final ByteBuffer datatype, final ByteBuffer dataspace,
+            final ByteBuffer data) {
+            m_name = name;
+            m_datatype = datatype;
+            m_dataspace = dataspace;
+            m_data = data;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.core.h5;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the JSON documents Keras stores in the attributes of its HDF5 files (e.g. the model configuration). Objects
+ * are parsed into {@link Map maps} that preserve the order of their members, arrays into {@link List lists}, numbers
+ * into {@link Long longs} or {@link Double doubles} and literals into strings, booleans or <code>null</code>.
+ * Python's non-standard <code>NaN</code> and <code>Infinity</code> literals are accepted.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasJsonParser {
+
+    /**
+     * @param json the JSON document
+     * @return the parsed value
+     * @throws IllegalArgumentException if the document is malformed
+     */
+    public static Object parse(final String json) {
+        final DLKerasJsonParser parser = new DLKerasJsonParser(json);
+        final Object value = parser.parseValue();
+        parser.skipWhitespace();
+        if (parser.m_pos != json.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    private final String m_json;
+
+    private int m_pos;
+
+    private DLKerasJsonParser(final String json) {
+        m_json = json;
+    }
+
+    private Object parseValue() {
+        skipWhitespace();
+        if (m_pos >= m_json.length()) {
+            throw error("Unexpected end of document");
+        }
+        final char c = m_json.charAt(m_pos);
+        switch (c) {
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case '"':
+                return parseString();
+            case 't':
+                return parseLiteral("true", Boolean.TRUE);
+            case 'f':
+                return parseLiteral("false", Boolean.FALSE);
+            case 'n':
+                return parseLiteral("null", null);
+            case 'N':
+                return parseLiteral("NaN", Double.NaN);
+            case 'I':
+                return parseLiteral("Infinity", Double.POSITIVE_INFINITY);
+            default:
+                if (c == '-' && m_json.startsWith("-Infinity", m_pos)) {
+                    return parseLiteral("-Infinity", Double.NEGATIVE_INFINITY);
+                }
+                return parseNumber();
+        }
+    }
+
+    private Map<String, Object> parseObject() {
+        final Map<String, Object> object = new LinkedHashMap<>();
+        m_pos++;
+        skipWhitespace();
+        if (consume('}')) {
+            return object;
+        }
+        do {
+            skipWhitespace();
+            if (m_pos >= m_json.length() || m_json.charAt(m_pos) != '"') {
+                throw error("Expected member name");
+            }
+            final String name = parseString();
+            skipWhitespace();
+            if (!consume(':')) {
+                throw error("Expected ':'");
+            }
+            object.put(name, parseValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume('}')) {
+            throw error("Expected ',' or '}'");
+        }
+        return object;
+    }
+
+    private List<Object> parseArray() {
+        final List<Object> array = new ArrayList<>();
+        m_pos++;
+        skipWhitespace();
+        if (consume(']')) {
+            return array;
+        }
+        do {
+            array.add(parseValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume(']')) {
+            throw error("Expected ',' or ']'");
+        }
+        return array;
+    }
+
+    private String parseString() {
+        final StringBuilder builder = new StringBuilder();
+        m_pos++;
+        while (m_pos < m_json.length()) {
+            final char c = m_json.charAt(m_pos++);
+            if (c == '"') {
+                return builder.toString();
+            } else if (c != '\\') {
+                builder.append(c);
+            } else if (m_pos < m_json.length()) {
+                final char escaped = m_json.charAt(m_pos++);
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        if (m_pos + 4 > m_json.length()) {
+                            throw error("Invalid unicode escape sequence");
+                        }
+                        try {
+                            builder.append((char)Integer.parseInt(m_json.substring(m_pos, m_pos + 4), 16));
+                        } catch (final NumberFormatException e) {
+                            throw error("Invalid unicode escape sequence");
+                        }
+                        m_pos += 4;
+                        break;
+                    default:
+                        builder.append(escaped);
+                }
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private Object parseLiteral(final String literal, final Object value) {
+        if (!m_json.startsWith(literal, m_pos)) {
+            throw error("Unexpected token");
+        }
+        m_pos += literal.length();
+        return value;
+    }
+
+    private Number parseNumber() {
+        final int start = m_pos;
+        boolean integral = true;
+        while (m_pos < m_json.length()) {
+            final char c = m_json.charAt(m_pos);
+            if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            m_pos++;
+        }
+        final String number = m_json.substring(start, m_pos);
+        try {
+            return integral ? (Number)Long.valueOf(number) : (Number)Double.valueOf(number);
+        } catch (final NumberFormatException e) {
+            m_pos = start;
+            throw error("Invalid number");
+        }
+    }
+
+    private boolean consume(final char c) {
+        if (m_pos < m_json.length() && m_json.charAt(m_pos) == c) {
+            m_pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (m_pos < m_json.length() && Character.isWhitespace(m_json.charAt(m_pos))) {
+            m_pos++;
+        }
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(message + " at position " + m_pos + " of JSON document.");
+    }
+}
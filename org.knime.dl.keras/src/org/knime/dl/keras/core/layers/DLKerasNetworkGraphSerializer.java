@@ -46,6 +46,7 @@
  */
 package org.knime.dl.keras.core.layers;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -79,6 +80,12 @@
 import org.knime.dl.keras.core.struct.param.ParameterStructs;
 import org.knime.dl.keras.core.struct.param.ValidityException;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+
 import gnu.trove.TIntArrayList;
 
 /**
@@ -159,16 +166,70 @@ public void visitBaseNetworkOutput(final DLKerasBaseNetworkTensorSpecOutput base
      */
     public static Map<Integer, DLKerasBaseNetworkTensorSpecOutput> writeGraphTo(final List<DLKerasLayer> outputLayers,
         final ObjectOutputStream objOut) throws IOException {
+        // Collects all base network specs. We have to serialize them outside the node settings.
+        final LinkedHashMap<Integer, DLKerasNetworkSpec> baseNetworkSpecs = new LinkedHashMap<>(2);
+        // Collects all the base networks whose network location cannot be simply (de)serialized.
+        final LinkedHashMap<Integer, DLKerasBaseNetworkTensorSpecOutput> nonReferenceBaseNetworkLayers =
+            new LinkedHashMap<>(2);
+        final NodeSettings graphSettings =
+            saveGraph(outputLayers, true, baseNetworkSpecs, nonReferenceBaseNetworkLayers);
+        // Write to stream.
+        objOut.writeInt(baseNetworkSpecs.size());
+        for (final Entry<Integer, DLKerasNetworkSpec> entry : baseNetworkSpecs.entrySet()) {
+            objOut.writeInt(entry.getKey());
+            objOut.writeObject(entry.getValue());
+        }
+        objOut.writeObject(graphSettings);
+        return nonReferenceBaseNetworkLayers;
+    }
+
+    /**
+     * Computes a hash of the Keras network graph specified by the given output layers and their inputs (i.e.
+     * predecessor nodes). The hash covers the types, parameters and connections of the layers as written by
+     * {@link #writeGraphTo(List, ObjectOutputStream)} as well as the contents of the base networks. It does not cover
+     * the runtime ids of the layers which change each time a layer node is executed. Thus, the hash of an unchanged
+     * network graph is stable across re-executions of its layer nodes.
+     *
+     * @param outputLayers the output layers of the network to hash
+     * @return the hash of the network graph
+     * @throws IOException if failed to serialize the network graph or to read the contents of a base network
+     */
+    public static HashCode hashGraph(final List<DLKerasLayer> outputLayers) throws IOException {
+        final LinkedHashMap<Integer, DLKerasBaseNetworkTensorSpecOutput> baseNetworkLayers = new LinkedHashMap<>(2);
+        final NodeSettings graphSettings = saveGraph(outputLayers, false, new LinkedHashMap<>(2), baseNetworkLayers);
+        final ByteArrayOutputStream graphBytes = new ByteArrayOutputStream();
+        graphSettings.saveToXML(graphBytes);
+        final HashFunction hashFunction = Hashing.murmur3_128();
+        final Hasher hasher = hashFunction.newHasher().putBytes(graphBytes.toByteArray());
+        // base network files are hashed only once even if several of their outputs are used
+        final Map<URI, HashCode> baseNetworkHashes = new HashMap<>(2);
+        for (final Entry<Integer, DLKerasBaseNetworkTensorSpecOutput> entry : baseNetworkLayers.entrySet()) {
+            final URI source = entry.getValue().getBaseNetworkSource().getURI();
+            HashCode baseNetworkHash = baseNetworkHashes.get(source);
+            if (baseNetworkHash == null) {
+                baseNetworkHash = Resources.asByteSource(source.toURL()).hash(hashFunction);
+                baseNetworkHashes.put(source, baseNetworkHash);
+            }
+            hasher.putInt(entry.getKey()).putBytes(baseNetworkHash.asBytes());
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * @param includeRuntimeIds whether to save the runtime ids of the layers
+     * @param baseNetworkSpecs is populated with the specs of all base networks, keyed by layer index
+     * @param baseNetworkLayers is populated with the base network layers that are not saved to the returned settings
+     *            because their location cannot be simply (de)serialized, keyed by layer index. If the runtime ids are
+     *            not saved, all base network layers are collected.
+     */
+    private static NodeSettings saveGraph(final List<DLKerasLayer> outputLayers, final boolean includeRuntimeIds,
+        final Map<Integer, DLKerasNetworkSpec> baseNetworkSpecs,
+        final Map<Integer, DLKerasBaseNetworkTensorSpecOutput> baseNetworkLayers) throws IOException {
         final NodeSettings graphSettings = new NodeSettings(CFG_KEY_GRAPH);
         final AtomicInteger layerIndexCounter = new AtomicInteger();
         final Map<DLKerasTensorSpecsOutput, Integer> layerIndices = new HashMap<>();
         try {
             final TIntArrayList outputLayerIndices = new TIntArrayList(outputLayers.size());
-            // Collects all base network specs. We have to serialize them outside the node settings.
-            final LinkedHashMap<Integer, DLKerasNetworkSpec> baseNetworkSpecs = new LinkedHashMap<>(2);
-            // Collects all the base networks whose network location cannot be simply (de)serialized.
-            final LinkedHashMap<Integer, DLKerasBaseNetworkTensorSpecOutput> nonReferenceBaseNetworkLayers =
-                new LinkedHashMap<>(2);
             new DLKerasNetworkGraphTopologicalOrderIterator(outputLayers).visitAll(new DLKerasLayerVisitor() {
 
                 @Override
@@ -209,8 +270,11 @@ public void visitBaseNetworkOutput(final DLKerasBaseNetworkTensorSpecOutput base
                     final DLNetworkLocation baseNetworkSource = baseNetworkOutput.getBaseNetworkSource();
                     if (baseNetworkSource instanceof DLNetworkReferenceLocation) {
                         layerSettings.addString(CFG_KEY_BASE_NETWORK_SOURCE, baseNetworkSource.getURI().toString());
+                        if (!includeRuntimeIds) {
+                            baseNetworkLayers.put(layerIndex, baseNetworkOutput);
+                        }
                     } else {
-                        nonReferenceBaseNetworkLayers.put(layerIndex, baseNetworkOutput);
+                        baseNetworkLayers.put(layerIndex, baseNetworkOutput);
                     }
                     baseNetworkSpecs.put(layerIndex, baseNetworkOutput.getBaseNetworkSpec());
                 }
@@ -225,7 +289,9 @@ private NodeSettingsWO saveLayer(final DLKerasLayer layer)
                         NodeSettingsStructs.createNodeSettingsInstance(
                             layerSettings.addNodeSettings(CFG_KEY_LAYER_PARAMS), layerInstance.struct());
                     Structs.shallowCopyUnsafe(layerInstance, settingsInstance);
-                    layerSettings.addString(CFG_KEY_LAYER_RUNTIME_ID, layer.getRuntimeId());
+                    if (includeRuntimeIds) {
+                        layerSettings.addString(CFG_KEY_LAYER_RUNTIME_ID, layer.getRuntimeId());
+                    }
                     return layerSettings;
                 }
 
@@ -239,14 +305,7 @@ private NodeSettingsWO createLayerSettings(final DLKerasTensorSpecsOutput layer)
                 }
             });
             graphSettings.addIntArray(CFG_KEY_OUTPUT_LAYERS, outputLayerIndices.toNativeArray());
-            // Write to stream.
-            objOut.writeInt(baseNetworkSpecs.size());
-            for (final Entry<Integer, DLKerasNetworkSpec> entry : baseNetworkSpecs.entrySet()) {
-                objOut.writeInt(entry.getKey());
-                objOut.writeObject(entry.getValue());
-            }
-            objOut.writeObject(graphSettings);
-            return nonReferenceBaseNetworkLayers;
+            return graphSettings;
         } catch (final Exception e) {
             throw new IOException("An exception occurred while saving the Keras layer graph. See log for details.", e);
         }
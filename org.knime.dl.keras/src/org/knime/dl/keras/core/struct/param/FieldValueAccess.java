@@ -58,24 +58,25 @@
  */
 class FieldValueAccess<S, T> implements ValueReadAccess<T, S>, ValueWriteAccess<T, S> {
 
-    private Field m_field;
+    private final ParameterStructCache.CachedField m_field;
 
     private boolean m_isEnabled;
 
     private StructAccess<? extends MemberReadAccess<?, ?>> m_nestedAccess;
 
-    public FieldValueAccess(Field field) {
+    public FieldValueAccess(ParameterStructCache.CachedField field) {
         m_field = field;
-        m_field.setAccessible(true);
     }
 
     @Override
     public T get(S storage) {
         try {
             @SuppressWarnings("unchecked")
-            final T obj = (T)m_field.get(storage);
+            final T obj = (T)m_field.getter().invokeExact((Object)storage);
             return obj;
-        } catch (IllegalArgumentException | IllegalAccessException e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalStateException("Error while reading from field.", e);
         }
     }
@@ -83,8 +84,10 @@ public T get(S storage) {
     @Override
     public void set(S storage, T value) {
         try {
-            m_field.set(storage, value);
-        } catch (IllegalArgumentException | IllegalAccessException e) {
+            m_field.setter().invokeExact((Object)storage, (Object)value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             e.printStackTrace();
         }
     }
@@ -101,6 +104,6 @@ public boolean isEnabled() {
     }
 
     protected Field field() {
-        return m_field;
+        return m_field.field();
     }
-}
\ No newline at end of file
+}
@@ -46,10 +46,8 @@
  */
 package org.knime.dl.keras.core.struct.param;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Type;
+import java.util.List;
 
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.knime.dl.keras.core.struct.Member;
 import org.knime.dl.keras.core.struct.Struct;
 import org.knime.dl.keras.core.struct.access.AbstractStructAccess;
@@ -63,28 +61,21 @@
 class ParameterStructAccess<S> extends AbstractStructAccess<MemberReadWriteAccess<?, S>>
     implements StructReadWriteAccess<S, MemberReadWriteAccess<?, S>> {
 
-    public ParameterStructAccess(final Struct struct, final Class<?> type) throws ValidityException {
-        // TODO we can check if type is compatible with struct, e.g. by checking the params...
+    /**
+     * @param struct the struct of the accessed type
+     * @param fields the cached fields of the accessed type, one per member of the struct, see
+     *            {@link ParameterStructCache}
+     */
+    ParameterStructAccess(final Struct struct, final List<ParameterStructCache.CachedField> fields) {
         super(struct);
-        for (final Member<?> member : struct.members()) {
-            final String key = member.getKey();
-            final Class<?> rawType = member.getRawType();
-            final Field field = FieldUtils.getField(type, key, true);
-            if (!isEqual(field.getType(), rawType)) {
-                throw new ValidityException("Field type " + field + "  incompatible  member type " + rawType + ".");
-            }
-            addMemberInstance(createFieldAccess(member, field));
+        for (final ParameterStructCache.CachedField field : fields) {
+            addMemberInstance(createFieldAccess(field.member(), field));
         }
     }
 
-    private static <T, S> MemberReadWriteAccess<T, S> createFieldAccess(Member<T> member, Field field) {
+    private static <T, S> MemberReadWriteAccess<T, S> createFieldAccess(Member<T> member,
+        ParameterStructCache.CachedField field) {
         final FieldValueAccess<S, T> fieldAccess = new FieldValueAccess<>(field);
         return new DefaultMemberReadWriteAccess<>(member, fieldAccess);
     }
-
-    private static boolean isEqual(Type type, Class<?> rawType) {
-        if (!(type instanceof Class))
-            return false;
-        return rawType.equals(type);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,213 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ */
+package org.knime.dl.keras.core.struct.param;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.knime.dl.keras.core.struct.Member;
+import org.knime.dl.keras.core.struct.Struct;
+import org.scijava.util.ClassUtils;
+
+/**
+ * Caches the reflective metadata of types with @Parameter annotated fields: their {@link Struct} and method handles to
+ * read and write their fields. The metadata of a type is derived once, on first access.
+ * <P>
+ * Note that the cached metadata strongly references its type (via its fields and method handles), and a
+ * {@link ClassValue} whose value references its type keeps the type and its class loader reachable. Cached types are
+ * therefore never unloaded while this class is loaded. This is acceptable because the cached types are the layer,
+ * initializer, regularizer and constraint classes of this plug-in and of plug-ins that depend on it, which have the
+ * same life span as this class.
+ * <P>
+ * Only immutable metadata is cached. {@link ParameterStructAccess}es keep mutable state per member (e.g. whether an
+ * optional member is enabled) and are therefore created anew for each caller, which is cheap given the cached
+ * metadata.
+ *
+ * @author agent, agent@local
+ */
+final class ParameterStructCache {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<CachedStruct> CACHE = new ClassValue<CachedStruct>() {
+
+        @Override
+        protected CachedStruct computeValue(final Class<?> type) {
+            return new CachedStruct(type);
+        }
+    };
+
+    private ParameterStructCache() {
+        // NB: Avoid object instantiation
+    }
+
+    /**
+     * @param type with @Parameter annotated fields
+     * @return the cached {@link Struct} of the type
+     */
+    static Struct structOf(final Class<?> type) {
+        return CACHE.get(type).m_struct;
+    }
+
+    /**
+     * @param type with @Parameter annotated fields
+     * @return a new {@link ParameterStructAccess} over the type that is backed by the cached metadata
+     * @throws ValidityException if the fields of the type do not match its {@link Struct}
+     */
+    static <S> ParameterStructAccess<S> createStructAccess(final Class<?> type) throws ValidityException {
+        final CachedStruct cached = CACHE.get(type);
+        if (cached.m_invalidity != null) {
+            throw cached.m_invalidity;
+        }
+        return new ParameterStructAccess<>(cached.m_struct, cached.m_fields);
+    }
+
+    private static List<Member<?>> parse(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray()) {
+            return Collections.emptyList();
+        }
+        final ArrayList<Member<?>> items = new ArrayList<>();
+        // Parse field level @Parameter annotations.
+        for (final Field f : ClassUtils.getAnnotatedFields(type, Parameter.class)) {
+            f.setAccessible(true); // expose private fields
+            if (!Modifier.isFinal(f.getModifiers())) {
+                items.add(new FieldParameterMember<>(f, type));
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static boolean isEqual(final Type type, final Class<?> rawType) {
+        if (!(type instanceof Class)) {
+            return false;
+        }
+        return rawType.equals(type);
+    }
+
+    private static final class CachedStruct {
+
+        private final Struct m_struct;
+
+        private final List<CachedField> m_fields;
+
+        private final ValidityException m_invalidity;
+
+        private CachedStruct(final Class<?> type) {
+            final List<Member<?>> members = parse(type);
+            m_struct = () -> members;
+            final List<CachedField> fields = new ArrayList<>(members.size());
+            ValidityException invalidity = null;
+            for (final Member<?> member : members) {
+                final Class<?> rawType = member.getRawType();
+                final Field field = FieldUtils.getField(type, member.getKey(), true);
+                if (!isEqual(field.getType(), rawType)) {
+                    invalidity =
+                        new ValidityException("Field type " + field + "  incompatible  member type " + rawType + ".");
+                    break;
+                }
+                fields.add(new CachedField(member, field));
+            }
+            m_fields = Collections.unmodifiableList(fields);
+            m_invalidity = invalidity;
+        }
+    }
+
+    /**
+     * The method handles of a single field. Their types are erased to {@link Object} such that they can be invoked
+     * exactly without knowing the field's declaring type and value type.
+     */
+    static final class CachedField {
+
+        private final Member<?> m_member;
+
+        private final Field m_field;
+
+        private final MethodHandle m_getter;
+
+        private final MethodHandle m_setter;
+
+        private CachedField(final Member<?> member, final Field field) {
+            m_member = member;
+            m_field = field;
+            m_field.setAccessible(true);
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                m_getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                m_setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (final IllegalAccessException e) {
+                // cannot happen, the field was made accessible above
+                throw new IllegalStateException("Cannot access field " + field + ".", e);
+            }
+        }
+
+        Member<?> member() {
+            return m_member;
+        }
+
+        Field field() {
+            return m_field;
+        }
+
+        MethodHandle getter() {
+            return m_getter;
+        }
+
+        MethodHandle setter() {
+            return m_setter;
+        }
+    }
+}
@@ -46,14 +46,6 @@
  */
 package org.knime.dl.keras.core.struct.param;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.knime.dl.keras.core.struct.Member;
 import org.knime.dl.keras.core.struct.Struct;
 import org.knime.dl.keras.core.struct.access.MemberReadWriteAccess;
@@ -61,7 +53,6 @@
 import org.knime.dl.keras.core.struct.instance.MemberReadWriteInstance;
 import org.knime.dl.keras.core.struct.instance.StructInstance;
 import org.knime.dl.keras.core.struct.instance.StructInstances;
-import org.scijava.util.ClassUtils;
 
 /**
  * Helper class to deal with ParameterStructs.
@@ -75,46 +66,17 @@ public final class ParameterStructs {
     /**
      * Derive a {@link Struct} of the provided type. The type is expected to comprise fields annotated with @Parameter
      * describing it's input and therefore defining the {@link Struct}. If no fields are annotated the number of
-     * {@link Member}s of the resulting {@link Struct} will be zero.
+     * {@link Member}s of the resulting {@link Struct} will be zero. The {@link Struct} is derived only once per type.
      * 
      * @param type to derive {@link Struct}.
      * 
      * @return {@link Struct} derived from type
      */
     public static Struct structOf(final Class<?> type) {
-        final List<Member<?>> items = parse(type);
-        return () -> items;
-    }
-
-    private static List<Member<?>> parse(final Class<?> type) {
-        if (type == null)
-            return null;
-
-        if (type.isPrimitive() || type.isArray()) {
-            return Collections.emptyList();
-        }
-
-        final ArrayList<Member<?>> items = new ArrayList<>();
-        final Set<String> names = new HashSet<>();
-
-        // Parse field level @Parameter annotations.
-        final List<Field> fields = ClassUtils.getAnnotatedFields(type, Parameter.class);
-
-        for (final Field f : fields) {
-            f.setAccessible(true); // expose private fields
-
-            final String name = f.getName();
-            final boolean isFinal = Modifier.isFinal(f.getModifiers());
-            if (isFinal)
-                continue;
-
-            // add item to the list
-            final ParameterMember<?> item = new FieldParameterMember<>(f, type);
-            names.add(name);
-            items.add(item);
+        if (type == null) {
+            return () -> null;
         }
-
-        return items;
+        return ParameterStructCache.structOf(type);
     }
 
     /**
@@ -123,7 +85,7 @@ private static List<Member<?>> parse(final Class<?> type) {
      */
     public static <S> StructAccess<MemberReadWriteAccess<?, S>> createStructAccess(Class<?> type) {
         try {
-            return new ParameterStructAccess<S>(ParameterStructs.structOf(type), type);
+            return ParameterStructCache.createStructAccess(type);
         } catch (ValidityException e) {
             // TODO logging
             e.printStackTrace();
@@ -66,6 +66,9 @@ public class DLKerasDefaultTrainingConfig implements DLKerasTrainingConfig {
 	private final DLKerasOptimizer m_optimizer;
 	private final Map<DLTensorId, DLKerasLossFunction> m_losses;
 	private final Collection<DLKerasCallback> m_callbacks;
+	private final int m_prefetchDepth;
+	private final int m_metricsReportingBatches;
+	private final long m_metricsReportingInterval;
 
 	/**
 	 * @param epochs the number of times to iterate over the training data before training is finished. Note that the
@@ -81,6 +84,47 @@ public class DLKerasDefaultTrainingConfig implements DLKerasTrainingConfig {
 	public DLKerasDefaultTrainingConfig(final int epochs, final int batchSize, final Integer validationBatchSize,
 			final DLKerasOptimizer optimizer, final Map<DLTensorId, DLKerasLossFunction> losses,
 			final Collection<DLKerasCallback> callbacks) {
+		this(epochs, batchSize, validationBatchSize, optimizer, losses, callbacks, 0);
+	}
+
+	/**
+	 * @param epochs the number of times to iterate over the training data before training is finished. Note that the
+	 *            actual number of executed epochs can be smaller in case of early stopping.
+	 * @param batchSize the number of training samples to use for a single training step
+	 * @param validationBatchSize may be null in which case the validation batch size defaults the to batch size. This
+	 *            value only matters if performing model evaluation during training.
+	 * @param optimizer the optimizer that is used for model updating
+	 * @param losses a mapping of network outputs to loss functions. There must be a mapping for each of the outputs of
+	 *            the network that will be trained.
+	 * @param callbacks may be null or empty in which case it defaults to an empty list
+	 * @param prefetchDepth the number of batches that are prepared in advance, zero to prepare batches on demand
+	 */
+	public DLKerasDefaultTrainingConfig(final int epochs, final int batchSize, final Integer validationBatchSize,
+			final DLKerasOptimizer optimizer, final Map<DLTensorId, DLKerasLossFunction> losses,
+			final Collection<DLKerasCallback> callbacks, final int prefetchDepth) {
+		this(epochs, batchSize, validationBatchSize, optimizer, losses, callbacks, prefetchDepth, 1, 0);
+	}
+
+	/**
+	 * @param epochs the number of times to iterate over the training data before training is finished. Note that the
+	 *            actual number of executed epochs can be smaller in case of early stopping.
+	 * @param batchSize the number of training samples to use for a single training step
+	 * @param validationBatchSize may be null in which case the validation batch size defaults the to batch size. This
+	 *            value only matters if performing model evaluation during training.
+	 * @param optimizer the optimizer that is used for model updating
+	 * @param losses a mapping of network outputs to loss functions. There must be a mapping for each of the outputs of
+	 *            the network that will be trained.
+	 * @param callbacks may be null or empty in which case it defaults to an empty list
+	 * @param prefetchDepth the number of batches that are prepared in advance, zero to prepare batches on demand
+	 * @param metricsReportingBatches the maximum number of batches whose metrics are reported in a single message, one
+	 *            to report each batch on its own
+	 * @param metricsReportingInterval the maximum time in milliseconds that batch metrics are held back before they
+	 *            are reported, zero to not report based on time
+	 */
+	public DLKerasDefaultTrainingConfig(final int epochs, final int batchSize, final Integer validationBatchSize,
+			final DLKerasOptimizer optimizer, final Map<DLTensorId, DLKerasLossFunction> losses,
+			final Collection<DLKerasCallback> callbacks, final int prefetchDepth, final int metricsReportingBatches,
+			final long metricsReportingInterval) {
 		m_epochs = epochs;
 		m_batchSize = batchSize;
 		m_validationBatchSize = validationBatchSize != null ? validationBatchSize : batchSize;
@@ -88,6 +132,9 @@ public DLKerasDefaultTrainingConfig(final int epochs, final int batchSize, final
 		m_losses = Collections.unmodifiableMap(new HashMap<>(losses));
 		m_callbacks = callbacks != null ? Collections.unmodifiableCollection(new ArrayList<>(callbacks))
 				: Collections.emptyList();
+		m_prefetchDepth = prefetchDepth;
+		m_metricsReportingBatches = Math.max(1, metricsReportingBatches);
+		m_metricsReportingInterval = Math.max(0, metricsReportingInterval);
 	}
 
 	@Override
@@ -105,6 +152,21 @@ public long getValidationBatchSize() {
 		return m_validationBatchSize;
 	}
 
+	@Override
+	public int getPrefetchDepth() {
+		return m_prefetchDepth;
+	}
+
+	@Override
+	public int getMetricsReportingBatches() {
+		return m_metricsReportingBatches;
+	}
+
+	@Override
+	public long getMetricsReportingInterval() {
+		return m_metricsReportingInterval;
+	}
+
 	@Override
 	public DLKerasOptimizer getOptimizer() {
 		return m_optimizer;
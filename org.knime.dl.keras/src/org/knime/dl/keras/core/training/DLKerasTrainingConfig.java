@@ -75,4 +75,21 @@ public interface DLKerasTrainingConfig extends DLTrainingConfig {
 	 *         training process
 	 */
 	Collection<DLKerasCallback> getCallbacks();
+
+	/**
+	 * @return the maximum number of batches whose metrics are aggregated by the back end before they are reported in
+	 *         a single message. One means that each batch is reported on its own.
+	 */
+	default int getMetricsReportingBatches() {
+		return 1;
+	}
+
+	/**
+	 * @return the maximum time in milliseconds that aggregated batch metrics are held back by the back end before they
+	 *         are reported, zero if reporting is not time-based. Only matters if
+	 *         {@link #getMetricsReportingBatches()} is greater than one.
+	 */
+	default long getMetricsReportingInterval() {
+		return 0;
+	}
 }
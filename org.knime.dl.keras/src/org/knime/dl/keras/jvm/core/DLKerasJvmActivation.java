@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import java.util.Optional;
+
+/**
+ * The Keras activation functions supported by the JVM engine. All functions are applied in place.
+ *
+ * @author agent, agent@local
+ */
+enum DLKerasJvmActivation {
+
+        LINEAR("linear") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                // identity
+            }
+        },
+
+        RELU("relu") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = Math.max(data[i], 0f);
+                }
+            }
+        },
+
+        SIGMOID("sigmoid") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (float)(1.0 / (1.0 + Math.exp(-data[i])));
+                }
+            }
+        },
+
+        HARD_SIGMOID("hard_sigmoid") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = Math.min(Math.max(0.2f * data[i] + 0.5f, 0f), 1f);
+                }
+            }
+        },
+
+        TANH("tanh") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (float)Math.tanh(data[i]);
+                }
+            }
+        },
+
+        SOFTMAX("softmax") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                softmax(data, lastDim);
+            }
+        },
+
+        SOFTPLUS("softplus") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    // numerically stable variant of log(exp(x) + 1)
+                    final double x = data[i];
+                    data[i] = (float)(Math.max(x, 0.0) + Math.log1p(Math.exp(-Math.abs(x))));
+                }
+            }
+        },
+
+        SOFTSIGN("softsign") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = data[i] / (Math.abs(data[i]) + 1f);
+                }
+            }
+        },
+
+        ELU("elu") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                elu(data, 1f);
+            }
+        },
+
+        SELU("selu") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                final float alpha = 1.6732632423543772f;
+                final float scale = 1.0507009873554805f;
+                for (int i = 0; i < data.length; i++) {
+                    final float x = data[i];
+                    data[i] = scale * (x > 0 ? x : alpha * (float)Math.expm1(x));
+                }
+            }
+        },
+
+        EXPONENTIAL("exponential") {
+
+            @Override
+            void apply(final float[] data, final int lastDim) {
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (float)Math.exp(data[i]);
+                }
+            }
+        };
+
+    /**
+     * @param kerasName the name of the activation function in Keras
+     * @return the activation function, empty if not supported
+     */
+    static Optional<DLKerasJvmActivation> fromKerasName(final String kerasName) {
+        for (final DLKerasJvmActivation activation : values()) {
+            if (activation.m_kerasName.equals(kerasName)) {
+                return Optional.of(activation);
+            }
+        }
+        return Optional.empty();
+    }
+
+    static void softmax(final float[] data, final int lastDim) {
+        final int numRows = data.length / lastDim;
+        DLKerasJvmKernels.forEach(numRows, lastDim, row -> {
+            final int offset = row * lastDim;
+            float max = Float.NEGATIVE_INFINITY;
+            for (int i = offset; i < offset + lastDim; i++) {
+                max = Math.max(max, data[i]);
+            }
+            double sum = 0;
+            for (int i = offset; i < offset + lastDim; i++) {
+                data[i] = (float)Math.exp(data[i] - max);
+                sum += data[i];
+            }
+            for (int i = offset; i < offset + lastDim; i++) {
+                data[i] /= sum;
+            }
+        });
+    }
+
+    static void elu(final float[] data, final float alpha) {
+        for (int i = 0; i < data.length; i++) {
+            final float x = data[i];
+            data[i] = x > 0 ? x : alpha * (float)Math.expm1(x);
+        }
+    }
+
+    private final String m_kerasName;
+
+    private DLKerasJvmActivation(final String kerasName) {
+        m_kerasName = kerasName;
+    }
+
+    /**
+     * @param data the tensor elements in row-major order
+     * @param lastDim the size of the last tensor dimension, relevant for activations that normalize along it
+     */
+    abstract void apply(float[] data, int lastDim);
+}
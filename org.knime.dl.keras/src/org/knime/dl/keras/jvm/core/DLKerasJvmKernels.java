@@ -0,0 +1,334 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Primitive compute kernels of the JVM engine. Spatial tensors are expected in channels-last order. The loops are laid
+ * out such that the innermost loop runs over contiguous memory which allows the JIT compiler to vectorize them. Work
+ * is spread across cores via the common fork-join pool once it is large enough to amortize the scheduling overhead.
+ *
+ * @author agent, agent@local
+ */
+final class DLKerasJvmKernels {
+
+    /**
+     * The minimum number of (multiply-add) operations a kernel invocation must consist of to be parallelized.
+     */
+    private static final long PARALLELISM_THRESHOLD = 1 << 16;
+
+    /**
+     * The number of output units that are computed by a single task if a dense kernel is parallelized over its
+     * outputs.
+     */
+    private static final int DENSE_OUTPUT_BLOCK_SIZE = 128;
+
+    private DLKerasJvmKernels() {
+    }
+
+    /**
+     * Invokes the given body for each index in <code>[0, numItems)</code>, in parallel if the total cost is large
+     * enough. The body must only write to memory that is exclusively associated with its index.
+     */
+    static void forEach(final int numItems, final long costPerItem, final IntConsumer body) {
+        if (numItems > 1 && numItems * costPerItem >= PARALLELISM_THRESHOLD) {
+            IntStream.range(0, numItems).parallel().forEach(body);
+        } else {
+            for (int i = 0; i < numItems; i++) {
+                body.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Computes <code>input x kernel + bias</code> for each row of the input.
+     *
+     * @param input <code>[numRows, inputDim]</code>
+     * @param kernel <code>[inputDim, outputDim]</code>
+     * @param bias <code>[outputDim]</code>, may be null
+     * @return <code>[numRows, outputDim]</code>
+     */
+    static float[] dense(final float[] input, final int numRows, final int inputDim, final float[] kernel,
+        final float[] bias, final int outputDim) {
+        final float[] output = new float[numRows * outputDim];
+        // small batches are additionally split along the outputs to keep all cores busy
+        final int numBlocks = numRows < Runtime.getRuntime().availableProcessors()
+            ? (outputDim + DENSE_OUTPUT_BLOCK_SIZE - 1) / DENSE_OUTPUT_BLOCK_SIZE : 1;
+        final int blockSize = (outputDim + numBlocks - 1) / numBlocks;
+        forEach(numRows * numBlocks, (long)inputDim * blockSize, task -> {
+            final int row = task / numBlocks;
+            final int from = (task % numBlocks) * blockSize;
+            final int to = Math.min(from + blockSize, outputDim);
+            final int outOffset = row * outputDim;
+            if (bias != null) {
+                System.arraycopy(bias, from, output, outOffset + from, to - from);
+            }
+            final int inOffset = row * inputDim;
+            for (int i = 0; i < inputDim; i++) {
+                final float in = input[inOffset + i];
+                if (in == 0f) {
+                    continue;
+                }
+                final int kernelOffset = i * outputDim;
+                for (int o = from; o < to; o++) {
+                    output[outOffset + o] += in * kernel[kernelOffset + o];
+                }
+            }
+        });
+        return output;
+    }
+
+    /**
+     * @return the size of the output along a spatial dimension of a convolution or pooling operation
+     */
+    static int getOutputSize(final int inputSize, final int kernelSize, final int stride, final int dilation,
+        final boolean same) {
+        if (same) {
+            return (inputSize + stride - 1) / stride;
+        }
+        final int effectiveKernelSize = (kernelSize - 1) * dilation + 1;
+        return Math.max((inputSize - effectiveKernelSize) / stride + 1, 0);
+    }
+
+    /**
+     * @return the number of (implicitly) padded elements in front of the input along a spatial dimension, follows
+     *         TensorFlow's convention of padding the larger part at the end
+     */
+    static int getPaddingBefore(final int inputSize, final int outputSize, final int kernelSize, final int stride,
+        final int dilation) {
+        final int effectiveKernelSize = (kernelSize - 1) * dilation + 1;
+        return Math.max((outputSize - 1) * stride + effectiveKernelSize - inputSize, 0) / 2;
+    }
+
+    /**
+     * Two-dimensional convolution. One-dimensional convolutions are expressed via a height of one.
+     *
+     * @param input <code>[batchSize, height, width, inChannels]</code>
+     * @param kernel <code>[kernelHeight, kernelWidth, inChannels, outChannels]</code>
+     * @param bias <code>[outChannels]</code>, may be null
+     * @param geometry the spatial parameters of the convolution
+     * @return <code>[batchSize, outHeight, outWidth, outChannels]</code>
+     */
+    static float[] conv2d(final float[] input, final int batchSize, final int inChannels, final float[] kernel,
+        final float[] bias, final int outChannels, final Geometry geometry) {
+        final Geometry g = geometry;
+        final float[] output = new float[batchSize * g.m_outHeight * g.m_outWidth * outChannels];
+        final long costPerTask = (long)g.m_outWidth * g.m_kernelHeight * g.m_kernelWidth * inChannels * outChannels;
+        forEach(batchSize * g.m_outHeight, costPerTask, task -> {
+            final int n = task / g.m_outHeight;
+            final int oy = task % g.m_outHeight;
+            for (int ox = 0; ox < g.m_outWidth; ox++) {
+                final int outOffset = ((n * g.m_outHeight + oy) * g.m_outWidth + ox) * outChannels;
+                if (bias != null) {
+                    System.arraycopy(bias, 0, output, outOffset, outChannels);
+                }
+                for (int ky = 0; ky < g.m_kernelHeight; ky++) {
+                    final int iy = oy * g.m_strideHeight - g.m_padTop + ky * g.m_dilationHeight;
+                    if (iy < 0 || iy >= g.m_inHeight) {
+                        continue;
+                    }
+                    for (int kx = 0; kx < g.m_kernelWidth; kx++) {
+                        final int ix = ox * g.m_strideWidth - g.m_padLeft + kx * g.m_dilationWidth;
+                        if (ix < 0 || ix >= g.m_inWidth) {
+                            continue;
+                        }
+                        final int inOffset = ((n * g.m_inHeight + iy) * g.m_inWidth + ix) * inChannels;
+                        final int kernelOffset = (ky * g.m_kernelWidth + kx) * inChannels * outChannels;
+                        for (int ci = 0; ci < inChannels; ci++) {
+                            final float in = input[inOffset + ci];
+                            if (in == 0f) {
+                                continue;
+                            }
+                            final int k = kernelOffset + ci * outChannels;
+                            for (int co = 0; co < outChannels; co++) {
+                                output[outOffset + co] += in * kernel[k + co];
+                            }
+                        }
+                    }
+                }
+            }
+        });
+        return output;
+    }
+
+    /**
+     * Two-dimensional max or average pooling. Padded elements are ignored, i.e. averages are computed over the valid
+     * elements of a window only. One-dimensional pooling is expressed via a height of one.
+     *
+     * @param input <code>[batchSize, height, width, channels]</code>
+     * @return <code>[batchSize, outHeight, outWidth, channels]</code>
+     */
+    static float[] pool2d(final float[] input, final int batchSize, final int channels, final boolean max,
+        final Geometry geometry) {
+        final Geometry g = geometry;
+        final float[] output = new float[batchSize * g.m_outHeight * g.m_outWidth * channels];
+        final long costPerTask = (long)g.m_outWidth * g.m_kernelHeight * g.m_kernelWidth * channels;
+        forEach(batchSize * g.m_outHeight, costPerTask, task -> {
+            final int n = task / g.m_outHeight;
+            final int oy = task % g.m_outHeight;
+            final int yFrom = Math.max(oy * g.m_strideHeight - g.m_padTop, 0);
+            final int yTo = Math.min(oy * g.m_strideHeight - g.m_padTop + g.m_kernelHeight, g.m_inHeight);
+            for (int ox = 0; ox < g.m_outWidth; ox++) {
+                final int xFrom = Math.max(ox * g.m_strideWidth - g.m_padLeft, 0);
+                final int xTo = Math.min(ox * g.m_strideWidth - g.m_padLeft + g.m_kernelWidth, g.m_inWidth);
+                final int outOffset = ((n * g.m_outHeight + oy) * g.m_outWidth + ox) * channels;
+                if (max) {
+                    for (int c = 0; c < channels; c++) {
+                        output[outOffset + c] = Float.NEGATIVE_INFINITY;
+                    }
+                }
+                for (int iy = yFrom; iy < yTo; iy++) {
+                    for (int ix = xFrom; ix < xTo; ix++) {
+                        final int inOffset = ((n * g.m_inHeight + iy) * g.m_inWidth + ix) * channels;
+                        for (int c = 0; c < channels; c++) {
+                            final float in = input[inOffset + c];
+                            output[outOffset + c] = max ? Math.max(output[outOffset + c], in)
+                                : output[outOffset + c] + in;
+                        }
+                    }
+                }
+                if (!max) {
+                    final float count = (yTo - yFrom) * (xTo - xFrom);
+                    for (int c = 0; c < channels; c++) {
+                        output[outOffset + c] /= count;
+                    }
+                }
+            }
+        });
+        return output;
+    }
+
+    /**
+     * Max or average pooling over all spatial positions.
+     *
+     * @param input <code>[batchSize, numPositions, channels]</code>
+     * @return <code>[batchSize, channels]</code>
+     */
+    static float[] globalPool(final float[] input, final int batchSize, final int numPositions, final int channels,
+        final boolean max) {
+        final float[] output = new float[batchSize * channels];
+        forEach(batchSize, (long)numPositions * channels, n -> {
+            final int outOffset = n * channels;
+            if (max) {
+                for (int c = 0; c < channels; c++) {
+                    output[outOffset + c] = Float.NEGATIVE_INFINITY;
+                }
+            }
+            for (int p = 0; p < numPositions; p++) {
+                final int inOffset = (n * numPositions + p) * channels;
+                for (int c = 0; c < channels; c++) {
+                    final float in = input[inOffset + c];
+                    output[outOffset + c] = max ? Math.max(output[outOffset + c], in) : output[outOffset + c] + in;
+                }
+            }
+            if (!max) {
+                for (int c = 0; c < channels; c++) {
+                    output[outOffset + c] /= numPositions;
+                }
+            }
+        });
+        return output;
+    }
+
+    /**
+     * The spatial parameters of a two-dimensional convolution or pooling operation.
+     */
+    static final class Geometry {
+
+        private final int m_inHeight;
+
+        private final int m_inWidth;
+
+        private final int m_kernelHeight;
+
+        private final int m_kernelWidth;
+
+        private final int m_strideHeight;
+
+        private final int m_strideWidth;
+
+        private final int m_dilationHeight;
+
+        private final int m_dilationWidth;
+
+        private final int m_outHeight;
+
+        private final int m_outWidth;
+
+        private final int m_padTop;
+
+        private final int m_padLeft;
+
+        Geometry(final int inHeight, final int inWidth, final int[] kernelSize, final int[] strides,
+            final int[] dilation, final boolean same) {
+            m_inHeight = inHeight;
+            m_inWidth = inWidth;
+            m_kernelHeight = kernelSize[0];
+            m_kernelWidth = kernelSize[1];
+            m_strideHeight = strides[0];
+            m_strideWidth = strides[1];
+            m_dilationHeight = dilation[0];
+            m_dilationWidth = dilation[1];
+            m_outHeight = getOutputSize(inHeight, m_kernelHeight, m_strideHeight, m_dilationHeight, same);
+            m_outWidth = getOutputSize(inWidth, m_kernelWidth, m_strideWidth, m_dilationWidth, same);
+            m_padTop = getPaddingBefore(inHeight, m_outHeight, m_kernelHeight, m_strideHeight, m_dilationHeight);
+            m_padLeft = getPaddingBefore(inWidth, m_outWidth, m_kernelWidth, m_strideWidth, m_dilationWidth);
+        }
+
+        int getOutHeight() {
+            return m_outHeight;
+        }
+
+        int getOutWidth() {
+            return m_outWidth;
+        }
+    }
+}
@@ -0,0 +1,657 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.dl.keras.jvm.core.DLKerasJvmKernels.Geometry;
+
+/**
+ * Creates the {@link DLKerasJvmLayer JVM implementations} of Keras layers from their configuration and weights as
+ * stored in Keras HDF5 files. Only inference-time behavior is implemented, e.g. dropout layers are identities.
+ *
+ * @author agent, agent@local
+ */
+final class DLKerasJvmLayers {
+
+    private DLKerasJvmLayers() {
+    }
+
+    /**
+     * @param className the Keras class name of the layer
+     * @param config the layer's configuration
+     * @param weights the layer's weights
+     * @return the layer
+     * @throws DLKerasJvmUnsupportedNetworkException if the layer type or parts of its configuration are not supported
+     */
+    static DLKerasJvmLayer create(final String className, final Map<String, Object> config, final Weights weights)
+        throws DLKerasJvmUnsupportedNetworkException {
+        switch (className) {
+            case "InputLayer":
+            case "Dropout":
+            case "SpatialDropout1D":
+            case "SpatialDropout2D":
+            case "GaussianNoise":
+            case "GaussianDropout":
+            case "AlphaDropout":
+            case "ActivityRegularization":
+                // identities at inference time
+                return DLKerasJvmLayers::single;
+            case "Dense":
+                return createDense(config, weights);
+            case "Activation":
+                return createActivation(getActivation(config));
+            case "LeakyReLU":
+                final float leakyAlpha = getFloat(config, "alpha", 0.3f);
+                return createElementwise(x -> x > 0 ? x : leakyAlpha * x);
+            case "ELU":
+                final float eluAlpha = getFloat(config, "alpha", 1f);
+                return inputs -> {
+                    final DLKerasJvmTensor input = single(inputs);
+                    final float[] output = input.getData().clone();
+                    DLKerasJvmActivation.elu(output, eluAlpha);
+                    return new DLKerasJvmTensor(input.getShape(), output);
+                };
+            case "ThresholdedReLU":
+                final float theta = getFloat(config, "theta", 1f);
+                return createElementwise(x -> x > theta ? x : 0f);
+            case "ReLU":
+                return createReLU(config);
+            case "Softmax":
+                if (getInt(config, "axis", -1) != -1) {
+                    throw unsupported(config, "Softmax is only supported along the last axis.");
+                }
+                return createActivation(DLKerasJvmActivation.SOFTMAX);
+            case "Conv1D":
+                return createConvolution(config, weights, 1);
+            case "Conv2D":
+                return createConvolution(config, weights, 2);
+            case "MaxPooling1D":
+                return createPooling(config, 1, true);
+            case "AveragePooling1D":
+                return createPooling(config, 1, false);
+            case "MaxPooling2D":
+                return createPooling(config, 2, true);
+            case "AveragePooling2D":
+                return createPooling(config, 2, false);
+            case "GlobalMaxPooling1D":
+            case "GlobalMaxPooling2D":
+                return createGlobalPooling(config, true);
+            case "GlobalAveragePooling1D":
+            case "GlobalAveragePooling2D":
+                return createGlobalPooling(config, false);
+            case "BatchNormalization":
+                return createBatchNormalization(config, weights);
+            case "Embedding":
+                return createEmbedding(weights);
+            case "Add":
+                return createElementwiseMerge((a, b) -> a + b, false);
+            case "Subtract":
+                return createSubtract();
+            case "Multiply":
+                return createElementwiseMerge((a, b) -> a * b, false);
+            case "Average":
+                return createElementwiseMerge((a, b) -> a + b, true);
+            case "Maximum":
+                return createElementwiseMerge(Math::max, false);
+            case "Minimum":
+                return createElementwiseMerge(Math::min, false);
+            case "Concatenate":
+                return createConcatenate(config);
+            case "Flatten":
+                checkChannelsLast(config);
+                return inputs -> {
+                    final DLKerasJvmTensor input = single(inputs);
+                    final int batchSize = input.getDim(0);
+                    return new DLKerasJvmTensor(
+                        new int[]{batchSize, batchSize == 0 ? 0 : input.getData().length / batchSize},
+                        input.getData());
+                };
+            case "Reshape":
+                return createReshape(config);
+            default:
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Layer '" + config.get("name") + "' is of type '" + className + "' which is not supported.");
+        }
+    }
+
+    private static DLKerasJvmLayer createDense(final Map<String, Object> config, final Weights weights)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final int units = getInt(config, "units");
+        final DLKerasJvmActivation activation = getActivation(config);
+        final int[] kernelShape = weights.getShape("kernel");
+        if (kernelShape.length != 2 || kernelShape[1] != units) {
+            throw unsupported(config, "Unexpected kernel shape " + Arrays.toString(kernelShape) + ".");
+        }
+        final int inputDim = kernelShape[0];
+        final float[] kernel = weights.get("kernel");
+        final float[] bias = getBias(config, weights, units);
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            checkInput(input.getLastDim() == inputDim, input, "last dimension " + inputDim);
+            final int numRows = input.getData().length / inputDim;
+            final float[] output = DLKerasJvmKernels.dense(input.getData(), numRows, inputDim, kernel, bias, units);
+            activation.apply(output, units);
+            return new DLKerasJvmTensor(withLastDim(input.getShape(), units), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createActivation(final DLKerasJvmActivation activation) {
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            final float[] output = input.getData().clone();
+            activation.apply(output, input.getLastDim());
+            return new DLKerasJvmTensor(input.getShape(), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createReLU(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object maxValueObject = config.get("max_value");
+        final float maxValue = maxValueObject == null ? Float.POSITIVE_INFINITY : getFloat(config, "max_value", 0f);
+        final float negativeSlope = getFloat(config, "negative_slope", 0f);
+        final float threshold = getFloat(config, "threshold", 0f);
+        return createElementwise(x -> {
+            if (x >= maxValue) {
+                return maxValue;
+            }
+            return x >= threshold ? x : negativeSlope * (x - threshold);
+        });
+    }
+
+    private static DLKerasJvmLayer createConvolution(final Map<String, Object> config, final Weights weights,
+        final int rank) throws DLKerasJvmUnsupportedNetworkException {
+        checkChannelsLast(config);
+        final boolean same = isSamePadding(config);
+        final int filters = getInt(config, "filters");
+        final int[] kernelSize = getInts(config, "kernel_size", rank, null);
+        final int[] strides = getInts(config, "strides", rank, 1);
+        final int[] dilation = getInts(config, "dilation_rate", rank, 1);
+        final DLKerasJvmActivation activation = getActivation(config);
+        final int[] kernelShape = weights.getShape("kernel");
+        if (kernelShape.length != rank + 2 || kernelShape[rank + 1] != filters
+            || !Arrays.equals(Arrays.copyOf(kernelShape, rank), kernelSize)) {
+            throw unsupported(config, "Unexpected kernel shape " + Arrays.toString(kernelShape) + ".");
+        }
+        final int inChannels = kernelShape[rank];
+        final float[] kernel = weights.get("kernel");
+        final float[] bias = getBias(config, weights, filters);
+        // one-dimensional convolutions are computed as two-dimensional convolutions with a height of one
+        final int[] kernelSize2d = to2d(kernelSize);
+        final int[] strides2d = to2d(strides);
+        final int[] dilation2d = to2d(dilation);
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            checkInput(input.getRank() == rank + 2 && input.getLastDim() == inChannels, input,
+                "rank " + (rank + 2) + " and " + inChannels + " channels");
+            final int batchSize = input.getDim(0);
+            final Geometry geometry = new Geometry(rank == 1 ? 1 : input.getDim(1), input.getDim(rank), kernelSize2d,
+                strides2d, dilation2d, same);
+            final float[] output =
+                DLKerasJvmKernels.conv2d(input.getData(), batchSize, inChannels, kernel, bias, filters, geometry);
+            activation.apply(output, filters);
+            return new DLKerasJvmTensor(spatialShape(rank, batchSize, geometry, filters), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createPooling(final Map<String, Object> config, final int rank, final boolean max)
+        throws DLKerasJvmUnsupportedNetworkException {
+        checkChannelsLast(config);
+        final boolean same = isSamePadding(config);
+        final int[] poolSize = getInts(config, "pool_size", rank, 2);
+        final int[] strides = config.get("strides") == null ? poolSize : getInts(config, "strides", rank, 1);
+        final int[] poolSize2d = to2d(poolSize);
+        final int[] strides2d = to2d(strides);
+        final int[] dilation2d = {1, 1};
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            checkInput(input.getRank() == rank + 2, input, "rank " + (rank + 2));
+            final int batchSize = input.getDim(0);
+            final int channels = input.getLastDim();
+            final Geometry geometry = new Geometry(rank == 1 ? 1 : input.getDim(1), input.getDim(rank), poolSize2d,
+                strides2d, dilation2d, same);
+            final float[] output = DLKerasJvmKernels.pool2d(input.getData(), batchSize, channels, max, geometry);
+            return new DLKerasJvmTensor(spatialShape(rank, batchSize, geometry, channels), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createGlobalPooling(final Map<String, Object> config, final boolean max)
+        throws DLKerasJvmUnsupportedNetworkException {
+        checkChannelsLast(config);
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            checkInput(input.getRank() >= 3, input, "at least rank 3");
+            final int batchSize = input.getDim(0);
+            final int channels = input.getLastDim();
+            final int numPositions = batchSize * channels == 0 ? 0 : input.getData().length / (batchSize * channels);
+            return new DLKerasJvmTensor(new int[]{batchSize, channels},
+                DLKerasJvmKernels.globalPool(input.getData(), batchSize, numPositions, channels, max));
+        };
+    }
+
+    private static DLKerasJvmLayer createBatchNormalization(final Map<String, Object> config, final Weights weights)
+        throws DLKerasJvmUnsupportedNetworkException {
+        Object axisObject = config.get("axis");
+        if (axisObject instanceof List && ((List<?>)axisObject).size() == 1) {
+            axisObject = ((List<?>)axisObject).get(0);
+        }
+        if (!(axisObject instanceof Number)) {
+            throw unsupported(config, "Normalization along multiple axes is not supported.");
+        }
+        final int axis = ((Number)axisObject).intValue();
+        final float epsilon = getFloat(config, "epsilon", 1e-3f);
+        final float[] mean = weights.get("moving_mean");
+        final float[] variance = weights.get("moving_variance");
+        final float[] gamma = getBoolean(config, "scale", true) ? weights.get("gamma") : null;
+        final float[] beta = getBoolean(config, "center", true) ? weights.get("beta") : null;
+        final int size = mean.length;
+        // fold the normalization into a single multiply-add per element
+        final float[] scale = new float[size];
+        final float[] offset = new float[size];
+        for (int c = 0; c < size; c++) {
+            scale[c] = (float)((gamma != null ? gamma[c] : 1.0) / Math.sqrt(variance[c] + (double)epsilon));
+            offset[c] = (beta != null ? beta[c] : 0f) - mean[c] * scale[c];
+        }
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            checkInput((axis == -1 || axis == input.getRank() - 1) && input.getLastDim() == size, input,
+                "normalization along its last dimension of size " + size);
+            final float[] in = input.getData();
+            final float[] output = new float[in.length];
+            DLKerasJvmKernels.forEach(in.length / size, size, row -> {
+                final int rowOffset = row * size;
+                for (int c = 0; c < size; c++) {
+                    output[rowOffset + c] = in[rowOffset + c] * scale[c] + offset[c];
+                }
+            });
+            return new DLKerasJvmTensor(input.getShape(), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createEmbedding(final Weights weights) throws DLKerasJvmUnsupportedNetworkException {
+        final int[] embeddingsShape = weights.getShape("embeddings");
+        final float[] embeddings = weights.get("embeddings");
+        final int inputDim = embeddingsShape[0];
+        final int outputDim = embeddingsShape[1];
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            final float[] indices = input.getData();
+            final float[] output = new float[indices.length * outputDim];
+            DLKerasJvmKernels.forEach(indices.length, outputDim, i -> {
+                final int index = (int)indices[i];
+                if (index < 0 || index >= inputDim) {
+                    throw new IllegalArgumentException(
+                        "Embedding index " + indices[i] + " is out of range [0, " + inputDim + ").");
+                }
+                System.arraycopy(embeddings, index * outputDim, output, i * outputDim, outputDim);
+            });
+            final int[] inputShape = input.getShape();
+            final int[] outputShape = Arrays.copyOf(inputShape, inputShape.length + 1);
+            outputShape[inputShape.length] = outputDim;
+            return new DLKerasJvmTensor(outputShape, output);
+        };
+    }
+
+    private static DLKerasJvmLayer createElementwiseMerge(final FloatBinaryOperator operator, final boolean average) {
+        return inputs -> {
+            checkInputCount(inputs.size() >= 2, inputs, "at least two");
+            final DLKerasJvmTensor first = inputs.get(0);
+            final float[] output = first.getData().clone();
+            for (int i = 1; i < inputs.size(); i++) {
+                final DLKerasJvmTensor other = inputs.get(i);
+                checkInput(Arrays.equals(first.getShape(), other.getShape()), other,
+                    "shape " + Arrays.toString(first.getShape()));
+                final float[] in = other.getData();
+                for (int j = 0; j < output.length; j++) {
+                    output[j] = operator.apply(output[j], in[j]);
+                }
+            }
+            if (average) {
+                final float count = inputs.size();
+                for (int j = 0; j < output.length; j++) {
+                    output[j] /= count;
+                }
+            }
+            return new DLKerasJvmTensor(first.getShape(), output);
+        };
+    }
+
+    private static DLKerasJvmLayer createSubtract() {
+        final DLKerasJvmLayer subtract = createElementwiseMerge((a, b) -> a - b, false);
+        return inputs -> {
+            checkInputCount(inputs.size() == 2, inputs, "exactly two");
+            return subtract.apply(inputs);
+        };
+    }
+
+    private static DLKerasJvmLayer createConcatenate(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final int configuredAxis = getInt(config, "axis", -1);
+        if (configuredAxis == 0) {
+            throw unsupported(config, "Concatenation along the batch axis is not supported.");
+        }
+        return inputs -> {
+            checkInputCount(!inputs.isEmpty(), inputs, "at least one");
+            final int[] firstShape = inputs.get(0).getShape();
+            final int axis = configuredAxis < 0 ? firstShape.length + configuredAxis : configuredAxis;
+            checkInput(axis > 0 && axis < firstShape.length, inputs.get(0), "a concatenation axis of " + axis);
+            final int[] outputShape = firstShape.clone();
+            outputShape[axis] = 0;
+            for (final DLKerasJvmTensor input : inputs) {
+                final int[] shape = input.getShape();
+                final int[] expected = firstShape.clone();
+                expected[axis] = shape.length == firstShape.length ? shape[axis] : -1;
+                checkInput(Arrays.equals(shape, expected), input,
+                    "a shape matching " + Arrays.toString(firstShape) + " except for axis " + axis);
+                outputShape[axis] += shape[axis];
+            }
+            final int numOuter = DLKerasJvmTensor.getSize(Arrays.copyOf(firstShape, axis));
+            final float[] output = new float[DLKerasJvmTensor.getSize(outputShape)];
+            int outOffset = 0;
+            for (int o = 0; o < numOuter; o++) {
+                for (final DLKerasJvmTensor input : inputs) {
+                    final int chunkSize = input.getData().length / Math.max(numOuter, 1);
+                    System.arraycopy(input.getData(), o * chunkSize, output, outOffset, chunkSize);
+                    outOffset += chunkSize;
+                }
+            }
+            return new DLKerasJvmTensor(outputShape, output);
+        };
+    }
+
+    private static DLKerasJvmLayer createReshape(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object targetShapeObject = config.get("target_shape");
+        if (!(targetShapeObject instanceof List)) {
+            throw unsupported(config, "Missing target shape.");
+        }
+        final List<?> targetShapeList = (List<?>)targetShapeObject;
+        final int[] targetShape = new int[targetShapeList.size()];
+        for (int i = 0; i < targetShape.length; i++) {
+            targetShape[i] = ((Number)targetShapeList.get(i)).intValue();
+        }
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            final int batchSize = input.getDim(0);
+            final int exampleSize = batchSize == 0 ? 0 : input.getData().length / batchSize;
+            final int[] outputShape = new int[targetShape.length + 1];
+            outputShape[0] = batchSize;
+            int known = 1;
+            int unknownAxis = -1;
+            for (int i = 0; i < targetShape.length; i++) {
+                outputShape[i + 1] = targetShape[i];
+                if (targetShape[i] == -1) {
+                    unknownAxis = i + 1;
+                } else {
+                    known *= targetShape[i];
+                }
+            }
+            if (unknownAxis != -1 && known != 0) {
+                outputShape[unknownAxis] = exampleSize / known;
+            }
+            checkInput(DLKerasJvmTensor.getSize(outputShape) == input.getData().length, input,
+                "a size that is compatible with target shape " + Arrays.toString(targetShape));
+            return new DLKerasJvmTensor(outputShape, input.getData());
+        };
+    }
+
+    private static DLKerasJvmLayer createElementwise(final FloatUnaryOperator operator) {
+        return inputs -> {
+            final DLKerasJvmTensor input = single(inputs);
+            final float[] in = input.getData();
+            final float[] output = new float[in.length];
+            for (int i = 0; i < in.length; i++) {
+                output[i] = operator.apply(in[i]);
+            }
+            return new DLKerasJvmTensor(input.getShape(), output);
+        };
+    }
+
+    // -- utilities --
+
+    private static DLKerasJvmTensor single(final List<DLKerasJvmTensor> inputs) {
+        checkInputCount(inputs.size() == 1, inputs, "exactly one");
+        return inputs.get(0);
+    }
+
+    private static void checkInputCount(final boolean condition, final List<DLKerasJvmTensor> inputs,
+        final String expected) {
+        if (!condition) {
+            throw new IllegalArgumentException(
+                "Layer expects " + expected + " input(s) but got " + inputs.size() + ".");
+        }
+    }
+
+    private static void checkInput(final boolean condition, final DLKerasJvmTensor input, final String expected) {
+        if (!condition) {
+            throw new IllegalArgumentException(
+                "Layer expects an input of " + expected + " but got " + Arrays.toString(input.getShape()) + ".");
+        }
+    }
+
+    private static int[] withLastDim(final int[] shape, final int lastDim) {
+        final int[] result = shape.clone();
+        result[result.length - 1] = lastDim;
+        return result;
+    }
+
+    private static int[] spatialShape(final int rank, final int batchSize, final Geometry geometry,
+        final int channels) {
+        return rank == 1 ? new int[]{batchSize, geometry.getOutWidth(), channels}
+            : new int[]{batchSize, geometry.getOutHeight(), geometry.getOutWidth(), channels};
+    }
+
+    private static int[] to2d(final int[] values) {
+        return values.length == 1 ? new int[]{1, values[0]} : values;
+    }
+
+    private static float[] getBias(final Map<String, Object> config, final Weights weights, final int size)
+        throws DLKerasJvmUnsupportedNetworkException {
+        if (!getBoolean(config, "use_bias", true)) {
+            return null;
+        }
+        final float[] bias = weights.get("bias");
+        if (bias.length != size) {
+            throw unsupported(config, "Unexpected bias size " + bias.length + ".");
+        }
+        return bias;
+    }
+
+    private static DLKerasJvmActivation getActivation(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object activation = config.get("activation");
+        if (activation == null) {
+            return DLKerasJvmActivation.LINEAR;
+        }
+        if (!(activation instanceof String)) {
+            throw unsupported(config, "Custom activation functions are not supported.");
+        }
+        return DLKerasJvmActivation.fromKerasName((String)activation)
+            .orElseThrow(() -> unsupported(config, "Activation function '" + activation + "' is not supported."));
+    }
+
+    private static void checkChannelsLast(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object dataFormat = config.get("data_format");
+        if (dataFormat != null && !"channels_last".equals(dataFormat)) {
+            throw unsupported(config, "Data format '" + dataFormat + "' is not supported.");
+        }
+    }
+
+    private static boolean isSamePadding(final Map<String, Object> config)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object padding = config.get("padding");
+        if (padding == null || "valid".equals(padding)) {
+            return false;
+        } else if ("same".equals(padding)) {
+            return true;
+        }
+        throw unsupported(config, "Padding '" + padding + "' is not supported.");
+    }
+
+    private static int getInt(final Map<String, Object> config, final String key)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object value = config.get(key);
+        if (!(value instanceof Number)) {
+            throw unsupported(config, "Invalid value of '" + key + "': " + value + ".");
+        }
+        return ((Number)value).intValue();
+    }
+
+    private static int getInt(final Map<String, Object> config, final String key, final int defaultValue)
+        throws DLKerasJvmUnsupportedNetworkException {
+        return config.get(key) == null ? defaultValue : getInt(config, key);
+    }
+
+    /**
+     * Accepts a single number or a list of <code>rank</code> numbers. A null default value marks the key as required.
+     */
+    private static int[] getInts(final Map<String, Object> config, final String key, final int rank,
+        final Integer defaultValue) throws DLKerasJvmUnsupportedNetworkException {
+        final Object value = config.get(key);
+        final int[] values = new int[rank];
+        if (value instanceof Number) {
+            Arrays.fill(values, ((Number)value).intValue());
+        } else if (value instanceof List && ((List<?>)value).size() == rank) {
+            for (int i = 0; i < rank; i++) {
+                final Object element = ((List<?>)value).get(i);
+                if (!(element instanceof Number)) {
+                    throw unsupported(config, "Invalid value of '" + key + "': " + value + ".");
+                }
+                values[i] = ((Number)element).intValue();
+            }
+        } else if (value == null && defaultValue != null) {
+            Arrays.fill(values, defaultValue);
+        } else {
+            throw unsupported(config, "Invalid value of '" + key + "': " + value + ".");
+        }
+        return values;
+    }
+
+    private static float getFloat(final Map<String, Object> config, final String key, final float defaultValue)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Number)) {
+            throw unsupported(config, "Invalid value of '" + key + "': " + value + ".");
+        }
+        return ((Number)value).floatValue();
+    }
+
+    private static boolean getBoolean(final Map<String, Object> config, final String key,
+        final boolean defaultValue) {
+        final Object value = config.get(key);
+        return value instanceof Boolean ? (Boolean)value : defaultValue;
+    }
+
+    private static DLKerasJvmUnsupportedNetworkException unsupported(final Map<String, Object> config,
+        final String message) {
+        return new DLKerasJvmUnsupportedNetworkException("Layer '" + config.get("name") + "': " + message);
+    }
+
+    @FunctionalInterface
+    private interface FloatUnaryOperator {
+
+        float apply(float x);
+    }
+
+    @FunctionalInterface
+    private interface FloatBinaryOperator {
+
+        float apply(float a, float b);
+    }
+
+    /**
+     * The weights of a single layer, keyed by their Keras names without layer prefix and suffix (e.g.
+     * <code>kernel</code>).
+     */
+    static final class Weights {
+
+        private final String m_layerName;
+
+        private final Map<String, float[]> m_values = new HashMap<>();
+
+        private final Map<String, int[]> m_shapes = new HashMap<>();
+
+        Weights(final String layerName) {
+            m_layerName = layerName;
+        }
+
+        void put(final String name, final int[] shape, final float[] values) {
+            m_shapes.put(name, shape);
+            m_values.put(name, values);
+        }
+
+        float[] get(final String name) throws DLKerasJvmUnsupportedNetworkException {
+            final float[] values = m_values.get(name);
+            if (values == null) {
+                throw missing(name);
+            }
+            return values;
+        }
+
+        int[] getShape(final String name) throws DLKerasJvmUnsupportedNetworkException {
+            final int[] shape = m_shapes.get(name);
+            if (shape == null) {
+                throw missing(name);
+            }
+            return shape;
+        }
+
+        private DLKerasJvmUnsupportedNetworkException missing(final String name) {
+            return new DLKerasJvmUnsupportedNetworkException(
+                "Layer '" + m_layerName + "': Weight '" + name + "' could not be found.");
+        }
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.knime.dl.keras.core.h5.DLKerasH5File;
+import org.knime.dl.keras.core.h5.DLKerasH5UnsupportedFormatException;
+import org.knime.dl.keras.core.h5.DLKerasJsonParser;
+import org.knime.dl.keras.jvm.core.DLKerasJvmLayers.Weights;
+
+/**
+ * A Keras model that is executed in-process by the JVM engine. Models are read from Keras HDF5 files that contain both
+ * the model configuration and the weights. Only Keras 2 models that were saved using the TensorFlow back end and
+ * that exclusively consist of layers supported by {@link DLKerasJvmLayers} can be read.
+ * <p>
+ * Instances are immutable and can be executed concurrently.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasJvmModel {
+
+    private static final String MODEL_WEIGHTS_GROUP = "/model_weights";
+
+    /**
+     * Reads a model from a Keras HDF5 file.
+     *
+     * @param file the HDF5 file
+     * @return the model
+     * @throws DLKerasJvmUnsupportedNetworkException if the file or the model cannot be handled by the JVM engine
+     * @throws IOException if reading the file failed
+     */
+    public static DLKerasJvmModel read(final File file) throws DLKerasJvmUnsupportedNetworkException, IOException {
+        try (final DLKerasH5File h5 = DLKerasH5File.open(file)) {
+            final String kerasVersion = h5.getStringAttribute("/", "keras_version").orElse("");
+            if (!kerasVersion.startsWith("2.")) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Networks saved by Keras version '" + kerasVersion + "' are not supported.");
+            }
+            final String backend = h5.getStringAttribute("/", "backend").orElse("");
+            if (!"tensorflow".equals(backend)) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Networks saved by Keras back end '" + backend + "' are not supported.");
+            }
+            final String modelConfig = h5.getStringAttribute("/", "model_config")
+                .orElseThrow(() -> new DLKerasJvmUnsupportedNetworkException(
+                    "The network file does not contain a model configuration."));
+            if (!h5.exists(MODEL_WEIGHTS_GROUP)) {
+                throw new DLKerasJvmUnsupportedNetworkException("The network file does not contain weights.");
+            }
+            final Object config;
+            try {
+                config = DLKerasJsonParser.parse(modelConfig);
+            } catch (final IllegalArgumentException e) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "The model configuration could not be parsed: " + e.getMessage(), e);
+            }
+            return new Reader(h5).read(asMap(config));
+        } catch (final DLKerasH5UnsupportedFormatException e) {
+            throw new DLKerasJvmUnsupportedNetworkException(e.getMessage(), e);
+        }
+    }
+
+    private final List<Node> m_nodes;
+
+    private final Map<String, Node> m_nodesByName;
+
+    private final List<String> m_inputLayerNames;
+
+    private final List<String> m_outputLayerNames;
+
+    private final long m_weightsSize;
+
+    private DLKerasJvmModel(final List<Node> nodes, final List<String> inputLayerNames,
+        final List<String> outputLayerNames, final long weightsSize) throws DLKerasJvmUnsupportedNetworkException {
+        m_weightsSize = weightsSize;
+        m_nodesByName = new HashMap<>(nodes.size());
+        for (final Node node : nodes) {
+            m_nodesByName.put(node.m_name, node);
+        }
+        for (final String name : inputLayerNames) {
+            if (!m_nodesByName.containsKey(name) || !m_nodesByName.get(name).m_inbound.isEmpty()) {
+                throw new DLKerasJvmUnsupportedNetworkException("Invalid network input '" + name + "'.");
+            }
+        }
+        for (final String name : outputLayerNames) {
+            if (!m_nodesByName.containsKey(name)) {
+                throw new DLKerasJvmUnsupportedNetworkException("Invalid network output '" + name + "'.");
+            }
+        }
+        m_nodes = sortTopologically(nodes, m_nodesByName);
+        m_inputLayerNames = Collections.unmodifiableList(new ArrayList<>(inputLayerNames));
+        m_outputLayerNames = Collections.unmodifiableList(new ArrayList<>(outputLayerNames));
+    }
+
+    /**
+     * @return the names of the input layers in the order of the model's inputs
+     */
+    public List<String> getInputLayerNames() {
+        return m_inputLayerNames;
+    }
+
+    /**
+     * @return the names of the output layers in the order of the model's outputs
+     */
+    public List<String> getOutputLayerNames() {
+        return m_outputLayerNames;
+    }
+
+    /**
+     * @return the approximate memory footprint of the model in bytes, which is dominated by its weights
+     */
+    public long getSizeInBytes() {
+        return m_weightsSize;
+    }
+
+    /**
+     * @param name the layer name
+     * @return true if the model contains a layer of the given name
+     */
+    public boolean hasLayer(final String name) {
+        return m_nodesByName.containsKey(name);
+    }
+
+    /**
+     * Executes the model. Only the layers that are required to compute the requested outputs are evaluated.
+     *
+     * @param inputs the input tensors in the order of {@link #getInputLayerNames()}
+     * @param layerNames the names of the layers whose outputs are requested
+     * @return the outputs of the requested layers, keyed by layer name
+     * @throws IllegalArgumentException if the inputs do not fit the model
+     */
+    public Map<String, DLKerasJvmTensor> execute(final List<DLKerasJvmTensor> inputs,
+        final Collection<String> layerNames) {
+        checkArgument(inputs.size() == m_inputLayerNames.size(), "Expected %s inputs but got %s.",
+            m_inputLayerNames.size(), inputs.size());
+        // determine the required layers and how often their outputs are consumed by other required layers
+        final Map<String, Integer> numConsumers = new HashMap<>();
+        final Deque<String> pending = new ArrayDeque<>(layerNames);
+        final Set<String> required = new HashSet<>();
+        while (!pending.isEmpty()) {
+            final String name = pending.poll();
+            final Node node = m_nodesByName.get(name);
+            checkArgument(node != null, "Layer '%s' does not exist.", name);
+            if (required.add(name)) {
+                for (final String inbound : node.m_inbound) {
+                    numConsumers.merge(inbound, 1, Integer::sum);
+                    pending.add(inbound);
+                }
+            }
+        }
+        final Map<String, DLKerasJvmTensor> values = new HashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            values.put(m_inputLayerNames.get(i), inputs.get(i));
+        }
+        for (final Node node : m_nodes) {
+            if (!required.contains(node.m_name) || values.containsKey(node.m_name)) {
+                continue;
+            }
+            final List<DLKerasJvmTensor> nodeInputs = new ArrayList<>(node.m_inbound.size());
+            for (final String inbound : node.m_inbound) {
+                nodeInputs.add(values.get(inbound));
+                // release intermediate outputs as early as possible
+                if (numConsumers.merge(inbound, -1, Integer::sum) == 0 && !layerNames.contains(inbound)) {
+                    values.remove(inbound);
+                }
+            }
+            try {
+                values.put(node.m_name, node.m_layer.apply(nodeInputs));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Layer '" + node.m_name + "': " + e.getMessage(), e);
+            }
+        }
+        final Map<String, DLKerasJvmTensor> outputs = new LinkedHashMap<>(layerNames.size());
+        for (final String name : layerNames) {
+            outputs.put(name, values.get(name));
+        }
+        return outputs;
+    }
+
+    private static List<Node> sortTopologically(final List<Node> nodes, final Map<String, Node> nodesByName)
+        throws DLKerasJvmUnsupportedNetworkException {
+        final Map<String, Integer> numPendingInbound = new HashMap<>(nodes.size());
+        final Map<String, List<Node>> outbound = new HashMap<>(nodes.size());
+        final Deque<Node> ready = new ArrayDeque<>();
+        for (final Node node : nodes) {
+            for (final String inbound : node.m_inbound) {
+                if (!nodesByName.containsKey(inbound)) {
+                    throw new DLKerasJvmUnsupportedNetworkException(
+                        "Layer '" + node.m_name + "' is connected to unknown layer '" + inbound + "'.");
+                }
+                outbound.computeIfAbsent(inbound, k -> new ArrayList<>()).add(node);
+            }
+            numPendingInbound.put(node.m_name, node.m_inbound.size());
+            if (node.m_inbound.isEmpty()) {
+                ready.add(node);
+            }
+        }
+        final List<Node> sorted = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            final Node node = ready.poll();
+            sorted.add(node);
+            for (final Node successor : outbound.getOrDefault(node.m_name, Collections.emptyList())) {
+                if (numPendingInbound.merge(successor.m_name, -1, Integer::sum) == 0) {
+                    ready.add(successor);
+                }
+            }
+        }
+        if (sorted.size() != nodes.size()) {
+            throw new DLKerasJvmUnsupportedNetworkException("The network contains cycles.");
+        }
+        return sorted;
+    }
+
+    private static Map<String, Object> asMap(final Object value) throws DLKerasJvmUnsupportedNetworkException {
+        if (!(value instanceof Map)) {
+            throw new DLKerasJvmUnsupportedNetworkException("Unexpected structure of the model configuration.");
+        }
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>)value;
+        return map;
+    }
+
+    private static List<Object> asList(final Object value) throws DLKerasJvmUnsupportedNetworkException {
+        if (!(value instanceof List)) {
+            throw new DLKerasJvmUnsupportedNetworkException("Unexpected structure of the model configuration.");
+        }
+        @SuppressWarnings("unchecked")
+        final List<Object> list = (List<Object>)value;
+        return list;
+    }
+
+    private static String asString(final Object value) throws DLKerasJvmUnsupportedNetworkException {
+        if (!(value instanceof String)) {
+            throw new DLKerasJvmUnsupportedNetworkException("Unexpected structure of the model configuration.");
+        }
+        return (String)value;
+    }
+
+    /**
+     * Translates the model configuration and weights of a Keras HDF5 file into a {@link DLKerasJvmModel}.
+     */
+    private static final class Reader {
+
+        private final DLKerasH5File m_h5;
+
+        private final List<Node> m_nodes = new ArrayList<>();
+
+        private final List<String> m_inputLayerNames = new ArrayList<>();
+
+        private final List<String> m_outputLayerNames = new ArrayList<>();
+
+        private long m_weightsSize = 0;
+
+        private Reader(final DLKerasH5File h5) {
+            m_h5 = h5;
+        }
+
+        private DLKerasJvmModel read(final Map<String, Object> modelConfig)
+            throws DLKerasJvmUnsupportedNetworkException, IOException {
+            final Object className = modelConfig.get("class_name");
+            final Object config = modelConfig.get("config");
+            if ("Sequential".equals(className)) {
+                // the configuration is a plain list of layers before Keras 2.2.3
+                readSequential(asList(config instanceof List ? config : asMap(config).get("layers")));
+            } else if ("Model".equals(className)) {
+                readFunctional(asMap(config));
+            } else {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Models of type '" + className + "' are not supported.");
+            }
+            return new DLKerasJvmModel(m_nodes, m_inputLayerNames, m_outputLayerNames, m_weightsSize);
+        }
+
+        private void readSequential(final List<Object> layers)
+            throws DLKerasJvmUnsupportedNetworkException, IOException {
+            String previous = null;
+            for (final Object layer : layers) {
+                final Map<String, Object> layerConfig = asMap(layer);
+                final String className = asString(layerConfig.get("class_name"));
+                final Map<String, Object> config = asMap(layerConfig.get("config"));
+                final String name = asString(config.get("name"));
+                if (previous == null) {
+                    if ("InputLayer".equals(className)) {
+                        m_inputLayerNames.add(name);
+                        m_nodes.add(new Node(name, DLKerasJvmLayers.create(className, config, readWeights(name)),
+                            Collections.emptyList()));
+                        previous = name;
+                        continue;
+                    }
+                    // the input layer is implicit before Keras 2.2.3, Keras names it after the first layer
+                    previous = name + "_input";
+                    m_inputLayerNames.add(previous);
+                    m_nodes.add(new Node(previous, DLKerasJvmLayers.create("InputLayer", config, null),
+                        Collections.emptyList()));
+                }
+                m_nodes.add(new Node(name, DLKerasJvmLayers.create(className, config, readWeights(name)),
+                    Collections.singletonList(previous)));
+                previous = name;
+            }
+            if (previous == null) {
+                throw new DLKerasJvmUnsupportedNetworkException("The network does not contain any layers.");
+            }
+            m_outputLayerNames.add(previous);
+        }
+
+        private void readFunctional(final Map<String, Object> config)
+            throws DLKerasJvmUnsupportedNetworkException, IOException {
+            for (final Object layer : asList(config.get("layers"))) {
+                final Map<String, Object> layerConfig = asMap(layer);
+                final String name = asString(layerConfig.get("name"));
+                final String className = asString(layerConfig.get("class_name"));
+                final List<Object> inboundNodes = asList(layerConfig.get("inbound_nodes"));
+                final List<String> inbound = new ArrayList<>();
+                if (inboundNodes.size() > 1) {
+                    throw new DLKerasJvmUnsupportedNetworkException(
+                        "Layer '" + name + "' is shared between multiple nodes which is not supported.");
+                } else if (inboundNodes.size() == 1) {
+                    for (final Object connection : asList(inboundNodes.get(0))) {
+                        inbound.add(readConnection(connection));
+                    }
+                } else if (!"InputLayer".equals(className)) {
+                    throw new DLKerasJvmUnsupportedNetworkException("Layer '" + name + "' is not connected.");
+                }
+                m_nodes.add(new Node(name,
+                    DLKerasJvmLayers.create(className, asMap(layerConfig.get("config")), readWeights(name)),
+                    inbound));
+            }
+            for (final Object connection : asList(config.get("input_layers"))) {
+                m_inputLayerNames.add(readConnection(connection));
+            }
+            for (final Object connection : asList(config.get("output_layers"))) {
+                m_outputLayerNames.add(readConnection(connection));
+            }
+        }
+
+        /**
+         * Connections are lists of the form <code>[layer name, node index, tensor index, (keyword arguments)]</code>.
+         */
+        private static String readConnection(final Object connection) throws DLKerasJvmUnsupportedNetworkException {
+            final List<Object> list = asList(connection);
+            if (list.size() < 3) {
+                throw new DLKerasJvmUnsupportedNetworkException("Unexpected structure of the model configuration.");
+            }
+            final String name = asString(list.get(0));
+            if (!Long.valueOf(0).equals(list.get(1)) || !Long.valueOf(0).equals(list.get(2))) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Connections to layer '" + name + "' use multiple nodes or tensors which is not supported.");
+            }
+            return name;
+        }
+
+        private Weights readWeights(final String layerName) throws DLKerasJvmUnsupportedNetworkException, IOException {
+            final Weights weights = new Weights(layerName);
+            final String group = MODEL_WEIGHTS_GROUP + "/" + layerName;
+            if (!m_h5.exists(group)) {
+                return weights;
+            }
+            for (final String weightName : m_h5.getStringArrayAttribute(group, "weight_names")
+                .orElse(Collections.emptyList())) {
+                final String path = group + "/" + weightName;
+                final long[] shape = m_h5.getDatasetShape(path);
+                final int[] intShape = new int[shape.length];
+                for (int i = 0; i < shape.length; i++) {
+                    intShape[i] = Math.toIntExact(shape[i]);
+                }
+                // weight names are of the form "<layer name>/<weight name>:<index>"
+                String shortName = weightName.substring(weightName.lastIndexOf('/') + 1);
+                if (shortName.indexOf(':') != -1) {
+                    shortName = shortName.substring(0, shortName.indexOf(':'));
+                }
+                final float[] values = m_h5.readFloatDataset(path);
+                m_weightsSize += (long)values.length * Float.BYTES;
+                weights.put(shortName, intShape, values);
+            }
+            return weights;
+        }
+    }
+
+    private static final class Node {
+
+        private final String m_name;
+
+        private final DLKerasJvmLayer m_layer;
+
+        private final List<String> m_inbound;
+
+        private Node(final String name, final DLKerasJvmLayer layer, final List<String> inbound) {
+            m_name = name;
+            m_layer = layer;
+            m_inbound = inbound;
+        }
+    }
+}
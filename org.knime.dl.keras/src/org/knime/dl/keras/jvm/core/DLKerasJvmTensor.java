@@ -0,0 +1,117 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * A dense float tensor in row-major order whose first dimension is the batch dimension. Tensors are treated as
+ * immutable once they were handed to or returned by a {@link DLKerasJvmModel}.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasJvmTensor {
+
+    static int getSize(final int[] shape) {
+        int size = 1;
+        for (final int dim : shape) {
+            size = Math.multiplyExact(size, dim);
+        }
+        return size;
+    }
+
+    private final int[] m_shape;
+
+    private final float[] m_data;
+
+    /**
+     * @param shape the shape of the tensor including the batch dimension
+     * @param data the elements of the tensor in row-major order, the array is not copied
+     */
+    public DLKerasJvmTensor(final int[] shape, final float[] data) {
+        checkArgument(shape.length > 0, "A tensor must at least have a batch dimension.");
+        checkArgument(getSize(shape) == data.length, "Tensor shape %s does not match data size %s.",
+            Arrays.toString(shape), data.length);
+        m_shape = shape.clone();
+        m_data = data;
+    }
+
+    /**
+     * @return a copy of the shape of the tensor including the batch dimension
+     */
+    public int[] getShape() {
+        return m_shape.clone();
+    }
+
+    /**
+     * @return the elements of the tensor in row-major order, must not be modified
+     */
+    public float[] getData() {
+        return m_data;
+    }
+
+    int getRank() {
+        return m_shape.length;
+    }
+
+    int getDim(final int axis) {
+        return m_shape[axis];
+    }
+
+    int getLastDim() {
+        return m_shape[m_shape.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "Tensor " + Arrays.toString(m_shape);
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.jvm.core.execution;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.commons.io.FilenameUtils;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.dl.core.DLCanceledExecutionException;
+import org.knime.dl.core.DLInvalidSourceException;
+import org.knime.dl.core.DLNetworkInputPreparer;
+import org.knime.dl.core.DLOffHeapTensorFactory;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorFactory;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.cache.DLMemoryAlertAwareGuavaCache;
+import org.knime.dl.core.data.DLReadableBuffer;
+import org.knime.dl.core.data.DLReadableDoubleBuffer;
+import org.knime.dl.core.data.DLReadableFloatBuffer;
+import org.knime.dl.core.data.DLReadableLongBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.DLWritableFloatBuffer;
+import org.knime.dl.core.execution.DLAbstractNetworkExecutionSession;
+import org.knime.dl.core.execution.DLExecutionMonitor;
+import org.knime.dl.core.execution.DLExecutionStatus;
+import org.knime.dl.core.execution.DLNetworkOutputConsumer;
+import org.knime.dl.keras.core.execution.DLKerasNetworkExecutionSession;
+import org.knime.dl.keras.jvm.core.DLKerasJvmModel;
+import org.knime.dl.keras.jvm.core.DLKerasJvmTensor;
+import org.knime.dl.keras.jvm.core.DLKerasJvmUnsupportedNetworkException;
+import org.knime.dl.keras.tensorflow.core.DLKerasTensorFlowNetwork;
+import org.knime.dl.keras.tensorflow.core.DLKerasTensorFlowNetworkLoader;
+import org.knime.dl.keras.tensorflow.core.execution.DLKerasTensorFlowNetworkExecutionSession;
+import org.knime.dl.keras.util.DLKerasUtils;
+import org.knime.dl.python.core.DLPythonContext;
+import org.knime.dl.util.DLUtils;
+
+
+/**
+ * Executes Keras (TensorFlow) networks in-process via {@link DLKerasJvmModel}. Networks that cannot be handled by the
+ * JVM engine are transparently executed via a {@link DLKerasTensorFlowNetworkExecutionSession Python session}
+ * instead.
+ * <P>
+ * The input and output tensors of the JVM engine are stored off-heap (see {@link DLOffHeapTensorFactory}) and are
+ * released when the session is closed. The tensor factory of the execution context is only used by the fallback.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasJvmNetworkExecutionSession extends DLAbstractNetworkExecutionSession<DLKerasTensorFlowNetwork>
+    implements DLKerasNetworkExecutionSession {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DLKerasJvmNetworkExecutionSession.class);
+
+    /**
+     * The approximate size of a cached reason why a network cannot be executed by the JVM engine.
+     */
+    private static final long UNSUPPORTED_ENTRY_SIZE = 1 << 10;
+
+    private final DLPythonContext m_context;
+
+    private final DLTensorFactory m_fallbackTensorFactory;
+
+    private final Map<String, String> m_additionalEnvVars = new HashMap<>();
+
+    private boolean m_pipelined = false;
+
+    private int m_batchesPerTransfer = 1;
+
+    private boolean m_keepNetworkLoaded = false;
+
+    private boolean m_shareLoadedNetwork = false;
+
+    /**
+     * Is bound during the first call of {@link #run(DLExecutionMonitor)} if the network can be executed by the JVM
+     * engine.
+     */
+    private DLKerasJvmModel m_model;
+
+    /**
+     * The execution input specs in the order of the model's inputs.
+     */
+    private List<DLTensorId> m_inputIds;
+
+    /**
+     * The requested outputs, mapped to the names of the layers that compute them.
+     */
+    private Map<DLTensorId, String> m_outputLayerNames;
+
+    /**
+     * Is created during the first call of {@link #run(DLExecutionMonitor)} if the network cannot be executed by the
+     * JVM engine.
+     */
+    private DLKerasTensorFlowNetworkExecutionSession m_fallback;
+
+    /**
+     * @param tensorFactory the tensor factory of the execution context, is only used if the network has to be executed
+     *            via Python
+     */
+    DLKerasJvmNetworkExecutionSession(final DLPythonContext context, final DLKerasTensorFlowNetwork network,
+        final Set<DLTensorSpec> executionInputSpecs, final Set<DLTensorId> requestedOutputs,
+        final DLNetworkInputPreparer inputPreparer, final DLNetworkOutputConsumer outputConsumer,
+        final DLTensorFactory tensorFactory) {
+        super(network, executionInputSpecs, requestedOutputs, inputPreparer, outputConsumer,
+            new DLOffHeapTensorFactory());
+        m_context = context;
+        m_fallbackTensorFactory = tensorFactory;
+    }
+
+    @Override
+    public void run(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+        if (m_model == null && m_fallback == null) {
+            try {
+                bind(loadModel());
+            } catch (final DLKerasJvmUnsupportedNetworkException e) {
+                LOGGER.info("Network cannot be executed by the JVM engine, falling back to Python. Reason: "
+                    + e.getMessage());
+                m_fallback = createFallback();
+            }
+        }
+        if (m_fallback != null) {
+            m_fallback.run(monitor);
+        } else {
+            super.run(monitor);
+        }
+    }
+
+    @Override
+    protected void executeInternal(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+        final DLExecutionStatus status = monitor.getExecutionStatus();
+        final List<String> layerNames = new ArrayList<>(m_outputLayerNames.values());
+        while (m_inputPreparer.hasNext()) {
+            monitor.checkCanceled();
+            m_inputPreparer.prepareNext(m_input);
+            monitor.checkCanceled();
+            final List<DLKerasJvmTensor> inputs = new ArrayList<>(m_inputIds.size());
+            for (final DLTensorId id : m_inputIds) {
+                final DLTensor<? extends DLWritableBuffer> tensor = m_input.get(id);
+                inputs.add(toJvmTensor(tensor));
+                tensor.getBuffer().reset();
+            }
+            final Map<String, DLKerasJvmTensor> outputs = m_model.execute(inputs, layerNames);
+            monitor.checkCanceled();
+            if (m_output == null) {
+                m_output = createOutputTensors(outputs);
+            }
+            for (final Entry<DLTensorId, String> entry : m_outputLayerNames.entrySet()) {
+                ((DLWritableFloatBuffer)m_output.get(entry.getKey()).getBuffer())
+                    .putAll(outputs.get(entry.getValue()).getData());
+            }
+            m_outputConsumer.accept(m_output);
+            for (final DLTensor<?> output : m_output.values()) {
+                output.getBuffer().reset();
+            }
+            status.batchEnded().raise(null);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (m_fallback != null) {
+            m_fallback.close();
+        }
+    }
+
+    @Override
+    public void setKernelEnvironmentVariable(final String name, final String value) {
+        m_additionalEnvVars.put(name, value);
+    }
+
+    @Override
+    public void setPipelinedExecution(final boolean pipelined) {
+        m_pipelined = pipelined;
+    }
+
+    @Override
+    public void setBatchesPerTransfer(final int batchesPerTransfer) {
+        if (batchesPerTransfer < 1) {
+            throw new IllegalArgumentException("The number of batches per transfer must be positive.");
+        }
+        m_batchesPerTransfer = batchesPerTransfer;
+    }
+
+    @Override
+    public void setKeepNetworkLoaded(final boolean keepNetworkLoaded) {
+        m_keepNetworkLoaded = keepNetworkLoaded;
+    }
+
+    @Override
+    public void setShareLoadedNetwork(final boolean shareLoadedNetwork) {
+        m_shareLoadedNetwork = shareLoadedNetwork;
+    }
+
+    private DLKerasJvmModel loadModel() throws Exception {
+        final URL url;
+        try {
+            url = new DLKerasTensorFlowNetworkLoader().validateSource(m_network.getSource().getURI());
+        } catch (final DLInvalidSourceException e) {
+            throw new DLKerasJvmUnsupportedNetworkException(e.getMessage(), e);
+        }
+        final File file;
+        try {
+            file = FileUtil.getFileFromURL(url);
+        } catch (final IllegalArgumentException e) {
+            throw new DLKerasJvmUnsupportedNetworkException("Network files at remote locations are not supported.", e);
+        }
+        if (file == null || !"h5".equals(FilenameUtils.getExtension(file.getName()))) {
+            throw new DLKerasJvmUnsupportedNetworkException(
+                "Only network files of type h5 that are accessible via the local file system are supported.");
+        }
+        final Object model;
+        try {
+            // loaded models or the reasons why they cannot be executed, keyed by file path and modification time
+            model = DLMemoryAlertAwareGuavaCache.CACHE.getNetworks().get(
+                "keras-jvm:" + file.getAbsolutePath() + ":" + file.lastModified(), () -> {
+                    try {
+                        return DLKerasJvmModel.read(file);
+                    } catch (final DLKerasJvmUnsupportedNetworkException e) {
+                        // remember the reason, trying again would not yield a different result
+                        return e;
+                    }
+                }, m -> m instanceof DLKerasJvmModel ? ((DLKerasJvmModel)m).getSizeInBytes() : UNSUPPORTED_ENTRY_SIZE);
+        } catch (final ExecutionException e) {
+            throw (Exception)e.getCause();
+        }
+        if (model instanceof DLKerasJvmUnsupportedNetworkException) {
+            final DLKerasJvmUnsupportedNetworkException e = (DLKerasJvmUnsupportedNetworkException)model;
+            throw new DLKerasJvmUnsupportedNetworkException(e.getMessage(), e);
+        }
+        return (DLKerasJvmModel)model;
+    }
+
+    private void bind(final DLKerasJvmModel model) throws DLKerasJvmUnsupportedNetworkException {
+        final List<String> inputLayerNames = model.getInputLayerNames();
+        final DLTensorId[] inputIds = new DLTensorId[inputLayerNames.size()];
+        for (final DLTensorSpec spec : m_executionInputSpecs) {
+            final int index = inputLayerNames.indexOf(DLKerasUtils.Layers.getLayerName(spec.getIdentifier()));
+            if (index == -1 || inputIds[index] != null) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Network input '" + spec.getName() + "' does not match the network file.");
+            }
+            final Class<?> type = spec.getElementType();
+            if (type != float.class && type != double.class && type != int.class && type != long.class) {
+                throw new DLKerasJvmUnsupportedNetworkException("Network input '" + spec.getName()
+                    + "' is of type '" + type.getTypeName() + "' which is not supported.");
+            }
+            inputIds[index] = spec.getIdentifier();
+        }
+        final Map<DLTensorId, String> outputLayerNames = new LinkedHashMap<>(m_requestedOutputs.size());
+        for (final DLTensorId id : m_requestedOutputs) {
+            final String layerName = DLKerasUtils.Layers.getLayerName(id);
+            if (!model.hasLayer(layerName) || DLKerasUtils.Tensors.getNodeIndex(id) != 0
+                || DLKerasUtils.Tensors.getTensorIndex(id) != 0) {
+                throw new DLKerasJvmUnsupportedNetworkException(
+                    "Network output '" + id.getIdentifierString() + "' does not match the network file.");
+            }
+            outputLayerNames.put(id, layerName);
+        }
+        for (final DLTensorSpec spec : m_network.getSpec().getOutputSpecs()) {
+            checkOutputType(spec);
+        }
+        for (final DLTensorSpec spec : m_network.getSpec().getHiddenOutputSpecs()) {
+            checkOutputType(spec);
+        }
+        m_inputIds = Arrays.asList(inputIds);
+        m_outputLayerNames = outputLayerNames;
+        m_model = model;
+    }
+
+    private void checkOutputType(final DLTensorSpec spec) throws DLKerasJvmUnsupportedNetworkException {
+        final Class<?> type = spec.getElementType();
+        // the engine computes in single precision and its outputs are written to float buffers, see executeInternal
+        if (m_requestedOutputs.contains(spec.getIdentifier()) && type != float.class) {
+            throw new DLKerasJvmUnsupportedNetworkException("Network output '" + spec.getName() + "' is of type '"
+                + type.getTypeName() + "' which is not supported.");
+        }
+    }
+
+    private Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> createOutputTensors(
+        final Map<String, DLKerasJvmTensor> outputs) {
+        final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> tensors = new HashMap<>(outputs.size());
+        for (final DLTensorSpec spec : m_network.getSpec().getOutputSpecs()) {
+            createOutputTensor(spec, outputs, tensors);
+        }
+        for (final DLTensorSpec spec : m_network.getSpec().getHiddenOutputSpecs()) {
+            createOutputTensor(spec, outputs, tensors);
+        }
+        return tensors;
+    }
+
+    private void createOutputTensor(final DLTensorSpec spec, final Map<String, DLKerasJvmTensor> outputs,
+        final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> tensors) {
+        final String layerName = m_outputLayerNames.get(spec.getIdentifier());
+        if (layerName == null) {
+            return;
+        }
+        final int[] shape = outputs.get(layerName).getShape();
+        final long[] shapeWithoutBatchSize = new long[shape.length - 1];
+        for (int i = 1; i < shape.length; i++) {
+            shapeWithoutBatchSize[i - 1] = shape[i];
+        }
+        tensors.put(spec.getIdentifier(), m_tensorFactory.createReadableTensor(
+            m_tensorFactory.createExecutionTensorSpec(spec, m_expectedBatchSize, shapeWithoutBatchSize)));
+    }
+
+    private static DLKerasJvmTensor toJvmTensor(final DLTensor<? extends DLWritableBuffer> tensor) {
+        final DLWritableBuffer buffer = tensor.getBuffer();
+        final int size = Math.toIntExact(buffer.size());
+        final float[] data = new float[size];
+        if (buffer instanceof DLReadableFloatBuffer) {
+            ((DLReadableFloatBuffer)buffer).readToFloatArray(data, 0, size);
+        } else if (buffer instanceof DLReadableDoubleBuffer) {
+            final double[] values = new double[size];
+            ((DLReadableDoubleBuffer)buffer).readToDoubleArray(values, 0, size);
+            for (int i = 0; i < size; i++) {
+                data[i] = (float)values[i];
+            }
+        } else {
+            final long[] values = new long[size];
+            ((DLReadableLongBuffer)buffer).readToLongArray(values, 0, size);
+            for (int i = 0; i < size; i++) {
+                data[i] = values[i];
+            }
+        }
+        final long[] exampleShape = DLUtils.Shapes.getFixedShape(tensor.getSpec().getShape()).get();
+        final int[] shape = new int[exampleShape.length + 1];
+        shape[0] = Math.toIntExact(size / tensor.getExampleSize());
+        for (int i = 0; i < exampleShape.length; i++) {
+            shape[i + 1] = Math.toIntExact(exampleShape[i]);
+        }
+        return new DLKerasJvmTensor(shape, data);
+    }
+
+    private DLKerasTensorFlowNetworkExecutionSession createFallback() {
+        final DLKerasTensorFlowNetworkExecutionSession fallback = new DLKerasTensorFlowNetworkExecutionSession(
+            m_context, m_network, m_executionInputSpecs, m_requestedOutputs, m_inputPreparer, m_outputConsumer,
+            m_fallbackTensorFactory);
+        for (final Entry<String, String> var : m_additionalEnvVars.entrySet()) {
+            fallback.setKernelEnvironmentVariable(var.getKey(), var.getValue());
+        }
+        fallback.setPipelinedExecution(m_pipelined);
+        fallback.setBatchesPerTransfer(m_batchesPerTransfer);
+        fallback.setKeepNetworkLoaded(m_keepNetworkLoaded);
+        fallback.setShareLoadedNetwork(m_shareLoadedNetwork);
+        return fallback;
+    }
+}
@@ -0,0 +1,881 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.keras.tensorflow.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FilenameUtils;
+import org.knime.core.util.Version;
+import org.knime.dl.core.DLDefaultFixedTensorShape;
+import org.knime.dl.core.DLDefaultPartialTensorShape;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLTensorShape;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.keras.core.h5.DLKerasH5File;
+import org.knime.dl.keras.core.h5.DLKerasH5UnsupportedFormatException;
+import org.knime.dl.keras.core.h5.DLKerasJsonParser;
+import org.knime.dl.keras.util.DLKerasUtils;
+import org.knime.dl.python.core.DLPythonNumPyTypeMap;
+
+/**
+ * Extracts the spec of a Keras (TensorFlow) network from the model configuration that is stored in its HDF5 or JSON
+ * file, i.e. without loading the network in Python. The extraction mirrors <tt>DLKerasNetworkSpecExtractor.py</tt>:
+ * tensor ids follow the same naming scheme and tensor shapes are inferred from the configurations of the layers.
+ * Networks that contain layers whose outputs cannot be inferred are rejected, callers are expected to fall back to
+ * reading the network via Python in this case.
+ * <P>
+ * The back end dependent tensor names are only known once the network was built. Except for the network inputs, the
+ * names of the extracted tensor specs therefore equal their ids. As when reading the spec via Python, no training
+ * configuration is extracted.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKerasTensorFlowNetworkSpecExtractor {
+
+    private static final Version MIN_KERAS_VERSION = new Version(2, 0, 0);
+
+    /**
+     * Sequential models are wrapped differently by older Keras versions which affects the ids of their input tensors,
+     * see <tt>DLKerasNetwork._convert_sequential_to_model</tt>.
+     */
+    private static final Version MIN_SEQUENTIAL_KERAS_VERSION = new Version(2, 2, 0);
+
+    private static final Version MAX_KERAS_VERSION = new Version(3, 0, 0);
+
+    private static final Pattern KERAS_VERSION_PATTERN = Pattern.compile("\\d+\\.\\d+\\.\\d+");
+
+    private static final String CHANNELS_FIRST = "channels_first";
+
+    /**
+     * Extracts the spec of the network stored in the given file.
+     *
+     * @param file the HDF5 or JSON file
+     * @return the network spec
+     * @throws DLKerasH5UnsupportedFormatException if the network cannot be handled without Python
+     * @throws IOException if reading the file failed
+     */
+    public static DLKerasTensorFlowNetworkSpec extract(final File file)
+        throws DLKerasH5UnsupportedFormatException, IOException {
+        final String kerasVersion;
+        final String backend;
+        final Map<String, Object> modelConfig;
+        final String fileExtension = FilenameUtils.getExtension(file.getName());
+        if (fileExtension.equals("json")) {
+            modelConfig = asMap(parseJson(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)));
+            kerasVersion = modelConfig.get("keras_version") instanceof String
+                ? (String)modelConfig.get("keras_version") : "";
+            backend = modelConfig.get("backend") instanceof String ? (String)modelConfig.get("backend") : "";
+        } else if (fileExtension.equals("h5")) {
+            try (final DLKerasH5File h5 = DLKerasH5File.open(file)) {
+                kerasVersion = h5.getStringAttribute("/", "keras_version").orElse("");
+                backend = h5.getStringAttribute("/", "backend").orElse("");
+                modelConfig = asMap(parseJson(h5.getStringAttribute("/", "model_config").orElseThrow(
+                    () -> new DLKerasH5UnsupportedFormatException(
+                        "The network file does not contain a model configuration."))));
+            }
+        } else {
+            throw new DLKerasH5UnsupportedFormatException("Network file '" + file.getName() + "' is not supported.");
+        }
+        if (!KERAS_VERSION_PATTERN.matcher(kerasVersion).matches()) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Networks saved by Keras version '" + kerasVersion + "' are not supported.");
+        }
+        final Version version = new Version(kerasVersion);
+        if (version.compareTo(MIN_KERAS_VERSION) < 0 || version.compareTo(MAX_KERAS_VERSION) >= 0) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Networks saved by Keras version '" + kerasVersion + "' are not supported.");
+        }
+        if (!"tensorflow".equals(backend)) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Networks saved by Keras back end '" + backend + "' are not supported.");
+        }
+        final DLKerasTensorFlowNetworkSpecExtractor extractor = new DLKerasTensorFlowNetworkSpecExtractor();
+        extractor.readKerasConfig();
+        extractor.read(modelConfig, version);
+        return new DLKerasTensorFlowNetworkSpec(version, extractor.createSpecs(extractor.m_inputs),
+            extractor.createSpecs(extractor.m_hiddenOutputs), extractor.createSpecs(extractor.m_outputs));
+    }
+
+    private static Object parseJson(final String json) throws DLKerasH5UnsupportedFormatException {
+        try {
+            return DLKerasJsonParser.parse(json);
+        } catch (final IllegalArgumentException e) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "The model configuration could not be parsed: " + e.getMessage());
+        }
+    }
+
+    private final List<NamedTensor> m_inputs = new ArrayList<>();
+
+    private final List<NamedTensor> m_hiddenOutputs = new ArrayList<>();
+
+    private final List<NamedTensor> m_outputs = new ArrayList<>();
+
+    private final Set<String> m_dataFormats = new HashSet<>();
+
+    /**
+     * The image data format and float type of the local Keras installation, see <tt>keras.json</tt>.
+     */
+    private String m_defaultDataFormat = "channels_last";
+
+    private String m_floatType = "float32";
+
+    private DLKerasTensorFlowNetworkSpecExtractor() {
+    }
+
+    /**
+     * Keras falls back to its configuration file if the network itself does not determine the data format or the
+     * float type.
+     */
+    private void readKerasConfig() throws DLKerasH5UnsupportedFormatException, IOException {
+        final String kerasHome = System.getenv("KERAS_HOME");
+        final File configFile = kerasHome != null ? new File(kerasHome, "keras.json")
+            : new File(new File(System.getProperty("user.home"), ".keras"), "keras.json");
+        if (!configFile.isFile()) {
+            return;
+        }
+        final Map<String, Object> config =
+            asMap(parseJson(new String(Files.readAllBytes(configFile.toPath()), StandardCharsets.UTF_8)));
+        if (config.get("image_data_format") instanceof String) {
+            m_defaultDataFormat = (String)config.get("image_data_format");
+        }
+        if (config.get("floatx") instanceof String) {
+            m_floatType = (String)config.get("floatx");
+        }
+    }
+
+    private void read(final Map<String, Object> modelConfig, final Version kerasVersion)
+        throws DLKerasH5UnsupportedFormatException {
+        final Object className = modelConfig.get("class_name");
+        final Object config = modelConfig.get("config");
+        if ("Sequential".equals(className)) {
+            if (kerasVersion.compareTo(MIN_SEQUENTIAL_KERAS_VERSION) < 0) {
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Sequential networks saved by Keras version '" + kerasVersion + "' are not supported.");
+            }
+            // the configuration is a plain list of layers before Keras 2.2.3
+            readSequential(asList(config instanceof List ? config : asMap(config).get("layers")));
+        } else if ("Model".equals(className)) {
+            readFunctional(asMap(config));
+        } else {
+            throw new DLKerasH5UnsupportedFormatException("Models of type '" + className + "' are not supported.");
+        }
+    }
+
+    /**
+     * Sequential models do not list their (possibly implicit) input layer, the input tensor is therefore named after
+     * the first actual layer.
+     */
+    private void readSequential(final List<Object> layers) throws DLKerasH5UnsupportedFormatException {
+        if (layers.isEmpty()) {
+            throw new DLKerasH5UnsupportedFormatException("The network does not contain any layers.");
+        }
+        final Map<String, Object> firstLayer = asMap(layers.get(0));
+        final Map<String, Object> firstConfig = asMap(firstLayer.get("config"));
+        final String inputLayerName;
+        final int firstIndex;
+        if ("InputLayer".equals(firstLayer.get("class_name"))) {
+            inputLayerName = asString(firstConfig.get("name"));
+            firstIndex = 1;
+        } else {
+            // Keras names the implicit input layer after the first layer
+            inputLayerName = asString(firstConfig.get("name")) + "_input";
+            firstIndex = 0;
+        }
+        if (firstIndex == layers.size()) {
+            throw new DLKerasH5UnsupportedFormatException("The network does not contain any layers.");
+        }
+        Tensor previous = inferInput(inputLayerName, firstConfig);
+        for (int i = firstIndex; i < layers.size(); i++) {
+            final Map<String, Object> layer = asMap(layers.get(i));
+            final Map<String, Object> config = asMap(layer.get("config"));
+            final String name = asString(config.get("name"));
+            final String id = DLKerasUtils.Tensors.createTensorName(name, 0, 0);
+            if (i == firstIndex) {
+                m_inputs.add(new NamedTensor(id, inputLayerName + ":0", previous));
+            }
+            previous = infer(name, asString(layer.get("class_name")), config, Collections.singletonList(previous));
+            (i == layers.size() - 1 ? m_outputs : m_hiddenOutputs).add(new NamedTensor(id, id, previous));
+        }
+    }
+
+    private void readFunctional(final Map<String, Object> config) throws DLKerasH5UnsupportedFormatException {
+        final Map<String, Tensor> outputsByLayer = new HashMap<>();
+        final List<String> layerNames = new ArrayList<>();
+        final Set<String> inputLayerNames = new HashSet<>();
+        // the layers are listed in topological order
+        for (final Object layer : asList(config.get("layers"))) {
+            final Map<String, Object> layerConfig = asMap(layer);
+            final String name = asString(layerConfig.get("name"));
+            final String className = asString(layerConfig.get("class_name"));
+            final List<Object> inboundNodes = asList(layerConfig.get("inbound_nodes"));
+            final Tensor output;
+            if ("InputLayer".equals(className)) {
+                output = inferInput(name, asMap(layerConfig.get("config")));
+                inputLayerNames.add(name);
+            } else if (inboundNodes.size() == 1) {
+                final List<Tensor> inputs = new ArrayList<>();
+                for (final Object connection : asList(inboundNodes.get(0))) {
+                    final Tensor input = outputsByLayer.get(readConnection(connection));
+                    if (input == null) {
+                        throw new DLKerasH5UnsupportedFormatException(
+                            "Layer '" + name + "' is connected to an unknown layer.");
+                    }
+                    inputs.add(input);
+                }
+                output = infer(name, className, asMap(layerConfig.get("config")), inputs);
+            } else {
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Layer '" + name + "' is not connected or shared between multiple nodes.");
+            }
+            outputsByLayer.put(name, output);
+            layerNames.add(name);
+        }
+        for (final Object connection : asList(config.get("input_layers"))) {
+            final String name = readConnection(connection);
+            if (!inputLayerNames.contains(name)) {
+                throw new DLKerasH5UnsupportedFormatException("Invalid network input '" + name + "'.");
+            }
+            m_inputs.add(new NamedTensor(DLKerasUtils.Tensors.createTensorName(name, 0, 0), name + ":0",
+                outputsByLayer.get(name)));
+        }
+        final Set<String> outputLayerNames = new HashSet<>();
+        for (final Object connection : asList(config.get("output_layers"))) {
+            final String name = readConnection(connection);
+            if (!outputsByLayer.containsKey(name)) {
+                throw new DLKerasH5UnsupportedFormatException("Invalid network output '" + name + "'.");
+            }
+            final String id = DLKerasUtils.Tensors.createTensorName(name, 0, 0);
+            m_outputs.add(new NamedTensor(id, id, outputsByLayer.get(name)));
+            outputLayerNames.add(name);
+        }
+        for (final String name : layerNames) {
+            if (!outputLayerNames.contains(name)) {
+                final String id = DLKerasUtils.Tensors.createTensorName(name, 0, 0);
+                m_hiddenOutputs.add(new NamedTensor(id, id, outputsByLayer.get(name)));
+            }
+        }
+    }
+
+    /**
+     * Connections are lists of the form <code>[layer name, node index, tensor index, (keyword arguments)]</code>.
+     */
+    private static String readConnection(final Object connection) throws DLKerasH5UnsupportedFormatException {
+        final List<Object> list = asList(connection);
+        if (list.size() < 3) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        final String name = asString(list.get(0));
+        if (!Long.valueOf(0).equals(list.get(1)) || !Long.valueOf(0).equals(list.get(2))) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "Connections to layer '" + name + "' use multiple nodes or tensors which is not supported.");
+        }
+        return name;
+    }
+
+    private Tensor inferInput(final String layerName, final Map<String, Object> config)
+        throws DLKerasH5UnsupportedFormatException {
+        final List<Object> batchInputShape = config.get("batch_input_shape") instanceof List
+            ? asList(config.get("batch_input_shape")) : null;
+        if (batchInputShape == null || batchInputShape.size() < 2) {
+            throw new DLKerasH5UnsupportedFormatException("The shape of input '" + layerName + "' is unknown.");
+        }
+        final long[] shape = new long[batchInputShape.size()];
+        for (int i = 0; i < shape.length; i++) {
+            shape[i] = batchInputShape.get(i) == null ? -1 : asLong(batchInputShape.get(i));
+        }
+        final String dtype = config.get("dtype") instanceof String ? (String)config.get("dtype") : m_floatType;
+        return new Tensor(shape, dtype);
+    }
+
+    /**
+     * Infers the output of a layer. Layers that have weights output tensors of the float type, all others preserve
+     * the type of their (first) input.
+     */
+    private Tensor infer(final String name, final String className, final Map<String, Object> config,
+        final List<Tensor> inputs) throws DLKerasH5UnsupportedFormatException {
+        if (config.get("data_format") instanceof String) {
+            m_dataFormats.add((String)config.get("data_format"));
+        }
+        final Tensor in = inputs.get(0);
+        if (inputs.size() > 1 && !isMerge(className)) {
+            throw new DLKerasH5UnsupportedFormatException("Layer '" + name + "' has an unexpected number of inputs.");
+        }
+        final long[] s = in.m_shape;
+        switch (className) {
+            case "Activation":
+            case "ActivityRegularization":
+            case "AlphaDropout":
+            case "Dropout":
+            case "ELU":
+            case "GaussianDropout":
+            case "GaussianNoise":
+            case "LeakyReLU":
+            case "Masking":
+            case "ReLU":
+            case "Softmax":
+            case "SpatialDropout1D":
+            case "SpatialDropout2D":
+            case "SpatialDropout3D":
+            case "ThresholdedReLU":
+                return in;
+            case "BatchNormalization":
+            case "PReLU":
+                return new Tensor(s, m_floatType);
+            case "Dense":
+                return new Tensor(withLast(s, asLong(config.get("units"))), m_floatType);
+            case "Embedding":
+                return new Tensor(withAppended(s, asLong(config.get("output_dim"))), m_floatType);
+            case "Flatten":
+                return new Tensor(new long[]{s[0], product(s, 1, s.length)}, in.m_dtype);
+            case "Reshape":
+                return new Tensor(inferReshape(name, s, asList(config.get("target_shape"))), in.m_dtype);
+            case "Permute":
+                return new Tensor(inferPermute(name, s, asList(config.get("dims"))), in.m_dtype);
+            case "RepeatVector":
+                checkRank(name, s, 2);
+                return new Tensor(new long[]{s[0], asLong(config.get("n")), s[1]}, in.m_dtype);
+            case "Conv1D":
+            case "Conv2D":
+            case "Conv3D":
+            case "SeparableConv1D":
+            case "SeparableConv2D":
+                return new Tensor(inferConv(name, s, getRank(className), config, asLong(config.get("filters"))),
+                    m_floatType);
+            case "DepthwiseConv2D":
+                return new Tensor(inferConv(name, s, 2, config, -1), m_floatType);
+            case "Conv2DTranspose":
+            case "Conv3DTranspose":
+                return new Tensor(inferConvTranspose(name, s, getRank(className), config), m_floatType);
+            case "AveragePooling1D":
+            case "AveragePooling2D":
+            case "AveragePooling3D":
+            case "MaxPooling1D":
+            case "MaxPooling2D":
+            case "MaxPooling3D":
+                return new Tensor(inferPooling(name, s, getRank(className), config), in.m_dtype);
+            case "GlobalAveragePooling1D":
+            case "GlobalAveragePooling2D":
+            case "GlobalAveragePooling3D":
+            case "GlobalMaxPooling1D":
+            case "GlobalMaxPooling2D":
+            case "GlobalMaxPooling3D":
+                checkRank(name, s, getRank(className) + 2);
+                return new Tensor(new long[]{s[0], s[getChannelIndex(config, s)]}, in.m_dtype);
+            case "Cropping1D":
+            case "Cropping2D":
+            case "Cropping3D":
+                return new Tensor(inferPadding(name, s, getRank(className), config, config.get("cropping"), -1),
+                    in.m_dtype);
+            case "ZeroPadding1D":
+            case "ZeroPadding2D":
+            case "ZeroPadding3D":
+                return new Tensor(inferPadding(name, s, getRank(className), config, config.get("padding"), 1),
+                    in.m_dtype);
+            case "UpSampling1D":
+            case "UpSampling2D":
+            case "UpSampling3D":
+                return new Tensor(inferUpSampling(name, s, getRank(className), config), in.m_dtype);
+            case "CuDNNGRU":
+            case "CuDNNLSTM":
+            case "GRU":
+            case "LSTM":
+            case "SimpleRNN":
+                return new Tensor(inferRecurrent(name, s, config, 1), m_floatType);
+            case "Bidirectional":
+                return new Tensor(inferBidirectional(name, s, config), m_floatType);
+            case "Add":
+            case "Average":
+            case "Maximum":
+            case "Minimum":
+            case "Multiply":
+            case "Subtract":
+                return new Tensor(inferElementwise(name, inputs), in.m_dtype);
+            case "Concatenate":
+                return new Tensor(inferConcatenate(name, inputs, config), in.m_dtype);
+            default:
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Layer '" + name + "' of type '" + className + "' is not supported.");
+        }
+    }
+
+    private static boolean isMerge(final String className) {
+        return Arrays.asList("Add", "Average", "Concatenate", "Maximum", "Minimum", "Multiply", "Subtract")
+            .contains(className);
+    }
+
+    private static int getRank(final String className) {
+        return className.charAt(className.lastIndexOf('D') - 1) - '0';
+    }
+
+    /**
+     * Layers that do not specify a data format (e.g. one-dimensional up-sampling) always expect channels last.
+     */
+    private static boolean isChannelsFirst(final Map<String, Object> config) {
+        return CHANNELS_FIRST.equals(config.get("data_format"));
+    }
+
+    private static int getChannelIndex(final Map<String, Object> config, final long[] shape) {
+        return isChannelsFirst(config) ? 1 : shape.length - 1;
+    }
+
+    private static long[] inferConv(final String name, final long[] s, final int rank, final Map<String, Object> config,
+        final long filters) throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, rank + 2);
+        final long[] kernelSize = asLongs(config.get("kernel_size"), rank);
+        final long[] strides = asLongs(config.get("strides"), rank);
+        final long[] dilation =
+            config.containsKey("dilation_rate") ? asLongs(config.get("dilation_rate"), rank) : ones(rank);
+        final String padding = asString(config.get("padding"));
+        final boolean channelsFirst = isChannelsFirst(config);
+        final int offset = channelsFirst ? 2 : 1;
+        final long[] out = s.clone();
+        for (int i = 0; i < rank; i++) {
+            out[offset + i] = getConvOutputLength(name, s[offset + i], kernelSize[i], padding, strides[i], dilation[i]);
+        }
+        final int channelIndex = channelsFirst ? 1 : s.length - 1;
+        out[channelIndex] =
+            filters != -1 ? filters : multiply(s[channelIndex], asLong(config.get("depth_multiplier")));
+        return out;
+    }
+
+    private static long[] inferConvTranspose(final String name, final long[] s, final int rank,
+        final Map<String, Object> config) throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, rank + 2);
+        final long[] kernelSize = asLongs(config.get("kernel_size"), rank);
+        final long[] strides = asLongs(config.get("strides"), rank);
+        final long[] outputPadding =
+            config.get("output_padding") != null ? asLongs(config.get("output_padding"), rank) : null;
+        final String padding = asString(config.get("padding"));
+        final boolean channelsFirst = isChannelsFirst(config);
+        final int offset = channelsFirst ? 2 : 1;
+        final long[] out = s.clone();
+        for (int i = 0; i < rank; i++) {
+            final long size = s[offset + i];
+            if (size == -1) {
+                continue;
+            }
+            // mirrors keras.utils.conv_utils.deconv_length
+            final long k = kernelSize[i];
+            if (outputPadding == null) {
+                if ("valid".equals(padding)) {
+                    out[offset + i] = size * strides[i] + Math.max(k - strides[i], 0);
+                } else if ("same".equals(padding)) {
+                    out[offset + i] = size * strides[i];
+                } else {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "Padding '" + padding + "' of layer '" + name + "' is not supported.");
+                }
+            } else {
+                final long pad = "same".equals(padding) ? k / 2 : 0;
+                out[offset + i] = (size - 1) * strides[i] + k - 2 * pad + outputPadding[i];
+            }
+        }
+        out[channelsFirst ? 1 : s.length - 1] = asLong(config.get("filters"));
+        return out;
+    }
+
+    private static long[] inferPooling(final String name, final long[] s, final int rank,
+        final Map<String, Object> config) throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, rank + 2);
+        final long[] poolSize = asLongs(config.get("pool_size"), rank);
+        final long[] strides = config.get("strides") != null ? asLongs(config.get("strides"), rank) : poolSize;
+        final String padding = asString(config.get("padding"));
+        final int offset = isChannelsFirst(config) ? 2 : 1;
+        final long[] out = s.clone();
+        for (int i = 0; i < rank; i++) {
+            out[offset + i] = getConvOutputLength(name, s[offset + i], poolSize[i], padding, strides[i], 1);
+        }
+        return out;
+    }
+
+    /**
+     * Zero padding (sign 1) and cropping (sign -1) share the same configuration structure.
+     */
+    private static long[] inferPadding(final String name, final long[] s, final int rank,
+        final Map<String, Object> config, final Object amounts, final int sign)
+        throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, rank + 2);
+        final List<Object> list = asList(amounts);
+        final int offset = isChannelsFirst(config) ? 2 : 1;
+        final long[] out = s.clone();
+        for (int i = 0; i < rank; i++) {
+            // one-dimensional layers store a single pair, the others one pair per dimension
+            final long[] pair = asLongs(rank == 1 ? list : list.get(i), 2);
+            out[offset + i] = s[offset + i] == -1 ? -1 : s[offset + i] + sign * (pair[0] + pair[1]);
+        }
+        return out;
+    }
+
+    private static long[] inferUpSampling(final String name, final long[] s, final int rank,
+        final Map<String, Object> config) throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, rank + 2);
+        final long[] size = asLongs(config.get("size"), rank);
+        final int offset = isChannelsFirst(config) ? 2 : 1;
+        final long[] out = s.clone();
+        for (int i = 0; i < rank; i++) {
+            out[offset + i] = multiply(s[offset + i], size[i]);
+        }
+        return out;
+    }
+
+    private static long[] inferRecurrent(final String name, final long[] s, final Map<String, Object> config,
+        final long unitsMultiplier) throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, 3);
+        if (Boolean.TRUE.equals(config.get("return_state"))) {
+            throw new DLKerasH5UnsupportedFormatException("Layer '" + name + "' has multiple outputs.");
+        }
+        final long units = asLong(config.get("units")) * unitsMultiplier;
+        return Boolean.TRUE.equals(config.get("return_sequences")) ? new long[]{s[0], s[1], units}
+            : new long[]{s[0], units};
+    }
+
+    private static long[] inferBidirectional(final String name, final long[] s, final Map<String, Object> config)
+        throws DLKerasH5UnsupportedFormatException {
+        final Map<String, Object> layer = asMap(config.get("layer"));
+        if (!Arrays.asList("CuDNNGRU", "CuDNNLSTM", "GRU", "LSTM", "SimpleRNN").contains(layer.get("class_name"))) {
+            throw new DLKerasH5UnsupportedFormatException("The wrapped layer of '" + name + "' is not supported.");
+        }
+        final Object mergeMode = config.get("merge_mode");
+        final long unitsMultiplier;
+        if ("concat".equals(mergeMode)) {
+            unitsMultiplier = 2;
+        } else if ("sum".equals(mergeMode) || "mul".equals(mergeMode) || "ave".equals(mergeMode)) {
+            unitsMultiplier = 1;
+        } else {
+            throw new DLKerasH5UnsupportedFormatException("Layer '" + name + "' has multiple outputs.");
+        }
+        return inferRecurrent(name, s, asMap(layer.get("config")), unitsMultiplier);
+    }
+
+    private static long[] inferReshape(final String name, final long[] s, final List<Object> targetShape)
+        throws DLKerasH5UnsupportedFormatException {
+        final long[] out = new long[targetShape.size() + 1];
+        out[0] = s[0];
+        int unknownIndex = -1;
+        long knownSize = 1;
+        for (int i = 1; i < out.length; i++) {
+            out[i] = asLong(targetShape.get(i - 1));
+            if (out[i] == -1) {
+                if (unknownIndex != -1) {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "The target shape of layer '" + name + "' is ambiguous.");
+                }
+                unknownIndex = i;
+            } else {
+                knownSize *= out[i];
+            }
+        }
+        final long inputSize = product(s, 1, s.length);
+        if (unknownIndex != -1 && inputSize != -1 && knownSize != 0) {
+            out[unknownIndex] = inputSize / knownSize;
+        }
+        return out;
+    }
+
+    private static long[] inferPermute(final String name, final long[] s, final List<Object> dims)
+        throws DLKerasH5UnsupportedFormatException {
+        checkRank(name, s, dims.size() + 1);
+        final long[] out = new long[s.length];
+        out[0] = s[0];
+        for (int i = 0; i < dims.size(); i++) {
+            final long dim = asLong(dims.get(i));
+            if (dim < 1 || dim >= s.length) {
+                throw new DLKerasH5UnsupportedFormatException("Invalid permutation in layer '" + name + "'.");
+            }
+            out[i + 1] = s[(int)dim];
+        }
+        return out;
+    }
+
+    /**
+     * Mirrors <tt>keras.layers.merge._Merge._compute_elemwise_op_output_shape</tt> for inputs of equal rank.
+     */
+    private static long[] inferElementwise(final String name, final List<Tensor> inputs)
+        throws DLKerasH5UnsupportedFormatException {
+        final long[] out = inputs.get(0).m_shape.clone();
+        for (final Tensor input : inputs.subList(1, inputs.size())) {
+            checkRank(name, input.m_shape, out.length);
+            for (int i = 0; i < out.length; i++) {
+                final long other = input.m_shape[i];
+                if (out[i] == -1 || other == -1) {
+                    out[i] = -1;
+                } else if (out[i] == 1) {
+                    out[i] = other;
+                } else if (other != 1 && other != out[i]) {
+                    throw new DLKerasH5UnsupportedFormatException(
+                        "The inputs of layer '" + name + "' have incompatible shapes.");
+                }
+            }
+        }
+        return out;
+    }
+
+    private static long[] inferConcatenate(final String name, final List<Tensor> inputs,
+        final Map<String, Object> config) throws DLKerasH5UnsupportedFormatException {
+        final long[] out = inputs.get(0).m_shape.clone();
+        final long axis = config.containsKey("axis") ? asLong(config.get("axis")) : -1;
+        final int index = (int)(axis < 0 ? out.length + axis : axis);
+        if (index < 1 || index >= out.length) {
+            throw new DLKerasH5UnsupportedFormatException("Invalid concatenation axis in layer '" + name + "'.");
+        }
+        for (final Tensor input : inputs.subList(1, inputs.size())) {
+            checkRank(name, input.m_shape, out.length);
+            out[index] = out[index] == -1 || input.m_shape[index] == -1 ? -1 : out[index] + input.m_shape[index];
+        }
+        return out;
+    }
+
+    /**
+     * Mirrors <tt>keras.utils.conv_utils.conv_output_length</tt>.
+     */
+    private static long getConvOutputLength(final String name, final long size, final long kernelSize,
+        final String padding, final long stride, final long dilation) throws DLKerasH5UnsupportedFormatException {
+        final long dilatedKernelSize = (kernelSize - 1) * dilation + 1;
+        final long length;
+        switch (padding) {
+            case "same":
+            case "causal":
+                length = size;
+                break;
+            case "valid":
+                length = size - dilatedKernelSize + 1;
+                break;
+            case "full":
+                length = size + dilatedKernelSize - 1;
+                break;
+            default:
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Padding '" + padding + "' of layer '" + name + "' is not supported.");
+        }
+        return size == -1 ? -1 : Math.floorDiv(length + stride - 1, stride);
+    }
+
+    private static void checkRank(final String name, final long[] shape, final int rank)
+        throws DLKerasH5UnsupportedFormatException {
+        if (shape.length != rank) {
+            throw new DLKerasH5UnsupportedFormatException(
+                "The input of layer '" + name + "' has an unexpected number of dimensions.");
+        }
+    }
+
+    private static long[] withLast(final long[] shape, final long last) {
+        final long[] out = shape.clone();
+        out[out.length - 1] = last;
+        return out;
+    }
+
+    private static long[] withAppended(final long[] shape, final long last) {
+        final long[] out = Arrays.copyOf(shape, shape.length + 1);
+        out[shape.length] = last;
+        return out;
+    }
+
+    /**
+     * @return the product of the given dimensions, -1 if any of them is unknown
+     */
+    private static long product(final long[] shape, final int from, final int to) {
+        long product = 1;
+        for (int i = from; i < to; i++) {
+            if (shape[i] == -1) {
+                return -1;
+            }
+            product *= shape[i];
+        }
+        return product;
+    }
+
+    private static long multiply(final long size, final long factor) {
+        return size == -1 ? -1 : size * factor;
+    }
+
+    private static long[] ones(final int rank) {
+        final long[] ones = new long[rank];
+        Arrays.fill(ones, 1);
+        return ones;
+    }
+
+    private DLTensorSpec[] createSpecs(final List<NamedTensor> tensors) throws DLKerasH5UnsupportedFormatException {
+        // same as on Python side
+        final String dataFormat;
+        if (m_dataFormats.isEmpty()) {
+            dataFormat = m_defaultDataFormat;
+        } else if (m_dataFormats.size() == 1) {
+            dataFormat = m_dataFormats.iterator().next();
+        } else {
+            throw new DLKerasH5UnsupportedFormatException("The network contains conflicting data formats.");
+        }
+        final DLDimensionOrder dimensionOrder =
+            CHANNELS_FIRST.equals(dataFormat) ? DLDimensionOrder.TCDHW : DLDimensionOrder.TDHWC;
+        final DLTensorSpec[] specs = new DLTensorSpec[tensors.size()];
+        for (int i = 0; i < specs.length; i++) {
+            final NamedTensor tensor = tensors.get(i);
+            final long[] shape = tensor.m_tensor.m_shape;
+            final Class<?> elementType;
+            try {
+                elementType = DLPythonNumPyTypeMap.INSTANCE.getPreferredInternalType(tensor.m_tensor.m_dtype);
+            } catch (final IllegalArgumentException e) {
+                throw new DLKerasH5UnsupportedFormatException(
+                    "Tensors of type '" + tensor.m_tensor.m_dtype + "' are not supported.");
+            }
+            final DLTensorShape tensorShape = createShape(Arrays.copyOfRange(shape, 1, shape.length));
+            specs[i] = shape[0] > 0
+                ? new DLDefaultTensorSpec(new DLDefaultTensorId(tensor.m_id), tensor.m_name, shape[0], tensorShape,
+                    elementType, dimensionOrder)
+                : new DLDefaultTensorSpec(new DLDefaultTensorId(tensor.m_id), tensor.m_name, tensorShape, elementType,
+                    dimensionOrder);
+        }
+        return specs;
+    }
+
+    private static DLTensorShape createShape(final long[] shape) {
+        if (Arrays.stream(shape).allMatch(d -> d != -1L)) {
+            return new DLDefaultFixedTensorShape(shape);
+        }
+        return new DLDefaultPartialTensorShape(
+            Arrays.stream(shape).mapToObj(d -> d == -1 ? OptionalLong.empty() : OptionalLong.of(d))
+                .toArray(OptionalLong[]::new));
+    }
+
+    private static Map<String, Object> asMap(final Object value) throws DLKerasH5UnsupportedFormatException {
+        if (!(value instanceof Map)) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = (Map<String, Object>)value;
+        return map;
+    }
+
+    private static List<Object> asList(final Object value) throws DLKerasH5UnsupportedFormatException {
+        if (!(value instanceof List)) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        @SuppressWarnings("unchecked")
+        final List<Object> list = (List<Object>)value;
+        return list;
+    }
+
+    private static String asString(final Object value) throws DLKerasH5UnsupportedFormatException {
+        if (!(value instanceof String)) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        return (String)value;
+    }
+
+    private static long asLong(final Object value) throws DLKerasH5UnsupportedFormatException {
+        if (!(value instanceof Long)) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        return (Long)value;
+    }
+
+    /**
+     * Keras stores tuple parameters (e.g. kernel sizes) as lists, some layers also accept a single number.
+     */
+    private static long[] asLongs(final Object value, final int length) throws DLKerasH5UnsupportedFormatException {
+        final long[] longs = new long[length];
+        if (value instanceof Long) {
+            Arrays.fill(longs, (Long)value);
+            return longs;
+        }
+        final List<Object> list = asList(value);
+        if (list.size() != length) {
+            throw new DLKerasH5UnsupportedFormatException("Unexpected structure of the model configuration.");
+        }
+        for (int i = 0; i < length; i++) {
+            longs[i] = asLong(list.get(i));
+        }
+        return longs;
+    }
+
+    private static final class Tensor {
+
+        /**
+         * Includes the batch dimension, unknown dimensions are -1.
+         */
+        private final long[] m_shape;
+
+        private final String m_dtype;
+
+        private Tensor(final long[] shape, final String dtype) {
+            m_shape = shape;
+            m_dtype = dtype;
+        }
+    }
+
+    private static final class NamedTensor {
+
+        private final String m_id;
+
+        private final String m_name;
+
+        private final Tensor m_tensor;
+
+        private NamedTensor(final String id, final String name, final Tensor tensor) {
+            m_id = id;
+            m_name = name;
+            m_tensor = tensor;
+        }
+    }
+}
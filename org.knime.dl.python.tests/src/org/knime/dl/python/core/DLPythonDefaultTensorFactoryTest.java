@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.def.IntCell;
+import org.knime.dl.core.DLDefaultFixedTensorShape;
+import org.knime.dl.core.DLDefaultTensorId;
+import org.knime.dl.core.DLDefaultTensorSpec;
+import org.knime.dl.core.DLDimensionOrder;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.DLWritableFloatBuffer;
+import org.knime.dl.core.data.DLWritableIndexEncodedFloatBuffer;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.knime.dl.core.data.convert.DLIntValueToFloatTensorConverterFactory;
+import org.knime.dl.core.data.convert.DLIntValueToOneHotFloatTensorConverterFactory;
+import org.knime.dl.python.core.data.DLPythonFloatBuffer;
+import org.knime.dl.python.core.data.DLPythonIndexEncodedFloatBuffer;
+
+/**
+ * Index-encoded buffers only support one-hot writes. These tests make sure that {@link DLPythonDefaultTensorFactory}
+ * only allocates them for tensors that are filled by one-hot converters.
+ *
+ * @author agent, agent@local
+ */
+public class DLPythonDefaultTensorFactoryTest {
+
+	private static final long BATCH_SIZE = 2;
+
+	private static final long[] SHAPE = { 3 };
+
+	private static DLTensorSpec createTensorSpec(final Class<?> elementType) {
+		return new DLDefaultTensorSpec(new DLDefaultTensorId("id"), "tensor", new DLDefaultFixedTensorShape(SHAPE),
+				elementType, DLDimensionOrder.TDHWC);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static DLTensor<DLWritableFloatBuffer> createTensor(final DLTensorSpec spec,
+			final DLDataValueToTensorConverterFactory<?, ?> converterFactory) {
+		final DLPythonDefaultTensorFactory tensorFactory = new DLPythonDefaultTensorFactory();
+		return (DLTensor<DLWritableFloatBuffer>) tensorFactory.createWritableTensor(
+				tensorFactory.createExecutionTensorSpec(spec, BATCH_SIZE, SHAPE, converterFactory));
+	}
+
+	@Test
+	public void testOneHotConverterGetsIndexEncodedBuffer() {
+		final DLIntValueToOneHotFloatTensorConverterFactory converterFactory =
+				new DLIntValueToOneHotFloatTensorConverterFactory();
+		try (final DLTensor<DLWritableFloatBuffer> tensor =
+				createTensor(createTensorSpec(float.class), converterFactory)) {
+			assertTrue(tensor.getBuffer() instanceof DLPythonIndexEncodedFloatBuffer);
+			converterFactory.createConverter().convert(Arrays.asList(new IntCell(2), new IntCell(0)), tensor);
+			final DLPythonIndexEncodedFloatBuffer buffer = (DLPythonIndexEncodedFloatBuffer) tensor.getBuffer();
+			assertEquals(6, buffer.size());
+			assertEquals(3, buffer.getElementsPerStorageUnit());
+			assertArrayEquals(new int[] { 2, 0 }, buffer.getStorageForReading(0, 2));
+		}
+	}
+
+	@Test
+	public void testOtherConvertersGetDenseBuffer() {
+		final DLIntValueToFloatTensorConverterFactory converterFactory = new DLIntValueToFloatTensorConverterFactory();
+		try (final DLTensor<DLWritableFloatBuffer> tensor =
+				createTensor(createTensorSpec(float.class), converterFactory)) {
+			assertTrue(tensor.getBuffer() instanceof DLPythonFloatBuffer);
+			final IntValue[] values = { new IntCell(1), new IntCell(2), new IntCell(3), new IntCell(4),
+					new IntCell(5), new IntCell(6) };
+			converterFactory.createConverter().convert(Arrays.asList(values), tensor);
+			assertEquals(6, tensor.getBuffer().size());
+			assertEquals(1, ((DLPythonFloatBuffer) tensor.getBuffer()).getElementsPerStorageUnit());
+		}
+	}
+
+	@Test
+	public void testOneHotConverterOnNonFloatTensorGetsDenseBuffer() {
+		final DLPythonDefaultTensorFactory tensorFactory = new DLPythonDefaultTensorFactory();
+		final DLTensorSpec spec = tensorFactory.createExecutionTensorSpec(createTensorSpec(double.class), BATCH_SIZE,
+				SHAPE, new DLIntValueToOneHotFloatTensorConverterFactory());
+		try (final DLTensor<? extends DLWritableBuffer> tensor = tensorFactory.createWritableTensor(spec)) {
+			assertFalse(tensor.getBuffer() instanceof DLWritableIndexEncodedFloatBuffer);
+		}
+	}
+
+	@Test
+	public void testSliceOfIndexEncodedTensorStaysIndexEncoded() {
+		final DLPythonDefaultTensorFactory tensorFactory = new DLPythonDefaultTensorFactory();
+		final DLTensorSpec spec = tensorFactory.createExecutionTensorSpec(createTensorSpec(float.class), BATCH_SIZE,
+				SHAPE, new DLIntValueToOneHotFloatTensorConverterFactory());
+		// e.g. the per-worker tensors of the input preparer, they are filled by the same one-hot converters
+		final DLTensorSpec sliceSpec = tensorFactory.createExecutionTensorSpec(spec, 1, SHAPE);
+		try (final DLTensor<? extends DLWritableBuffer> tensor = tensorFactory.createWritableTensor(sliceSpec)) {
+			assertTrue(tensor.getBuffer() instanceof DLPythonIndexEncodedFloatBuffer);
+		}
+	}
+}
@@ -52,5 +52,9 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonBitBuffer
 
 def deserialize(bytes):
-	return DLPythonBitBuffer(np.frombuffer(bytes, dtype=np.bool_))
+	# Java sends the number of bits (little-endian int64) followed by the bits packed into bytes, see
+	# DLPythonBitBufferSerializerFactory.
+	num_bits = int(np.frombuffer(bytes, dtype='<i8', count=1)[0])
+	bits = np.unpackbits(np.frombuffer(bytes, dtype=np.uint8)[8:])[:num_bits]
+	return DLPythonBitBuffer(bits.view(np.bool_))
 
@@ -43,18 +43,11 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-from io import BytesIO
-import os
-import sys
 import numpy as np
 
-sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
-from DLPythonDataBuffers import DLPythonBitBuffer
-
 def serialize(value):
-	if not value.array.dtype == np.bool_:
-		value = DLPythonBitBuffer(value.array.astype(np.bool_))
-	buffer = BytesIO(bytes())
-	buffer.write(value.array.tobytes())
-	return buffer.getvalue()
+	# Java reads the data as a flat array: the number of bits (little-endian int64) followed by the bits packed into
+	# bytes, see DLPythonBitBufferDeserializerFactory. ascontiguousarray only copies/converts if required.
+	bits = np.ascontiguousarray(value.array, dtype=np.bool_).ravel()
+	return np.array([bits.size], dtype='<i8').tobytes() + np.packbits(bits).tobytes()
 
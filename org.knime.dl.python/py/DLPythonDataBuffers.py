@@ -43,6 +43,8 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
+import numpy as np
+
 # base
 class DLPythonDataBuffer(object):  
 	def __init__(self, array):
@@ -132,6 +134,32 @@ class DLPythonLongBuffer(DLPythonDataBuffer):
 		"""
 		super(DLPythonLongBuffer, self).__init__(array)
 
+# index-encoded float
+class DLPythonIndexEncodedFloatBuffer(DLPythonDataBuffer):
+	def __init__(self, indices, depth):
+		"""
+		Creates a new float buffer that holds one-hot vectors in terms of the indices of their hot elements. The dense
+		float array is only created when it is accessed via 'array'. Consumers that can work with the indices directly
+		(e.g. embedding lookups) should use 'indices' instead.
+		:param indices: The numpy.ndarray of indices, -1 denotes a zero vector.
+		:param depth: The length of the one-hot vectors.
+		"""
+		self.indices = indices
+		self.depth = int(depth)
+		self._array = None
+
+	@property
+	def array(self):
+		if self._array is None:
+			dense = np.zeros((len(self.indices), self.depth), dtype=np.float32)
+			hot = np.flatnonzero(self.indices >= 0)
+			dense[hot, self.indices[hot]] = 1
+			self._array = dense.ravel()
+		return self._array
+
+	def __len__(self):
+		return len(self.indices) * self.depth
+
 class DLPythonStringBuffer(DLPythonDataBuffer):
 	def __init__(self, array):
 		"""
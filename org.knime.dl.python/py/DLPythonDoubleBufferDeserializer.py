@@ -52,5 +52,6 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonDoubleBuffer
 
 def deserialize(bytes):
-	return DLPythonDoubleBuffer(np.frombuffer(bytes, dtype=np.float64))
+	# Java sends a flat little-endian array, frombuffer wraps it without copying
+	return DLPythonDoubleBuffer(np.frombuffer(bytes, dtype='<f8'))
 
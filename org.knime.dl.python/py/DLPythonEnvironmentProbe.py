@@ -0,0 +1,82 @@
+# -*- coding: utf-8 -*-
+
+# ------------------------------------------------------------------------
+#  Copyright by KNIME AG, Zurich, Switzerland
+#  Website: http://www.knime.com; Email: contact@knime.com
+#
+#  This program is free software; you can redistribute it and/or modify
+#  it under the terms of the GNU General Public License, Version 3, as
+#  published by the Free Software Foundation.
+#
+#  This program is distributed in the hope that it will be useful, but
+#  WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+#  GNU General Public License for more details.
+#
+#  You should have received a copy of the GNU General Public License
+#  along with this program; if not, see <http://www.gnu.org/licenses>.
+#
+#  Additional permission under GNU GPL version 3 section 7:
+#
+#  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+#  Hence, KNIME and ECLIPSE are both independent programs and are not
+#  derived from each other. Should, however, the interpretation of the
+#  GNU GPL Version 3 ("License") under any applicable laws result in
+#  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+#  you the additional permission to use and propagate KNIME together with
+#  ECLIPSE with only the license terms in place for ECLIPSE applying to
+#  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+#  license terms of ECLIPSE themselves allow for the respective use and
+#  propagation of ECLIPSE together with KNIME.
+#
+#  Additional permission relating to nodes for KNIME that extend the Node
+#  Extension (and in particular that are based on subclasses of NodeModel,
+#  NodeDialog, and NodeView) and that only interoperate with KNIME through
+#  standard APIs ("Nodes"):
+#  Nodes are deemed to be separate and independent programs and to not be
+#  covered works.  Notwithstanding anything to the contrary in the
+#  License, the License does not apply to Nodes, you are not required to
+#  license Nodes under the License, and you are granted a license to
+#  prepare and propagate Nodes, in each case even if such Nodes are
+#  propagated with or for interoperation with KNIME.  The owner of a Node
+#  may freely choose the license terms applicable to such Node, including
+#  when such Node is propagated with or for interoperation with KNIME.
+# ------------------------------------------------------------------------
+
+'''
+Reports a fingerprint of the Python environment: the interpreter, the modification times of its package directories
+and the versions of all installed packages. Unlike the installation tests of the individual back ends, this does not
+import any deep learning libraries and is therefore cheap.
+
+@author agent, agent@local
+'''
+
+def probe():
+    import os
+    import site
+    import sys
+    lines = ['executable=' + sys.executable, 'version=' + sys.version.replace('\n', ' ')]
+    paths = set(p for p in sys.path if p)
+    try:
+        paths.update(site.getsitepackages())
+    except AttributeError:
+        # not available in environments created by older versions of virtualenv
+        pass
+    try:
+        paths.add(site.getusersitepackages())
+    except AttributeError:
+        pass
+    for path in sorted(paths):
+        if os.path.isdir(path):
+            # installing or removing a package adds or removes entries and thereby updates the directory's mtime
+            lines.append('path=' + path + ':' + str(os.stat(path).st_mtime_ns))
+    try:
+        from importlib import metadata
+        packages = [(d.metadata['Name'], d.version) for d in metadata.distributions()]
+    except ImportError:
+        import pkg_resources
+        packages = [(d.project_name, d.version) for d in pkg_resources.working_set]
+    lines.extend(sorted(set('package=' + str(name) + '==' + str(version) for name, version in packages)))
+    print('\n'.join(lines), end='', flush=True)
+
+probe()
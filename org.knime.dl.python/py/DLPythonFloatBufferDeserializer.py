@@ -52,5 +52,6 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonFloatBuffer
 
 def deserialize(bytes):
-	return DLPythonFloatBuffer(np.frombuffer(bytes, dtype=np.float32))
+	# Java sends a flat little-endian array, frombuffer wraps it without copying
+	return DLPythonFloatBuffer(np.frombuffer(bytes, dtype='<f4'))
 
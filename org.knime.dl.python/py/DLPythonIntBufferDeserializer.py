@@ -52,5 +52,6 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonIntBuffer
 
 def deserialize(bytes):
-	return DLPythonIntBuffer(np.frombuffer(bytes, dtype=np.int32))
+	# Java sends a flat little-endian array, frombuffer wraps it without copying
+	return DLPythonIntBuffer(np.frombuffer(bytes, dtype='<i4'))
 
@@ -52,5 +52,6 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonLongBuffer
 
 def deserialize(bytes):
-	return DLPythonLongBuffer(np.frombuffer(bytes, dtype=np.int64))
+	# Java sends a flat little-endian array, frombuffer wraps it without copying
+	return DLPythonLongBuffer(np.frombuffer(bytes, dtype='<i8'))
 
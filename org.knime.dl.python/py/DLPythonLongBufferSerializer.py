@@ -43,18 +43,9 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-from io import BytesIO
-import os
-import sys
 import numpy as np
 
-sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
-from DLPythonDataBuffers import DLPythonLongBuffer
-
 def serialize(value):
-	if not value.array.dtype == np.int64:
-		value = DLPythonLongBuffer(value.array.astype(np.int64))
-	buffer = BytesIO(bytes())
-	buffer.write(value.array.tobytes())
-	return buffer.getvalue()
+	# Java reads the data as a flat little-endian array. ascontiguousarray only copies/converts if required.
+	return np.ascontiguousarray(value.array, dtype='<i8').tobytes()
 
@@ -67,11 +67,14 @@ def add_network(network, identifier=None):
             identifier = _get_next_network_id()
     elif identifier in _networks:
         raise ValueError("Network '" + identifier + "' already exists.")
+    # the network's model may have been modified since it was last registered, derived artifacts are stale
+    network.clear_caches()
     _networks[identifier] = network
     return identifier
 
 def remove_network(identifier):
     if identifier in _networks:
+        _networks[identifier].clear_caches()
         del _networks[identifier]
         return True
     else:
@@ -115,6 +118,13 @@ class DLPythonNetwork(object):
     def save(self, path):
         raise NotImplementedError()
 
+    def clear_caches(self):
+        """
+        Discards everything that was derived from the network's model and cached for reuse across calls. Must be called
+        whenever the model changes. Does nothing by default.
+        """
+        pass
+
 
 class DLPythonNetworkSpec(object):
     __metaclass__ = abc.ABCMeta
@@ -52,5 +52,6 @@ sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
 from DLPythonDataBuffers import DLPythonShortBuffer
 
 def deserialize(bytes):
-	return DLPythonShortBuffer(np.frombuffer(bytes, dtype=np.int16))
+	# Java sends a flat little-endian array, frombuffer wraps it without copying
+	return DLPythonShortBuffer(np.frombuffer(bytes, dtype='<i2'))
 
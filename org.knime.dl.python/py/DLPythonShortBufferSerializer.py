@@ -43,18 +43,9 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-from io import BytesIO
-import os
-import sys
 import numpy as np
 
-sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
-from DLPythonDataBuffers import DLPythonShortBuffer
-
 def serialize(value):
-	if not value.array.dtype == np.int16:
-		value = DLPythonShortBuffer(value.array.astype(np.int16))
-	buffer = BytesIO(bytes())
-	buffer.write(value.array.tobytes())
-	return buffer.getvalue()
+	# Java reads the data as a flat little-endian array. ascontiguousarray only copies/converts if required.
+	return np.ascontiguousarray(value.array, dtype='<i2').tobytes()
 
@@ -43,18 +43,9 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 
-from io import BytesIO
-import os
-import sys
 import numpy as np
 
-sys.path.insert(0, os.path.dirname(os.path.abspath(__file__)))
-from DLPythonDataBuffers import DLPythonUnsignedByteBuffer
-
 def serialize(value):
-	if not value.array.dtype == np.uint8:
-		value = DLPythonUnsignedByteBuffer(value.array.astype(np.uint8))
-	buffer = BytesIO(bytes())
-	buffer.write(value.array.tobytes())
-	return buffer.getvalue()
+	# Java reads the data as a flat array. ascontiguousarray only copies/converts if required.
+	return np.ascontiguousarray(value.array, dtype=np.uint8).tobytes()
 
@@ -163,6 +163,20 @@ public abstract class DLPythonAbstractCommands implements DLPythonCommands {
 
     public static final String OUTPUT_SHAPES_NAME = "output_shapes";
 
+    /**
+     * The table that holds the inputs of all batches of a batch group, see
+     * {@link #setNetworkInputBatches(DLPythonNetworkHandle, List, DLCancelable)}.
+     */
+    public static final String INPUT_BATCHES_NAME = "input_batches";
+
+    /**
+     * The table that holds the outputs of all batches of a batch group, see
+     * {@link #getNetworkOutputBatches(DLPythonNetworkHandle, List, DLCancelable)}.
+     */
+    public static final String OUTPUT_BATCHES_NAME = "output_batches";
+
+    private static final String SHAPE_COLUMN_SUFFIX = "_shape";
+
     /** Name of the 'python version' DataFrame in python */
     public static final String PYTHON_VERSION_NAME = "python_version";
 
@@ -294,6 +308,36 @@ public synchronized void testInstallation(final DLCancelable cancelable)
         }
     }
 
+    /**
+     * Runs a cheap probe that reports the Python interpreter, the modification times of its package directories and
+     * the versions of all installed packages. Unlike {@link #testInstallation(DLCancelable)}, the probe does not import
+     * any deep learning libraries.
+     *
+     * @param cancelable to check if execution has been canceled
+     * @return the output of the probe, a fingerprint of the state of the Python environment
+     * @throws DLInvalidEnvironmentException if the probe failed
+     * @throws DLCanceledExecutionException if the execution has been canceled
+     */
+    public synchronized String probeEnvironment(final DLCancelable cancelable)
+        throws DLInvalidEnvironmentException, DLCanceledExecutionException {
+        try {
+            final File script =
+                DLUtils.Files.getFileFromSameBundle(DLPythonAbstractCommands.class, "py/DLPythonEnvironmentProbe.py");
+            final String[] output =
+                m_context.isKernelOpen() ? m_context.executeInKernel(DLUtils.Files.readAllUTF8(script), cancelable)
+                    : m_context.execute(cancelable, script);
+            if (output[0].isEmpty()) {
+                throw new DLInvalidEnvironmentException("Probing the Python environment failed."
+                    + (!output[1].isEmpty() ? "\nFurther output: " + output[1] : ""));
+            }
+            return output[0];
+        } catch (final IOException e) {
+            throw new DLInvalidEnvironmentException("An error occurred while communicating with Python "
+                + "(while probing the Python environment)."
+                + (e.getMessage() != null ? "\nCause: " + e.getMessage() : ""), e);
+        }
+    }
+
     @Override
     public DLPythonNetworkHandle loadNetwork(final String path, final boolean loadTrainingConfig,
         final DLCancelable cancelable) throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException {
@@ -351,13 +395,8 @@ public void executeNetwork(final DLPythonNetworkHandle network, final Set<? exte
             .n("for input_spec in network.spec.input_specs:") //
             .n().t().a("in_data[input_spec.identifier] = globals()[input_spec.identifier]") //
             .n("out_data = network.execute(in_data, ").a(batchSize).a(", ").a(outputIdentifiers).a(")") //
-            .n("import pandas as pd") //
-            .n("output_shapes = {}") //
             .n("for name, data in out_data.items():") //
-            .n().t().a("shape = [list(data.iloc[0][0].array.shape)]").n().t()
-            .a("output_shapes[name] = [-1 if d is None else d for d in shape]") // replace None with -1
-            .n().t().a("globals()[name] = data").n("globals()[").as(OUTPUT_SHAPES_NAME)
-            .a("] = pd.DataFrame(output_shapes)");
+            .n().t().a("globals()[name] = data");
         getContext(cancelable).executeInKernel(b.toString(), cancelable);
     }
 
@@ -365,6 +404,17 @@ public void executeNetwork(final DLPythonNetworkHandle network, final Set<? exte
     public <T extends DLTensorId> Map<T, long[]> getNetworkOutputShapes(final DLPythonNetworkHandle network,
         final Set<T> outputs, final DLCancelable cancelable)
         throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException {
+        // The shapes are only computed on request. Sessions request them once, after the first batch was executed.
+        final String outputIdentifiers = outputs.stream().map((id) -> "'" + id.getIdentifierString() + "'")
+            .collect(Collectors.joining(", ", "[", "]"));
+        final DLPythonSourceCodeBuilder b = DLPythonUtils.createSourceCodeBuilder() //
+            .a("import pandas as pd") //
+            .n("output_shapes = {}") //
+            .n("for name in ").a(outputIdentifiers).a(":") //
+            .n().t().a("shape = [list(globals()[name].iloc[0][0].array.shape)]") //
+            .n().t().a("output_shapes[name] = [-1 if d is None else d for d in shape]") // replace None with -1
+            .n("globals()[").as(OUTPUT_SHAPES_NAME).a("] = pd.DataFrame(output_shapes)");
+        getContext(cancelable).executeInKernel(b.toString(), cancelable);
         final Map<T, long[]> shapes = new HashMap<>(outputs.size());
         final Map<String, T> idMap =
             outputs.stream().collect(Collectors.toMap(DLTensorId::getIdentifierString, Function.identity()));
@@ -425,30 +475,7 @@ public void getNetworkOutputs(final DLPythonNetworkHandle network,
 
                     @Override
                     public void addRow(final Row row) {
-                        final String deserializerId =
-                            tableSpec.getColumnSerializers().get(tensorIdentifier.getIdentifierString());
-                        final DeserializerFactory deserializerFactory =
-                            PythonToKnimeExtensions.getExtension(deserializerId).getJavaDeserializerFactory();
-                        if (!(deserializerFactory instanceof DLPythonDeserializerFactory)) {
-                            LOGGER.coding(
-                                "Deep learning Python to KNIME serialization factory must implement DLSerializerFactory.");
-                        }
-                        final Deserializer deserializer = deserializerFactory.createDeserializer();
-                        if (!(deserializer instanceof DLPythonDeserializer)) {
-                            final String msg =
-                                "An exception occurred while collecting network output from Python. Unsupported deserializer.";
-                            LOGGER.error(msg);
-                            // TODO
-                            throw new RuntimeException(msg);
-                        }
-                        final Cell cell = row.getCell(0);
-                        try {
-                            ((DLPythonDeserializer)deserializer).deserialize(cell.getBytesValue(), tensor);
-                        } catch (final IllegalStateException e) {
-                            LOGGER.error(
-                                "An exception occurred while collecting network output from Python: " + e.getMessage(),
-                                e);
-                        }
+                        deserializeOutput(tableSpec, tensorIdentifier.getIdentifierString(), row.getCell(0), tensor);
                     }
 
                     @Override
@@ -464,6 +491,84 @@ public DLTensor<? extends DLReadableBuffer> getTable() {
         }
     }
 
+    @Override
+    public void setNetworkInputBatches(final DLPythonNetworkHandle network,
+        final List<? extends Map<? extends DLTensorId, ? extends DLTensor<? extends DLWritableBuffer>>> inputs,
+        final DLCancelable cancelable) throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException {
+        final TableChunker tableChunker = new DLPythonBatchesTableChunker(inputs);
+        try {
+            getContext(cancelable).putDataInKernel(INPUT_BATCHES_NAME, tableChunker, inputs.size(), cancelable);
+        } catch (final IOException ex) {
+            throw new RuntimeException("Transmitting input data to Python failed.", ex);
+        }
+    }
+
+    @Override
+    public void executeNetworkBatches(final DLPythonNetworkHandle network,
+        final Set<? extends DLTensorId> requestedOutputs, final long[] batchSizes, final DLCancelable cancelable)
+        throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException {
+        final String outputIdentifiers = requestedOutputs.stream().map((id) -> "'" + id.getIdentifierString() + "'")
+            .collect(Collectors.joining(", ", "[", "]"));
+        final String sizes =
+            Arrays.stream(batchSizes).mapToObj(Long::toString).collect(Collectors.joining(", ", "[", "]"));
+        final DLPythonSourceCodeBuilder b = DLPythonUtils.createSourceCodeBuilder() //
+            .a("import DLPythonNetwork") //
+            .n("import pandas as pd") //
+            .n("network = DLPythonNetwork.get_network(").as(network.getIdentifier()).a(")") //
+            .n("in_batches = globals().pop(").as(INPUT_BATCHES_NAME).a(")") //
+            .n("out_batches = {}") //
+            .n("for batch_index, batch_size in enumerate(").a(sizes).a("):") //
+            .n().t().a("in_data = {}") //
+            .n().t().a("for input_spec in network.spec.input_specs:") //
+            .n().t().t().a("in_data[input_spec.identifier] = pd.DataFrame([[") //
+            .a("in_batches[input_spec.identifier].iloc[batch_index], ") //
+            .a("in_batches[input_spec.identifier + ").as(SHAPE_COLUMN_SUFFIX).a("].iloc[batch_index]]])") //
+            .n().t().a("out_data = network.execute(in_data, batch_size, ").a(outputIdentifiers).a(")") //
+            .n().t().a("for name, data in out_data.items():") //
+            .n().t().t().a("out_batches.setdefault(name, []).append(data.iloc[0][0])") //
+            // the outputs of the first batch are also published individually, see getNetworkOutputShapes
+            .n().t().t().a("if batch_index == 0:") //
+            .n().t().t().t().a("globals()[name] = data") //
+            .n("del in_batches") //
+            .n("globals()[").as(OUTPUT_BATCHES_NAME).a("] = pd.DataFrame(out_batches)");
+        getContext(cancelable).executeInKernel(b.toString(), cancelable);
+    }
+
+    @Override
+    public void getNetworkOutputBatches(final DLPythonNetworkHandle network,
+        final List<? extends Map<? extends DLTensorId, ? extends DLTensor<? extends DLReadableBuffer>>> outputs,
+        final DLCancelable cancelable) throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException {
+        final Map<String, DLTensorId> idMap = outputs.get(0).keySet().stream()
+            .collect(Collectors.toMap(DLTensorId::getIdentifierString, Function.identity()));
+        getContext(cancelable).getDataFromKernel(OUTPUT_BATCHES_NAME, (tableSpec, tableSize) -> new TableCreator<Void>() {
+
+            private int m_batchIndex = 0;
+
+            @Override
+            public void addRow(final Row row) {
+                final Map<? extends DLTensorId, ? extends DLTensor<? extends DLReadableBuffer>> batch =
+                    outputs.get(m_batchIndex++);
+                final String[] names = tableSpec.getColumnNames();
+                for (int i = 0; i < names.length; i++) {
+                    final DLTensorId id = idMap.get(names[i]);
+                    if (id != null) {
+                        deserializeOutput(tableSpec, names[i], row.getCell(i), batch.get(id));
+                    }
+                }
+            }
+
+            @Override
+            public TableSpec getTableSpec() {
+                return tableSpec;
+            }
+
+            @Override
+            public Void getTable() {
+                return null;
+            }
+        }, cancelable);
+    }
+
     @Override
     public void trainNetwork(final DLPythonNetworkHandle network, final DLNetworkInputProvider trainingInputProvider,
         final DLNetworkInputProvider validationInputProvider,
@@ -627,6 +732,47 @@ private TableChunker createSingleTensorTableChunker(final DLTensorId tensorId,
         return tableChunker;
     }
 
+    private static KnimeToPythonExtension getSerializerExtension(final DLTensor<? extends DLWritableBuffer> tensor) {
+        // TODO: if nothing found, we should also try to match primitive types with their wrapper types (guava
+        // Primitives.wrap etc.)
+        return KnimeToPythonExtensions.getExtensions().stream()
+            .filter(ext -> (ext.getJavaSerializerFactory() instanceof DLSerializerFactory)
+                && ((DLSerializerFactory)ext.getJavaSerializerFactory()).getBufferType()
+                    .isAssignableFrom(tensor.getBuffer().getClass()))
+            .findFirst() //
+            .orElseThrow(
+                () -> new RuntimeException("Transmitting data to Python failed. No matching serializer available."));
+    }
+
+    private static Cell createShapeCell(final DLTensor<? extends DLWritableBuffer> tensor) {
+        final long[] shape = DLUtils.Shapes.getFixedShape(tensor.getSpec().getShape())
+            .orElseThrow(() -> new IllegalStateException("Execution spec does not contain fixed shape."));
+        return new CellImpl(shape, getNotMissingForLength(shape.length));
+    }
+
+    private static void deserializeOutput(final TableSpec tableSpec, final String columnName, final Cell cell,
+        final DLTensor<? extends DLReadableBuffer> tensor) {
+        final String deserializerId = tableSpec.getColumnSerializers().get(columnName);
+        final DeserializerFactory deserializerFactory =
+            PythonToKnimeExtensions.getExtension(deserializerId).getJavaDeserializerFactory();
+        if (!(deserializerFactory instanceof DLPythonDeserializerFactory)) {
+            LOGGER.coding("Deep learning Python to KNIME serialization factory must implement DLSerializerFactory.");
+        }
+        final Deserializer deserializer = deserializerFactory.createDeserializer();
+        if (!(deserializer instanceof DLPythonDeserializer)) {
+            final String msg =
+                "An exception occurred while collecting network output from Python. Unsupported deserializer.";
+            LOGGER.error(msg);
+            // TODO
+            throw new RuntimeException(msg);
+        }
+        try {
+            ((DLPythonDeserializer)deserializer).deserialize(cell.getBytesValue(), tensor);
+        } catch (final IllegalStateException e) {
+            LOGGER.error("An exception occurred while collecting network output from Python: " + e.getMessage(), e);
+        }
+    }
+
     private static byte[] getNotMissingForLength(final int length) {
         final int entries = length / 8 + 1;
         final byte[] missings = new byte[entries];
@@ -648,21 +794,11 @@ private static final class DLPythonTableChunker implements TableChunker {
 
         private DLPythonTableChunker(final DLTensor<? extends DLWritableBuffer> tensor) {
             // Create the serializer
-            final KnimeToPythonExtension extension = KnimeToPythonExtensions.getExtensions().stream()
-                .filter(ext -> (ext.getJavaSerializerFactory() instanceof DLSerializerFactory)
-                    && ((DLSerializerFactory)ext.getJavaSerializerFactory()).getBufferType()
-                        .isAssignableFrom(tensor.getBuffer().getClass()))
-                .findFirst() //
-                .orElseThrow(() -> new RuntimeException(
-                    "Transmitting data to Python failed. No matching serializer available."));
-            // TODO: if nothing found, we should also try to match primitive types with their wrapper types (guava
-            // Primitives.wrap etc.)
-            m_serializer = (Serializer<DLPythonDataBuffer<?>>)extension.getJavaSerializerFactory().createSerializer();
-
-            // Create the shape cell (the same every time)
-            final long[] shape = DLUtils.Shapes.getFixedShape(tensor.getSpec().getShape())
-                .orElseThrow(() -> new IllegalStateException("Execution spec does not contain fixed shape."));
-            final Cell shapeCell = new CellImpl(shape, getNotMissingForLength(shape.length));
+            final KnimeToPythonExtension extension = getSerializerExtension(tensor);
+            // Each serialized tensor is transmitted before the next one is serialized, so the serializer may reuse its
+            // target array across batches.
+            m_serializer = (Serializer<DLPythonDataBuffer<?>>)((DLSerializerFactory)extension.getJavaSerializerFactory())
+                .createPooledSerializer();
 
             // Create the table spec
             final String identifier = tensor.getSpec().getIdentifier().getIdentifierString();
@@ -671,7 +807,6 @@ private DLPythonTableChunker(final DLTensor<? extends DLWritableBuffer> tensor)
 
             // Create the row
             m_row = new RowImpl(identifier, 2);
-            m_row.setCell(shapeCell, 1);
             m_iterator = new DLPythonResettableTableIterator(m_tableSpec, m_row);
         }
 
@@ -701,11 +836,110 @@ public TableSpec getTableSpec() {
         private void resetWithNextTensor(final DLTensor<? extends DLWritableBuffer> tensor) throws IOException {
             final Cell cell = new CellImpl(m_serializer.serialize((DLPythonDataBuffer<?>)tensor.getBuffer()));
             m_row.setCell(cell, 0);
+            // tensors of shape-bucketed input preparers differ in shape from batch to batch
+            m_row.setCell(createShapeCell(tensor), 1);
             m_iterator.reset();
             m_hasNextChunk = true;
         }
     }
 
+    /**
+     * Transmits the inputs of several batches in a single table. Each row holds the serialized input tensors of one
+     * batch, each tensor is accompanied by a column that holds its shape.
+     */
+    private static final class DLPythonBatchesTableChunker implements TableChunker {
+
+        private final TableSpec m_tableSpec;
+
+        private final List<Row> m_rows;
+
+        private boolean m_hasNextChunk = true;
+
+        private DLPythonBatchesTableChunker(
+            final List<? extends Map<? extends DLTensorId, ? extends DLTensor<? extends DLWritableBuffer>>> batches)
+            throws IOException {
+            final Map<? extends DLTensorId, ? extends DLTensor<? extends DLWritableBuffer>> first = batches.get(0);
+            final int numTensors = first.size();
+            final Type[] types = new Type[2 * numTensors];
+            final String[] names = new String[2 * numTensors];
+            final Map<String, String> serializerIds = new HashMap<>(numTensors);
+            final List<DLTensorId> ids = new ArrayList<>(first.keySet());
+            final List<Serializer<DLPythonDataBuffer<?>>> serializers = new ArrayList<>(numTensors);
+            final Cell[] shapeCells = new Cell[numTensors];
+            for (int i = 0; i < numTensors; i++) {
+                final DLTensor<? extends DLWritableBuffer> tensor = first.get(ids.get(i));
+                final KnimeToPythonExtension extension = getSerializerExtension(tensor);
+                // All batches are serialized before they are transmitted, so the serializer must not reuse its target
+                // array.
+                serializers
+                    .add((Serializer<DLPythonDataBuffer<?>>)extension.getJavaSerializerFactory().createSerializer());
+                final String identifier = ids.get(i).getIdentifierString();
+                types[2 * i] = Type.BYTES;
+                names[2 * i] = identifier;
+                types[2 * i + 1] = Type.LONG_LIST;
+                names[2 * i + 1] = identifier + SHAPE_COLUMN_SUFFIX;
+                serializerIds.put(identifier, extension.getId());
+                shapeCells[i] = createShapeCell(tensor);
+            }
+            m_tableSpec = new TableSpecImpl(types, names, serializerIds);
+            m_rows = new ArrayList<>(batches.size());
+            for (int b = 0; b < batches.size(); b++) {
+                final Row row = new RowImpl(Integer.toString(b), 2 * numTensors);
+                for (int i = 0; i < numTensors; i++) {
+                    final DLTensor<? extends DLWritableBuffer> tensor = batches.get(b).get(ids.get(i));
+                    row.setCell(new CellImpl(serializers.get(i).serialize((DLPythonDataBuffer<?>)tensor.getBuffer())),
+                        2 * i);
+                    row.setCell(shapeCells[i], 2 * i + 1);
+                }
+                m_rows.add(row);
+            }
+        }
+
+        @Override
+        public boolean hasNextChunk() {
+            return m_hasNextChunk;
+        }
+
+        @Override
+        public TableIterator nextChunk(final int numRows) {
+            m_hasNextChunk = false;
+            return new TableIterator() {
+
+                private int m_index = 0;
+
+                @Override
+                public Row next() {
+                    return m_rows.get(m_index++);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return m_index < m_rows.size();
+                }
+
+                @Override
+                public int getNumberRemainingRows() {
+                    return m_rows.size() - m_index;
+                }
+
+                @Override
+                public TableSpec getTableSpec() {
+                    return m_tableSpec;
+                }
+            };
+        }
+
+        @Override
+        public int getNumberRemainingRows() {
+            return m_hasNextChunk ? m_rows.size() : 0;
+        }
+
+        @Override
+        public TableSpec getTableSpec() {
+            return m_tableSpec;
+        }
+    }
+
     private static final class DLPythonResettableTableIterator implements TableIterator {
 
         private final TableSpec m_tableSpec;
@@ -1010,6 +1244,9 @@ protected boolean handleCustomMessage(final Message message, final IntSupplier r
                     case "batch_end":
                         handleBatchEnd(message);
                         break;
+                    case "batch_ends":
+                        handleBatchEnds(message);
+                        break;
                     default:
                         return false;
                 }
@@ -1092,7 +1329,22 @@ private void handleBatchBegin(final Message message) {
         }
 
         private void handleBatchEnd(final Message message) {
-            final String[] metricsStr = new PayloadDecoder(message.getPayload()).getNextString().split(";");
+            processBatchEnd(new PayloadDecoder(message.getPayload()).getNextString());
+        }
+
+        /**
+         * Handles the metrics of several consecutive batches that were aggregated on Python side to save round trips.
+         * Each batch is reported to the training status individually, just as if it had been sent on its own.
+         */
+        private void handleBatchEnds(final Message message) {
+            for (final String batch : new PayloadDecoder(message.getPayload()).getNextString().split("\\|")) {
+                m_status.batchStarted().raise(null);
+                processBatchEnd(batch);
+            }
+        }
+
+        private void processBatchEnd(final String metrics) {
+            final String[] metricsStr = metrics.split(";");
             int i = 0;
             for (final DLReportedMetric m : batchMetrics.values()) {
                 try {
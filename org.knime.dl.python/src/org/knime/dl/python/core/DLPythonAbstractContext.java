@@ -47,15 +47,18 @@
 package org.knime.dl.python.core;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.io.IOUtils;
 import org.knime.dl.core.DLCancelable;
@@ -89,6 +92,14 @@ public abstract class DLPythonAbstractContext implements DLPythonContext {
 
     private PythonKernel m_kernel;
 
+    /**
+     * The source of the network that is loaded in {@link #m_kernel} under {@link #m_loadedNetworkHandle}, see
+     * {@link #setLoadedNetwork(URI, DLPythonNetworkHandle)}.
+     */
+    private URI m_loadedNetworkSource;
+
+    private DLPythonNetworkHandle m_loadedNetworkHandle;
+
     /**
      * Create a {@link DLPythonContext} without a Python kernel. The Python kernel will be created on demand by calling
      * {@link #getKernel()}.
@@ -228,10 +239,61 @@ public void close() {
             } catch (PythonKernelCleanupException e) {
                 throw new DLUncheckedException(
                     "An exception occured while cleaning up Python. Cause: " + e.getMessage(), e);
+            } finally {
+                // the context may be reused, e.g. by consecutive sessions of a shape-bucketed execution
+                m_kernel = null;
+                forgetLoadedNetwork();
             }
         }
     }
 
+    /**
+     * Remembers that the network from the given source is loaded in the kernel of this context under the given handle
+     * such that subsequent sessions in this context can execute it without loading it again. Is forgotten once the
+     * kernel is closed or detached.
+     *
+     * @param source the source of the loaded network
+     * @param handle the handle of the loaded network
+     */
+    public void setLoadedNetwork(final URI source, final DLPythonNetworkHandle handle) {
+        checkState(isKernelOpen(), "A network can only be loaded in an open kernel.");
+        m_loadedNetworkSource = checkNotNull(source);
+        m_loadedNetworkHandle = checkNotNull(handle);
+    }
+
+    /**
+     * @param source the source of the network
+     * @return the handle of the network from the given source if it was loaded in the kernel of this context, see
+     *         {@link #setLoadedNetwork(URI, DLPythonNetworkHandle)}
+     */
+    public Optional<DLPythonNetworkHandle> getLoadedNetwork(final URI source) {
+        return isKernelOpen() && source.equals(m_loadedNetworkSource) ? Optional.of(m_loadedNetworkHandle)
+            : Optional.empty();
+    }
+
+    /**
+     * Attaches a kernel of the {@link DLPythonKernelPool} to this context. The context must not have an open kernel.
+     */
+    final void attachKernel(final PythonKernel kernel) {
+        m_kernel = checkNotNull(kernel);
+    }
+
+    /**
+     * Detaches the kernel from this context such that it is not closed on {@link #close()} but can be returned to the
+     * {@link DLPythonKernelPool}.
+     */
+    final PythonKernel detachKernel() {
+        final PythonKernel kernel = m_kernel;
+        m_kernel = null;
+        forgetLoadedNetwork();
+        return kernel;
+    }
+
+    private void forgetLoadedNetwork() {
+        m_loadedNetworkSource = null;
+        m_loadedNetworkHandle = null;
+    }
+
     /**
      * Create the Python kernel. Overwrite this method to take control of the kernel creation. The default
      * implementation takes the next {@link PythonKernel} from the {@link PythonKernelQueue} with the
@@ -51,6 +51,7 @@
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -129,7 +130,16 @@ protected synchronized void testInstallation(final DLPythonContext context, fina
                     try {
                         @SuppressWarnings("resource") // Context will be closed by caller.
                         final DLPythonAbstractCommands commands = loader.createCommands(context);
-                        commands.testInstallation(cancelable);
+                        final Optional<String> persistenceKey =
+                            createPersistenceKey(commands, networkTypeName, cancelable);
+                        final DLPythonInstallationTestCache cache = DLPythonInstallationTestCache.getInstance();
+                        if (!forceRefresh && persistenceKey.isPresent() && cache.contains(persistenceKey.get())) {
+                            LOGGER.debug("Installation tests for " + networkTypeName + " succeeded before in the "
+                                + "same Python environment. Skipping them.");
+                        } else {
+                            commands.testInstallation(cancelable);
+                            persistenceKey.ifPresent(cache::put);
+                        }
                         success.set(true);
                         LOGGER.debug("Installation tests for " + networkTypeName + " succeeded.");
                     } catch (final Throwable th) {
@@ -197,5 +207,23 @@ protected synchronized void testInstallation(final DLPythonContext context, fina
                 m_message = null;
             }
         }
+
+        /**
+         * Identifies the tested back end and the state of the Python environment. Successful installation tests are
+         * persisted under this key, see {@link DLPythonInstallationTestCache}.
+         *
+         * @return the key, empty if the Python environment could not be probed
+         */
+        private static Optional<String> createPersistenceKey(final DLPythonAbstractCommands commands,
+            final String networkTypeName, final DLCancelable cancelable) throws DLCanceledExecutionException {
+            try {
+                return Optional.of(DLPythonInstallationTestCache.createKey(networkTypeName,
+                    commands.getInstallationTestFile(), commands.probeEnvironment(cancelable)));
+            } catch (final DLInvalidEnvironmentException | IOException e) {
+                LOGGER.debug("Probing the Python environment for " + networkTypeName
+                    + " failed. Installation test results will not be persisted.", e);
+                return Optional.empty();
+            }
+        }
     }
 }
@@ -47,6 +47,7 @@
 package org.knime.dl.python.core;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -113,6 +114,47 @@ void getNetworkOutputs(DLPythonNetworkHandle network,
 			Map<? extends DLTensorId, ? extends DLTensor<? extends DLReadableBuffer>> outputs, DLCancelable cancelable)
 			throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException;
 
+	/**
+	 * Transmits the inputs of several batches to Python in a single exchange. Together with
+	 * {@link #executeNetworkBatches(DLPythonNetworkHandle, Set, long[], DLCancelable)} and
+	 * {@link #getNetworkOutputBatches(DLPythonNetworkHandle, List, DLCancelable)}, this reduces the number of round trips
+	 * per batch for networks whose execution time is dominated by the communication with Python.
+	 *
+	 * @param network the network handle
+	 * @param inputs the input tensors of each batch, all maps must contain the same tensor ids
+	 * @param cancelable to check if the operation has been canceled
+	 */
+	void setNetworkInputBatches(DLPythonNetworkHandle network,
+			List<? extends Map<? extends DLTensorId, ? extends DLTensor<? extends DLWritableBuffer>>> inputs,
+			DLCancelable cancelable) throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException;
+
+	/**
+	 * Executes the network on all batches transmitted by the last call of
+	 * {@link #setNetworkInputBatches(DLPythonNetworkHandle, List, DLCancelable)} in a single call. The outputs of the
+	 * first batch are also made available to {@link #getNetworkOutputShapes(DLPythonNetworkHandle, Set, DLCancelable)}.
+	 *
+	 * @param network the network handle
+	 * @param requestedOutputs the outputs to compute
+	 * @param batchSizes the size of each batch, in transmission order
+	 * @param cancelable to check if the operation has been canceled
+	 */
+	void executeNetworkBatches(DLPythonNetworkHandle network, Set<? extends DLTensorId> requestedOutputs,
+			long[] batchSizes, DLCancelable cancelable)
+			throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException;
+
+	/**
+	 * Retrieves the outputs of all batches of the last call of
+	 * {@link #executeNetworkBatches(DLPythonNetworkHandle, Set, long[], DLCancelable)} in a single exchange.
+	 *
+	 * @param network the network handle
+	 * @param outputs the output tensors of each batch, in transmission order, all maps must contain the same tensor
+	 *            ids
+	 * @param cancelable to check if the operation has been canceled
+	 */
+	void getNetworkOutputBatches(DLPythonNetworkHandle network,
+			List<? extends Map<? extends DLTensorId, ? extends DLTensor<? extends DLReadableBuffer>>> outputs,
+			DLCancelable cancelable) throws DLInvalidEnvironmentException, IOException, DLCanceledExecutionException;
+
 	/**
 	 * @param the network to train
 	 * @param trainingInputProvider the training data provider
@@ -75,10 +75,13 @@
 import org.knime.dl.core.data.DLWritableShortBuffer;
 import org.knime.dl.core.data.DLWritableStringBuffer;
 import org.knime.dl.core.data.DLWritableUnsignedByteBuffer;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.knime.dl.core.data.convert.DLOneHotConverterFactory;
 import org.knime.dl.python.core.data.DLPythonBitBuffer;
 import org.knime.dl.python.core.data.DLPythonByteBuffer;
 import org.knime.dl.python.core.data.DLPythonDoubleBuffer;
 import org.knime.dl.python.core.data.DLPythonFloatBuffer;
+import org.knime.dl.python.core.data.DLPythonIndexEncodedFloatBuffer;
 import org.knime.dl.python.core.data.DLPythonIntBuffer;
 import org.knime.dl.python.core.data.DLPythonLongBuffer;
 import org.knime.dl.python.core.data.DLPythonShortBuffer;
@@ -160,10 +163,31 @@ public DLTensor<? extends DLReadableBuffer> createReadableTensor(final DLTensorS
 
 	@Override
 	public DLTensorSpec createExecutionTensorSpec(final DLTensorSpec spec, final long batchSize, final long[] shape) {
+		if (spec instanceof DLPythonIndexEncodedTensorSpec) {
+			// e.g. the spec of a slice of an index-encoded tensor
+			return new DLPythonIndexEncodedTensorSpec(spec, batchSize, shape);
+		}
 		return new DLDefaultTensorSpec(spec.getIdentifier(), spec.getName(), batchSize,
 				new DLDefaultFixedTensorShape(shape), spec.getElementType(), spec.getDimensionOrder());
 	}
 
+	/**
+	 * Tensors that are filled by {@link DLOneHotConverterFactory one-hot converters} are backed by
+	 * {@link DLPythonIndexEncodedFloatBuffer index-encoded buffers}, such that only the indices of the hot elements
+	 * are transmitted to Python.
+	 * <P>
+	 * Inherited documentation: {@inheritDoc}
+	 */
+	@Override
+	public DLTensorSpec createExecutionTensorSpec(final DLTensorSpec spec, final long batchSize, final long[] shape,
+			final DLDataValueToTensorConverterFactory<?, ?> converterFactory) {
+		if (converterFactory instanceof DLOneHotConverterFactory && spec.getElementType().equals(float.class)
+				&& shape.length > 0 && shape[shape.length - 1] <= Integer.MAX_VALUE) {
+			return new DLPythonIndexEncodedTensorSpec(spec, batchSize, shape);
+		}
+		return createExecutionTensorSpec(spec, batchSize, shape);
+	}
+
 	private <B extends DLBuffer> DLTensor<B> createTensorInternal(final DLTensorSpec spec) {
 		final long[] shape = DLUtils.Shapes.getFixedShape(spec.getShape())
 				.orElseThrow(() -> new IllegalArgumentException(
@@ -178,7 +202,10 @@ private <B extends DLBuffer> DLTensor<B> createTensorInternal(final DLTensorSpec
 		final Class<?> t = spec.getElementType();
 		// TODO: handle unsafe casts
 		final Supplier<B> s;
-		if (t.equals(double.class)) {
+		if (spec instanceof DLPythonIndexEncodedTensorSpec) {
+			final int depth = (int) shape[shape.length - 1];
+			s = () -> (B) new DLPythonIndexEncodedFloatBuffer(size, depth);
+		} else if (t.equals(double.class)) {
 			s = () -> (B) new DLPythonDoubleBuffer(size);
 		} else if (t.equals(float.class)) {
 			s = () -> (B) new DLPythonFloatBuffer(size);
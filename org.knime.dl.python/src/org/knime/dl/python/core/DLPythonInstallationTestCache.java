@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.dl.core.cache.DLPersistentFileCache;
+
+/**
+ * Persists successful installation tests of Python back ends across sessions. Installation tests import the entire
+ * deep learning stack of a back end, which takes a considerable amount of time. The cache allows to skip them if the
+ * very same back end was successfully tested in the very same Python environment before, e.g. in a previous session.
+ * <P>
+ * Entries are keyed by the back end, a hash of its installation test script and a fingerprint of the Python
+ * environment as reported by {@link DLPythonAbstractCommands#probeEnvironment(DLCancelable)}. Failed tests are not
+ * persisted, they may be caused by transient conditions such as timeouts. The cache is best-effort: failures to read or
+ * write entries are logged and treated as cache misses.
+ *
+ * @author agent, agent@local
+ */
+final class DLPythonInstallationTestCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DLPythonInstallationTestCache.class);
+
+    private static final String ENTRY_FILE_EXTENSION = ".ok";
+
+    private static final int MAX_NUM_ENTRIES = 64;
+
+    private static DLPythonInstallationTestCache instance;
+
+    /**
+     * @return the cache instance that stores its entries in the KNIME home directory
+     */
+    static synchronized DLPythonInstallationTestCache getInstance() {
+        if (instance == null) {
+            instance = new DLPythonInstallationTestCache(
+                new File(KNIMEConstants.getKNIMEHomeDir(), "dl_python_installation_test_cache"));
+        }
+        return instance;
+    }
+
+    /**
+     * @param networkTypeName the name of the network type whose back end is tested
+     * @param installationTestFile the installation test script of the back end, may be <code>null</code>
+     * @param environmentFingerprint the output of {@link DLPythonAbstractCommands#probeEnvironment(DLCancelable)}
+     * @return the key of the cache entry
+     * @throws IOException if reading the installation test script failed
+     */
+    static String createKey(final String networkTypeName, final File installationTestFile,
+        final String environmentFingerprint) throws IOException {
+        final String installationTestHash = installationTestFile != null
+            ? DLPersistentFileCache.hash(Files.readAllBytes(installationTestFile.toPath())) : "";
+        return networkTypeName + "\n" + installationTestHash + "\n" + environmentFingerprint;
+    }
+
+    private final DLPersistentFileCache m_entries;
+
+    /**
+     * @param directory the directory in which the entries are stored, is created if it does not exist
+     */
+    DLPythonInstallationTestCache(final File directory) {
+        m_entries = new DLPersistentFileCache(directory, ENTRY_FILE_EXTENSION, MAX_NUM_ENTRIES);
+    }
+
+    /**
+     * @param key the key created via {@link #createKey(String, File, String)}
+     * @return <code>true</code> if a successful installation test was persisted for the given key
+     */
+    synchronized boolean contains(final String key) {
+        try {
+            return m_entries.get(key).isPresent();
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to look up installation test result in the cache.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Persists a successful installation test.
+     *
+     * @param key the key created via {@link #createKey(String, File, String)}
+     */
+    synchronized void put(final String key) {
+        try {
+            m_entries.put(key, new byte[0]);
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to persist installation test result.", e);
+        }
+    }
+}
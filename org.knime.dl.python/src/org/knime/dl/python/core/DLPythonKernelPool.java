@@ -0,0 +1,479 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.core;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.dl.core.cache.DLCacheStatistics;
+import org.knime.dl.python.prefs.DLPythonPreferences;
+import org.knime.python2.kernel.PythonKernel;
+import org.knime.python2.kernel.PythonKernelCleanupException;
+
+/**
+ * Keeps Python kernels that have a network loaded alive after their execution session ended, such that subsequent
+ * sessions (e.g. later iterations of a loop or other chunks of a partitioned workflow) that execute the same network
+ * can skip launching Python, setting up the back end and reading the network from its source.
+ * <P>
+ * Idle kernels are keyed by the Python command, the serialization library, the additional environment variables of the
+ * session and the network source (its URI, size and modification time). Only networks whose source is a file in the
+ * local file system are pooled. A kernel is either idle in the pool or leased by exactly one session. The total size of
+ * the network files of the idle kernels is bounded by a budget that can be specified via VM option
+ * {@link #NETWORK_FILE_BUDGET_VM_OPT}. The size of a network file is only a proxy for the memory its kernel occupies,
+ * the Python process itself and the back end need additional memory. The least recently used kernels are closed if
+ * the budget is exceeded. All idle kernels are closed upon a {@link MemoryAlertSystem memory alert}.
+ *
+ * @author agent, agent@local
+ */
+public final class DLPythonKernelPool {
+
+    /**
+     * @see #getNetworkFileBudget()
+     */
+    public static final String NETWORK_FILE_BUDGET_VM_OPT = "knime.dl.python.kernelpoolnetworkfilesize";
+
+    /**
+     * @see #getNetworkFileBudget()
+     */
+    public static final int DEFAULT_NETWORK_FILE_BUDGET = 1024; // in MB
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DLPythonKernelPool.class);
+
+    private static DLPythonKernelPool instance;
+
+    /**
+     * Returns the singleton instance.
+     *
+     * @return the singleton instance
+     */
+    public static synchronized DLPythonKernelPool getInstance() {
+        if (instance == null) {
+            instance = new DLPythonKernelPool();
+        }
+        return instance;
+    }
+
+    private static long parseBudget() {
+        long budget = -1;
+        try {
+            budget = Long.parseLong(
+                System.getProperty(NETWORK_FILE_BUDGET_VM_OPT, Integer.toString(DEFAULT_NETWORK_FILE_BUDGET)));
+        } catch (final NumberFormatException ex) {
+            // Ignore, see below.
+        }
+        if (budget < 0) {
+            budget = DEFAULT_NETWORK_FILE_BUDGET;
+            LOGGER.warn("The VM option -D" + NETWORK_FILE_BUDGET_VM_OPT
+                + " was not set to a non-negative integer value, and thus defaults to " + budget + " MB.");
+        }
+        return budget * 1024 * 1024;
+    }
+
+    /**
+     * Access-ordered, i.e. iteration starts at the least recently used entry.
+     */
+    private final LinkedHashMap<Key, IdleKernel> m_idle = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long m_budget;
+
+    private long m_idleSize = 0;
+
+    // statistics, guarded by this:
+
+    private long m_hitCount = 0;
+
+    private long m_missCount = 0;
+
+    private long m_evictionCount = 0;
+
+    private long m_loadCount = 0;
+
+    private long m_totalLoadTime = 0; // in ns
+
+    private DLPythonKernelPool() {
+        m_budget = parseBudget();
+        MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
+
+            @Override
+            protected boolean memoryAlert(final MemoryAlert alert) {
+                final int evicted = clear();
+                if (evicted > 0) {
+                    LOGGER.debug("Closed " + evicted + " idle Python kernel(s) due to low memory.");
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * @return the maximum total size (in bytes) of the network files of the idle kernels that can be specified by the
+     *         user via VM option {@link #NETWORK_FILE_BUDGET_VM_OPT} (in MB), defaults to
+     *         {@link #DEFAULT_NETWORK_FILE_BUDGET}. A budget of zero disables pooling.
+     */
+    public long getNetworkFileBudget() {
+        return m_budget;
+    }
+
+    /**
+     * Leases the idle kernel that has the given network loaded, if any, and attaches it to the given context. The
+     * returned lease must be {@link Lease#close() closed} before the context is closed.
+     *
+     * @param context the context that will execute the network, must not have an open kernel yet
+     * @param source the URI of the network source
+     * @param resolvedSource the resolved URL of the network source
+     * @param environmentVariables the additional environment variables that will be set in the kernel
+     * @return the lease, or an empty optional if pooling is disabled or the network source is not a local file
+     */
+    public Optional<Lease> lease(final DLPythonAbstractContext context, final URI source, final URL resolvedSource,
+        final Map<String, String> environmentVariables) {
+        if (m_budget == 0) {
+            return Optional.empty();
+        }
+        if (context.isKernelOpen()) {
+            throw new IllegalStateException("Context already has an open kernel. This is an implementation error.");
+        }
+        final File file = getLocalFile(resolvedSource);
+        // both are zero if the file does not exist or cannot be accessed
+        final long size = file != null ? file.length() : 0;
+        final long lastModified = file != null ? file.lastModified() : 0;
+        if (size == 0 || lastModified == 0) {
+            LOGGER.debug("Network source '" + source + "' is not an accessible local file. The network will not be "
+                + "pooled.");
+            return Optional.empty();
+        }
+        final Key key = new Key(context.getPythonCommand().createProcessBuilder().command(),
+            DLPythonPreferences.getSerializerPreference(), source, size, lastModified,
+            new HashMap<>(environmentVariables));
+        final IdleKernel idle;
+        synchronized (this) {
+            idle = m_idle.remove(key);
+            if (idle != null) {
+                m_idleSize -= idle.m_size;
+                m_hitCount++;
+            } else {
+                m_missCount++;
+            }
+        }
+        if (idle != null) {
+            context.attachKernel(idle.m_kernel);
+        }
+        return Optional.of(new Lease(key, size, context, idle != null ? idle.m_handle : null));
+    }
+
+    /**
+     * Closes all idle kernels.
+     *
+     * @return the number of closed kernels
+     */
+    public int clear() {
+        final List<IdleKernel> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(m_idle.values());
+            m_idle.clear();
+            m_idleSize = 0;
+            m_evictionCount += evicted.size();
+        }
+        evicted.forEach(DLPythonKernelPool::closeKernel);
+        return evicted.size();
+    }
+
+    /**
+     * @return the number of leases that found an idle kernel with the requested network loaded
+     */
+    public synchronized long getHitCount() {
+        return m_hitCount;
+    }
+
+    /**
+     * @return the number of leases that had to load the requested network
+     */
+    public synchronized long getMissCount() {
+        return m_missCount;
+    }
+
+    /**
+     * @return the number of idle kernels that were closed due to the budget, a memory alert or {@link #clear()}
+     */
+    public synchronized long getEvictionCount() {
+        return m_evictionCount;
+    }
+
+    /**
+     * @return the average time (in ms) it took to load a network on a miss, zero if no network was loaded yet
+     */
+    public synchronized double getAverageLoadTime() {
+        return m_loadCount == 0 ? 0d : m_totalLoadTime / (double)m_loadCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the number of currently idle kernels
+     */
+    public synchronized int getIdleCount() {
+        return m_idle.size();
+    }
+
+    /**
+     * @return a snapshot of the statistics of the pool, its size and capacity are those of the network files of the
+     *         idle kernels and the budget
+     */
+    public synchronized DLCacheStatistics getStatistics() {
+        return new DLCacheStatistics("python kernels", m_idle.size(), m_idleSize, m_budget, m_hitCount, m_missCount,
+            m_evictionCount);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Python kernel pool: " + m_idle.size() + " idle kernel(s) (" + m_idleSize / (1024 * 1024) + " of "
+            + m_budget / (1024 * 1024) + " MB of network files), " + m_hitCount + " hit(s), " + m_missCount
+            + " miss(es), " + m_evictionCount + " eviction(s), average load time "
+            + String.format("%.1f", getAverageLoadTime()) + " ms";
+    }
+
+    private static File getLocalFile(final URL url) {
+        try {
+            return FileUtil.getFileFromURL(url);
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private synchronized void recordLoad(final long loadTime) {
+        m_loadCount++;
+        m_totalLoadTime += loadTime;
+    }
+
+    private void checkIn(final Key key, final IdleKernel kernel) {
+        final List<IdleKernel> evicted = new ArrayList<>(1);
+        synchronized (this) {
+            if (kernel.m_size > m_budget) {
+                evicted.add(kernel);
+            } else {
+                final IdleKernel replaced = m_idle.put(key, kernel);
+                m_idleSize += kernel.m_size;
+                if (replaced != null) {
+                    // Another session executed the same network concurrently. Keep the more recent kernel.
+                    m_idleSize -= replaced.m_size;
+                    evicted.add(replaced);
+                }
+                for (final Iterator<IdleKernel> it = m_idle.values().iterator(); m_idleSize > m_budget;) {
+                    final IdleKernel lru = it.next();
+                    it.remove();
+                    m_idleSize -= lru.m_size;
+                    evicted.add(lru);
+                }
+            }
+            m_evictionCount += evicted.size();
+        }
+        evicted.forEach(DLPythonKernelPool::closeKernel);
+        LOGGER.debug(this);
+    }
+
+    private static void closeKernel(final IdleKernel kernel) {
+        try {
+            kernel.m_kernel.close();
+        } catch (final PythonKernelCleanupException ex) {
+            LOGGER.debug("An exception occurred while closing an idle Python kernel. Cause: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * A kernel that is leased by an execution session. If the lease {@link #isHit() is a hit}, the kernel is already
+     * attached to the session's context and the network is already loaded. Otherwise, the session has to load the
+     * network and report its handle via {@link #loaded(DLPythonNetworkHandle, long)}.
+     * <P>
+     * The session must {@link #setReusable() mark} the lease as reusable once it left the kernel in a well-defined
+     * state (i.e. it completed without errors or cancellation). Only then {@link #close() closing} the lease detaches
+     * the kernel from the context and returns it to the pool. Otherwise, the kernel stays attached and is closed
+     * together with the context.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Key m_key;
+
+        private final long m_size;
+
+        private final DLPythonAbstractContext m_context;
+
+        private DLPythonNetworkHandle m_handle;
+
+        private boolean m_hit;
+
+        private boolean m_reusable = false;
+
+        private Lease(final Key key, final long size, final DLPythonAbstractContext context,
+            final DLPythonNetworkHandle handle) {
+            m_key = key;
+            m_size = size;
+            m_context = context;
+            m_handle = handle;
+            m_hit = handle != null;
+        }
+
+        /**
+         * @return <code>true</code> if the network is already loaded in the context's kernel
+         */
+        public boolean isHit() {
+            return m_hit;
+        }
+
+        /**
+         * @return the handle of the loaded network, empty if the lease is a miss and the network was not loaded yet
+         */
+        public Optional<DLPythonNetworkHandle> getHandle() {
+            return Optional.ofNullable(m_handle);
+        }
+
+        /**
+         * Reports that the network was loaded into the context's kernel.
+         *
+         * @param handle the handle of the loaded network
+         * @param loadTime the time (in ns) it took to load the network
+         */
+        public void loaded(final DLPythonNetworkHandle handle, final long loadTime) {
+            m_handle = Objects.requireNonNull(handle);
+            recordLoad(loadTime);
+        }
+
+        /**
+         * Marks the kernel as reusable by subsequent sessions.
+         */
+        public void setReusable() {
+            m_reusable = true;
+        }
+
+        @Override
+        public void close() {
+            if (m_reusable && m_handle != null && m_context.isKernelOpen()) {
+                checkIn(m_key, new IdleKernel(m_context.detachKernel(), m_handle, m_size));
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final List<String> m_command;
+
+        private final String m_serializer;
+
+        private final URI m_source;
+
+        private final long m_size;
+
+        private final long m_lastModified;
+
+        private final Map<String, String> m_environmentVariables;
+
+        private final int m_hashCode;
+
+        private Key(final List<String> command, final String serializer, final URI source, final long size,
+            final long lastModified, final Map<String, String> environmentVariables) {
+            m_command = Collections.unmodifiableList(new ArrayList<>(command));
+            m_serializer = serializer;
+            m_source = source;
+            m_size = size;
+            m_lastModified = lastModified;
+            m_environmentVariables = environmentVariables;
+            m_hashCode =
+                Objects.hash(m_command, m_serializer, m_source, m_size, m_lastModified, m_environmentVariables);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return other.m_command.equals(m_command) //
+                && Objects.equals(other.m_serializer, m_serializer) //
+                && other.m_source.equals(m_source) //
+                && other.m_size == m_size //
+                && other.m_lastModified == m_lastModified //
+                && other.m_environmentVariables.equals(m_environmentVariables);
+        }
+    }
+
+    private static final class IdleKernel {
+
+        private final PythonKernel m_kernel;
+
+        private final DLPythonNetworkHandle m_handle;
+
+        private final long m_size;
+
+        private IdleKernel(final PythonKernel kernel, final DLPythonNetworkHandle handle, final long size) {
+            m_kernel = kernel;
+            m_handle = handle;
+            m_size = size;
+        }
+    }
+}
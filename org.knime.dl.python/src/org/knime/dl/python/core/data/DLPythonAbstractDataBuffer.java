@@ -113,6 +113,11 @@ public S getStorageForWriting(final long startPos, final long length) throws Buf
 		return m_buffer.getStorageForWriting(startPos, length);
 	}
 
+	@Override
+	public int getElementsPerStorageUnit() {
+		return m_buffer.getElementsPerStorageUnit();
+	}
+
 	@Override
 	public void zeroPad(final long length) throws IllegalArgumentException, BufferOverflowException {
 		m_buffer.zeroPad(length);
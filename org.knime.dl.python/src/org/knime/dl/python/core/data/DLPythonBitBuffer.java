@@ -64,7 +64,7 @@
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
 @SuppressWarnings("serial") // not intended for serialization
-public class DLPythonBitBuffer extends DLPythonAbstractDataBuffer<DLDefaultBitBuffer, boolean[]>
+public class DLPythonBitBuffer extends DLPythonAbstractDataBuffer<DLDefaultBitBuffer, long[]>
     implements DLWritableBitBuffer, DLReadableBitBuffer {
 
     /**
@@ -195,4 +195,9 @@ public void put(final boolean value) throws BufferOverflowException {
     public void putAll(final boolean[] values) throws BufferOverflowException {
         m_buffer.putAll(values);
     }
+
+    @Override
+    public void putAll(final long[] words, final long length) throws BufferOverflowException {
+        m_buffer.putAll(words, length);
+    }
 }
@@ -49,10 +49,13 @@
 package org.knime.dl.python.core.data.serde;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
 import org.knime.dl.python.core.data.DLPythonBitBuffer;
 import org.knime.python.typeextension.Deserializer;
 import org.knime.python.typeextension.DeserializerFactory;
@@ -92,9 +95,11 @@ public DataCell deserialize(final byte[] bytes, final FileStoreFactory fileStore
                 // for (int i = 0; i < numDimensions; i++) {
                 // shape[i] = buffer.getLong();
                 // }
-                final DLPythonBitBuffer value = new DLPythonBitBuffer(bytes.length);
-                final boolean[] storage = value.getStorageForWriting(0, bytes.length);
-                writeToStorage(bytes, storage, 0, bytes.length);
+                final ByteBuffer packed = wrap(bytes);
+                final int numBits = getNumBits(packed);
+                final DLPythonBitBuffer value = new DLPythonBitBuffer(numBits);
+                final long[] storage = value.getStorageForWriting(0, numBits);
+                writeToStorage(packed, storage, 0, numBits);
                 return value;
             }
 
@@ -106,16 +111,44 @@ public void deserialize(final byte[] bytes, final DLTensor<DLPythonBitBuffer> da
                 // for (int i = 0; i < numDimensions; i++) {
                 // shape[i] = buffer.getLong();
                 // }
+                final ByteBuffer packed = wrap(bytes);
+                final int numBits = getNumBits(packed);
                 final DLPythonBitBuffer tensorBuffer = data.getBuffer();
                 final int writeStart = (int)tensorBuffer.size();
-                final boolean[] storage = tensorBuffer.getStorageForWriting(writeStart, bytes.length);
-                writeToStorage(bytes, storage, writeStart, bytes.length);
+                final long[] storage = tensorBuffer.getStorageForWriting(writeStart, numBits);
+                writeToStorage(packed, storage, writeStart, numBits);
             }
 
-            private void writeToStorage(final byte[] bytes, final boolean[] storage, final int start,
+            // bits are transmitted packed, preceded by their number, see DLPythonBitBufferSerializerFactory
+
+            private ByteBuffer wrap(final byte[] bytes) {
+                return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            private int getNumBits(final ByteBuffer packed) {
+                final long numBits = packed.getLong();
+                if (numBits < 0 || numBits > Integer.MAX_VALUE
+                    || (numBits + Byte.SIZE - 1) / Byte.SIZE != packed.remaining()) {
+                    throw new IllegalArgumentException(
+                        "Received invalid bit data from Python. Bit count " + numBits + " does not match data size.");
+                }
+                return (int)numBits;
+            }
+
+            private void writeToStorage(final ByteBuffer packed, final long[] storage, final int start,
                 final int length) {
-                for (int i = start; i < start + length; i++) {
-                    storage[i] = bytes[i] != 0;
+                int i = 0;
+                for (; i + Long.SIZE <= length; i += Long.SIZE) {
+                    DLDefaultBitBuffer.setBits(storage, start + i, Long.SIZE,
+                        DLPythonBitBufferSerializerFactory.reverseBitsPerByte(packed.getLong()));
+                }
+                if (i < length) {
+                    long last = 0L;
+                    for (int b = 0; packed.hasRemaining(); b++) {
+                        last |= (packed.get() & 0xFFL) << (b * Byte.SIZE);
+                    }
+                    DLDefaultBitBuffer.setBits(storage, start + i, length - i,
+                        DLPythonBitBufferSerializerFactory.reverseBitsPerByte(last));
                 }
             }
         };
@@ -48,9 +48,10 @@
  */
 package org.knime.dl.python.core.data.serde;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.knime.dl.core.data.DLBuffer;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
 import org.knime.dl.python.core.data.DLPythonBitBuffer;
 import org.knime.python.typeextension.Serializer;
 import org.knime.python.typeextension.SerializerFactory;
@@ -77,27 +78,47 @@ public DLPythonBitBufferSerializerFactory() {
 
     @Override
     public Serializer<? extends DLPythonBitBuffer> createSerializer() {
+        return createSerializer(false);
+    }
+
+    @Override
+    public Serializer<? extends DLPythonBitBuffer> createPooledSerializer() {
+        return createSerializer(true);
+    }
+
+    private static Serializer<DLPythonBitBuffer> createSerializer(final boolean pooled) {
+        // bits are transmitted packed, preceded by their number, see writePacked
+        return new DLPythonPrimitiveBufferSerializer<>(size -> Long.BYTES + (size + Byte.SIZE - 1) / Byte.SIZE,
+            DLPythonBitBufferSerializerFactory::writePacked, pooled);
+    }
 
-        return value -> {
-            // TODO: we serialize to flat buffers for now
-            // final int numDimensions = value.getNumDimensions();
-            // final long[] shape = value.getShape();
-            final long size = value.size() - value.getNextReadPosition();
-            final long numBytes = size;
-            if (numBytes > Integer.MAX_VALUE) {
-                throw new IOException(
-                    "Transmitting data to Python failed. Buffer size exceeds the limit of 2^31-1 bytes.");
+    /**
+     * Writes the number of bits followed by the bits packed into bytes. Within each byte, the first bit is stored at
+     * the most significant position, which is what <code>numpy.unpackbits</code> expects by default.
+     */
+    private static void writePacked(final DLPythonBitBuffer value, final int offset, final int length,
+        final ByteBuffer target) {
+        target.putLong(length);
+        final long[] words = value.getStorageForReading(offset, length);
+        int i = 0;
+        for (; i + Long.SIZE <= length; i += Long.SIZE) {
+            target.putLong(reverseBitsPerByte(DLDefaultBitBuffer.getBits(words, offset + i, Long.SIZE)));
+        }
+        if (i < length) {
+            final long last = reverseBitsPerByte(DLDefaultBitBuffer.getBits(words, offset + i, length - i));
+            for (int b = 0; target.hasRemaining(); b++) {
+                target.put((byte)(last >>> (b * Byte.SIZE)));
             }
-            // Create the target array
-            final byte[] target = new byte[(int)numBytes];
-            value.readToByteArray(target, 0, (int)size);
-            // TODO: we serialize to flat buffers for now
-            // buffer.putInt(numDimensions);
-            // for (final long dim : shape) {
-            // buffer.putLong(dim);
-            // }
-            return target;
-        };
+        }
+    }
+
+    /**
+     * Reverses the order of the bits within each byte of the given word, i.e. converts between the least significant
+     * bit first order of the buffer's words and the most significant bit first order of the transmitted bytes (given
+     * a little-endian target).
+     */
+    static long reverseBitsPerByte(final long word) {
+        return Long.reverseBytes(Long.reverse(word));
     }
 
     @Override
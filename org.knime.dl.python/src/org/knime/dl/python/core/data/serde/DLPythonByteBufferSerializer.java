@@ -46,41 +46,30 @@
  */
 package org.knime.dl.python.core.data.serde;
 
-import java.io.IOException;
-import java.nio.ByteBuffer;
-
 import org.knime.dl.core.data.DLAbstractByteBuffer;
 import org.knime.dl.python.core.data.DLPythonAbstractByteBuffer;
-import org.knime.python.typeextension.Serializer;
 
 /**
  * @author Benjamin Wilhelm, KNIME GmbH, Konstanz, Germany
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
-public class DLPythonByteBufferSerializer<B extends DLPythonAbstractByteBuffer<? extends DLAbstractByteBuffer>> implements Serializer<B> {
+public class DLPythonByteBufferSerializer<B extends DLPythonAbstractByteBuffer<? extends DLAbstractByteBuffer>>
+    extends DLPythonPrimitiveBufferSerializer<B> {
+
+    /**
+     * Creates a new serializer that allocates a new target array per invocation.
+     */
+    public DLPythonByteBufferSerializer() {
+        this(false);
+    }
 
-    @Override
-    public byte[] serialize(final B value) throws IOException {
-        // TODO: we serialize to flat buffers for now
-        // final int numDimensions = value.getNumDimensions();
-        // final long[] shape = value.getShape();
-        final long size = value.size() - value.getNextReadPosition();
-        final long numBytes = /*
-                               * Integer.BYTES + numDimensions * Long.BYTES +
-                               */ size * Byte.BYTES;
-        if (numBytes > Integer.MAX_VALUE) {
-            throw new IOException(
-                "Transmitting data to Python failed. Buffer size exceeds the limit of 2^31-1 bytes.");
-        }
-        final byte[] tensorStorage = value.getStorageForReading(value.getNextReadPosition(), size);
-        final ByteBuffer buffer = ByteBuffer.allocate((int)numBytes);
-        buffer.put(tensorStorage, (int)value.getNextReadPosition(), (int)size);
-        // TODO: we serialize to flat buffers for now
-        // buffer.putInt(numDimensions);
-        // for (final long dim : shape) {
-        // buffer.putLong(dim);
-        // }
-        return buffer.array();
+    /**
+     * @param pooled whether the target array may be reused across invocations, see
+     *            {@link DLPythonPrimitiveBufferSerializer}
+     */
+    public DLPythonByteBufferSerializer(final boolean pooled) {
+        super(Byte.BYTES, (value, offset, length, target) -> target
+            .put(value.getStorageForReading(offset, length), offset, length), pooled);
     }
 }
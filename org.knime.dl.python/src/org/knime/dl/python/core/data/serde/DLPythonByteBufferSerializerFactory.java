@@ -78,6 +78,11 @@ public Serializer<? extends DLPythonByteBuffer> createSerializer() {
         return new DLPythonByteBufferSerializer<>();
     }
 
+    @Override
+    public Serializer<? extends DLPythonByteBuffer> createPooledSerializer() {
+        return new DLPythonByteBufferSerializer<>(true);
+    }
+
     @Override
     public Class<? extends DLBuffer> getBufferType() {
         return DLPythonByteBuffer.class;
@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.core.data.serde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.knime.dl.core.data.DLBuffer;
+import org.knime.dl.python.core.data.DLPythonIndexEncodedFloatBuffer;
+import org.knime.python.typeextension.Serializer;
+import org.knime.python.typeextension.SerializerFactory;
+
+/**
+ * Serializes {@link DLPythonIndexEncodedFloatBuffer index-encoded buffers} into a flat, little-endian byte array that
+ * consists of the depth of the buffer followed by the indices of its readable part (32 bit integers each). Zero vectors
+ * are encoded as index <code>-1</code>. The Python deserializer expands the indices into the dense one-hot vectors.
+ *
+ * @author agent, agent@local
+ */
+public class DLPythonIndexEncodedFloatBufferSerializerFactory extends SerializerFactory<DLPythonIndexEncodedFloatBuffer>
+		implements DLSerializerFactory {
+
+	/**
+	 * The unique identifier of this serializer factory.
+	 */
+	public static final String IDENTIFIER =
+			"org.knime.dl.python.core.data.serde.DLPythonIndexEncodedFloatBufferSerializerFactory";
+
+	/**
+	 * Empty framework constructor.
+	 */
+	public DLPythonIndexEncodedFloatBufferSerializerFactory() {
+		super(DLPythonIndexEncodedFloatBuffer.class);
+	}
+
+	@Override
+	public Serializer<? extends DLPythonIndexEncodedFloatBuffer> createSerializer() {
+		return new Serializer<DLPythonIndexEncodedFloatBuffer>() {
+
+			@Override
+			public byte[] serialize(final DLPythonIndexEncodedFloatBuffer value) throws IOException {
+				final int offset = (int) value.getNextReadPosition();
+				final int length = (int) (value.size() / value.getElementsPerStorageUnit()) - offset;
+				final ByteBuffer buffer =
+						ByteBuffer.allocate(Integer.BYTES * (1 + length)).order(ByteOrder.LITTLE_ENDIAN);
+				buffer.putInt(value.getDepth());
+				buffer.asIntBuffer().put(value.getStorageForReading(offset, length), offset, length);
+				return buffer.array();
+			}
+		};
+	}
+
+	@Override
+	public Class<? extends DLBuffer> getBufferType() {
+		return DLPythonIndexEncodedFloatBuffer.class;
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.core.data.serde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongUnaryOperator;
+
+import org.knime.dl.python.core.data.DLPythonDataBuffer;
+import org.knime.python.typeextension.Serializer;
+
+/**
+ * Serializes the readable part of a primitive {@link DLPythonDataBuffer} into a flat, little-endian byte array which
+ * can directly be wrapped by <code>numpy.frombuffer</code> on the Python side.
+ * <P>
+ * If created in pooled mode, the serializer reuses its target buffer across invocations as long as the serialized size
+ * does not change (which is the case for all but the last batch of an execution or training run). The array returned by
+ * {@link #serialize(DLPythonDataBuffer)} is then only valid until the next invocation of the serializer. Pooled
+ * serializers must therefore only be used by callers that hand each serialized batch over to Python before serializing
+ * the next one.
+ *
+ * @param <B> the type of the serialized buffer
+ * @author agent, agent@local
+ */
+public class DLPythonPrimitiveBufferSerializer<B extends DLPythonDataBuffer<?>> implements Serializer<B> {
+
+	private final LongUnaryOperator m_numBytes;
+
+	private final DLPythonBufferWriter<B> m_writer;
+
+	private final boolean m_pooled;
+
+	private ByteBuffer m_pooledBuffer;
+
+	/**
+	 * @param elementSize the number of bytes per buffer element
+	 * @param writer writes the buffer's elements into the little-endian target buffer
+	 * @param pooled whether the target buffer may be reused across invocations, see the class description
+	 */
+	public DLPythonPrimitiveBufferSerializer(final int elementSize, final DLPythonBufferWriter<B> writer,
+			final boolean pooled) {
+		this(size -> size * elementSize, writer, pooled);
+	}
+
+	/**
+	 * Creates a serializer for buffers whose serialized form is not a multiple of their number of elements, e.g.
+	 * because their elements are packed.
+	 *
+	 * @param numBytes maps the number of elements to write to the number of bytes of the target buffer
+	 * @param writer writes the buffer's elements into the little-endian target buffer
+	 * @param pooled whether the target buffer may be reused across invocations, see the class description
+	 */
+	public DLPythonPrimitiveBufferSerializer(final LongUnaryOperator numBytes, final DLPythonBufferWriter<B> writer,
+			final boolean pooled) {
+		m_numBytes = numBytes;
+		m_writer = writer;
+		m_pooled = pooled;
+	}
+
+	@Override
+	public byte[] serialize(final B value) throws IOException {
+		// TODO: we serialize to flat buffers for now
+		final long size = value.size() - value.getNextReadPosition();
+		final long numBytes = m_numBytes.applyAsLong(size);
+		if (numBytes > Integer.MAX_VALUE) {
+			throw new IOException(
+					"Transmitting data to Python failed. Buffer size exceeds the limit of 2^31-1 bytes.");
+		}
+		final ByteBuffer buffer = getTargetBuffer((int) numBytes);
+		m_writer.write(value, (int) value.getNextReadPosition(), (int) size, buffer);
+		return buffer.array();
+	}
+
+	private ByteBuffer getTargetBuffer(final int numBytes) {
+		// The whole backing array is transmitted, so we can only reuse buffers that exactly match the requested size.
+		if (m_pooledBuffer != null && m_pooledBuffer.capacity() == numBytes) {
+			m_pooledBuffer.clear();
+			return m_pooledBuffer;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(numBytes).order(ByteOrder.LITTLE_ENDIAN);
+		if (m_pooled) {
+			m_pooledBuffer = buffer;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Writes the elements of a buffer into a little-endian {@link ByteBuffer}.
+	 *
+	 * @param <B> the type of the buffer
+	 */
+	@FunctionalInterface
+	public interface DLPythonBufferWriter<B> {
+
+		/**
+		 * @param value the buffer to write
+		 * @param offset the position of the first element to write
+		 * @param length the number of elements to write
+		 * @param target the target buffer, its capacity matches the number of bytes to write
+		 */
+		void write(B value, int offset, int length, ByteBuffer target);
+	}
+}
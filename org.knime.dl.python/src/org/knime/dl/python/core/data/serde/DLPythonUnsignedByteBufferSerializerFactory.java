@@ -78,6 +78,11 @@ public Serializer<? extends DLPythonUnsignedByteBuffer> createSerializer() {
         return new DLPythonByteBufferSerializer<>();
     }
 
+    @Override
+    public Serializer<? extends DLPythonUnsignedByteBuffer> createPooledSerializer() {
+        return new DLPythonByteBufferSerializer<>(true);
+    }
+
     @Override
     public Class<? extends DLBuffer> getBufferType() {
         return DLPythonUnsignedByteBuffer.class;
@@ -49,6 +49,8 @@
 package org.knime.dl.python.core.data.serde;
 
 import org.knime.dl.core.data.DLBuffer;
+import org.knime.python.typeextension.Serializer;
+import org.knime.python.typeextension.SerializerFactory;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -56,4 +58,15 @@
  */
 public interface DLSerializerFactory {
 	Class<? extends DLBuffer> getBufferType();
+
+	/**
+	 * Creates a serializer that may reuse its target array across invocations, see
+	 * {@link DLPythonPrimitiveBufferSerializer}. The array returned by the serializer is only valid until its next
+	 * invocation. The default implementation returns a regular, non-pooling serializer.
+	 *
+	 * @return the serializer
+	 */
+	default Serializer<?> createPooledSerializer() {
+		return ((SerializerFactory<?>) this).createSerializer();
+	}
 }
@@ -48,12 +48,23 @@
  */
 package org.knime.dl.python.core.execution;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.knime.core.util.ThreadUtils;
 import org.knime.dl.core.DLCanceledExecutionException;
 import org.knime.dl.core.DLInvalidEnvironmentException;
 import org.knime.dl.core.DLMissingExtensionException;
@@ -62,16 +73,20 @@
 import org.knime.dl.core.DLTensorFactory;
 import org.knime.dl.core.DLTensorId;
 import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLReadableBuffer;
 import org.knime.dl.core.data.DLWritableBuffer;
 import org.knime.dl.core.execution.DLAbstractNetworkExecutionSession;
 import org.knime.dl.core.execution.DLExecutionMonitor;
 import org.knime.dl.core.execution.DLExecutionStatus;
 import org.knime.dl.core.execution.DLNetworkOutputConsumer;
 import org.knime.dl.core.training.DLTrainingMonitor;
+import org.knime.dl.python.core.DLPythonAbstractContext;
 import org.knime.dl.python.core.DLPythonCommands;
 import org.knime.dl.python.core.DLPythonContext;
+import org.knime.dl.python.core.DLPythonKernelPool;
 import org.knime.dl.python.core.DLPythonNetwork;
 import org.knime.dl.python.core.DLPythonNetworkHandle;
+import org.knime.dl.python.core.DLPythonNetworkLoader;
 import org.knime.dl.python.core.DLPythonNetworkLoaderRegistry;
 
 /**
@@ -81,6 +96,12 @@
 public abstract class DLPythonAbstractNetworkExecutionSession<N extends DLPythonNetwork, C extends DLPythonCommands>
 	extends DLAbstractNetworkExecutionSession<N> implements DLPythonNetworkExecutionSession {
 
+    /**
+     * The number of input and output tensor sets that are cycled through in pipelined execution mode. Two sets allow
+     * the next batch to be prepared and the previous batch to be consumed while the current batch is being executed.
+     */
+    private static final int PIPELINE_DEPTH = 2;
+
     private final DLPythonContext m_context;
 
     /**
@@ -93,6 +114,55 @@
 
     private final Map<String, String> m_additionalEnvVars;
 
+    private boolean m_pipelined = false;
+
+    private boolean m_keepNetworkLoaded = false;
+
+    private boolean m_shareLoadedNetwork = false;
+
+    /**
+     * Whether the last call of {@link #executeInternal(DLExecutionMonitor)} completed such that the loaded network can
+     * be {@link #setShareLoadedNetwork(boolean) shared} with subsequent sessions.
+     */
+    private boolean m_shareable = false;
+
+    private int m_batchesPerTransfer = 1;
+
+    /**
+     * Is populated during the first call of {@link #executeInternal(DLExecutionMonitor)} if executing in grouped mode.
+     * The first element is {@link #m_input}.
+     */
+    private List<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_groupInputs;
+
+    /**
+     * Is populated during the first call of {@link #executeInternal(DLExecutionMonitor)} if executing in grouped mode.
+     * The first element is {@link #m_output}.
+     */
+    private List<Map<DLTensorId, DLTensor<? extends DLReadableBuffer>>> m_groupOutputs;
+
+    /**
+     * Is acquired during the first call of {@link #executeInternal(DLExecutionMonitor)} if the network should be kept
+     * loaded and pooling is enabled.
+     */
+    private DLPythonKernelPool.Lease m_lease;
+
+    /**
+     * Is populated during the first call of {@link #executeInternal(DLExecutionMonitor)} if executing in pipelined
+     * mode. The first element is {@link #m_input}.
+     */
+    private List<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_pipelineInputs;
+
+    /**
+     * Is populated during the first call of {@link #executeInternal(DLExecutionMonitor)} if executing in pipelined
+     * mode. The first element is {@link #m_output}.
+     */
+    private List<Map<DLTensorId, DLTensor<? extends DLReadableBuffer>>> m_pipelineOutputs;
+
+    /**
+     * The execution specs of the requested outputs. Are determined after the first batch has been executed.
+     */
+    private List<DLTensorSpec> m_outputExecutionSpecs;
+
     protected DLPythonAbstractNetworkExecutionSession(final DLPythonContext context, final N network,
         final Set<DLTensorSpec> executionInputSpecs, final Set<DLTensorId> requestedOutputs,
         final DLNetworkInputPreparer inputPreparer,
@@ -110,37 +180,93 @@ protected DLPythonAbstractNetworkExecutionSession(final DLPythonContext context,
 	@Override
 	public void close() throws Exception {
 		super.close();
+		// the first set of each pipeline is closed by super
+		if (m_pipelineInputs != null) {
+			m_pipelineInputs.stream().skip(1).forEach(i -> i.values().forEach(DLTensor::close));
+		}
+		if (m_pipelineOutputs != null) {
+			m_pipelineOutputs.stream().skip(1).forEach(o -> o.values().forEach(DLTensor::close));
+		}
+		if (m_groupInputs != null) {
+			m_groupInputs.stream().skip(1).forEach(i -> i.values().forEach(DLTensor::close));
+		}
+		if (m_groupOutputs != null) {
+			m_groupOutputs.stream().skip(1).forEach(o -> o.values().forEach(DLTensor::close));
+		}
+		if (m_lease != null) {
+			// returns the kernel to the pool if reusable, before closing the commands would close it
+			m_lease.close();
+		}
 		if (m_commands != null) {
-			m_commands.close();
+			if (m_lease == null && m_shareable && m_handle != null && m_context instanceof DLPythonAbstractContext
+				&& m_context.isKernelOpen()) {
+				// leaves the context open, its creator closes it once all sessions are done
+				((DLPythonAbstractContext)m_context).setLoadedNetwork(m_network.getSource().getURI(), m_handle);
+			} else {
+				m_commands.close();
+			}
 		}
 	}
 
 	@Override
 	protected void executeInternal(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+		// set again once execution completed
+		m_shareable = false;
 		if (m_commands == null) {
+            final DLPythonNetworkLoader<N> loader = DLPythonNetworkLoaderRegistry.getInstance()
+                .getNetworkLoader((Class<N>)m_network.getClass())
+                .orElseThrow(
+                    () -> new DLMissingExtensionException("Python back end '" + m_network.getClass().getCanonicalName()
+                        + "' could not be found. Are you missing a KNIME Deep Learning extension?"));
+            if (m_keepNetworkLoaded && m_context instanceof DLPythonAbstractContext) {
+                // must be leased before the commands set up the context, a pooled kernel is attached to the context
+                final URI source = m_network.getSource().getURI();
+                m_lease = DLPythonKernelPool.getInstance().lease((DLPythonAbstractContext)m_context, source,
+                    loader.validateSource(source), m_additionalEnvVars).orElse(null);
+            }
 			m_commands = createCommands(m_context);
             @SuppressWarnings("resource") // Closed in #close
             final DLPythonContext context = m_commands.getContext(monitor);
             for (final Entry<String, String> var : m_additionalEnvVars.entrySet()) {
                 context.setEnvironmentVariable(var.getKey(), var.getValue(), monitor);
             }
-            m_handle = DLPythonNetworkLoaderRegistry.getInstance().getNetworkLoader((Class<N>)m_network.getClass())
-                .orElseThrow(
-                    () -> new DLMissingExtensionException("Python back end '" + m_network.getClass().getCanonicalName()
-                        + "' could not be found. Are you missing a KNIME Deep Learning extension?"))
-                .load(m_network, m_commands.getContext(monitor), false, monitor);
+            final Optional<DLPythonNetworkHandle> sharedHandle =
+                m_lease == null && m_shareLoadedNetwork && m_context instanceof DLPythonAbstractContext
+                    ? ((DLPythonAbstractContext)m_context).getLoadedNetwork(m_network.getSource().getURI())
+                    : Optional.empty();
+            if (m_lease != null && m_lease.isHit()) {
+                m_handle = m_lease.getHandle().get();
+            } else if (sharedHandle.isPresent()) {
+                m_handle = sharedHandle.get();
+            } else {
+                final long loadStart = System.nanoTime();
+                m_handle = loader.load(m_network, context, false, monitor);
+                if (m_lease != null) {
+                    m_lease.loaded(m_handle, System.nanoTime() - loadStart);
+                }
+            }
 		}
+		if (m_pipelined) {
+			executePipelined(monitor);
+		} else if (m_batchesPerTransfer > 1) {
+			executeGrouped(monitor);
+		} else {
+			executeSequentially(monitor);
+		}
+		// the kernel is in a well-defined state, subsequent sessions may execute the network in it
+		if (m_lease != null) {
+			m_lease.setReusable();
+		} else {
+			m_shareable = m_shareLoadedNetwork;
+		}
+	}
+
+	private void executeSequentially(final DLExecutionMonitor monitor)
+		throws DLCanceledExecutionException, Exception {
 		final DLExecutionStatus status = monitor.getExecutionStatus();
-		long currentInBatchSize = m_expectedBatchSize;
         while (m_inputPreparer.hasNext()) {
 			monitor.checkCanceled();
-            m_inputPreparer.prepareNext(m_input);
-			monitor.checkCanceled();
-            if (!m_inputPreparer.hasNext()) {
-				// last batch might be incomplete
-				final DLTensor<? extends DLWritableBuffer> tensor = m_input.values().stream().findAny().get();
-				currentInBatchSize = tensor.getBuffer().size() / tensor.getExampleSize();
-			}
+			final long currentInBatchSize = prepareInput(m_input, monitor);
 			m_commands.setNetworkInputs(m_handle, m_input, monitor);
 			monitor.checkCanceled();
 			m_commands.executeNetwork(m_handle, m_requestedOutputs, currentInBatchSize, monitor);
@@ -149,22 +275,7 @@ protected void executeInternal(final DLExecutionMonitor monitor) throws DLCancel
 				input.getBuffer().reset();
 			}
 			if (m_output == null) {
-				m_output = new HashMap<>(m_requestedOutputs.size());
-				final DLTensorSpec[] outputSpecs = ArrayUtils.addAll(m_network.getSpec().getOutputSpecs(),
-						m_network.getSpec().getHiddenOutputSpecs());
-				final Map<DLTensorId, long[]> outputShapes = m_commands.getNetworkOutputShapes(m_handle,
-						m_requestedOutputs, monitor);
-				for (final DLTensorSpec spec : outputSpecs) {
-					if (m_requestedOutputs.contains(spec.getIdentifier())) {
-						final long[] outShape = outputShapes.get(spec.getIdentifier());
-						final long outBatchSize = outShape[0];
-						final long[] outShapeWithoutBatchSize = new long[outShape.length - 1];
-						System.arraycopy(outShape, 1, outShapeWithoutBatchSize, 0, outShapeWithoutBatchSize.length);
-						final DLTensorSpec executionSpec = m_tensorFactory.createExecutionTensorSpec(spec, outBatchSize,
-								outShapeWithoutBatchSize);
-						m_output.put(spec.getIdentifier(), m_tensorFactory.createReadableTensor(executionSpec));
-					}
-				}
+				m_output = createOutputTensors(monitor);
 			}
 			m_commands.getNetworkOutputs(m_handle, m_output, monitor);
 			monitor.checkCanceled();
@@ -176,8 +287,253 @@ protected void executeInternal(final DLExecutionMonitor monitor) throws DLCancel
 		}
 	}
 
+	/**
+	 * Transmits, executes and retrieves groups of {@link #m_batchesPerTransfer} batches at once to reduce the number of
+	 * round trips to Python per batch. Batches are still prepared and consumed in input order.
+	 */
+	private void executeGrouped(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+		if (m_groupInputs == null) {
+			m_groupInputs = new ArrayList<>(m_batchesPerTransfer);
+			m_groupInputs.add(m_input);
+			for (int i = 1; i < m_batchesPerTransfer; i++) {
+				m_groupInputs.add(createInputTensors());
+			}
+			m_groupOutputs = new ArrayList<>(m_batchesPerTransfer);
+		}
+		final DLExecutionStatus status = monitor.getExecutionStatus();
+		final long[] batchSizes = new long[m_batchesPerTransfer];
+		while (m_inputPreparer.hasNext()) {
+			int numBatches = 0;
+			while (numBatches < m_batchesPerTransfer && m_inputPreparer.hasNext()) {
+				monitor.checkCanceled();
+				batchSizes[numBatches] = prepareInput(m_groupInputs.get(numBatches), monitor);
+				numBatches++;
+			}
+			final List<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> inputs =
+				m_groupInputs.subList(0, numBatches);
+			m_commands.setNetworkInputBatches(m_handle, inputs, monitor);
+			monitor.checkCanceled();
+			m_commands.executeNetworkBatches(m_handle, m_requestedOutputs, Arrays.copyOf(batchSizes, numBatches),
+				monitor);
+			monitor.checkCanceled();
+			for (final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input : inputs) {
+				for (final DLTensor<?> tensor : input.values()) {
+					tensor.getBuffer().reset();
+				}
+			}
+			while (m_groupOutputs.size() < numBatches) {
+				final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> created = createOutputTensors(monitor);
+				if (m_groupOutputs.isEmpty()) {
+					m_output = created;
+				}
+				m_groupOutputs.add(created);
+			}
+			final List<Map<DLTensorId, DLTensor<? extends DLReadableBuffer>>> outputs =
+				m_groupOutputs.subList(0, numBatches);
+			m_commands.getNetworkOutputBatches(m_handle, outputs, monitor);
+			monitor.checkCanceled();
+			for (final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> output : outputs) {
+				m_outputConsumer.accept(output);
+				for (final DLTensor<?> tensor : output.values()) {
+					tensor.getBuffer().reset();
+				}
+				status.batchEnded().raise(null);
+			}
+		}
+	}
+
+	/**
+	 * Overlaps the preparation of batch N+1 and the consumption of batch N-1 with the transmission and execution of
+	 * batch N. Input preparation and output consumption are each performed by a dedicated worker thread, communication
+	 * with Python stays on the calling thread. Batches are still prepared, executed and consumed in input order.
+	 */
+	private void executePipelined(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+		if (m_pipelineInputs == null) {
+			m_pipelineInputs = new ArrayList<>(PIPELINE_DEPTH);
+			m_pipelineInputs.add(m_input);
+			for (int i = 1; i < PIPELINE_DEPTH; i++) {
+				m_pipelineInputs.add(createInputTensors());
+			}
+			m_pipelineOutputs = new ArrayList<>(PIPELINE_DEPTH);
+		}
+		final DLExecutionStatus status = monitor.getExecutionStatus();
+		// one thread for input preparation, one for output consumption
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		Throwable failure = null;
+		try {
+			long batchIndex = 0;
+			Future<Long> pendingInput = m_inputPreparer.hasNext()
+				? executor.submit(ThreadUtils.callableWithContext(() -> prepareInput(m_pipelineInputs.get(0), monitor)))
+				: null;
+			Future<?> pendingOutput = null;
+			while (pendingInput != null) {
+				final long currentInBatchSize = getPipelineResult(pendingInput);
+				final int slot = (int)(batchIndex % PIPELINE_DEPTH);
+				final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = m_pipelineInputs.get(slot);
+				if (m_inputPreparer.hasNext()) {
+					final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> nextInput =
+						m_pipelineInputs.get((slot + 1) % PIPELINE_DEPTH);
+					pendingInput =
+						executor.submit(ThreadUtils.callableWithContext(() -> prepareInput(nextInput, monitor)));
+				} else {
+					pendingInput = null;
+				}
+				m_commands.setNetworkInputs(m_handle, input, monitor);
+				monitor.checkCanceled();
+				m_commands.executeNetwork(m_handle, m_requestedOutputs, currentInBatchSize, monitor);
+				monitor.checkCanceled();
+				for (final DLTensor<?> tensor : input.values()) {
+					tensor.getBuffer().reset();
+				}
+				if (m_pipelineOutputs.size() <= slot) {
+					final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> created = createOutputTensors(monitor);
+					if (slot == 0) {
+						m_output = created;
+					}
+					m_pipelineOutputs.add(created);
+				}
+				// The output set of this slot was last used by batch N-2 whose consumption has already been awaited
+				// before the consumption of batch N-1 was scheduled.
+				final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> output = m_pipelineOutputs.get(slot);
+				m_commands.getNetworkOutputs(m_handle, output, monitor);
+				monitor.checkCanceled();
+				if (pendingOutput != null) {
+					getPipelineResult(pendingOutput);
+					status.batchEnded().raise(null);
+				}
+				pendingOutput = executor.submit(ThreadUtils.callableWithContext(() -> {
+					m_outputConsumer.accept(output);
+					for (final DLTensor<?> tensor : output.values()) {
+						tensor.getBuffer().reset();
+					}
+					return null;
+				}));
+				batchIndex++;
+			}
+			if (pendingOutput != null) {
+				getPipelineResult(pendingOutput);
+				status.batchEnded().raise(null);
+			}
+		} catch (final Throwable t) {
+			failure = t;
+			throw t;
+		} finally {
+			executor.shutdownNow();
+			awaitPipelineTermination(executor, failure);
+		}
+	}
+
+	/**
+	 * Makes sure no worker touches the preparer, consumer or tensors after the pipelined execution returns. Problems
+	 * while waiting are attached to the given failure of the pipeline, if any, instead of replacing it.
+	 */
+	private static void awaitPipelineTermination(final ExecutorService executor, final Throwable failure)
+		throws InterruptedException {
+		final boolean terminated;
+		try {
+			terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (final InterruptedException e) {
+			if (failure == null) {
+				throw e;
+			}
+			Thread.currentThread().interrupt();
+			failure.addSuppressed(e);
+			return;
+		}
+		if (!terminated) {
+			final IllegalStateException e =
+				new IllegalStateException("Pipelined network execution could not be terminated properly.");
+			if (failure == null) {
+				throw e;
+			}
+			failure.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * @return the number of examples in the prepared batch. The last batch might be incomplete.
+	 */
+	private long prepareInput(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input,
+		final DLExecutionMonitor monitor) throws DLCanceledExecutionException {
+		m_inputPreparer.prepareNext(input);
+		monitor.checkCanceled();
+		if (!m_inputPreparer.hasNext()) {
+			// last batch might be incomplete
+			final DLTensor<? extends DLWritableBuffer> tensor = input.values().stream().findAny().get();
+			return tensor.getBuffer().size() / tensor.getExampleSize();
+		}
+		return m_expectedBatchSize;
+	}
+
+	private Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> createOutputTensors(
+		final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+		if (m_outputExecutionSpecs == null) {
+			m_outputExecutionSpecs = new ArrayList<>(m_requestedOutputs.size());
+			final DLTensorSpec[] outputSpecs = ArrayUtils.addAll(m_network.getSpec().getOutputSpecs(),
+					m_network.getSpec().getHiddenOutputSpecs());
+			final Map<DLTensorId, long[]> outputShapes = m_commands.getNetworkOutputShapes(m_handle,
+					m_requestedOutputs, monitor);
+			for (final DLTensorSpec spec : outputSpecs) {
+				if (m_requestedOutputs.contains(spec.getIdentifier())) {
+					final long[] outShape = outputShapes.get(spec.getIdentifier());
+					final long outBatchSize = outShape[0];
+					final long[] outShapeWithoutBatchSize = new long[outShape.length - 1];
+					System.arraycopy(outShape, 1, outShapeWithoutBatchSize, 0, outShapeWithoutBatchSize.length);
+					m_outputExecutionSpecs.add(m_tensorFactory.createExecutionTensorSpec(spec, outBatchSize,
+							outShapeWithoutBatchSize));
+				}
+			}
+		}
+		final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> output = new HashMap<>(
+				m_outputExecutionSpecs.size());
+		for (final DLTensorSpec executionSpec : m_outputExecutionSpecs) {
+			output.put(executionSpec.getIdentifier(), m_tensorFactory.createReadableTensor(executionSpec));
+		}
+		return output;
+	}
+
+	private static <T> T getPipelineResult(final Future<T> future) throws DLCanceledExecutionException, Exception {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DLCanceledExecutionException();
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception)cause;
+			} else if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw e;
+		}
+	}
+
     @Override
     public void setKernelEnvironmentVariable(final String name, final String value) {
         m_additionalEnvVars.put(name, value);
     }
+
+    @Override
+    public void setPipelinedExecution(final boolean pipelined) {
+        m_pipelined = pipelined;
+    }
+
+    @Override
+    public void setBatchesPerTransfer(final int batchesPerTransfer) {
+        if (batchesPerTransfer < 1) {
+            throw new IllegalArgumentException("The number of batches per transfer must be positive.");
+        }
+        m_batchesPerTransfer = batchesPerTransfer;
+    }
+
+    @Override
+    public void setKeepNetworkLoaded(final boolean keepNetworkLoaded) {
+        m_keepNetworkLoaded = keepNetworkLoaded;
+    }
+
+    @Override
+    public void setShareLoadedNetwork(final boolean shareLoadedNetwork) {
+        m_shareLoadedNetwork = shareLoadedNetwork;
+    }
 }
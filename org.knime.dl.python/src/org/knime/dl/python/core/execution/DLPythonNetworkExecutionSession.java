@@ -47,6 +47,7 @@
 package org.knime.dl.python.core.execution;
 
 import org.knime.dl.core.execution.DLNetworkExecutionSession;
+import org.knime.dl.python.core.DLPythonKernelPool;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -61,4 +62,44 @@ public interface DLPythonNetworkExecutionSession extends DLNetworkExecutionSessi
      * @param value value of the environment variable
      */
     void setKernelEnvironmentVariable(final String name, final String value);
+
+    /**
+     * Sets whether the preparation of the next input batch and the consumption of the previous output batch may overlap
+     * with the execution of the current batch. This requires an additional set of input and output tensors. Disabled
+     * by default.
+     *
+     * @param pipelined <code>true</code> to enable pipelined execution
+     */
+    void setPipelinedExecution(final boolean pipelined);
+
+    /**
+     * Sets the number of consecutive batches that are transmitted to Python, executed and retrieved from Python at once.
+     * Values larger than one reduce the number of round trips per batch at the cost of memory for additional sets of
+     * input and output tensors. Has no effect in {@link #setPipelinedExecution(boolean) pipelined} mode. One by default.
+     *
+     * @param batchesPerTransfer the number of batches per transfer, must be positive
+     */
+    void setBatchesPerTransfer(final int batchesPerTransfer);
+
+    /**
+     * Sets whether the Python kernel and the loaded network should be kept alive after this session has been closed
+     * such that subsequent sessions that execute the same network can reuse them. See {@link DLPythonKernelPool}.
+     * Disabled by default.
+     *
+     * @param keepNetworkLoaded <code>true</code> to return the kernel to the pool instead of closing it
+     */
+    void setKeepNetworkLoaded(final boolean keepNetworkLoaded);
+
+    /**
+     * Sets whether this session should leave its context open and the network loaded in it when being closed, and
+     * whether it should execute a network that a previous session with the same setting left loaded in its context
+     * instead of loading it again. This allows consecutive sessions of a single execution, e.g. of different shape
+     * buckets, to share one kernel. The creator of the context is responsible for closing it. Has no effect if the
+     * network is kept loaded in the {@link DLPythonKernelPool}, see {@link #setKeepNetworkLoaded(boolean)}. Disabled by
+     * default.
+     *
+     * @param shareLoadedNetwork <code>true</code> to share the loaded network with subsequent sessions in the same
+     *            context
+     */
+    void setShareLoadedNetwork(final boolean shareLoadedNetwork);
 }
@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.python.prefs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jface.preference.PreferencePage;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+import org.knime.dl.core.cache.DLCacheStatistics;
+import org.knime.dl.core.cache.DLMemoryAlertAwareGuavaCache;
+import org.knime.dl.python.core.DLPythonKernelPool;
+
+/**
+ * Preference page that shows the statistics of the regions of the {@link DLMemoryAlertAwareGuavaCache deep learning
+ * cache} and of the {@link DLPythonKernelPool pool of Python kernels}, and allows to clear them. The capacities of the
+ * regions and the budget of the pool are specified via VM options.
+ *
+ * @author agent, agent@local
+ */
+public class DLCachePreferencePage extends PreferencePage implements IWorkbenchPreferencePage {
+
+    private static final String[] COLUMNS =
+        {"Region", "Entries", "Size", "Capacity", "Hits", "Misses", "Hit rate", "Evictions"};
+
+    private Table m_statistics;
+
+    @Override
+    public void init(final IWorkbench workbench) {
+        noDefaultAndApplyButton();
+    }
+
+    @Override
+    protected Control createContents(final Composite parent) {
+        final Composite container = new Composite(parent, SWT.NONE);
+        container.setLayout(new GridLayout(2, false));
+
+        final Label info = new Label(container, SWT.WRAP);
+        info.setText("Network specs, networks and converted tensors are cached in memory. The capacity of a region "
+            + "can be specified via VM option -Dknime.dl.cache.<region>.maxbytes=<number of bytes>. Networks that "
+            + "are loaded in Python are kept in idle Python kernels, the size of their network files is bounded via "
+            + "VM option -D" + DLPythonKernelPool.NETWORK_FILE_BUDGET_VM_OPT + "=<number of MB>.");
+        final GridData infoData = new GridData(SWT.FILL, SWT.TOP, true, false, 2, 1);
+        infoData.widthHint = 400;
+        info.setLayoutData(infoData);
+
+        m_statistics = new Table(container, SWT.BORDER | SWT.FULL_SELECTION);
+        m_statistics.setHeaderVisible(true);
+        m_statistics.setLinesVisible(true);
+        m_statistics.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 2, 1));
+        for (final String column : COLUMNS) {
+            new TableColumn(m_statistics, SWT.NONE).setText(column);
+        }
+
+        final Button refresh = new Button(container, SWT.PUSH);
+        refresh.setText("Refresh");
+        refresh.addSelectionListener(new SelectionAdapter() {
+
+            @Override
+            public void widgetSelected(final SelectionEvent e) {
+                updateStatistics();
+            }
+        });
+        final Button clear = new Button(container, SWT.PUSH);
+        clear.setText("Clear caches");
+        clear.addSelectionListener(new SelectionAdapter() {
+
+            @Override
+            public void widgetSelected(final SelectionEvent e) {
+                DLMemoryAlertAwareGuavaCache.CACHE.clear();
+                DLPythonKernelPool.getInstance().clear();
+                updateStatistics();
+            }
+        });
+
+        updateStatistics();
+        return container;
+    }
+
+    private void updateStatistics() {
+        m_statistics.removeAll();
+        final List<DLCacheStatistics> statistics = new ArrayList<>(DLMemoryAlertAwareGuavaCache.CACHE.getStatistics());
+        statistics.add(DLPythonKernelPool.getInstance().getStatistics());
+        for (final DLCacheStatistics stats : statistics) {
+            final TableItem item = new TableItem(m_statistics, SWT.NONE);
+            item.setText(new String[]{stats.getRegionName(), Long.toString(stats.getNumEntries()),
+                FileUtils.byteCountToDisplaySize(stats.getSize()),
+                FileUtils.byteCountToDisplaySize(stats.getCapacity()), Long.toString(stats.getHitCount()),
+                Long.toString(stats.getMissCount()), String.format("%.1f %%", stats.getHitRate() * 100),
+                Long.toString(stats.getEvictionCount())});
+        }
+        for (final TableColumn column : m_statistics.getColumns()) {
+            column.pack();
+        }
+    }
+}
@@ -60,6 +60,12 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.knime.core.data.DataColumnSpec;
@@ -91,6 +97,7 @@
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 import org.knime.dl.base.nodes.DLConfigurationUtility;
 import org.knime.dl.base.nodes.DLTensorRole;
@@ -123,6 +130,8 @@
 import org.knime.dl.core.execution.DLKnimeNetworkOutputConsumer;
 import org.knime.dl.core.execution.DLNetworkExecutionSession;
 import org.knime.dl.core.execution.DLNetworkOutputConsumer;
+import org.knime.dl.core.execution.DLShapeBucketedRowStream;
+import org.knime.dl.core.execution.DLShardedRowStream;
 import org.knime.dl.util.DLUtils;
 
 import com.google.common.base.Strings;
@@ -149,6 +158,12 @@
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DLAbstractExecutorNodeModel.class);
 
+    /**
+     * The maximum number of batches a single session keeps in flight when execution is pipelined (input preparation,
+     * network execution and output consumption).
+     */
+    private static final int MAX_PIPELINE_DEPTH = 3;
+
     static DLExecutorGeneralConfig createGeneralModelConfig() {
         return new DLExecutorGeneralConfig("<none>", null, 100);
     }
@@ -187,6 +202,14 @@ static SettingsModelStringArray createOutputOrderSettingsModel(final int outputs
 
     private boolean m_initialLoaded;
 
+    /**
+     * Is created during the first execution if the execution session should be kept warm, see
+     * {@link #isKeepSessionWarm()}. Survives a reset of the node such that it can be reused by the next execution. Is
+     * closed if it does not match the input or the parameters of an execution, on a change of the settings and on
+     * disposal of the node.
+     */
+    private DLWarmExecutionSession m_warmSession;
+
     /**
      * Creates a new DL network executor with the given input network port type.
      *
@@ -204,12 +227,13 @@ public DLAbstractExecutorNodeModel(final PortType networkPortType) {
 
     @Override
     public InputPortRole[] getInputPortRoles() {
-        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        // each output row only depends on its input row, so the data can be partitioned freely
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE, InputPortRole.DISTRIBUTED_STREAMABLE};
     }
 
     @Override
     public OutputPortRole[] getOutputPortRoles() {
-        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
     }
 
     @Override
@@ -366,11 +390,18 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
 
         m_lastConfiguredTableSpec = m_lastIncomingTableSpec;
         m_initialLoaded = true;
+        closeWarmSession();
     }
 
     @Override
     protected void reset() {
-        // no op
+        // the warm session is kept on purpose, the next execution checks whether it can still be used, see executeWarm
+    }
+
+    @Override
+    protected void onDispose() {
+        closeWarmSession();
+        super.onDispose();
     }
 
     private static DLTensorSpec getOutputOrHiddenTensorSpec(final String tensorNameOrId,
@@ -543,6 +574,45 @@ private <N extends DLNetwork> void executeInternal(final PortObject portObject,
         final LinkedHashMap<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId =
             createOutputConverterMap();
 
+        final int numSessions = getNumParallelSessions();
+        if (isDynamicInputShapes()) {
+            if (numSessions > 1) {
+                LOGGER.warn("Executing rows of different shapes in shape buckets cannot be combined with parallel "
+                    + "sessions. The buckets will be executed one after another.");
+            }
+            try {
+                executeShapeBucketed(network, rowInput, rowOutput, exec, batchSize, isPredefinedBatchSize,
+                    keepInputColumns, columnsForTensorId, inputConverterForTensorId, outputConverterForTensorId);
+            } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
+                throw e;
+            } catch (final Exception e) {
+                handleGeneralException(e);
+            }
+            return;
+        }
+        if (numSessions > 1) {
+            try {
+                executeDataParallel(network, rowInput, rowOutput, exec, numSessions, batchSize, isPredefinedBatchSize,
+                    keepInputColumns, columnsForTensorId, inputConverterForTensorId, outputConverterForTensorId);
+            } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
+                throw e;
+            } catch (final Exception e) {
+                handleGeneralException(e);
+            }
+            return;
+        }
+        if (isKeepSessionWarm()) {
+            try {
+                executeWarm(portObject, network, rowInput, rowOutput, exec, batchSize, isPredefinedBatchSize,
+                    keepInputColumns, columnsForTensorId, inputConverterForTensorId, outputConverterForTensorId);
+            } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
+                throw e;
+            } catch (final Exception e) {
+                handleGeneralException(e);
+            }
+            return;
+        }
+
         final C context = getContext(m_generalCfg.getContextEntry().getValue());
         try (final DLRowInputRowIterator rowIterator = new DLRowInputRowIterator(rowInput, columnsForTensorId);
                 final DLKnimeNetworkExecutionInputPreparer inputPreparer = new DLKnimeNetworkExecutionInputPreparer(
@@ -552,6 +622,8 @@ private <N extends DLNetwork> void executeInternal(final PortObject portObject,
                 final DLNetworkExecutionSession session =
                     createExecutionSession(context, network, batchSize, columnsForTensorId, outputConverterForTensorId,
                         rowIterator.peek(), inputPreparer, outputConsumer)) {
+            inputPreparer.setConversionParallelism(getNumConversionThreads(),
+                m_generalCfg.getContextEntry().getValue().getTensorFactory());
             final DLKnimeExecutionMonitor monitor = createExecutionMonitor(exec, inputPreparer.getNumBatches());
             session.run(monitor);
         } catch (final CanceledExecutionException | DLCanceledExecutionException e) {
@@ -565,8 +637,271 @@ private <N extends DLNetwork> void executeInternal(final PortObject portObject,
         }
     }
 
+    /**
+     * Executes the network in the {@link #m_warmSession warm session}. The session is only set up if there is none yet
+     * or if the existing one was set up for a different input port object or different execution parameters.
+     */
+    private synchronized <N extends DLNetwork> void executeWarm(final PortObject portObject, final N network,
+        final RowInput rowInput, final RowOutput rowOutput, final ExecutionContext exec, final int batchSize,
+        final boolean isPredefinedBatchSize, final boolean keepInputColumns,
+        final LinkedHashMap<DLTensorId, int[]> columnsForTensorId,
+        final LinkedHashMap<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> inputConverterForTensorId,
+        final LinkedHashMap<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId)
+        throws Exception {
+        final DLExecutionContext<?, ?> executionContext = m_generalCfg.getContextEntry().getValue();
+        try (final DLRowInputRowIterator rowIterator = new DLRowInputRowIterator(rowInput, columnsForTensorId);
+                final DLKnimeNetworkExecutionInputPreparer inputPreparer = new DLKnimeNetworkExecutionInputPreparer(
+                    rowIterator, batchSize, isPredefinedBatchSize, inputConverterForTensorId);
+                final DLKnimeNetworkOutputConsumer outputConsumer = new DLKnimeNetworkOutputConsumer(rowOutput,
+                    inputPreparer.getBaseRows()::remove, keepInputColumns, outputConverterForTensorId, exec)) {
+            final Set<DLTensorSpec> executionInputSpecs = DLExecutionSpecCreator.createExecutionSpecs(
+                rowIterator.peek(), executionContext.getTensorFactory(), batchSize, columnsForTensorId,
+                m_inputConverters);
+            if (m_warmSession == null || !m_warmSession.matches(portObject, network, executionContext,
+                executionInputSpecs, outputConverterForTensorId.keySet())) {
+                closeWarmSession();
+                final C context = getContext(executionContext);
+                m_warmSession = new DLWarmExecutionSession(portObject, network, executionContext,
+                    executionInputSpecs, outputConverterForTensorId.keySet(), context);
+                m_warmSession.setSession(createExecutionSession(context, network, executionInputSpecs,
+                    outputConverterForTensorId, m_warmSession.getInputPreparer(), m_warmSession.getOutputConsumer()));
+            }
+            inputPreparer.setConversionParallelism(getNumConversionThreads(), executionContext.getTensorFactory());
+            m_warmSession.run(inputPreparer, outputConsumer,
+                createExecutionMonitor(exec, inputPreparer.getNumBatches()));
+        } catch (final Exception e) {
+            // the state of the session is undefined after a failed or canceled execution
+            closeWarmSession();
+            throw e;
+        }
+    }
+
+    private synchronized void closeWarmSession() {
+        if (m_warmSession != null) {
+            try {
+                m_warmSession.close();
+            } catch (final Exception e) {
+                LOGGER.debug("Failed to release warm execution session.", e);
+            }
+            m_warmSession = null;
+        }
+    }
+
+    /**
+     * Executes the network in several sessions in parallel. The input rows are split into batch-aligned shards that are
+     * distributed among the sessions, the output rows are written in input order.
+     */
+    private <N extends DLNetwork> void executeDataParallel(final N network, final RowInput rowInput,
+        final RowOutput rowOutput, final ExecutionContext exec, final int numSessions, final int batchSize,
+        final boolean isPredefinedBatchSize, final boolean keepInputColumns,
+        final LinkedHashMap<DLTensorId, int[]> columnsForTensorId,
+        final LinkedHashMap<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> inputConverterForTensorId,
+        final LinkedHashMap<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId)
+        throws Exception {
+        final DLExecutionContext<?, ?> executionContext = m_generalCfg.getContextEntry().getValue();
+        final List<C> contexts = new ArrayList<>(numSessions);
+        // closed in reverse order of creation
+        final List<AutoCloseable> resources = new ArrayList<>(3 * numSessions);
+        final ExecutorService executor = Executors.newFixedThreadPool(numSessions);
+        try (final DLRowInputRowIterator rowIterator = new DLRowInputRowIterator(rowInput, columnsForTensorId);
+                final DLShardedRowStream stream = new DLShardedRowStream(rowIterator, batchSize, rowOutput,
+                    rowInput.getDataTableSpec(), columnsForTensorId,
+                    numSessions * (Math.max(getBatchesPerTransfer(), MAX_PIPELINE_DEPTH) + 1))) {
+            if (!rowIterator.hasNext()) {
+                setWarningMessage("Input table is empty. Node created an empty output table.");
+                return;
+            }
+            final DataRow firstRow = rowIterator.peek();
+            OptionalLong numBatches;
+            try {
+                numBatches = OptionalLong.of((rowIterator.size() + batchSize - 1) / batchSize);
+            } catch (final UnsupportedOperationException e) {
+                numBatches = OptionalLong.empty();
+            }
+            final AtomicLong processedBatches = new AtomicLong();
+            final List<Future<Void>> futures = new ArrayList<>(numSessions);
+            try {
+                for (int i = 0; i < numSessions; i++) {
+                    final C context = getContext(executionContext);
+                    contexts.add(context);
+                    final DLShardedRowStream.Partition partition = stream.createPartition();
+                    final DLKnimeNetworkExecutionInputPreparer inputPreparer = new DLKnimeNetworkExecutionInputPreparer(
+                        partition.getRowIterator(), batchSize, isPredefinedBatchSize, inputConverterForTensorId);
+                    resources.add(inputPreparer);
+                    final DLKnimeNetworkOutputConsumer outputConsumer = new DLKnimeNetworkOutputConsumer(
+                        partition.getRowOutput(), inputPreparer.getBaseRows()::remove, keepInputColumns,
+                        outputConverterForTensorId, exec);
+                    resources.add(outputConsumer);
+                    final DLNetworkExecutionSession session = createExecutionSession(context, network, batchSize,
+                        columnsForTensorId, outputConverterForTensorId, firstRow, inputPreparer, outputConsumer);
+                    resources.add(session);
+                    inputPreparer.setConversionParallelism(getNumConversionThreads(),
+                        executionContext.getTensorFactory());
+                    final DLKnimeExecutionMonitor monitor =
+                        createPartitionExecutionMonitor(exec, numBatches, processedBatches);
+                    futures.add(executor.submit(ThreadUtils.callableWithContext(() -> {
+                        session.run(monitor);
+                        return null;
+                    })));
+                }
+                for (final Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (final ExecutionException e) {
+                final Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception)cause : e;
+            } catch (final InterruptedException e) {
+                throw new CanceledExecutionException();
+            } finally {
+                // stop the remaining sessions before the final output gets closed
+                executor.shutdownNow();
+                for (int i = resources.size() - 1; i >= 0; i--) {
+                    try {
+                        resources.get(i).close();
+                    } catch (final Exception e) {
+                        LOGGER.debug("Failed to release resources of parallel execution session.", e);
+                    }
+                }
+            }
+            if (!stream.isComplete()) {
+                throw new IllegalStateException("Parallel execution ended before all input rows were processed.");
+            }
+        } finally {
+            for (final C context : contexts) {
+                if (context instanceof AutoCloseable) {
+                    ((AutoCloseable)context).close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the network on buckets of input rows that share the same execution shapes. Each bucket is executed in a
+     * session of its own whose input shapes fit the largest rows of the bucket, the output rows are written in input
+     * order.
+     */
+    private <N extends DLNetwork> void executeShapeBucketed(final N network, final RowInput rowInput,
+        final RowOutput rowOutput, final ExecutionContext exec, final int batchSize,
+        final boolean isPredefinedBatchSize, final boolean keepInputColumns,
+        final LinkedHashMap<DLTensorId, int[]> columnsForTensorId,
+        final LinkedHashMap<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> inputConverterForTensorId,
+        final LinkedHashMap<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId)
+        throws Exception {
+        final DLExecutionContext<?, ?> executionContext = m_generalCfg.getContextEntry().getValue();
+        final int sortingWindow = m_generalCfg.getLengthSortingWindowEntry().getValue();
+        final boolean sortByLength = sortingWindow > 0;
+        final int windowSize = sortByLength ? Math.max(sortingWindow, batchSize) : batchSize;
+        // all buckets are executed in the same context, see configureBucketSession
+        final C context = getContext(executionContext);
+        try (final DLRowInputRowIterator rowIterator = new DLRowInputRowIterator(rowInput, columnsForTensorId);
+                final DLShapeBucketedRowStream stream = new DLShapeBucketedRowStream(rowIterator, rowOutput,
+                    rowInput.getDataTableSpec(), columnsForTensorId, m_inputConverters, batchSize, windowSize,
+                    sortByLength)) {
+            // a lower bound, buckets may contain incomplete batches
+            OptionalLong numBatches;
+            try {
+                numBatches = OptionalLong.of((rowIterator.size() + batchSize - 1) / batchSize);
+            } catch (final UnsupportedOperationException e) {
+                numBatches = OptionalLong.empty();
+            }
+            final AtomicLong processedBatches = new AtomicLong();
+            while (stream.hasNextWindow()) {
+                for (final DLShapeBucketedRowStream.Bucket bucket : stream.nextWindow()) {
+                    try (final DLKnimeNetworkExecutionInputPreparer inputPreparer =
+                        new DLKnimeNetworkExecutionInputPreparer(bucket.getRowIterator(), batchSize,
+                            isPredefinedBatchSize, inputConverterForTensorId);
+                            final DLKnimeNetworkOutputConsumer outputConsumer =
+                                new DLKnimeNetworkOutputConsumer(bucket.getRowOutput(),
+                                    inputPreparer.getBaseRows()::remove, keepInputColumns, outputConverterForTensorId,
+                                    exec);
+                            final DLNetworkExecutionSession session = createExecutionSession(context, network,
+                                DLExecutionSpecCreator.createExecutionSpecs(bucket.getExecutionShapes(),
+                                    executionContext.getTensorFactory(), batchSize, m_inputConverters),
+                                outputConverterForTensorId, inputPreparer, outputConsumer)) {
+                        configureBucketSession(session);
+                        // rows of the bucket may be smaller than its execution shapes
+                        inputPreparer.setExamplePadding(true);
+                        inputPreparer.setConversionParallelism(getNumConversionThreads(),
+                            executionContext.getTensorFactory());
+                        session.run(createPartitionExecutionMonitor(exec, numBatches, processedBatches));
+                    }
+                }
+                stream.completeWindow();
+            }
+        } finally {
+            if (context instanceof AutoCloseable) {
+                ((AutoCloseable)context).close();
+            }
+        }
+    }
+
     protected abstract C getContext(final DLExecutionContext<?, ?> ctx);
 
+    /**
+     * Configures a session of a shape-bucketed execution. The sessions of all buckets are created in the same context
+     * which is closed once all buckets have been executed. Back ends may let the sessions share the network that the
+     * first session loaded in the context instead of loading it again for each bucket. Does nothing by default.
+     *
+     * @param session the session that is about to execute a bucket
+     */
+    protected void configureBucketSession(final DLNetworkExecutionSession session) {
+        // no-op by default
+    }
+
+    /**
+     * @return <code>true</code> if the user requested that input preparation, network execution and output consumption
+     *         of consecutive batches overlap. Execution sessions that do not support pipelining may ignore this.
+     */
+    protected boolean isPipelinedExecution() {
+        return m_generalCfg.getPipelinedExecutionEntry().getValue();
+    }
+
+    /**
+     * @return the number of consecutive batches that should be exchanged with the back end at once. Back ends that do
+     *         not support this may ignore it.
+     */
+    protected int getBatchesPerTransfer() {
+        return m_generalCfg.getBatchesPerTransferEntry().getValue();
+    }
+
+    /**
+     * @return <code>true</code> if the user requested that the network stays loaded after execution. Back ends that do
+     *         not support this may ignore it.
+     */
+    protected boolean isKeepNetworkLoaded() {
+        return m_generalCfg.getKeepNetworkLoadedEntry().getValue();
+    }
+
+    /**
+     * @return <code>true</code> if the user requested that the execution session is kept alive between executions of
+     *         the node. Only applies if the network is executed in a single session without shape buckets.
+     */
+    protected boolean isKeepSessionWarm() {
+        return m_generalCfg.getKeepSessionWarmEntry().getValue();
+    }
+
+    /**
+     * @return the number of sessions that execute the network on disjoint batches of the input in parallel
+     */
+    protected int getNumParallelSessions() {
+        return m_generalCfg.getParallelSessionsEntry().getValue();
+    }
+
+    /**
+     * @return <code>true</code> if the user requested that the input shapes are derived per batch such that rows of
+     *         different shapes are executed in shape buckets
+     */
+    protected boolean isDynamicInputShapes() {
+        return m_generalCfg.getDynamicInputShapesEntry().getValue();
+    }
+
+    /**
+     * @return the number of threads that convert the input rows of a batch into tensors
+     */
+    protected int getNumConversionThreads() {
+        return m_generalCfg.getConversionThreadsEntry().getValue();
+    }
+
     /**
      * Creates an execution session for the given parameters.
      *
@@ -587,12 +922,33 @@ protected <N extends DLNetwork> DLNetworkExecutionSession createExecutionSession
         final Map<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId,
         final DataRow firstRow, final DLNetworkInputPreparer inputPreparer,
         final DLNetworkOutputConsumer outputConsumer) throws DLMissingExtensionException, InvalidSettingsException {
+        return createExecutionSession(context, network,
+            DLExecutionSpecCreator.createExecutionSpecs(firstRow,
+                m_generalCfg.getContextEntry().getValue().getTensorFactory(), batchSize, columnsForTensorId,
+                m_inputConverters),
+            outputConverterForTensorId, inputPreparer, outputConsumer);
+    }
 
+    /**
+     * Creates an execution session for the given execution input specs.
+     *
+     * @param network the deep learning network
+     * @param executionInputSpecs the execution specs of the network inputs
+     * @param outputConverterForTensorId converters for the output tensors
+     * @param inputPreparer the input preparer
+     * @param outputConsumer the output consumer
+     * @param <N> type of the network
+     * @return an execution session
+     * @throws InvalidSettingsException if the execution context is not available
+     */
+    protected <N extends DLNetwork> DLNetworkExecutionSession createExecutionSession(final C context,
+        final N network, final Set<DLTensorSpec> executionInputSpecs,
+        final Map<DLTensorId, DLTensorToDataCellConverterFactory<?, ?>> outputConverterForTensorId,
+        final DLNetworkInputPreparer inputPreparer, final DLNetworkOutputConsumer outputConsumer)
+        throws InvalidSettingsException {
         final DLExecutionContext<C, N> ctx = getExecutionContext(context);
-        return ctx.createExecutionSession(
-            context, network, DLExecutionSpecCreator.createExecutionSpecs(firstRow, ctx.getTensorFactory(), batchSize,
-                columnsForTensorId, m_inputConverters),
-            outputConverterForTensorId.keySet(), inputPreparer, outputConsumer);
+        return ctx.createExecutionSession(context, network, executionInputSpecs, outputConverterForTensorId.keySet(),
+            inputPreparer, outputConsumer);
     }
 
     /**
@@ -688,6 +1044,27 @@ private static DLKnimeExecutionMonitor createExecutionMonitor(final ExecutionCon
         return monitor;
     }
 
+    /**
+     * Creates a monitor for one of several sessions that execute in parallel. The progress is reported across all
+     * sessions.
+     */
+    private static DLKnimeExecutionMonitor createPartitionExecutionMonitor(final ExecutionContext exec,
+        final OptionalLong numBatches, final AtomicLong processedBatches) {
+        final DLKnimeExecutionMonitor monitor = new DLKnimeExecutionMonitor(exec, new DLDefaultExecutionStatus());
+        monitor.getExecutionStatus().batchEnded().addListener((src, v) -> {
+            final long currBatch = processedBatches.incrementAndGet();
+            if (numBatches.isPresent()) {
+                // may be a lower bound of the actual number of batches
+                final long numBatch = Math.max(numBatches.getAsLong(), currBatch);
+                monitor.setProgress(currBatch / (double)numBatch,
+                    "Processing batch " + currBatch + " of " + numBatch + "...");
+            } else {
+                monitor.setMessage("Processing batch " + currBatch + "...");
+            }
+        });
+        return monitor;
+    }
+
     // workaround; when changing code here, also update DLExecutorInputPanel#getAllowedInputColumnType
     private static Class<? extends DataValue> getAllowedInputColumnType(final DLExecutorInputConfig inputCfg) {
         final DLDataValueToTensorConverterFactory<? extends DataValue, ?> conv =
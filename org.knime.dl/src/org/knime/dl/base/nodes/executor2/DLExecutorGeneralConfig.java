@@ -57,6 +57,7 @@
 import org.knime.dl.base.settings.AbstractConfigEntry;
 import org.knime.dl.base.settings.ConfigEntry;
 import org.knime.dl.base.settings.DLGeneralConfig;
+import org.knime.dl.base.settings.DefaultConfigEntry;
 import org.knime.dl.base.settings.SettingsModelConfigEntries;
 import org.knime.dl.core.DLNetwork;
 import org.knime.dl.core.execution.DLExecutionContext;
@@ -81,6 +82,22 @@ class DLExecutorGeneralConfig extends AbstractConfig implements DLGeneralConfig<
 
     private static final String CFG_KEY_KEEP_INPUT_COLS = "keep_input_columns";
 
+    private static final String CFG_KEY_PIPELINED_EXECUTION = "pipelined_execution";
+
+    private static final String CFG_KEY_CONVERSION_THREADS = "conversion_threads";
+
+    private static final String CFG_KEY_KEEP_NETWORK_LOADED = "keep_network_loaded";
+
+    private static final String CFG_KEY_BATCHES_PER_TRANSFER = "batches_per_transfer";
+
+    private static final String CFG_KEY_PARALLEL_SESSIONS = "parallel_sessions";
+
+    private static final String CFG_KEY_DYNAMIC_INPUT_SHAPES = "dynamic_input_shapes";
+
+    private static final String CFG_KEY_LENGTH_SORTING_WINDOW = "length_sorting_window";
+
+    private static final String CFG_KEY_KEEP_SESSION_WARM = "keep_session_warm";
+
     @SuppressWarnings("rawtypes") // java limitation
     DLExecutorGeneralConfig(final String defaultBackendName, final String defaultBackendId,
         final int defaultBatchSize) {
@@ -114,6 +131,85 @@ public void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettin
         put(SettingsModelConfigEntries.createIntegerBoundedConfigEntry(CFG_KEY_BATCH_SIZE, defaultBatchSize, 1,
             Integer.MAX_VALUE));
         put(SettingsModelConfigEntries.createBooleanConfigEntry(CFG_KEY_KEEP_INPUT_COLS, false));
+        put(new DefaultConfigEntry<Boolean>(CFG_KEY_PIPELINED_EXECUTION, Boolean.class, false) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): execute batches strictly sequentially if entry is not present in the
+                // settings
+                m_value = false;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Integer>(CFG_KEY_CONVERSION_THREADS, Integer.class, 1) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): convert input rows on the calling thread if entry is not present in
+                // the settings
+                m_value = 1;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Boolean>(CFG_KEY_KEEP_NETWORK_LOADED, Boolean.class, false) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): release the back end after each execution if entry is not present in
+                // the settings
+                m_value = false;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Integer>(CFG_KEY_BATCHES_PER_TRANSFER, Integer.class, 1) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): exchange each batch with the back end separately if entry is not
+                // present in the settings
+                m_value = 1;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Integer>(CFG_KEY_PARALLEL_SESSIONS, Integer.class, 1) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): execute the network in a single session if entry is not present in
+                // the settings
+                m_value = 1;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Boolean>(CFG_KEY_DYNAMIC_INPUT_SHAPES, Boolean.class, false) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): derive the input shapes from the first row if entry is not present in
+                // the settings
+                m_value = false;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Integer>(CFG_KEY_LENGTH_SORTING_WINDOW, Integer.class, 0) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): do not sort the input rows if entry is not present in the settings
+                m_value = 0;
+                return true;
+            }
+        });
+        put(new DefaultConfigEntry<Boolean>(CFG_KEY_KEEP_SESSION_WARM, Boolean.class, false) {
+
+            @Override
+            protected boolean handleFailureToLoadConfigEntry(final NodeSettingsRO settings, final Exception cause) {
+                // backward compatibility (4.3): set up a new execution session on each execution if entry is not
+                // present in the settings
+                m_value = false;
+                return true;
+            }
+        });
     }
 
     ConfigEntry<Integer> getBatchSizeEntry() {
@@ -130,6 +226,68 @@ public ConfigEntry<Boolean> getKeepInputColumnsEntry() {
         return get(CFG_KEY_KEEP_INPUT_COLS, Boolean.class);
     }
 
+    /**
+     * @return the entry that determines whether input preparation, network execution and output consumption of
+     *         consecutive batches may overlap
+     */
+    public ConfigEntry<Boolean> getPipelinedExecutionEntry() {
+        return get(CFG_KEY_PIPELINED_EXECUTION, Boolean.class);
+    }
+
+    /**
+     * @return the entry that determines the number of threads that convert the input rows of a batch into tensors
+     */
+    public ConfigEntry<Integer> getConversionThreadsEntry() {
+        return get(CFG_KEY_CONVERSION_THREADS, Integer.class);
+    }
+
+    /**
+     * @return the entry that determines whether the back end should keep the network loaded after execution such that
+     *         subsequent executions of the same network can reuse it
+     */
+    public ConfigEntry<Boolean> getKeepNetworkLoadedEntry() {
+        return get(CFG_KEY_KEEP_NETWORK_LOADED, Boolean.class);
+    }
+
+    /**
+     * @return the entry that determines the number of consecutive batches that are exchanged with the back end at once
+     */
+    public ConfigEntry<Integer> getBatchesPerTransferEntry() {
+        return get(CFG_KEY_BATCHES_PER_TRANSFER, Integer.class);
+    }
+
+    /**
+     * @return the entry that determines the number of execution sessions (and therefore back end processes) that
+     *         execute the network on disjoint batches of the input in parallel
+     */
+    public ConfigEntry<Integer> getParallelSessionsEntry() {
+        return get(CFG_KEY_PARALLEL_SESSIONS, Integer.class);
+    }
+
+    /**
+     * @return the entry that determines whether the input shapes are derived per batch rather than once from the first
+     *         row, such that rows of different shapes can be executed in shape buckets
+     */
+    public ConfigEntry<Boolean> getDynamicInputShapesEntry() {
+        return get(CFG_KEY_DYNAMIC_INPUT_SHAPES, Boolean.class);
+    }
+
+    /**
+     * @return the entry that determines the number of rows that are sorted by length before they are divided into
+     *         shape buckets, zero disables sorting
+     */
+    public ConfigEntry<Integer> getLengthSortingWindowEntry() {
+        return get(CFG_KEY_LENGTH_SORTING_WINDOW, Integer.class);
+    }
+
+    /**
+     * @return the entry that determines whether the execution session, including its back end and preallocated
+     *         tensors, is kept alive between executions of the node until the node is reset
+     */
+    public ConfigEntry<Boolean> getKeepSessionWarmEntry() {
+        return get(CFG_KEY_KEEP_SESSION_WARM, Boolean.class);
+    }
+
     static Collection<DLExecutionContext<?, ?>> getAvailableExecutionContexts(final Class<? extends DLNetwork> networkType) {
         return DLExecutionContextRegistry.getInstance().getExecutionContextsForNetworkType(networkType);
     }
@@ -94,6 +94,26 @@ class DLExecutorGeneralPanel extends AbstractGridBagDialogComponentGroup {
             "Input batch size", 100);
         addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getKeepInputColumnsEntry()),
             "Keep input columns in output table", true);
+        addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getPipelinedExecutionEntry()),
+            "Overlap data conversion and network execution (pipelined)", true);
+        addNumberSpinnerRowComponent(
+            ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getConversionThreadsEntry(), 1, Integer.MAX_VALUE),
+            "Number of threads for input conversion", 1);
+        addNumberSpinnerRowComponent(
+            ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getBatchesPerTransferEntry(), 1, Integer.MAX_VALUE),
+            "Number of batches per transfer", 1);
+        addNumberSpinnerRowComponent(
+            ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getParallelSessionsEntry(), 1, Integer.MAX_VALUE),
+            "Number of parallel sessions", 1);
+        addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getKeepNetworkLoadedEntry()),
+            "Keep network loaded for subsequent executions", true);
+        addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getDynamicInputShapesEntry()),
+            "Execute rows of different shapes in shape buckets", true);
+        addNumberSpinnerRowComponent(
+            ConfigUtil.toSettingsModelIntegerBounded(m_cfg.getLengthSortingWindowEntry(), 0, Integer.MAX_VALUE),
+            "Number of rows to sort by length (0 disables sorting)", 100);
+        addCheckboxRow(ConfigUtil.toSettingsModelBoolean(m_cfg.getKeepSessionWarmEntry()),
+            "Keep execution session warm between executions (low latency)", true);
     }
 
     @Override
@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.base.nodes.executor2;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.knime.core.node.port.PortObject;
+import org.knime.dl.core.DLCanceledExecutionException;
+import org.knime.dl.core.DLInvalidNetworkInputException;
+import org.knime.dl.core.DLInvalidNetworkOutputException;
+import org.knime.dl.core.DLNetwork;
+import org.knime.dl.core.DLNetworkInputPreparer;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLReadableBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.execution.DLExecutionContext;
+import org.knime.dl.core.execution.DLExecutionMonitor;
+import org.knime.dl.core.execution.DLNetworkExecutionSession;
+import org.knime.dl.core.execution.DLNetworkOutputConsumer;
+
+/**
+ * An execution session that is kept alive across executions of an executor node, together with its back end context,
+ * its preallocated tensors and (depending on the back end) the loaded network. This avoids the fixed costs of setting
+ * up a session on each execution, which dominate the latency of executions on only a few rows, e.g. if a workflow is
+ * invoked via REST.
+ * <P>
+ * The session is bound to the identity of the input port object and the execution parameters it was created for, see
+ * {@link #matches(PortObject, DLNetwork, DLExecutionContext, Set, Set)}. Each execution hands in its own input
+ * preparer and output consumer.
+ *
+ * @author agent, agent@local
+ */
+final class DLWarmExecutionSession implements AutoCloseable {
+
+    private final PortObject m_portObject;
+
+    private final DLNetwork m_network;
+
+    private final DLExecutionContext<?, ?> m_executionContext;
+
+    private final Set<DLTensorSpec> m_executionInputSpecs;
+
+    private final Set<DLTensorId> m_requestedOutputs;
+
+    private final Object m_context;
+
+    private final DelegatingInputPreparer m_inputPreparer = new DelegatingInputPreparer();
+
+    private final DelegatingOutputConsumer m_outputConsumer = new DelegatingOutputConsumer();
+
+    private DLNetworkExecutionSession m_session;
+
+    /**
+     * @param portObject the input port object, compared by identity
+     * @param network the network of the port object
+     * @param executionContext the execution context ("back end")
+     * @param executionInputSpecs the execution specs of the network inputs
+     * @param requestedOutputs the requested network outputs
+     * @param context the back end context of the session, is closed together with this instance if it is
+     *            {@link AutoCloseable}
+     */
+    DLWarmExecutionSession(final PortObject portObject, final DLNetwork network,
+        final DLExecutionContext<?, ?> executionContext, final Set<DLTensorSpec> executionInputSpecs,
+        final Set<DLTensorId> requestedOutputs, final Object context) {
+        m_portObject = portObject;
+        m_network = network;
+        m_executionContext = executionContext;
+        m_executionInputSpecs = new HashSet<>(executionInputSpecs);
+        m_requestedOutputs = new HashSet<>(requestedOutputs);
+        m_context = context;
+    }
+
+    /**
+     * @return the input preparer that must be passed to the session, delegates to the preparer of the current
+     *         execution
+     */
+    DLNetworkInputPreparer getInputPreparer() {
+        return m_inputPreparer;
+    }
+
+    /**
+     * @return the output consumer that must be passed to the session, delegates to the consumer of the current
+     *         execution
+     */
+    DLNetworkOutputConsumer getOutputConsumer() {
+        return m_outputConsumer;
+    }
+
+    /**
+     * @param session the session that was created using {@link #getInputPreparer()} and {@link #getOutputConsumer()}
+     */
+    void setSession(final DLNetworkExecutionSession session) {
+        m_session = session;
+    }
+
+    /**
+     * @return <code>true</code> if this session can execute the given parameters
+     */
+    boolean matches(final PortObject portObject, final DLNetwork network,
+        final DLExecutionContext<?, ?> executionContext, final Set<DLTensorSpec> executionInputSpecs,
+        final Set<DLTensorId> requestedOutputs) {
+        return m_session != null && m_portObject == portObject && m_network.equals(network)
+            && m_executionContext.getIdentifier().equals(executionContext.getIdentifier())
+            && m_executionInputSpecs.equals(executionInputSpecs) && m_requestedOutputs.equals(requestedOutputs);
+    }
+
+    /**
+     * Executes the session on the input of the given preparer. The preparer and the consumer are not closed.
+     */
+    void run(final DLNetworkInputPreparer inputPreparer, final DLNetworkOutputConsumer outputConsumer,
+        final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
+        m_inputPreparer.m_delegate = inputPreparer;
+        m_outputConsumer.m_delegate = outputConsumer;
+        try {
+            m_session.run(monitor);
+        } finally {
+            m_inputPreparer.m_delegate = null;
+            m_outputConsumer.m_delegate = null;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            if (m_session != null) {
+                m_session.close();
+            }
+        } finally {
+            if (m_context instanceof AutoCloseable) {
+                ((AutoCloseable)m_context).close();
+            }
+        }
+    }
+
+    private static final class DelegatingInputPreparer implements DLNetworkInputPreparer {
+
+        private DLNetworkInputPreparer m_delegate;
+
+        @Override
+        public boolean hasNext() {
+            return m_delegate != null && m_delegate.hasNext();
+        }
+
+        @Override
+        public void prepareNext(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input)
+            throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+            m_delegate.prepareNext(input);
+        }
+
+        @Override
+        public void close() {
+            // no op, the delegates are closed by their owners
+        }
+    }
+
+    private static final class DelegatingOutputConsumer implements DLNetworkOutputConsumer {
+
+        private DLNetworkOutputConsumer m_delegate;
+
+        @Override
+        public void accept(final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> output)
+            throws DLCanceledExecutionException, DLInvalidNetworkOutputException {
+            m_delegate.accept(output);
+        }
+
+        @Override
+        public void close() {
+            // no op, the delegates are closed by their owners
+        }
+    }
+}
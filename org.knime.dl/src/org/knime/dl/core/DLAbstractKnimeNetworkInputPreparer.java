@@ -46,18 +46,28 @@
  */
 package org.knime.dl.core;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataValue;
+import org.knime.core.util.ThreadUtils;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
 import org.knime.dl.core.data.DLWritableBuffer;
 import org.knime.dl.core.data.convert.DLDataValueToTensorConverter;
 import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+import org.knime.dl.util.DLUtils;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -71,6 +81,23 @@ public abstract class DLAbstractKnimeNetworkInputPreparer implements DLNetworkIn
 
 	protected final Map<DLTensorId, DLDataValueToTensorConverter<?, ?>> m_converters;
 
+	private final Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> m_converterFactories;
+
+	private int m_numConversionThreads = 1;
+
+	private boolean m_padExamples = false;
+
+	private DLTensorFactory m_tensorFactory;
+
+	private ForkJoinPool m_conversionPool;
+
+	/**
+	 * Per worker: the worker's converters and the scratch tensors it converts its row range into.
+	 */
+	private List<Map<DLTensorId, DLDataValueToTensorConverter<?, ?>>> m_workerConverters;
+
+	private List<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_workerTensors;
+
 	/**
 	 * @param iterator provides the input data rows that are used by this instance to prepare (fill) the network tensors
 	 *            fed to {@link #prepare(Map, long)}.
@@ -82,15 +109,73 @@ public DLAbstractKnimeNetworkInputPreparer(final DLRowIterator iterator, final i
 			final Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> converters) {
 		m_iterator = checkNotNull(iterator);
 		m_batchSize = batchSize;
-		m_converters = new HashMap<>(checkNotNull(converters).size());
-		for (final Entry<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> converter : converters.entrySet()) {
-			m_converters.put(converter.getKey(), converter.getValue().createConverter());
-		}
+		m_converterFactories = new HashMap<>(checkNotNull(converters));
+		m_converters = createConverters();
+	}
+
+	/**
+	 * Enables the parallel conversion of data rows into tensors. Each batch is split into contiguous row ranges which
+	 * are converted concurrently into per-worker tensors and afterwards copied into disjoint slices of the batch's
+	 * tensors in row order. The result is therefore identical to the one of the sequential conversion.
+	 * <P>
+	 * Parallel conversion only applies to tensors whose buffers are {@link DLWrappingDataBuffer wrapping buffers}.
+	 * Batches with other tensors are converted sequentially.
+	 *
+	 * @param numThreads the number of worker threads, one disables parallel conversion
+	 * @param tensorFactory the factory that is used to create the per-worker tensors, must be the one that created the
+	 *            tensors passed to this preparer
+	 */
+	public void setConversionParallelism(final int numThreads, final DLTensorFactory tensorFactory) {
+		checkArgument(numThreads > 0, "Number of conversion threads must be greater than zero.");
+		closeConversionPool();
+		m_numConversionThreads = numThreads;
+		m_tensorFactory = numThreads > 1 ? checkNotNull(tensorFactory) : null;
+	}
+
+	/**
+	 * Enables the zero-padding of examples that are smaller than the example size of the tensors they are written
+	 * into. This allows to write rows of different sizes into tensors whose shape fits the largest of these rows, e.g.
+	 * sequences of different lengths into a tensor whose (leading) sequence dimension is the maximum length. Padding is
+	 * appended to the end of each example.
+	 *
+	 * @param padExamples <code>true</code> to pad examples that are too small, <code>false</code> to leave them as they
+	 *            are which is the default
+	 */
+	public void setExamplePadding(final boolean padExamples) {
+		m_padExamples = padExamples;
 	}
 
 	@Override
 	public void close() throws Exception {
 		m_iterator.close();
+		closeConversionPool();
+	}
+
+	/**
+	 * Writes the given rows, in the given order, into the tensors. Conversion is done in parallel if enabled via
+	 * {@link #setConversionParallelism(int, DLTensorFactory)}.
+	 *
+	 * @param rows the rows which to write in the tensors
+	 * @param tensors the tensors in which to write the rows
+	 * @throws DLBufferOverflowExceptionForTensor if writing in a tensor exceeds its buffer's capacity. The affected
+	 *             tensor can be retrieved via {@link DLBufferOverflowExceptionForTensor#getTensor()}.
+	 * @throws DLCanceledExecutionException if the conversion was interrupted
+	 */
+	protected final void writeRowsInTensors(final List<DataRow> rows,
+			final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors)
+			throws DLBufferOverflowExceptionForTensor, DLCanceledExecutionException {
+		if (m_numConversionThreads > 1 && rows.size() > 1
+				&& tensors.values().stream().allMatch(t -> t.getBuffer() instanceof DLWrappingDataBuffer)) {
+			writeRowsInTensorsParallel(rows, tensors);
+		} else {
+			long numExamples = 0;
+			for (final DataRow row : rows) {
+				writeDataValuesInTensors(m_iterator.groupByTensor(row), tensors);
+				if (m_padExamples) {
+					padExamples(tensors, ++numExamples);
+				}
+			}
+		}
 	}
 
 	/**
@@ -114,6 +199,166 @@ protected final void writeDataValuesInTensors(final Map<DLTensorId, List<DataVal
 		}
 	}
 
+	private void writeRowsInTensorsParallel(final List<DataRow> rows,
+			final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors)
+			throws DLBufferOverflowExceptionForTensor, DLCanceledExecutionException {
+		// grouping is done sequentially as the row iterator is not thread-safe
+		final List<Map<DLTensorId, List<DataValue>>> groupedRows = new ArrayList<>(rows.size());
+		for (final DataRow row : rows) {
+			final Map<DLTensorId, List<DataValue>> grouped = m_iterator.groupByTensor(row);
+			final Map<DLTensorId, List<DataValue>> copy = new HashMap<>(grouped.size());
+			for (final Entry<DLTensorId, List<DataValue>> entry : grouped.entrySet()) {
+				copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+			}
+			groupedRows.add(copy);
+		}
+		ensureConversionWorkers(tensors);
+		final int numRanges = Math.min(m_numConversionThreads, groupedRows.size());
+		final int rangeSize = (groupedRows.size() + numRanges - 1) / numRanges;
+		final List<Future<Void>> ranges = new ArrayList<>(numRanges);
+		for (int r = 0; r < numRanges && r * rangeSize < groupedRows.size(); r++) {
+			final List<Map<DLTensorId, List<DataValue>>> range = groupedRows.subList(r * rangeSize,
+					Math.min((r + 1) * rangeSize, groupedRows.size()));
+			final int worker = r;
+			ranges.add(m_conversionPool.submit(ThreadUtils.callableWithContext(() -> {
+				convertRange(range, worker, tensors);
+				return null;
+			})));
+		}
+		// wait for all ranges before failing to make sure no worker is still writing into its tensors
+		Exception failure = null;
+		for (final Future<Void> range : ranges) {
+			try {
+				range.get();
+			} catch (final InterruptedException e) {
+				ranges.forEach(f -> f.cancel(true));
+				Thread.currentThread().interrupt();
+				throw new DLCanceledExecutionException();
+			} catch (final ExecutionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				}
+			}
+		}
+		if (failure != null) {
+			m_workerTensors.forEach(w -> w.values().forEach(t -> t.getBuffer().reset()));
+			if (failure instanceof DLBufferOverflowExceptionForTensor) {
+				throw (DLBufferOverflowExceptionForTensor) failure;
+			} else if (failure instanceof RuntimeException) {
+				throw (RuntimeException) failure;
+			}
+			throw new IllegalStateException("An error occurred while converting the input rows.", failure);
+		}
+		// copy the converted ranges into disjoint, consecutive slices of the batch's tensors
+		for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : tensors.entrySet()) {
+			for (int r = 0; r < ranges.size(); r++) {
+				copyIntoSlice(m_workerTensors.get(r).get(entry.getKey()), entry.getValue());
+			}
+		}
+	}
+
+	private void convertRange(final List<Map<DLTensorId, List<DataValue>>> range, final int worker,
+			final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors)
+			throws DLBufferOverflowExceptionForTensor {
+		final Map<DLTensorId, DLDataValueToTensorConverter<?, ?>> converters = m_workerConverters.get(worker);
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> workerTensors = m_workerTensors.get(worker);
+		long numExamples = 0;
+		for (final Map<DLTensorId, List<DataValue>> dataValues : range) {
+			for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : workerTensors.entrySet()) {
+				final DLTensorId identifier = entry.getKey();
+				final DLDataValueToTensorConverter converter = converters.get(identifier);
+				try {
+					converter.convert(dataValues.get(identifier), entry.getValue());
+				} catch (final BufferOverflowException ex) {
+					// report the batch's tensor, the worker tensor is an implementation detail
+					throw new DLBufferOverflowExceptionForTensor(ex, tensors.get(identifier));
+				}
+			}
+			if (m_padExamples) {
+				padExamples(workerTensors, ++numExamples);
+			}
+		}
+	}
+
+	private static void padExamples(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors,
+			final long numExamples) {
+		for (final DLTensor<? extends DLWritableBuffer> tensor : tensors.values()) {
+			final long missing = numExamples * tensor.getExampleSize() - tensor.getBuffer().size();
+			if (missing > 0) {
+				tensor.getBuffer().zeroPad(missing);
+			}
+		}
+	}
+
+	private void ensureConversionWorkers(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors) {
+		if (m_conversionPool == null) {
+			m_conversionPool = new ForkJoinPool(m_numConversionThreads);
+			m_workerConverters = new ArrayList<>(m_numConversionThreads);
+			m_workerTensors = new ArrayList<>(m_numConversionThreads);
+			for (int i = 0; i < m_numConversionThreads; i++) {
+				m_workerConverters.add(createConverters());
+				m_workerTensors.add(new HashMap<>(tensors.size()));
+			}
+		}
+		// a worker converts at most the rounded-up share of a full batch
+		final long rowsPerWorker = (m_batchSize + m_numConversionThreads - 1) / m_numConversionThreads;
+		for (final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> workerTensors : m_workerTensors) {
+			for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : tensors.entrySet()) {
+				final DLTensor<? extends DLWritableBuffer> workerTensor = workerTensors.get(entry.getKey());
+				final DLTensorSpec spec = entry.getValue().getSpec();
+				if (workerTensor == null || !workerTensor.getSpec().getShape().equals(spec.getShape())) {
+					if (workerTensor != null) {
+						// the batches of shape-bucketed preparers differ in shape
+						workerTensor.close();
+					}
+					final long[] shape = DLUtils.Shapes.getFixedShape(spec.getShape()).orElseThrow(
+							() -> new IllegalStateException("Execution spec does not contain fixed shape."));
+					workerTensors.put(entry.getKey(), m_tensorFactory
+							.createWritableTensor(m_tensorFactory.createExecutionTensorSpec(spec, rowsPerWorker, shape)));
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void copyIntoSlice(final DLTensor<? extends DLWritableBuffer> source,
+			final DLTensor<? extends DLWritableBuffer> target) {
+		final DLWrappingDataBuffer<Object> sourceBuffer = (DLWrappingDataBuffer<Object>) source.getBuffer();
+		final DLWrappingDataBuffer<Object> targetBuffer = (DLWrappingDataBuffer<Object>) target.getBuffer();
+		final long length = sourceBuffer.size() / sourceBuffer.getElementsPerStorageUnit();
+		final long startPos = targetBuffer.size() / targetBuffer.getElementsPerStorageUnit();
+		final Object sourceStorage = sourceBuffer.getStorageForReading(0, length);
+		final Object targetStorage = targetBuffer.getStorageForWriting(startPos, length);
+		if (DLDefaultBitBuffer.hasPackedStorage(sourceBuffer)) {
+			// storage positions of packed bit buffers are bit positions
+			DLDefaultBitBuffer.copyBits((long[]) sourceStorage, 0, (long[]) targetStorage, (int) startPos,
+					(int) length);
+		} else {
+			System.arraycopy(sourceStorage, 0, targetStorage, (int) startPos, (int) length);
+		}
+		sourceBuffer.reset();
+	}
+
+	private Map<DLTensorId, DLDataValueToTensorConverter<?, ?>> createConverters() {
+		final Map<DLTensorId, DLDataValueToTensorConverter<?, ?>> converters = new HashMap<>(
+				m_converterFactories.size());
+		for (final Entry<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> converter : m_converterFactories
+				.entrySet()) {
+			converters.put(converter.getKey(), converter.getValue().createConverter());
+		}
+		return converters;
+	}
+
+	private void closeConversionPool() {
+		if (m_conversionPool != null) {
+			m_conversionPool.shutdownNow();
+			m_conversionPool = null;
+			m_workerTensors.forEach(w -> w.values().forEach(DLTensor::close));
+			m_workerTensors = null;
+			m_workerConverters = null;
+		}
+	}
+
 	/**
 	 * Thrown by {@link DLAbstractKnimeNetworkInputPreparer#writeDataValuesInTensors(Map, Map)} if a
 	 * <code>BufferOverflowException</code> occurs while filling a tensor.
@@ -47,6 +47,7 @@
 package org.knime.dl.core;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +83,58 @@ public static Set<DLTensorSpec> createExecutionSpecs(final DataRow firstRow, fin
 		return executionInputSpecs;
 	}
 
+	/**
+	 * Derives the execution shapes of the network inputs from a single row, i.e. the shapes that
+	 * {@link #createExecutionSpecs(DataRow, DLTensorFactory, long, Map, Map)} would assign to the execution specs.
+	 *
+	 * @param row the row from which to derive the shapes
+	 * @param columnsForTensorId the columns of the row that are fed to the network inputs
+	 * @param inputConverterFactories the converters of the network inputs
+	 * @return the execution shapes, in the iteration order of the given converters
+	 * @throws DLMissingExtensionException if a converter is not available
+	 */
+	public static Map<DLTensorId, long[]> getExecutionShapes(final DataRow row,
+			final Map<DLTensorId, int[]> columnsForTensorId,
+			final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> inputConverterFactories)
+			throws DLMissingExtensionException {
+		final LinkedHashMap<DLTensorId, long[]> executionShapes = new LinkedHashMap<>(inputConverterFactories.size());
+		// tensor factory and batch size are not needed to derive the shapes
+		final DLExecutionSpecCreator specCreator = new DLExecutionSpecCreator(null, 0, row, columnsForTensorId::get);
+		for (final Entry<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> entry : inputConverterFactories
+				.entrySet()) {
+			executionShapes.put(entry.getKey().getIdentifier(),
+					specCreator.getExecutionShape(entry.getKey(), entry.getValue()));
+		}
+		return executionShapes;
+	}
+
+	/**
+	 * Creates execution specs with the given, already derived execution shapes.
+	 *
+	 * @param executionShapes the execution shapes of the network inputs, see
+	 *            {@link #getExecutionShapes(DataRow, Map, Map)}
+	 * @param tensorFactory the tensor factory of the back end
+	 * @param batchSize the batch size of the execution specs
+	 * @param inputConverterFactories the converters of the network inputs
+	 * @return the execution specs
+	 */
+	public static Set<DLTensorSpec> createExecutionSpecs(final Map<DLTensorId, long[]> executionShapes,
+			final DLTensorFactory tensorFactory, final long batchSize,
+			final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> inputConverterFactories) {
+		final LinkedHashSet<DLTensorSpec> executionInputSpecs = new LinkedHashSet<>(inputConverterFactories.size());
+		for (final Entry<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> entry : inputConverterFactories
+				.entrySet()) {
+			final long[] executionShape = executionShapes.get(entry.getKey().getIdentifier());
+			if (executionShape == null) {
+				throw new IllegalArgumentException(
+						"No execution shape for network input '" + entry.getKey().getName() + "'.");
+			}
+			executionInputSpecs.add(tensorFactory.createExecutionTensorSpec(entry.getKey(), batchSize,
+					executionShape, entry.getValue()));
+		}
+		return executionInputSpecs;
+	}
+
 	private DLExecutionSpecCreator(final DLTensorFactory tensorFactory, final long batchSize, final DataRow row,
 			final FilterIndicesProvider filterIndicesProvider) {
 		m_tensorFactory = tensorFactory;
@@ -92,10 +145,15 @@ private DLExecutionSpecCreator(final DLTensorFactory tensorFactory, final long b
 
 	public DLTensorSpec createExecutionTensorSpec(final DLTensorSpec configureSpec,
 			final DLDataValueToTensorConverterFactory<?, ?> converterFactory) throws DLMissingExtensionException {
+		return m_tensorFactory.createExecutionTensorSpec(configureSpec, m_batchSize,
+				getExecutionShape(configureSpec, converterFactory), converterFactory);
+	}
+
+	private long[] getExecutionShape(final DLTensorSpec configureSpec,
+			final DLDataValueToTensorConverterFactory<?, ?> converterFactory) throws DLMissingExtensionException {
 		final long[] dataShape = converterFactory.getDataShape(getValuesForIndices(m_row,
 				m_filterIndicesProvider.getFilterIndicesForTensor(configureSpec.getIdentifier())), configureSpec);
-		final long[] executionShape = DLUtils.Shapes.calculateExecutionShape(configureSpec.getShape(), dataShape);
-		return m_tensorFactory.createExecutionTensorSpec(configureSpec, m_batchSize, executionShape);
+		return DLUtils.Shapes.calculateExecutionShape(configureSpec.getShape(), dataShape);
 	}
 
 	private List<? extends DataValue> getValuesForIndices(final DataRow row, final int[] indices) {
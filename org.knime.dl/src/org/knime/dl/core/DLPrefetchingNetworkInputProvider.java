@@ -0,0 +1,302 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.knime.core.util.ThreadUtils;
+import org.knime.dl.core.data.DLWritableBuffer;
+
+/**
+ * A {@link DLNetworkInputProvider} that prepares batches ahead of time on a background thread. Prepared batches are
+ * written into a bounded ring of preallocated tensor sets, i.e. at most {@link #getPrefetchDepth() prefetch depth}
+ * batches are prepared in advance of the batch that is currently handed out to the consumer.
+ * <P>
+ * Batches are prepared in sequential, cyclic order (<code>0, 1, ..., numBatches - 1, 0, 1, ...</code>) and must be
+ * requested in the same order. The tensor set returned by {@link #get(long)} remains valid until the next invocation of
+ * that method.
+ * <P>
+ * If the preparer is a {@link DLShapeBucketedInputPreparer}, each element of the ring holds a tensor set per bucket.
+ * These tensor sets are created on demand, i.e. once a batch of the respective bucket is prepared in that element.
+ * <P>
+ * Closing this provider stops prefetching and releases the preallocated tensors. The underlying input preparer is not
+ * closed, its owner remains responsible for closing it.
+ *
+ * @author agent, agent@local
+ */
+public final class DLPrefetchingNetworkInputProvider implements DLNetworkInputProvider {
+
+	private final DLNetworkFixedSizeInputPreparer m_preparer;
+
+	private final int m_prefetchDepth;
+
+	private final IntFunction<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_tensorSetFactory;
+
+	/**
+	 * The elements of the ring, each maps the buckets of the preparer to their tensor sets. There is only bucket zero
+	 * if the preparer is not {@link DLShapeBucketedInputPreparer shape-bucketed}.
+	 */
+	private final List<Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>>> m_slots;
+
+	private final BlockingQueue<Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>>> m_freeSlots;
+
+	private final BlockingQueue<DLPrefetchedBatch> m_prefetchedBatches;
+
+	private final AtomicLong m_numProducedBatches = new AtomicLong();
+
+	private ExecutorService m_producer;
+
+	private Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_handedOut;
+
+	private Exception m_failure;
+
+	/**
+	 * @param preparer the preparer that fills the tensors, it is exclusively used by the background thread once this
+	 *            provider was queried for the first time
+	 * @param prefetchDepth the maximum number of batches that are prepared in advance, must be greater than zero
+	 * @param tensorSetFactory creates the tensor sets of the ring. Called at most <code>prefetchDepth + 1</code> times,
+	 *            once the background thread needs a further tensor set.
+	 */
+	public DLPrefetchingNetworkInputProvider(final DLNetworkFixedSizeInputPreparer preparer, final int prefetchDepth,
+			final Supplier<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> tensorSetFactory) {
+		this(bucket -> tensorSetFactory.get(), preparer, prefetchDepth);
+		checkNotNull(tensorSetFactory);
+	}
+
+	/**
+	 * @param preparer the preparer that fills the tensors, it is exclusively used by the background thread once this
+	 *            provider was queried for the first time
+	 * @param prefetchDepth the maximum number of batches that are prepared in advance, must be greater than zero
+	 * @param bucketTensorSetFactory creates the tensor sets of the given bucket, see
+	 *            {@link DLShapeBucketedInputPreparer#getBucketShapes(int)}. Called at most
+	 *            <code>prefetchDepth + 1</code> times per bucket.
+	 */
+	public DLPrefetchingNetworkInputProvider(final DLShapeBucketedInputPreparer preparer, final int prefetchDepth,
+			final IntFunction<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> bucketTensorSetFactory) {
+		this(bucketTensorSetFactory, preparer, prefetchDepth);
+	}
+
+	private DLPrefetchingNetworkInputProvider(
+			final IntFunction<Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> tensorSetFactory,
+			final DLNetworkFixedSizeInputPreparer preparer, final int prefetchDepth) {
+		checkArgument(prefetchDepth > 0, "Prefetch depth must be greater than zero.");
+		m_preparer = checkNotNull(preparer);
+		m_prefetchDepth = prefetchDepth;
+		m_tensorSetFactory = checkNotNull(tensorSetFactory);
+		// one additional element is needed for the batch that is currently handed out
+		m_slots = new ArrayList<>(prefetchDepth + 1);
+		m_freeSlots = new ArrayBlockingQueue<>(prefetchDepth + 1);
+		m_prefetchedBatches = new ArrayBlockingQueue<>(prefetchDepth + 1);
+	}
+
+	/**
+	 * @return the maximum number of batches that are prepared in advance
+	 */
+	public int getPrefetchDepth() {
+		return m_prefetchDepth;
+	}
+
+	/**
+	 * @return the number of batches that are currently prepared and waiting to be consumed
+	 */
+	public int getNumPrefetchedBatches() {
+		return m_prefetchedBatches.size();
+	}
+
+	/**
+	 * @return the total number of batches that were prepared by the background thread so far
+	 */
+	public long getNumProducedBatches() {
+		return m_numProducedBatches.get();
+	}
+
+	@Override
+	public long getNumBatches() {
+		return m_preparer.getNumBatches();
+	}
+
+	@Override
+	public synchronized Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> get(final long batchIndex)
+			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		if (m_failure != null) {
+			throw rethrowFailure();
+		}
+		if (m_producer == null) {
+			startProducer();
+		}
+		if (m_handedOut != null) {
+			// the consumer is done with the previous batch, its tensors can be refilled
+			m_freeSlots.add(m_handedOut);
+			m_handedOut = null;
+		}
+		final DLPrefetchedBatch batch;
+		try {
+			batch = m_prefetchedBatches.take();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DLCanceledExecutionException();
+		}
+		if (batch.m_failure != null) {
+			m_failure = batch.m_failure;
+			throw rethrowFailure();
+		}
+		if (batch.m_batchIndex != batchIndex) {
+			throw new IllegalStateException("Network input batches must be requested in sequential order. Expected "
+					+ "batch index " + batch.m_batchIndex + ", but batch index " + batchIndex + " was requested.");
+		}
+		m_handedOut = batch.m_slot;
+		return batch.m_input;
+	}
+
+	@Override
+	public synchronized void close() throws Exception {
+		if (m_producer != null) {
+			m_producer.shutdownNow();
+			if (!m_producer.awaitTermination(1, TimeUnit.MINUTES)) {
+				throw new IllegalStateException("Prefetching of network input batches could not be stopped.");
+			}
+			m_producer = null;
+		}
+		m_freeSlots.clear();
+		m_prefetchedBatches.clear();
+		m_handedOut = null;
+		for (final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> slot : m_slots) {
+			for (final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensorSet : slot.values()) {
+				tensorSet.values().forEach(DLTensor::close);
+			}
+		}
+		m_slots.clear();
+	}
+
+	private void startProducer() {
+		for (int i = 0; i <= m_prefetchDepth; i++) {
+			// tensor sets are created on demand by the producer, the element is only accessed by one thread at a time
+			final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> slot = new HashMap<>(2);
+			m_slots.add(slot);
+			m_freeSlots.add(slot);
+		}
+		m_producer = Executors.newSingleThreadExecutor(r -> {
+			final Thread thread = new Thread(r, "KNIME-DL-Input-Prefetcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		m_producer.submit(ThreadUtils.runnableWithContext(this::produce));
+	}
+
+	private void produce() {
+		final long numBatches = m_preparer.getNumBatches();
+		try {
+			for (long i = 0;; i++) {
+				final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> slot = m_freeSlots.take();
+				final long batchIndex = i % numBatches;
+				final int bucket = m_preparer instanceof DLShapeBucketedInputPreparer
+						? ((DLShapeBucketedInputPreparer) m_preparer).getBucket(batchIndex)
+						: 0;
+				final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = slot.computeIfAbsent(bucket,
+						m_tensorSetFactory::apply);
+				for (final DLTensor<? extends DLWritableBuffer> tensor : input.values()) {
+					tensor.getBuffer().reset();
+				}
+				m_preparer.prepare(input, batchIndex);
+				m_numProducedBatches.incrementAndGet();
+				m_prefetchedBatches.put(new DLPrefetchedBatch(batchIndex, slot, input, null));
+			}
+		} catch (final InterruptedException e) {
+			// provider was closed
+		} catch (final Exception e) {
+			// cannot fail, at least one tensor set is held by this thread
+			m_prefetchedBatches.offer(new DLPrefetchedBatch(-1, null, null, e));
+		}
+	}
+
+	private RuntimeException rethrowFailure() throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		if (m_failure instanceof DLCanceledExecutionException) {
+			throw (DLCanceledExecutionException) m_failure;
+		} else if (m_failure instanceof DLInvalidNetworkInputException) {
+			throw (DLInvalidNetworkInputException) m_failure;
+		} else if (m_failure instanceof RuntimeException) {
+			throw (RuntimeException) m_failure;
+		}
+		return new IllegalStateException("An error occurred while prefetching network input batches.", m_failure);
+	}
+
+	private static final class DLPrefetchedBatch {
+
+		private final long m_batchIndex;
+
+		private final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_slot;
+
+		private final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> m_input;
+
+		private final Exception m_failure;
+
+		private DLPrefetchedBatch(final long batchIndex,
+				final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> slot,
+				final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input, final Exception failure) {
+			m_batchIndex = batchIndex;
+			m_slot = slot;
+			m_input = input;
+			m_failure = failure;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core;
+
+import java.util.Map;
+
+/**
+ * A {@link DLNetworkFixedSizeInputPreparer} whose batches differ in the shapes of their tensors, e.g. because each
+ * batch of variable-length sequences is only padded to its longest sequence. Batches of equal shapes form a bucket,
+ * see {@link DLShapeBuckets}. Consumers must pass tensors to {@link #prepare(Map, long)} whose specs have the
+ * {@link #getBucketShapes(int) shapes} of the {@link #getBucket(long) bucket} of the respective batch, i.e. they
+ * allocate a tensor set per bucket.
+ *
+ * @author agent, agent@local
+ */
+public interface DLShapeBucketedInputPreparer extends DLNetworkFixedSizeInputPreparer {
+
+	/**
+	 * @return the number of buckets
+	 */
+	int getNumBuckets();
+
+	/**
+	 * Consumers query the bucket of a batch right before preparing the batch. The bucket of a batch index may change
+	 * from one pass over the data to the next, e.g. if the order of the batches is shuffled.
+	 *
+	 * @param batchIndex the index of the batch
+	 * @return the bucket of the batch, between zero (inclusive) and {@link #getNumBuckets()} (exclusive)
+	 */
+	int getBucket(long batchIndex);
+
+	/**
+	 * @param bucket the bucket
+	 * @return the shapes of the tensors of the bucket's batches, excluding the batch dimension
+	 */
+	Map<DLTensorId, long[]> getBucketShapes(int bucket);
+}
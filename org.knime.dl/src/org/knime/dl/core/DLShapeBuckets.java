@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Divides rows of different execution shapes (e.g. sequences of different lengths) into batches whose rows can be
+ * padded to a common shape. Each batch is assigned the element-wise maximum of the execution shapes of its rows. Only
+ * the leading dimension of an execution shape (e.g. the sequence length) is padded this way, rows whose shapes differ
+ * in any other dimension are never put into the same batch. Batches of equal shapes form a bucket.
+ *
+ * @author agent, agent@local
+ */
+public final class DLShapeBuckets {
+
+	private DLShapeBuckets() {
+		// utility class
+	}
+
+	/**
+	 * @param shapes the execution shapes of the rows, see
+	 *            {@link DLExecutionSpecCreator#getExecutionShapes(org.knime.core.data.DataRow, Map, Map)}
+	 * @param batchSize the maximum number of rows per batch
+	 * @param sortByLength <code>true</code> if the rows should be sorted by their leading dimensions before they are
+	 *            divided into batches, such that rows of similar lengths end up in the same batch and padding is
+	 *            minimized
+	 * @return the batches, each a list of positions in the given list of shapes. The last batch of rows of the same
+	 *         trailing dimensions may be incomplete.
+	 */
+	public static List<List<Integer>> divideIntoBatches(final List<Map<DLTensorId, long[]>> shapes,
+			final int batchSize, final boolean sortByLength) {
+		// rows whose shapes only differ in their leading dimensions, in input order
+		final LinkedHashMap<String, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < shapes.size(); i++) {
+			groups.computeIfAbsent(getTrailingShapesKey(shapes.get(i)), k -> new ArrayList<>()).add(i);
+		}
+		final List<List<Integer>> batches = new ArrayList<>(shapes.size() / batchSize + groups.size());
+		for (final List<Integer> group : groups.values()) {
+			if (sortByLength) {
+				// stable, so rows of equal lengths keep their input order
+				Collections.sort(group, Comparator.<Integer, long[]> comparing(i -> getLeadingDimensions(shapes.get(i)),
+						DLShapeBuckets::compareLexicographically));
+			}
+			for (int batchStart = 0; batchStart < group.size(); batchStart += batchSize) {
+				batches.add(group.subList(batchStart, Math.min(batchStart + batchSize, group.size())));
+			}
+		}
+		return batches;
+	}
+
+	/**
+	 * @param batch the positions of the rows of a batch, see {@link #divideIntoBatches(List, int, boolean)}
+	 * @param shapes the execution shapes of the rows
+	 * @return the execution shapes that fit all rows of the batch
+	 */
+	public static Map<DLTensorId, long[]> getMaximumShapes(final List<Integer> batch,
+			final List<Map<DLTensorId, long[]>> shapes) {
+		final LinkedHashMap<DLTensorId, long[]> maximum = new LinkedHashMap<>();
+		for (final Integer position : batch) {
+			for (final Entry<DLTensorId, long[]> entry : shapes.get(position).entrySet()) {
+				final long[] shape = entry.getValue();
+				final long[] max = maximum.get(entry.getKey());
+				if (max == null) {
+					maximum.put(entry.getKey(), shape.clone());
+				} else if (shape.length > 0 && shape[0] > max[0]) {
+					max[0] = shape[0];
+				}
+			}
+		}
+		return maximum;
+	}
+
+	/**
+	 * @param shapes the execution shapes of a batch
+	 * @return a key that is equal for batches of equal shapes, i.e. batches of the same bucket
+	 */
+	public static String getShapesKey(final Map<DLTensorId, long[]> shapes) {
+		final StringBuilder key = new StringBuilder();
+		for (final long[] shape : shapes.values()) {
+			key.append(Arrays.toString(shape));
+		}
+		return key.toString();
+	}
+
+	private static String getTrailingShapesKey(final Map<DLTensorId, long[]> shapes) {
+		final StringBuilder key = new StringBuilder();
+		for (final long[] shape : shapes.values()) {
+			key.append(Arrays.toString(Arrays.copyOfRange(shape, Math.min(1, shape.length), shape.length)));
+		}
+		return key.toString();
+	}
+
+	private static long[] getLeadingDimensions(final Map<DLTensorId, long[]> shapes) {
+		return shapes.values().stream().mapToLong(s -> s.length > 0 ? s[0] : 1).toArray();
+	}
+
+	private static int compareLexicographically(final long[] a, final long[] b) {
+		for (int i = 0; i < Math.min(a.length, b.length); i++) {
+			final int c = Long.compare(a[i], b[i]);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return Integer.compare(a.length, b.length);
+	}
+}
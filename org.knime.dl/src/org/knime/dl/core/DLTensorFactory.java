@@ -49,6 +49,7 @@
 
 import org.knime.dl.core.data.DLReadableBuffer;
 import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
 
 /**
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
@@ -84,4 +85,18 @@ public interface DLTensorFactory {
 	 * @throws IllegalArgumentException if failed to create a tensor spec due to invalid arguments
 	 */
 	DLTensorSpec createExecutionTensorSpec(DLTensorSpec spec, long batchSize, long[] shape);
+
+	/**
+	 * Creates an execution tensor spec for a tensor that will be filled by converters of the given factory. Tensor
+	 * factories that provide specialized buffers for certain converters (e.g. index-encoded buffers for
+	 * {@link org.knime.dl.core.data.convert.DLOneHotConverterFactory one-hot converters}) may return a spec that makes
+	 * {@link #createWritableTensor(DLTensorSpec)} allocate such a buffer. The default implementation ignores the
+	 * converter factory.
+	 *
+	 * @throws IllegalArgumentException if failed to create a tensor spec due to invalid arguments
+	 */
+	default DLTensorSpec createExecutionTensorSpec(final DLTensorSpec spec, final long batchSize, final long[] shape,
+			final DLDataValueToTensorConverterFactory<?, ?> converterFactory) {
+		return createExecutionTensorSpec(spec, batchSize, shape);
+	}
 }
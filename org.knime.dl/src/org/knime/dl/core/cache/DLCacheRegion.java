@@ -0,0 +1,250 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.cache;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToLongFunction;
+
+import org.knime.core.node.NodeLogger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+
+/**
+ * A region of the {@link DLMemoryAlertAwareGuavaCache deep learning cache} that holds values of one kind, e.g. network
+ * specs. A region is bounded by an (approximate) number of bytes rather than by a number of entries. Each value is
+ * weighed by the size that is passed along when it is cached and the least recently used values are evicted once the
+ * total size exceeds the region's capacity. In addition, values are softly referenced such that they can be reclaimed
+ * by the garbage collector before memory runs out.
+ * <P>
+ * The capacity of a region can be specified via VM option <code>knime.dl.cache.&lt;region name&gt;.maxbytes</code>.
+ * A capacity of zero disables the region, i.e. values are evicted immediately.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author agent, agent@local
+ */
+public final class DLCacheRegion<K, V> {
+
+	private static final NodeLogger LOGGER = NodeLogger.getLogger(DLCacheRegion.class);
+
+	/**
+	 * @param regionName the name of the region
+	 * @return the name of the VM option that specifies the capacity of the region
+	 */
+	static String getCapacityVmOption(final String regionName) {
+		return "knime.dl.cache." + regionName + ".maxbytes";
+	}
+
+	private static long parseCapacity(final String name, final long defaultCapacity) {
+		final String vmOption = getCapacityVmOption(name);
+		long capacity = -1;
+		try {
+			capacity = Long.parseLong(System.getProperty(vmOption, Long.toString(defaultCapacity)));
+		} catch (final NumberFormatException ex) {
+			// Ignore, see below.
+		}
+		if (capacity < 0) {
+			capacity = defaultCapacity;
+			LOGGER.warn("The VM option -D" + vmOption
+					+ " was not set to a non-negative integer value, and thus defaults to " + capacity + ".");
+		}
+		return capacity;
+	}
+
+	private final String m_name;
+
+	private final long m_capacity;
+
+	private final Cache<K, Entry<V>> m_cache;
+
+	private volatile boolean m_verbose = false;
+
+	/**
+	 * @param name the name of the region
+	 * @param defaultCapacity the capacity in bytes if none is specified via VM option
+	 */
+	DLCacheRegion(final String name, final long defaultCapacity) {
+		m_name = name;
+		m_capacity = parseCapacity(name, defaultCapacity);
+		m_cache = CacheBuilder.newBuilder() //
+				// NB: Guava splits the capacity among its segments, a single segment allows to cache values that
+				// occupy a large part of the capacity
+				.concurrencyLevel(1) //
+				.maximumWeight(m_capacity) //
+				.<K, Entry<V>> weigher((k, e) -> e.m_weight) //
+				.softValues() //
+				.recordStats() //
+				.<K, Entry<V>> removalListener(n -> {
+					if (m_verbose && n.getCause() != RemovalCause.REPLACED && n.getCause() != RemovalCause.EXPLICIT) {
+						LOGGER.debug("Cache region '" + m_name + "' evicted an entry (" + n.getCause() + ").");
+					}
+				}) //
+				.build();
+	}
+
+	/**
+	 * @return the name of this region
+	 */
+	public String getName() {
+		return m_name;
+	}
+
+	/**
+	 * @return the maximum total size of the values of this region in bytes
+	 */
+	public long getCapacity() {
+		return m_capacity;
+	}
+
+	/**
+	 * Returns the value associated with key in this region, or <code>Optional.empty</code> if there is no cached value
+	 * for key.
+	 *
+	 * @param key the key
+	 * @return the value associated with key
+	 */
+	public Optional<V> get(final K key) {
+		final Entry<V> entry = m_cache.getIfPresent(key);
+		return entry == null ? Optional.empty() : Optional.ofNullable(entry.m_value);
+	}
+
+	/**
+	 * Returns the value associated with key in this region, obtaining that value from valueLoader if necessary.
+	 * Concurrent requests for the same key wait for the value that is currently being loaded.
+	 *
+	 * @param key the key
+	 * @param valueLoader loads the value if it is not cached
+	 * @param sizeInBytes computes the approximate size of a loaded value
+	 * @return the value associated with key
+	 * @throws ExecutionException if the loader threw an exception
+	 */
+	public V get(final K key, final Callable<? extends V> valueLoader, final ToLongFunction<? super V> sizeInBytes)
+			throws ExecutionException {
+		// NB: guava takes care about synchronization.
+		return m_cache.get(key, () -> {
+			final V value = valueLoader.call();
+			return new Entry<>(value, sizeInBytes.applyAsLong(value));
+		}).m_value;
+	}
+
+	/**
+	 * Associates value with key in this region. If the region previously contained a value associated with key, the
+	 * old value is replaced by value.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @param sizeInBytes the approximate size of the value
+	 */
+	public void put(final K key, final V value, final long sizeInBytes) {
+		m_cache.put(key, new Entry<>(value, sizeInBytes));
+	}
+
+	/**
+	 * Removes the entry associated with the specified key.
+	 *
+	 * @param key the key
+	 */
+	public void remove(final K key) {
+		m_cache.invalidate(key);
+	}
+
+	/**
+	 * Removes all entries of this region.
+	 */
+	public void clear() {
+		m_cache.invalidateAll();
+		m_cache.cleanUp();
+	}
+
+	/**
+	 * @return a snapshot of the statistics of this region
+	 */
+	public DLCacheStatistics getStatistics() {
+		long size = 0;
+		long numEntries = 0;
+		for (final Entry<V> entry : m_cache.asMap().values()) {
+			size += entry.m_weight;
+			numEntries++;
+		}
+		final CacheStats stats = m_cache.stats();
+		return new DLCacheStatistics(m_name, numEntries, size, m_capacity, stats.hitCount(), stats.missCount(),
+				stats.evictionCount());
+	}
+
+	void setVerbose(final boolean verbose) {
+		m_verbose = verbose;
+	}
+
+	/**
+	 * Removes invalidated and garbage collected entries.
+	 */
+	void cleanUp() {
+		m_cache.cleanUp();
+	}
+
+	private static final class Entry<V> {
+
+		private final V m_value;
+
+		/**
+		 * The size of the value in bytes, Guava only supports weights within the range of integers.
+		 */
+		private final int m_weight;
+
+		private Entry(final V value, final long sizeInBytes) {
+			m_value = value;
+			m_weight = (int) Math.min(Math.max(sizeInBytes, 0), Integer.MAX_VALUE);
+		}
+	}
+}
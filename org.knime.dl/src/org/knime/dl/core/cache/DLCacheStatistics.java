@@ -0,0 +1,157 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.cache;
+
+/**
+ * An immutable snapshot of the statistics of a {@link DLCacheRegion} or of another cache of the deep learning
+ * integration. Hit, miss and eviction counts are accumulated since the cache was created.
+ *
+ * @author agent, agent@local
+ */
+public final class DLCacheStatistics {
+
+	private final String m_regionName;
+
+	private final long m_numEntries;
+
+	private final long m_size;
+
+	private final long m_capacity;
+
+	private final long m_hitCount;
+
+	private final long m_missCount;
+
+	private final long m_evictionCount;
+
+	/**
+	 * @param regionName the name of the region or cache
+	 * @param numEntries the number of entries
+	 * @param size the total size of the entries in bytes
+	 * @param capacity the maximum total size of the entries in bytes
+	 * @param hitCount the number of lookups that found an entry
+	 * @param missCount the number of lookups that did not find an entry
+	 * @param evictionCount the number of entries that were evicted
+	 */
+	public DLCacheStatistics(final String regionName, final long numEntries, final long size, final long capacity,
+			final long hitCount, final long missCount, final long evictionCount) {
+		m_regionName = regionName;
+		m_numEntries = numEntries;
+		m_size = size;
+		m_capacity = capacity;
+		m_hitCount = hitCount;
+		m_missCount = missCount;
+		m_evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return the name of the region
+	 */
+	public String getRegionName() {
+		return m_regionName;
+	}
+
+	/**
+	 * @return the number of entries that were cached at the time of the snapshot, may include entries whose values
+	 *         were already garbage collected
+	 */
+	public long getNumEntries() {
+		return m_numEntries;
+	}
+
+	/**
+	 * @return the approximate total size of the cached values in bytes
+	 */
+	public long getSize() {
+		return m_size;
+	}
+
+	/**
+	 * @return the capacity of the region in bytes
+	 */
+	public long getCapacity() {
+		return m_capacity;
+	}
+
+	/**
+	 * @return the number of lookups that found a cached value
+	 */
+	public long getHitCount() {
+		return m_hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that did not find a cached value
+	 */
+	public long getMissCount() {
+		return m_missCount;
+	}
+
+	/**
+	 * @return the ratio of lookups that found a cached value, one if there were no lookups
+	 */
+	public double getHitRate() {
+		final long lookups = m_hitCount + m_missCount;
+		return lookups == 0 ? 1.0 : (double) m_hitCount / lookups;
+	}
+
+	/**
+	 * @return the number of entries that were evicted because of the capacity of the region or because their values
+	 *         were garbage collected, does not include entries that were removed explicitly or on memory alerts
+	 */
+	public long getEvictionCount() {
+		return m_evictionCount;
+	}
+
+	@Override
+	public String toString() {
+		return m_regionName + ": " + m_numEntries + " entries, " + m_size + " of " + m_capacity + " bytes, "
+				+ m_hitCount + " hits, " + m_missCount + " misses, " + m_evictionCount + " evictions";
+	}
+}
@@ -48,136 +48,215 @@
  */
 package org.knime.dl.core.cache;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 import org.knime.core.data.util.memory.MemoryAlert;
 import org.knime.core.data.util.memory.MemoryAlertListener;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.NodeLogger;
-
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import org.knime.dl.core.DLNetworkSpec;
 
 /**
- * Wrapper for a Guava Cache that listens to memory alerts from {@link MemoryAlertSystem} and cleans the cache if memory
- * gets low.
+ * In-memory cache of the deep learning integration. The cache is divided into {@link DLCacheRegion regions}, one per
+ * kind of cached value, each of which is bounded by a number of bytes:
+ * <ul>
+ * <li>{@link #getSpecs() specs}: network specs, keyed by a description of the network source</li>
+ * <li>{@link #getNetworks() networks}: back end specific in-memory representations of materialized networks, e.g.
+ * networks that were loaded for execution on the JVM</li>
+ * <li>{@link #getTensors() tensors}: converted tensor data that is fed to networks repeatedly</li>
+ * <li>default: values that are cached via the deprecated, {@link UUID}-keyed methods of this class</li>
+ * </ul>
+ * All regions listen to memory alerts from {@link MemoryAlertSystem} and are cleared if memory gets low. Persistent
+ * caches (e.g. of network files) form the next tier and are consulted by clients on a miss.
+ * <P>
+ * Only objects that live on the Java heap are cached here. Networks that are materialized from layer graphs are files,
+ * they are cached on disk by the back end that materializes them. Networks that are loaded into Python processes are
+ * pooled along with their processes by the Python integration, which has its own budget as their memory is not
+ * reclaimed by memory alerts of the JVM. Networks that are trained are always loaded anew, as training modifies them.
+ * <P>
+ * Evictions are logged if VM option {@link #VERBOSE_VM_OPT} is set to <code>true</code>.
  */
 public class DLMemoryAlertAwareGuavaCache {
 
+	/**
+	 * Whether evictions are logged.
+	 */
+	public static final String VERBOSE_VM_OPT = "knime.dl.cache.verbose";
+
 	private static final NodeLogger LOGGER = NodeLogger.getLogger(DLMemoryAlertAwareGuavaCache.class);
 
+	private static final long DEFAULT_SPECS_CAPACITY = 16L << 20;
+
+	/**
+	 * The maximum number of values in the default region, whose values have unknown sizes.
+	 */
+	private static final int MAX_DEFAULT_ENTRIES = 20;
+
 	// NB: instantiation as static is OK, as cache is not expensive.
 	public final static DLMemoryAlertAwareGuavaCache CACHE = new DLMemoryAlertAwareGuavaCache();
 
-	// TODO make property on property page
-	private final boolean m_enableVerbose = false;
+	private final DLCacheRegion<String, DLNetworkSpec> m_specs;
 
-	private Cache<UUID, Object> m_cache;
+	private final DLCacheRegion<String, Object> m_networks;
 
-	private final Semaphore m_gate = new Semaphore(1);
+	private final DLCacheRegion<String, Object> m_tensors;
 
-	private final int m_cacheSize = 20;
+	private final DLCacheRegion<UUID, Object> m_default;
+
+	private final List<DLCacheRegion<?, ?>> m_regions;
+
+	private final Semaphore m_gate = new Semaphore(1);
 
 	private DLMemoryAlertAwareGuavaCache() {
-		if (m_enableVerbose) {
-			m_cache = CacheBuilder.newBuilder().maximumSize(m_cacheSize).softValues().recordStats().build();
-		} else {
-			m_cache = CacheBuilder.newBuilder().maximumSize(m_cacheSize).softValues().build();
-		}
+		final long defaultCapacity = Runtime.getRuntime().maxMemory() / 8;
+		m_specs = new DLCacheRegion<>("specs", DEFAULT_SPECS_CAPACITY);
+		m_networks = new DLCacheRegion<>("networks", defaultCapacity);
+		m_tensors = new DLCacheRegion<>("tensors", defaultCapacity);
+		m_default = new DLCacheRegion<>("default", defaultCapacity);
+		m_regions = Collections.unmodifiableList(Arrays.asList(m_specs, m_networks, m_tensors, m_default));
+		final boolean verbose = Boolean.getBoolean(VERBOSE_VM_OPT);
+		m_regions.forEach(r -> r.setVerbose(verbose));
 
 		MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
 			@Override
 			protected boolean memoryAlert(final MemoryAlert alert) {
-				if (m_enableVerbose) {
-					LOGGER.debug(getClass().getName() + " released memory for " + m_cache.size() + " models");
-				}
-				if (m_gate.tryAcquire()) {
-					m_cache.invalidateAll();
-					m_cache.cleanUp();
-					m_gate.release();
+				if (verbose) {
+					LOGGER.debug(DLMemoryAlertAwareGuavaCache.class.getName() + " releases memory: " + getStatistics());
 				}
+				clear();
 				return false;
 			}
 		});
 	}
 
 	/**
-	 * Associates value with key in this cache. If the cache previously contained a value associated with key, the old
-	 * value is replaced by value.
+	 * @return the region that holds network specs
+	 */
+	public DLCacheRegion<String, DLNetworkSpec> getSpecs() {
+		return m_specs;
+	}
+
+	/**
+	 * @return the region that holds in-memory representations of materialized networks
+	 */
+	public DLCacheRegion<String, Object> getNetworks() {
+		return m_networks;
+	}
+
+	/**
+	 * @return the region that holds converted tensor data
+	 */
+	public DLCacheRegion<String, Object> getTensors() {
+		return m_tensors;
+	}
+
+	/**
+	 * @return all regions of the cache
+	 */
+	public List<DLCacheRegion<?, ?>> getRegions() {
+		return m_regions;
+	}
+
+	/**
+	 * Associates value with key in the default region. If the region previously contained a value associated with key,
+	 * the old value is replaced by value.
 	 *
 	 * @param key
 	 * @param value
+	 * @deprecated use the region that matches the kind of the value, e.g. {@link #getNetworks()}, and specify its size
 	 */
+	@Deprecated
 	public void put(final UUID key, final Object value) {
-		m_cache.put(key, value);
-		if (m_enableVerbose) {
-			LOGGER.debug("Put: " + m_cache.stats());
-			LOGGER.debug("Cache size: " + m_cache.size());
-		}
+		m_default.put(key, value, getDefaultEntrySize());
 	}
 
 	/**
-	 * Returns the value associated with key in this cache, or <code>Optional.empty</code> if there is no cached value
-	 * for key.
+	 * Returns the value associated with key in the default region, or <code>Optional.empty</code> if there is no cached
+	 * value for key.
 	 *
 	 * @param key
 	 * @return the value associated with key
+	 * @deprecated use the region that matches the kind of the value, e.g. {@link #getNetworks()}
 	 */
+	@Deprecated
 	public Optional<Object> get(final UUID key) {
-		final Object o = m_cache.getIfPresent(key);
-		if (m_enableVerbose) {
-			LOGGER.debug("Get: " + m_cache.stats());
-			LOGGER.debug("Cache size: " + m_cache.size());
-		}
-		return o == null ? Optional.empty() : Optional.of(o);
+		return m_default.get(key);
 	}
 
 	/**
-	 * Returns the value associated with key in this cache, obtaining that value from valueLoader if necessary.
+	 * Returns the value associated with key in the default region, obtaining that value from valueLoader if necessary.
 	 *
 	 * @param key
 	 * @param valueLoader
 	 * @return the value associated with key
 	 * @throws ExecutionException
+	 * @deprecated use the region that matches the kind of the value, e.g. {@link #getNetworks()}, and specify its size
 	 */
+	@Deprecated
 	@SuppressWarnings("unchecked")
 	public <V> V get(final UUID key, final Callable<V> valueLoader) throws ExecutionException {
-		// NB: guava takes care about synchronization.
-		// see:
-		// https://google.github.io/guava/releases/21.0/api/docs/com/google/common/cache/Cache.html
-		final V o = (V) m_cache.get(key, valueLoader);
-		if (m_enableVerbose) {
-			LOGGER.debug("GetOrLoad: " + m_cache.stats());
-			LOGGER.debug("Cache size: " + m_cache.size());
-		}
-		return o;
+		return (V) m_default.get(key, valueLoader, v -> getDefaultEntrySize());
 	}
 
 	/**
-	 * Removes the cache entry associated with the specified key.
+	 * Removes the entry of the default region associated with the specified key.
 	 *
 	 * @param key
+	 * @deprecated use the region that matches the kind of the value, e.g. {@link #getNetworks()}
 	 */
+	@Deprecated
 	public void remove(final UUID key) {
-		m_cache.invalidate(key);
-		if (m_enableVerbose) {
-			LOGGER.debug("Remove: " + m_cache.stats());
-			LOGGER.debug("Cache size: " + m_cache.size());
+		m_default.remove(key);
+	}
+
+	/**
+	 * @return a snapshot of the statistics of all regions
+	 */
+	public List<DLCacheStatistics> getStatistics() {
+		return m_regions.stream().map(DLCacheRegion::getStatistics).collect(Collectors.toList());
+	}
+
+	/**
+	 * Removes all entries from all regions.
+	 */
+	public void clear() {
+		// NB: semaphore to avoid redundant clears, e.g. on consecutive memory alerts
+		if (m_gate.tryAcquire()) {
+			try {
+				m_regions.forEach(DLCacheRegion::clear);
+			} finally {
+				m_gate.release();
+			}
 		}
 	}
 
+	/**
+	 * The sizes of the values of the default region are unknown, each value is accounted for as an equal share of the
+	 * region's capacity. This bounds the number of values like the fixed maximum size of earlier versions.
+	 */
+	private long getDefaultEntrySize() {
+		return Math.max(m_default.getCapacity() / MAX_DEFAULT_ENTRIES, 1);
+	}
+
 	/**
 	 * Cleans up the cache, i.e. removes all invalidated objects.
 	 */
-	public synchronized void cleanUp() {
+	public void cleanUp() {
 		// NB: semaphore to avoid redundant cleanUps
 		if (m_gate.tryAcquire()) {
-			m_cache.cleanUp();
-			m_gate.release();
+			try {
+				m_regions.forEach(DLCacheRegion::cleanUp);
+			} finally {
+				m_gate.release();
+			}
 		}
 	}
 }
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+
+import com.google.common.io.BaseEncoding;
+
+/**
+ * A directory of cache entries that persist across sessions. Each entry maps a string key to a byte array and is
+ * stored in a file that is named after the hash of the key. The key itself is stored in the file as well, such that
+ * hash collisions are detected on reading.
+ * <P>
+ * Entries are written to a temporary file that is atomically moved into place, such that concurrent readers, e.g. of
+ * another KNIME instance sharing the same home directory, never see incomplete entries. Once the number of entries
+ * exceeds the maximum, the least recently used ones are deleted.
+ *
+ * @author agent, agent@local
+ */
+public final class DLPersistentFileCache {
+
+	/**
+	 * @param bytes the bytes to hash
+	 * @return the lower case hex encoded SHA-256 hash of the bytes
+	 * @throws IOException if the hash algorithm is not available
+	 */
+	public static String hash(final byte[] bytes) throws IOException {
+		try {
+			return BaseEncoding.base16().lowerCase().encode(MessageDigest.getInstance("SHA-256").digest(bytes));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private final File m_directory;
+
+	private final String m_entryFileExtension;
+
+	private final int m_maxNumEntries;
+
+	/**
+	 * @param directory the directory in which the entries are stored, is created on first write if it does not exist
+	 * @param entryFileExtension the file extension of the entries, e.g. <code>".spec"</code>
+	 * @param maxNumEntries the maximum number of entries that are kept in the directory
+	 */
+	public DLPersistentFileCache(final File directory, final String entryFileExtension, final int maxNumEntries) {
+		m_directory = directory;
+		m_entryFileExtension = entryFileExtension;
+		m_maxNumEntries = maxNumEntries;
+	}
+
+	/**
+	 * Reads the entry of the given key. Reading an entry marks it as recently used.
+	 *
+	 * @param key the key of the entry
+	 * @return the value of the entry, empty if there is no entry for the key
+	 * @throws IOException if reading the entry failed
+	 */
+	public Optional<byte[]> get(final String key) throws IOException {
+		final File entry = getEntryFile(key);
+		if (!entry.isFile()) {
+			return Optional.empty();
+		}
+		final byte[] value;
+		try (final DataInputStream in = new DataInputStream(new FileInputStream(entry))) {
+			if (!key.equals(new String(readBytes(in, entry), StandardCharsets.UTF_8))) {
+				return Optional.empty();
+			}
+			value = readBytes(in, entry);
+		}
+		// keep recently used entries when pruning
+		entry.setLastModified(System.currentTimeMillis());
+		return Optional.of(value);
+	}
+
+	/**
+	 * Writes an entry, replacing the existing entry of the key if any.
+	 *
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 * @throws IOException if writing the entry failed
+	 */
+	public void put(final String key, final byte[] value) throws IOException {
+		if (!m_directory.isDirectory() && !m_directory.mkdirs()) {
+			throw new IOException("Cache directory '" + m_directory + "' could not be created.");
+		}
+		final File tempFile = File.createTempFile("entry", ".tmp", m_directory);
+		try {
+			final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			try (final DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile))) {
+				out.writeInt(keyBytes.length);
+				out.write(keyBytes);
+				out.writeInt(value.length);
+				out.write(value);
+			}
+			Files.move(tempFile.toPath(), getEntryFile(key).toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+		prune();
+	}
+
+	/**
+	 * Deletes the entry of the given key if present, e.g. because its value turned out to be unreadable.
+	 *
+	 * @param key the key of the entry
+	 * @throws IOException if deleting the entry failed
+	 */
+	public void remove(final String key) throws IOException {
+		Files.deleteIfExists(getEntryFile(key).toPath());
+	}
+
+	private static byte[] readBytes(final DataInputStream in, final File entry) throws IOException {
+		final int length = in.readInt();
+		if (length < 0 || length > entry.length()) {
+			throw new IOException("Cache entry '" + entry + "' is corrupt.");
+		}
+		final byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private File getEntryFile(final String key) throws IOException {
+		return new File(m_directory, hash(key.getBytes(StandardCharsets.UTF_8)) + m_entryFileExtension);
+	}
+
+	private void prune() {
+		final File[] entries = m_directory.listFiles((dir, name) -> name.endsWith(m_entryFileExtension));
+		if (entries == null || entries.length <= m_maxNumEntries) {
+			return;
+		}
+		Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+		for (int i = 0; i < entries.length - m_maxNumEntries; i++) {
+			entries[i].delete();
+		}
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Abstract implementation of buffers whose elements are stored outside of the Java heap in direct {@link ByteBuffer
+ * byte buffer} segments. In contrast to {@link DLAbstractWrappingDataBuffer}, the capacity of these buffers is not
+ * limited to {@link Integer#MAX_VALUE} elements.
+ * <P>
+ * The off-heap memory is released deterministically when the buffer is {@link #close() closed} (which happens when its
+ * tensor is closed). A buffer must not be used after closing it.
+ *
+ * @author agent, agent@local
+ */
+public abstract class DLAbstractOffHeapBuffer implements DLReadableBuffer, DLWritableBuffer {
+
+	private static final NodeLogger LOGGER = NodeLogger.getLogger(DLAbstractOffHeapBuffer.class);
+
+	/**
+	 * The default maximum size of a single segment in bytes (1 GiB).
+	 */
+	static final int DEFAULT_SEGMENT_SIZE_BYTES = 1 << 30;
+
+	/**
+	 * @param expression a boolean expression
+	 * @throws BufferOverflowException if {@code expression} is false
+	 */
+	protected static void checkOverflow(final boolean expression) throws BufferOverflowException {
+		if (!expression) {
+			throw new BufferOverflowException();
+		}
+	}
+
+	/**
+	 * @param expression a boolean expression
+	 * @throws BufferUnderflowException if {@code expression} is false
+	 */
+	protected static void checkUnderflow(final boolean expression) throws BufferUnderflowException {
+		if (!expression) {
+			throw new BufferUnderflowException();
+		}
+	}
+
+	private final long m_capacity;
+
+	private final int m_elementShift;
+
+	private final int m_segmentShift;
+
+	private final long m_segmentMask;
+
+	private ByteBuffer[] m_segments;
+
+	private long m_nextWrite = 0;
+
+	private long m_nextRead = 0;
+
+	/**
+	 * Creates a new instance of this buffer and allocates its off-heap memory.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 * @param elementSize the size of a single element in bytes, must be a power of two
+	 */
+	protected DLAbstractOffHeapBuffer(final long capacity, final int elementSize) {
+		this(capacity, elementSize, DEFAULT_SEGMENT_SIZE_BYTES);
+	}
+
+	/**
+	 * Creates a new instance of this buffer with a custom segment size. Intended for testing.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 * @param elementSize the size of a single element in bytes, must be a power of two
+	 * @param segmentSize the maximum size of a segment in bytes, must be a power of two not smaller than the element
+	 *            size
+	 */
+	DLAbstractOffHeapBuffer(final long capacity, final int elementSize, final int segmentSize) {
+		checkArgument(capacity >= 0, "Invalid input capacity. Capacity must not be negative.");
+		checkArgument(Integer.bitCount(elementSize) == 1, "Element size must be a power of two.");
+		checkArgument(Integer.bitCount(segmentSize) == 1 && segmentSize >= elementSize,
+				"Segment size must be a power of two not smaller than the element size.");
+		m_capacity = capacity;
+		m_elementShift = Integer.numberOfTrailingZeros(elementSize);
+		m_segmentShift = Integer.numberOfTrailingZeros(segmentSize) - m_elementShift;
+		m_segmentMask = (1L << m_segmentShift) - 1;
+		final long numSegments = (capacity + m_segmentMask) >>> m_segmentShift;
+		checkArgument(numSegments <= Integer.MAX_VALUE, "Invalid input capacity. Capacity is too large.");
+		m_segments = new ByteBuffer[(int) numSegments];
+		try {
+			for (int i = 0; i < m_segments.length; i++) {
+				final long elements = Math.min(capacity - ((long) i << m_segmentShift), 1L << m_segmentShift);
+				m_segments[i] = ByteBuffer.allocateDirect((int) (elements << m_elementShift))
+						.order(ByteOrder.nativeOrder());
+			}
+		} catch (final OutOfMemoryError e) {
+			close();
+			throw e;
+		}
+	}
+
+	@Override
+	public long size() {
+		return m_nextWrite;
+	}
+
+	@Override
+	public long getCapacity() {
+		return m_capacity;
+	}
+
+	/**
+	 * @return the next read position
+	 */
+	public long getNextReadPosition() {
+		return m_nextRead;
+	}
+
+	@Override
+	public void resetRead() {
+		m_nextRead = 0;
+	}
+
+	@Override
+	public void resetWrite() {
+		m_nextWrite = 0;
+	}
+
+	@Override
+	public void reset() {
+		resetRead();
+		resetWrite();
+	}
+
+	@Override
+	public void close() {
+		if (m_segments != null) {
+			for (final ByteBuffer segment : m_segments) {
+				if (segment != null) {
+					release(segment);
+				}
+			}
+			m_segments = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Off-heap buffer with capacity: " + m_capacity;
+	}
+
+	/**
+	 * Advances the write position by the given number of elements.
+	 *
+	 * @param length the number of elements to write
+	 * @return the index of the first element to write
+	 * @throws BufferOverflowException if the buffer's capacity would be exceeded
+	 */
+	protected final long reserveWrite(final long length) throws BufferOverflowException {
+		checkOverflow(m_nextWrite + length <= m_capacity);
+		final long index = m_nextWrite;
+		m_nextWrite += length;
+		return index;
+	}
+
+	/**
+	 * Advances the read position by the given number of elements.
+	 *
+	 * @param length the number of elements to read
+	 * @return the index of the first element to read
+	 * @throws BufferUnderflowException if fewer than {@code length} elements are left to read
+	 */
+	protected final long reserveRead(final long length) throws BufferUnderflowException {
+		checkUnderflow(m_nextRead + length <= m_nextWrite);
+		final long index = m_nextRead;
+		m_nextRead += length;
+		return index;
+	}
+
+	/**
+	 * @return the capacity of this buffer as array length
+	 * @throws IllegalStateException if the capacity exceeds the maximum array length
+	 */
+	protected final int getArrayLength() {
+		if (m_capacity > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Buffer capacity (" + m_capacity
+					+ ") exceeds the maximum array length. Use the bulk read methods instead.");
+		}
+		return (int) m_capacity;
+	}
+
+	/**
+	 * @param index the element index
+	 * @return the segment that contains the element at the given index
+	 */
+	protected final ByteBuffer segment(final long index) {
+		return m_segments[(int) (index >>> m_segmentShift)];
+	}
+
+	/**
+	 * @param index the element index
+	 * @return the byte offset of the element at the given index within its {@link #segment(long) segment}
+	 */
+	protected final int offset(final long index) {
+		return (int) ((index & m_segmentMask) << m_elementShift);
+	}
+
+	/**
+	 * @param index the element index
+	 * @return the number of elements from the given index up to the end of its {@link #segment(long) segment}
+	 */
+	protected final int remaining(final long index) {
+		return (int) ((m_segmentMask + 1) - (index & m_segmentMask));
+	}
+
+	/**
+	 * Returns a view on a contiguous range of elements that does not cross segment boundaries. The view's position and
+	 * limit are independent of this buffer and of other views.
+	 *
+	 * @param index the index of the first element of the view
+	 * @param length the number of elements of the view, must not exceed {@link #remaining(long)}
+	 * @return the view
+	 */
+	protected final ByteBuffer view(final long index, final int length) {
+		final ByteBuffer view = segment(index).duplicate().order(ByteOrder.nativeOrder());
+		final int offset = offset(index);
+		view.limit(offset + (length << m_elementShift));
+		view.position(offset);
+		return view;
+	}
+
+	private static void release(final ByteBuffer buffer) {
+		try {
+			// Java 9+
+			final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			return;
+		} catch (final NoSuchMethodException e) {
+			// Java 8, see below
+		} catch (final Exception e) {
+			LOGGER.debug("Failed to release off-heap buffer memory. Memory will be released by the garbage collector.",
+					e);
+			return;
+		}
+		try {
+			final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			final Object cleaner = cleanerMethod.invoke(buffer);
+			if (cleaner != null) {
+				final Method clean = cleaner.getClass().getMethod("clean");
+				clean.setAccessible(true);
+				clean.invoke(cleaner);
+			}
+		} catch (final Exception e) {
+			LOGGER.debug("Failed to release off-heap buffer memory. Memory will be released by the garbage collector.",
+					e);
+		}
+	}
+}
@@ -53,15 +53,102 @@
 
 /**
  * Bit type implementation of {@link DLWrappingDataBuffer}.
+ * <P>
+ * Bits are packed into an array of words: element <code>i</code> is stored at bit position <code>i % 64</code> of word
+ * <code>i / 64</code>, which is the layout of {@link org.knime.core.data.vector.bitvector.DenseBitVector}. Positions
+ * passed to {@link #getStorageForReading(long, long)} and {@link #getStorageForWriting(long, long)} are therefore
+ * bit positions. Bits beyond the buffer's {@link #size() size} are undefined.
  *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  * @author Benjamin Wilhelm, KNIME GmbH, Konstanz, Germany
  */
-public class DLDefaultBitBuffer extends DLAbstractFlatWrappingDataBuffer<boolean[]>
+public class DLDefaultBitBuffer extends DLAbstractFlatWrappingDataBuffer<long[]>
     implements DLWritableBitBuffer, DLReadableBitBuffer {
 
+    /**
+     * @param numBits the number of bits
+     * @return the number of words that are needed to store the given number of bits
+     */
+    public static int getNumWords(final long numBits) {
+        return (int)((numBits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * @param buffer the buffer to check
+     * @return true if the given buffer is a bit buffer whose storage consists of packed words, i.e. if positions in
+     *         its storage are bit positions within a <code>long[]</code>
+     */
+    public static boolean hasPackedStorage(final DLWrappingDataBuffer<?> buffer) {
+        return buffer instanceof DLWritableBitBuffer && buffer.getStorageForReading(0, 0) instanceof long[];
+    }
+
+    /**
+     * Reads consecutive bits from packed words.
+     *
+     * @param words the packed bits
+     * @param index the position of the first bit to read
+     * @param numBits the number of bits to read, between 1 and 64
+     * @return the bits, the first bit at the least significant position, higher positions are zero
+     */
+    public static long getBits(final long[] words, final int index, final int numBits) {
+        final int word = index >>> 6;
+        final int shift = index & 63;
+        long bits = words[word] >>> shift;
+        if (shift + numBits > Long.SIZE) {
+            bits |= words[word + 1] << (Long.SIZE - shift);
+        }
+        return numBits == Long.SIZE ? bits : bits & ((1L << numBits) - 1);
+    }
+
+    /**
+     * Writes consecutive bits into packed words. Other bits of the words remain unchanged.
+     *
+     * @param words the packed bits
+     * @param index the position of the first bit to write
+     * @param numBits the number of bits to write, between 1 and 64
+     * @param bits the bits, the first bit at the least significant position, higher positions are ignored
+     */
+    public static void setBits(final long[] words, final int index, final int numBits, final long bits) {
+        final int word = index >>> 6;
+        final int shift = index & 63;
+        final long mask = numBits == Long.SIZE ? -1L : (1L << numBits) - 1;
+        final long masked = bits & mask;
+        words[word] = (words[word] & ~(mask << shift)) | (masked << shift);
+        if (shift + numBits > Long.SIZE) {
+            final long highMask = mask >>> (Long.SIZE - shift);
+            words[word + 1] = (words[word + 1] & ~highMask) | (masked >>> (Long.SIZE - shift));
+        }
+    }
+
+    /**
+     * Copies bits between packed word arrays, the arrays must not be the same.
+     *
+     * @param src the source words
+     * @param srcPos the position of the first bit to copy in the source
+     * @param dest the destination words
+     * @param destPos the position of the first bit to write in the destination
+     * @param length the number of bits to copy
+     */
+    public static void copyBits(final long[] src, final int srcPos, final long[] dest, final int destPos,
+        final int length) {
+        int i = 0;
+        if ((srcPos & 63) == 0 && (destPos & 63) == 0) {
+            final int numFullWords = length >>> 6;
+            System.arraycopy(src, srcPos >>> 6, dest, destPos >>> 6, numFullWords);
+            i = numFullWords << 6;
+        }
+        for (; i < length; i += Long.SIZE) {
+            final int numBits = Math.min(Long.SIZE, length - i);
+            setBits(dest, destPos + i, numBits, getBits(src, srcPos + i, numBits));
+        }
+    }
+
+    private static boolean getBit(final long[] words, final int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
     /**
      * Creates a new instance of this buffer.
      *
@@ -72,8 +159,9 @@ public DLDefaultBitBuffer(final long capacity) {
     }
 
     @Override
-    public void setStorage(final boolean[] storage, final long storageSize) throws IllegalArgumentException {
-        checkArgument(storage.length == m_capacity, "Input storage capacity does not match buffer capacity.");
+    public void setStorage(final long[] storage, final long storageSize) throws IllegalArgumentException {
+        checkArgument(storage.length == getNumWords(m_capacity),
+            "Input storage capacity does not match buffer capacity.");
         m_storage = storage;
         m_nextWrite = (int)storageSize;
         resetRead();
@@ -83,20 +171,25 @@ public void setStorage(final boolean[] storage, final long storageSize) throws I
     public void zeroPad(long length) throws IllegalArgumentException, BufferOverflowException {
         checkArgument(length > 0);
         checkOverflow(m_nextWrite + length <= m_capacity);
-        for (int i = 0; i < length; i++) {
-            m_storage[m_nextWrite++] = false;
+        for (int i = 0; i < length; i += Long.SIZE) {
+            setBits(m_storage, m_nextWrite + i, (int)Math.min(Long.SIZE, length - i), 0L);
         }
+        m_nextWrite += length;
     }
 
     @Override
     public boolean readNextBit() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return m_storage[m_nextRead++];
+        return getBit(m_storage, m_nextRead++);
     }
 
     @Override
     public boolean[] toBitArray() {
-        return m_storage.clone();
+        final boolean[] tmp = new boolean[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = getBit(m_storage, i);
+        }
+        return tmp;
     }
 
     @Override
@@ -104,21 +197,23 @@ public void readToBitArray(boolean[] dest, int destPos, int length) {
         checkArgument(destPos >= 0);
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
-        System.arraycopy(m_storage, m_nextRead, dest, destPos, length);
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = getBit(m_storage, m_nextRead + i);
+        }
         m_nextRead += length;
     }
 
     @Override
     public byte readNextByte() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return (byte)(m_storage[m_nextRead++] ? 1 : 0);
+        return (byte)(getBit(m_storage, m_nextRead++) ? 1 : 0);
     }
 
     @Override
     public byte[] toByteArray() {
-        final byte[] tmp = new byte[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = (byte)(m_storage[i] ? 1 : 0);
+        final byte[] tmp = new byte[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = (byte)(getBit(m_storage, i) ? 1 : 0);
         }
         return tmp;
     }
@@ -129,7 +224,7 @@ public void readToByteArray(byte[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = (byte)(m_storage[m_nextRead + i] ? 1 : 0);
+            dest[destPos + i] = (byte)(getBit(m_storage, m_nextRead + i) ? 1 : 0);
         }
         m_nextRead += length;
     }
@@ -137,14 +232,14 @@ public void readToByteArray(byte[] dest, int destPos, int length) {
     @Override
     public short readNextShort() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return (short)(m_storage[m_nextRead++] ? 1 : 0);
+        return (short)(getBit(m_storage, m_nextRead++) ? 1 : 0);
     }
 
     @Override
     public short[] toShortArray() {
-        final short[] tmp = new short[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = (short)(m_storage[i] ? 1 : 0);
+        final short[] tmp = new short[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = (short)(getBit(m_storage, i) ? 1 : 0);
         }
         return tmp;
     }
@@ -155,7 +250,7 @@ public void readToShortArray(short[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = (short)(m_storage[m_nextRead + i] ? 1 : 0);
+            dest[destPos + i] = (short)(getBit(m_storage, m_nextRead + i) ? 1 : 0);
         }
         m_nextRead += length;
     }
@@ -163,14 +258,14 @@ public void readToShortArray(short[] dest, int destPos, int length) {
     @Override
     public int readNextInt() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return m_storage[m_nextRead++] ? 1 : 0;
+        return getBit(m_storage, m_nextRead++) ? 1 : 0;
     }
 
     @Override
     public int[] toIntArray() {
-        final int[] tmp = new int[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = m_storage[i] ? 1 : 0;
+        final int[] tmp = new int[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = getBit(m_storage, i) ? 1 : 0;
         }
         return tmp;
     }
@@ -181,7 +276,7 @@ public void readToIntArray(int[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = m_storage[m_nextRead + i] ? 1 : 0;
+            dest[destPos + i] = getBit(m_storage, m_nextRead + i) ? 1 : 0;
         }
         m_nextRead += length;
     }
@@ -189,14 +284,14 @@ public void readToIntArray(int[] dest, int destPos, int length) {
     @Override
     public long readNextLong() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return m_storage[m_nextRead++] ? 1L : 0L;
+        return getBit(m_storage, m_nextRead++) ? 1L : 0L;
     }
 
     @Override
     public long[] toLongArray() {
-        final long[] tmp = new long[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = m_storage[i] ? 1L : 0L;
+        final long[] tmp = new long[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = getBit(m_storage, i) ? 1L : 0L;
         }
         return tmp;
     }
@@ -207,7 +302,7 @@ public void readToLongArray(long[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = m_storage[m_nextRead + i] ? 1L : 0L;
+            dest[destPos + i] = getBit(m_storage, m_nextRead + i) ? 1L : 0L;
         }
         m_nextRead += length;
     }
@@ -215,14 +310,14 @@ public void readToLongArray(long[] dest, int destPos, int length) {
     @Override
     public float readNextFloat() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return m_storage[m_nextRead++] ? 1f : 0f;
+        return getBit(m_storage, m_nextRead++) ? 1f : 0f;
     }
 
     @Override
     public float[] toFloatArray() {
-        final float[] tmp = new float[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = m_storage[i] ? 1f : 0f;
+        final float[] tmp = new float[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = getBit(m_storage, i) ? 1f : 0f;
         }
         return tmp;
     }
@@ -233,7 +328,7 @@ public void readToFloatArray(float[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = m_storage[m_nextRead + i] ? 1f : 0f;
+            dest[destPos + i] = getBit(m_storage, m_nextRead + i) ? 1f : 0f;
         }
         m_nextRead += length;
     }
@@ -241,14 +336,14 @@ public void readToFloatArray(float[] dest, int destPos, int length) {
     @Override
     public double readNextDouble() throws BufferUnderflowException {
         checkUnderflow(m_nextRead < m_nextWrite);
-        return m_storage[m_nextRead++] ? 1. : 0.;
+        return getBit(m_storage, m_nextRead++) ? 1. : 0.;
     }
 
     @Override
     public double[] toDoubleArray() {
-        final double[] tmp = new double[m_storage.length];
-        for (int i = 0; i < m_storage.length; i++) {
-            tmp[i] = m_storage[i] ? 1. : 0.;
+        final double[] tmp = new double[m_capacity];
+        for (int i = 0; i < m_capacity; i++) {
+            tmp[i] = getBit(m_storage, i) ? 1. : 0.;
         }
         return tmp;
     }
@@ -259,7 +354,7 @@ public void readToDoubleArray(double[] dest, int destPos, int length) {
         checkArgument(length > 0);
         checkUnderflow(m_nextRead + length <= m_nextWrite);
         for (int i = 0; i < length; i++) {
-            dest[destPos + i] = m_storage[m_nextRead + i] ? 1. : 0.;
+            dest[destPos + i] = getBit(m_storage, m_nextRead + i) ? 1. : 0.;
         }
         m_nextRead += length;
     }
@@ -267,18 +362,37 @@ public void readToDoubleArray(double[] dest, int destPos, int length) {
     @Override
     public void put(boolean value) throws BufferOverflowException {
         checkOverflow(m_nextWrite < m_capacity);
-        m_storage[m_nextWrite++] = value;
+        setBits(m_storage, m_nextWrite++, 1, value ? 1L : 0L);
     }
 
     @Override
     public void putAll(boolean[] values) throws BufferOverflowException {
         checkOverflow(m_nextWrite + values.length <= m_capacity);
-        System.arraycopy(values, 0, m_storage, m_nextWrite, values.length);
+        for (int i = 0; i < values.length; i += Long.SIZE) {
+            final int numBits = Math.min(Long.SIZE, values.length - i);
+            long bits = 0L;
+            for (int j = 0; j < numBits; j++) {
+                if (values[i + j]) {
+                    bits |= 1L << j;
+                }
+            }
+            setBits(m_storage, m_nextWrite + i, numBits, bits);
+        }
         m_nextWrite += values.length;
     }
 
     @Override
-    protected boolean[] createStorage() {
-        return new boolean[m_capacity];
+    public void putAll(long[] words, long length) throws BufferOverflowException {
+        checkArgument(length >= 0 && length <= (long)words.length * Long.SIZE);
+        checkOverflow(m_nextWrite + length <= m_capacity);
+        if (length > 0) {
+            copyBits(words, 0, m_storage, m_nextWrite, (int)length);
+            m_nextWrite += length;
+        }
+    }
+
+    @Override
+    protected long[] createStorage() {
+        return new long[getNumWords(m_capacity)];
     }
 }
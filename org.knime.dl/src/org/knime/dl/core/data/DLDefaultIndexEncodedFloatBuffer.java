@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.BufferOverflowException;
+import java.util.Arrays;
+
+/**
+ * Default implementation of {@link DLWritableIndexEncodedFloatBuffer}. The storage holds one index per one-hot vector,
+ * see the interface description.
+ *
+ * @author agent, agent@local
+ */
+public class DLDefaultIndexEncodedFloatBuffer extends DLAbstractFlatWrappingDataBuffer<int[]>
+		implements DLWritableIndexEncodedFloatBuffer {
+
+	private static long toNumVectors(final long capacity, final int depth) {
+		checkArgument(depth > 0, "Invalid depth. Expected value greater than 0, was %s.", depth);
+		checkArgument(capacity % depth == 0, "Invalid capacity. Expected a multiple of the depth (%s), was %s.", depth,
+				capacity);
+		return capacity / depth;
+	}
+
+	private final int m_depth;
+
+	/**
+	 * Creates a new instance of this buffer.
+	 *
+	 * @param capacity the immutable capacity of the buffer in terms of float elements, must be a multiple of
+	 *            <code>depth</code>
+	 * @param depth the length of the one-hot vectors
+	 */
+	public DLDefaultIndexEncodedFloatBuffer(final long capacity, final int depth) {
+		super(toNumVectors(capacity, depth));
+		m_depth = depth;
+	}
+
+	@Override
+	public int getDepth() {
+		return m_depth;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return the {@link #getDepth() depth} of this buffer
+	 */
+	@Override
+	public int getElementsPerStorageUnit() {
+		return m_depth;
+	}
+
+	@Override
+	public long size() {
+		return (long) m_nextWrite * m_depth;
+	}
+
+	@Override
+	public long getCapacity() {
+		return (long) m_capacity * m_depth;
+	}
+
+	@Override
+	public void setStorage(final int[] storage, final long storageSize) throws IllegalArgumentException {
+		checkArgument(storage.length == m_capacity, "Input storage capacity does not match buffer capacity.");
+		m_storage = storage;
+		m_nextWrite = (int) storageSize;
+		resetRead();
+	}
+
+	@Override
+	public void putOneHot(final int index) throws IllegalArgumentException, BufferOverflowException {
+		checkArgument(index >= 0 && index < m_depth, "The index %s exceeds the size of the feature dimension %s.",
+				index, m_depth);
+		checkOverflow(m_nextWrite < m_capacity);
+		m_storage[m_nextWrite++] = index;
+	}
+
+	@Override
+	public void zeroPad(final long length) throws IllegalArgumentException, BufferOverflowException {
+		checkArgument(length > 0 && length % m_depth == 0);
+		final long numVectors = length / m_depth;
+		checkOverflow(m_nextWrite + numVectors <= m_capacity);
+		Arrays.fill(m_storage, m_nextWrite, m_nextWrite + (int) numVectors, -1);
+		m_nextWrite += numVectors;
+	}
+
+	@Override
+	public void put(final boolean value) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void putAll(final boolean[] values) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void put(final byte value) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void putAll(final byte[] values) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void put(final short value) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void putAll(final short[] values) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void put(final float value) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	public void putAll(final float[] values) throws BufferOverflowException {
+		throw unsupportedDenseWrite();
+	}
+
+	@Override
+	protected int[] createStorage() {
+		return new int[m_capacity];
+	}
+
+	private static UnsupportedOperationException unsupportedDenseWrite() {
+		return new UnsupportedOperationException("Index-encoded buffers only support writing one-hot vectors.");
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+/**
+ * Double type implementation of {@link DLAbstractOffHeapBuffer}.
+ *
+ * @author agent, agent@local
+ */
+public class DLOffHeapDoubleBuffer extends DLAbstractOffHeapBuffer
+		implements DLWritableDoubleBuffer, DLReadableDoubleBuffer {
+
+	/**
+	 * Creates a new instance of this buffer.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 */
+	public DLOffHeapDoubleBuffer(final long capacity) {
+		super(capacity, Double.BYTES);
+	}
+
+	/**
+	 * Creates a new instance of this buffer with a custom segment size. Intended for testing.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 * @param segmentSize the maximum size of a segment in bytes
+	 */
+	DLOffHeapDoubleBuffer(final long capacity, final int segmentSize) {
+		super(capacity, Double.BYTES, segmentSize);
+	}
+
+	@Override
+	public double readNextDouble() throws BufferUnderflowException {
+		return get(reserveRead(1));
+	}
+
+	@Override
+	public double[] toDoubleArray() {
+		final double[] tmp = new double[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = get(i);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToDoubleArray(final double[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int done = 0; done < length;) {
+			final int n = Math.min(length - done, remaining(index));
+			view(index, n).asDoubleBuffer().get(dest, destPos + done, n);
+			done += n;
+			index += n;
+		}
+	}
+
+	@Override
+	public void put(final boolean value) throws BufferOverflowException {
+		set(reserveWrite(1), value ? 1d : 0d);
+	}
+
+	@Override
+	public void putAll(final boolean[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, values[i] ? 1d : 0d);
+		}
+	}
+
+	@Override
+	public void put(final byte value) throws BufferOverflowException {
+		set(reserveWrite(1), value);
+	}
+
+	@Override
+	public void putAll(final byte[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, values[i]);
+		}
+	}
+
+	@Override
+	public void put(final short value) throws BufferOverflowException {
+		set(reserveWrite(1), value);
+	}
+
+	@Override
+	public void putAll(final short[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, values[i]);
+		}
+	}
+
+	@Override
+	public void put(final int value) throws BufferOverflowException {
+		set(reserveWrite(1), value);
+	}
+
+	@Override
+	public void putAll(final int[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, values[i]);
+		}
+	}
+
+	@Override
+	public void put(final float value) throws BufferOverflowException {
+		set(reserveWrite(1), value);
+	}
+
+	@Override
+	public void putAll(final float[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, values[i]);
+		}
+	}
+
+	@Override
+	public void put(final double value) throws BufferOverflowException {
+		set(reserveWrite(1), value);
+	}
+
+	@Override
+	public void putAll(final double[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int done = 0; done < values.length;) {
+			final int n = Math.min(values.length - done, remaining(index));
+			view(index, n).asDoubleBuffer().put(values, done, n);
+			done += n;
+			index += n;
+		}
+	}
+
+	@Override
+	public void zeroPad(final long length) throws IllegalArgumentException, BufferOverflowException {
+		checkArgument(length > 0);
+		final long start = reserveWrite(length);
+		for (long i = start; i < start + length; i++) {
+			set(i, (double)0);
+		}
+	}
+
+	private double get(final long index) {
+		return segment(index).getDouble(offset(index));
+	}
+
+	private void set(final long index, final double value) {
+		segment(index).putDouble(offset(index), value);
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+/**
+ * Unsigned byte type implementation of {@link DLAbstractOffHeapBuffer}.
+ *
+ * @author agent, agent@local
+ */
+public class DLOffHeapUnsignedByteBuffer extends DLAbstractOffHeapBuffer
+		implements DLWritableUnsignedByteBuffer, DLReadableUnsignedByteBuffer {
+
+	private static final int UNSIGNED_MASK = 0xFF;
+
+	private static final int MAX_UNSIGNED_VAL = (1 << Byte.SIZE) - 1;
+
+	/**
+	 * Creates a new instance of this buffer.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 */
+	public DLOffHeapUnsignedByteBuffer(final long capacity) {
+		super(capacity, Byte.BYTES);
+	}
+
+	/**
+	 * Creates a new instance of this buffer with a custom segment size. Intended for testing.
+	 *
+	 * @param capacity the immutable capacity of the buffer
+	 * @param segmentSize the maximum size of a segment in bytes
+	 */
+	DLOffHeapUnsignedByteBuffer(final long capacity, final int segmentSize) {
+		super(capacity, Byte.BYTES, segmentSize);
+	}
+
+	@Override
+	public short readNextUnsignedByte() throws BufferUnderflowException {
+		return (short)(get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public short[] toUnsignedByteArray() {
+		final short[] tmp = new short[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (short)(get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToUnsignedByteArray(final short[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (short)(get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public short readNextShort() throws BufferUnderflowException {
+		return (short)(get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public short[] toShortArray() {
+		final short[] tmp = new short[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (short)(get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToShortArray(final short[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (short)(get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public float readNextFloat() throws BufferUnderflowException {
+		return (get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public float[] toFloatArray() {
+		final float[] tmp = new float[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToFloatArray(final float[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public double readNextDouble() throws BufferUnderflowException {
+		return (get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public double[] toDoubleArray() {
+		final double[] tmp = new double[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToDoubleArray(final double[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public int readNextInt() throws BufferUnderflowException {
+		return (get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public int[] toIntArray() {
+		final int[] tmp = new int[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToIntArray(final int[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public long readNextLong() throws BufferUnderflowException {
+		return (get(reserveRead(1)) & UNSIGNED_MASK);
+	}
+
+	@Override
+	public long[] toLongArray() {
+		final long[] tmp = new long[getArrayLength()];
+		for (int i = 0; i < tmp.length; i++) {
+			tmp[i] = (get(i) & UNSIGNED_MASK);
+		}
+		return tmp;
+	}
+
+	@Override
+	public void readToLongArray(final long[] dest, final int destPos, final int length) {
+		checkArgument(destPos >= 0);
+		checkArgument(length > 0);
+		long index = reserveRead(length);
+		for (int i = 0; i < length; i++) {
+			dest[destPos + i] = (get(index++) & UNSIGNED_MASK);
+		}
+	}
+
+	@Override
+	public void put(final boolean value) throws BufferOverflowException {
+		set(reserveWrite(1), (byte)(value ? 1 : 0));
+	}
+
+	@Override
+	public void putAll(final boolean[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			set(index++, (byte)(values[i] ? 1 : 0));
+		}
+	}
+
+	@Override
+	public void put(final short value) throws BufferOverflowException {
+		checkArgument(0 <= value && value <= MAX_UNSIGNED_VAL, "Unsigned byte must be between 0 and %s.",
+				MAX_UNSIGNED_VAL);
+		set(reserveWrite(1), (byte)value);
+	}
+
+	@Override
+	public void putAll(final short[] values) throws BufferOverflowException {
+		long index = reserveWrite(values.length);
+		for (int i = 0; i < values.length; i++) {
+			checkArgument(0 <= values[i] && values[i] <= MAX_UNSIGNED_VAL,
+					"Unsigned byte must be between 0 and %s.", MAX_UNSIGNED_VAL);
+			set(index++, (byte)values[i]);
+		}
+	}
+
+	@Override
+	public void zeroPad(final long length) throws IllegalArgumentException, BufferOverflowException {
+		checkArgument(length > 0);
+		final long start = reserveWrite(length);
+		for (long i = start; i < start + length; i++) {
+			set(i, (byte)0);
+		}
+	}
+
+	private byte get(final long index) {
+		return segment(index).get(offset(index));
+	}
+
+	private void set(final long index, final byte value) {
+		segment(index).put(offset(index), value);
+	}
+}
@@ -95,6 +95,19 @@
 	 */
 	void setStorage(final S storage, long storageSize) throws IllegalArgumentException;
 
+	/**
+	 * Returns the number of buffer elements that one position of the storage represents. Storage positions and lengths
+	 * (see {@link #getStorageForReading(long, long)}, {@link #getStorageForWriting(long, long)} and
+	 * {@link #setStorage(Object, long)}) are expressed in these units, i.e. {@link #size()} divided by the returned
+	 * value is the number of used storage positions. The default implementation returns <code>1</code>.
+	 *
+	 * @return the number of buffer elements per storage position, at least <code>1</code>
+	 * @see DLWritableIndexEncodedFloatBuffer
+	 */
+	default int getElementsPerStorageUnit() {
+		return 1;
+	}
+
 	@Override
 	default void reset() {
 		resetRead();
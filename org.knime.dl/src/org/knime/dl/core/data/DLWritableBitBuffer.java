@@ -25,4 +25,20 @@ public interface DLWritableBitBuffer extends DLWritableBuffer {
 	 * @throws BufferOverflowException if the buffer's {@link #getCapacity() capacity} is exceeded.
 	 */
 	void putAll(boolean[] values) throws BufferOverflowException;
+
+	/**
+	 * Copies packed bits into the buffer. Bit <code>i</code> is expected at bit position <code>i % 64</code> of word
+	 * <code>i / 64</code>, which is the layout of {@link org.knime.core.data.vector.bitvector.DenseBitVector}.
+	 * <P>
+	 * The default implementation writes the bits one by one, implementations with packed storage should override it.
+	 *
+	 * @param words the packed bits
+	 * @param length the number of bits to copy
+	 * @throws BufferOverflowException if the buffer's {@link #getCapacity() capacity} is exceeded.
+	 */
+	default void putAll(final long[] words, final long length) throws BufferOverflowException {
+		for (long i = 0; i < length; i++) {
+			put((words[(int) (i >>> 6)] & (1L << i)) != 0);
+		}
+	}
 }
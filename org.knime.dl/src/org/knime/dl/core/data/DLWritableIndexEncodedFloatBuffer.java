@@ -0,0 +1,99 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data;
+
+import java.nio.BufferOverflowException;
+
+/**
+ * A {@link DLWritableFloatBuffer writable float buffer} that stores one-hot encoded data as the indices of the hot
+ * elements instead of the dense vectors. Each one-hot vector has the length of the buffer's {@link #getDepth() depth}.
+ * {@link #size() Size} and {@link #getCapacity() capacity} are expressed in terms of the dense float elements, i.e.
+ * writing a one-hot vector increases the size of the buffer by its depth.
+ * <P>
+ * Index-encoded buffers only support writing whole one-hot vectors via {@link #putOneHot(int)} and zero vectors via
+ * {@link #zeroPad(long)}. All other write methods throw an {@link UnsupportedOperationException}. Therefore, tensor
+ * factories only allocate such buffers for tensors that are filled by
+ * {@link org.knime.dl.core.data.convert.DLOneHotConverterFactory one-hot converters}, which never call these methods.
+ * <P>
+ * If the buffer also is a {@link DLWrappingDataBuffer wrapping buffer}, its storage holds one index per vector, and
+ * storage positions and lengths are expressed in terms of vectors rather than float elements, i.e.
+ * {@link DLWrappingDataBuffer#getElementsPerStorageUnit()} returns the depth. Zero vectors are stored as index
+ * <code>-1</code>.
+ *
+ * @author agent, agent@local
+ */
+public interface DLWritableIndexEncodedFloatBuffer extends DLWritableFloatBuffer {
+
+	/**
+	 * Returns the length of the one-hot vectors stored in this buffer.
+	 *
+	 * @return the depth of the buffer
+	 */
+	int getDepth();
+
+	/**
+	 * Writes a one-hot vector into the buffer.
+	 *
+	 * @param index the index of the hot element, must be non-negative and less than the buffer's {@link #getDepth()
+	 *            depth}
+	 * @throws IllegalArgumentException if the index is out of bounds
+	 * @throws BufferOverflowException if the buffer's {@link #getCapacity() capacity} is exceeded.
+	 */
+	void putOneHot(int index) throws IllegalArgumentException, BufferOverflowException;
+
+	/**
+	 * Writes zero vectors into the buffer.
+	 *
+	 * @throws IllegalArgumentException if <code>length</code> is zero or negative or not a multiple of the buffer's
+	 *             {@link #getDepth() depth}
+	 * @throws BufferOverflowException if the buffer's {@link #getCapacity() capacity} is exceeded
+	 */
+	@Override
+	void zeroPad(long length) throws IllegalArgumentException, BufferOverflowException;
+}
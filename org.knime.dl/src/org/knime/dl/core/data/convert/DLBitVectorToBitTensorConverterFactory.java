@@ -48,12 +48,14 @@
  */
 package org.knime.dl.core.data.convert;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.OptionalLong;
 
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.ExtensibleUtilityFactory;
 import org.knime.core.data.vector.bitvector.BitVectorValue;
+import org.knime.core.data.vector.bitvector.DenseBitVectorCell;
 import org.knime.dl.core.DLTensor;
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.DLWritableBitBuffer;
@@ -90,12 +92,29 @@ public OptionalLong getDestCount(final List<DataColumnSpec> spec) {
 	public DLDataValueToTensorConverter<BitVectorValue, DLWritableBitBuffer> createConverter() {
 		return new DLAbstractTensorDataValueToTensorConverter<BitVectorValue, DLWritableBitBuffer>() {
 
+			private long[] m_words = new long[0];
+
 			@Override
 			public void convertInternal(final BitVectorValue input, final DLTensor<DLWritableBitBuffer> output) {
-				final DLWritableBitBuffer buffer = output.getBuffer();
-				for (int i = 0; i < input.length(); i++) {
-					buffer.put(input.get(i));
+				// dense bit vectors already store their bits in the packed layout of the buffer
+				final long[] words = input instanceof DenseBitVectorCell
+						? ((DenseBitVectorCell) input).getBitVectorCopy().getAllBits()
+						: pack(input);
+				output.getBuffer().putAll(words, input.length());
+			}
+
+			private long[] pack(final BitVectorValue input) {
+				final int numWords = (int) ((input.length() + Long.SIZE - 1) / Long.SIZE);
+				if (m_words.length != numWords) {
+					m_words = new long[numWords];
+				} else {
+					Arrays.fill(m_words, 0L);
+				}
+				// only visits the set bits, which is cheap for sparse vectors such as fingerprints
+				for (long i = input.nextSetBit(0); i >= 0; i = input.nextSetBit(i + 1)) {
+					m_words[(int) (i >>> 6)] |= 1L << i;
 				}
+				return m_words;
 			}
 		};
 	}
@@ -48,12 +48,16 @@
  */
 package org.knime.dl.core.data.convert;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -100,6 +104,18 @@ public static synchronized DLDataValueToTensorConverterRegistry getInstance() {
     /** Map of all converters (also deprecated converters */
     private final HashMap<String, DLDataValueToTensorConverterFactory<?, ?>> m_allConverters = new HashMap<>();
 
+    /**
+     * Collection converter factories, interned by the identifier of their element converter factory. Remains valid
+     * across registrations as converter factories cannot be unregistered.
+     */
+    private final ConcurrentHashMap<String, DLCollectionDataValueToTensorConverterFactory<?, ?>> m_collectionConverters =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Memoized lookup results. Replaced as a whole whenever a converter factory gets registered.
+     */
+    private volatile LookupIndex m_index = new LookupIndex();
+
 	/**
 	 * Creates a new registry instance.
 	 */
@@ -119,15 +135,19 @@ private DLDataValueToTensorConverterRegistry() {
      */
 	public List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> getConverterFactoriesForBufferType(
 			final Class<? extends DLWritableBuffer> bufferType) {
-		final HashSet<DLDataValueToTensorConverterFactory<?, ?>> convs = new HashSet<>();
-		for (final DLDataValueToTensorConverterFactory<?, ?> candidate : m_converters.values()) {
-			if (candidate.getBufferType().isAssignableFrom(bufferType)) {
-				convs.add(candidate);
-				convs.add(new DLCollectionDataValueToTensorConverterFactory<>(candidate));
+		final LookupIndex index = m_index;
+		List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> convs = index.m_factoriesForBufferType
+				.get(bufferType);
+		if (convs == null) {
+			final HashSet<DLDataValueToTensorConverterFactory<?, ?>> candidates = new HashSet<>();
+			for (final DLDataValueToTensorConverterFactory<?, ?> candidate : getCandidates(index, bufferType)) {
+				candidates.add(candidate);
+				candidates.add(getCollectionConverterFactory(candidate));
 			}
+			convs = sortByIdentifier(candidates);
+			index.m_factoriesForBufferType.put(bufferType, convs);
 		}
-		return convs.stream().sorted(Comparator.comparing(DLDataValueToTensorConverterFactory::getIdentifier))
-				.collect(Collectors.toList());
+		return new ArrayList<>(convs);
 	}
 
 	/**
@@ -140,21 +160,30 @@ private DLDataValueToTensorConverterRegistry() {
      */
 	public final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> getConverterFactories(
 			final DataType sourceType, final Class<? extends DLWritableBuffer> bufferType) {
-		final HashSet<DLDataValueToTensorConverterFactory<?, ?>> convs = new HashSet<>();
-		for (final DLDataValueToTensorConverterFactory<?, ?> candidate : m_converters.values()) {
-			if (candidate.getBufferType().isAssignableFrom(bufferType)
-					&& sourceType.isCompatible(candidate.getSourceType())) {
-				convs.add(candidate);
+		return new ArrayList<>(getConverterFactories(m_index, sourceType, bufferType));
+	}
+
+	private List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> getConverterFactories(
+			final LookupIndex index, final DataType sourceType, final Class<? extends DLWritableBuffer> bufferType) {
+		final LookupKey key = new LookupKey(sourceType, bufferType);
+		List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> convs = index.m_factories.get(key);
+		if (convs == null) {
+			final HashSet<DLDataValueToTensorConverterFactory<?, ?>> candidates = new HashSet<>();
+			for (final DLDataValueToTensorConverterFactory<?, ?> candidate : getCandidates(index, bufferType)) {
+				if (sourceType.isCompatible(candidate.getSourceType())) {
+					candidates.add(candidate);
+				}
 			}
-		}
-		if (sourceType.isCollectionType()) {
-			for (final DLDataValueToTensorConverterFactory<? extends DataValue, ?> conv : getConverterFactories(
-					sourceType.getCollectionElementType(), bufferType)) {
-				convs.add(new DLCollectionDataValueToTensorConverterFactory<>(conv));
+			if (sourceType.isCollectionType()) {
+				for (final DLDataValueToTensorConverterFactory<? extends DataValue, ?> conv : getConverterFactories(
+						index, sourceType.getCollectionElementType(), bufferType)) {
+					candidates.add(getCollectionConverterFactory(conv));
+				}
 			}
+			convs = sortByIdentifier(candidates);
+			index.m_factories.put(key, convs);
 		}
-		return convs.stream().sorted(Comparator.comparing(DLDataValueToTensorConverterFactory::getIdentifier))
-				.collect(Collectors.toList());
+		return convs;
 	}
 
 	/**
@@ -169,8 +198,21 @@ private DLDataValueToTensorConverterRegistry() {
      */
 	public final Optional<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> getPreferredConverterFactory(
 			final DataType sourceType, final Class<? extends DLWritableBuffer> bufferType) {
-		final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> convs = getConverterFactories(
-				sourceType, bufferType);
+		final LookupIndex index = m_index;
+		final LookupKey key = new LookupKey(sourceType, bufferType);
+		Optional<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> preferred = index.m_preferredFactories
+				.get(key);
+		if (preferred == null) {
+			preferred = findPreferredConverterFactory(getConverterFactories(index, sourceType, bufferType), sourceType,
+					bufferType);
+			index.m_preferredFactories.put(key, preferred);
+		}
+		return preferred;
+	}
+
+	private static Optional<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> findPreferredConverterFactory(
+			final List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>> convs, final DataType sourceType,
+			final Class<? extends DLWritableBuffer> bufferType) {
 		DLDataValueToTensorConverterFactory<?, ?> sourceMatch = null;
 		final DataType theSourceType = sourceType.isCollectionType() ? sourceType.getCollectionElementType()
 				: sourceType;
@@ -210,7 +252,7 @@ private DLDataValueToTensorConverterRegistry() {
             final Optional<DLDataValueToTensorConverterFactory<?, ?>> conv =
                 getConverterFactory(extractElementConverter(identifier));
 			if (conv.isPresent()) {
-				return Optional.of(new DLCollectionDataValueToTensorConverterFactory<>(conv.get()));
+				return Optional.of(getCollectionConverterFactory(conv.get()));
 			} else {
 				return Optional.empty();
 			}
@@ -243,6 +285,36 @@ public final boolean isDeprecated(final String identifier) {
 
     // :access methods
 
+    /**
+     * @return the non-deprecated converter factories that convert into the given buffer type or one of its super types
+     */
+    private List<DLDataValueToTensorConverterFactory<?, ?>> getCandidates(final LookupIndex index,
+        final Class<? extends DLWritableBuffer> bufferType) {
+        List<DLDataValueToTensorConverterFactory<?, ?>> candidates = index.m_candidatesForBufferType.get(bufferType);
+        if (candidates == null) {
+            candidates = m_converters.values().stream()
+                .filter(candidate -> candidate.getBufferType().isAssignableFrom(bufferType))
+                .collect(Collectors.toList());
+            index.m_candidatesForBufferType.put(bufferType, candidates);
+        }
+        return candidates;
+    }
+
+    private DLDataValueToTensorConverterFactory<? extends DataValue, ?>
+        getCollectionConverterFactory(final DLDataValueToTensorConverterFactory<?, ?> elementConverter) {
+        final String key = elementConverter.getIdentifier();
+        DLCollectionDataValueToTensorConverterFactory<?, ?> conv = m_collectionConverters.get(key);
+        if (conv == null) {
+            conv = new DLCollectionDataValueToTensorConverterFactory<>(elementConverter);
+            final DLCollectionDataValueToTensorConverterFactory<?, ?> existing =
+                m_collectionConverters.putIfAbsent(key, conv);
+            if (existing != null) {
+                conv = existing;
+            }
+        }
+        return conv;
+    }
+
     // static helpers:
 
     private static boolean isCollectionConverter(final String identifier) {
@@ -254,6 +326,13 @@ private static String extractElementConverter(final String identifier) {
             identifier.length() - 1);
     }
 
+    private static List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>>
+        sortByIdentifier(final HashSet<DLDataValueToTensorConverterFactory<?, ?>> convs) {
+        return Collections.unmodifiableList(
+            convs.stream().sorted(Comparator.comparing(DLDataValueToTensorConverterFactory::getIdentifier))
+                .collect(Collectors.toList()));
+    }
+
     // :static helpers
 
 	// registration:
@@ -291,7 +370,53 @@ private synchronized void registerConverterInternal(final DLDataValueToTensorCon
         m_allConverters.put(id, converter);
         if (!deprecated) {
             m_converters.put(id, converter);
+            // lookups that are still running fill the discarded index
+            m_index = new LookupIndex();
         }
 	}
 	// :registration
+
+    private static final class LookupIndex {
+
+        private final ConcurrentHashMap<Class<?>, List<DLDataValueToTensorConverterFactory<?, ?>>> m_candidatesForBufferType =
+            new ConcurrentHashMap<>();
+
+        private final ConcurrentHashMap<Class<?>, List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>>> m_factoriesForBufferType =
+            new ConcurrentHashMap<>();
+
+        private final ConcurrentHashMap<LookupKey, List<DLDataValueToTensorConverterFactory<? extends DataValue, ?>>> m_factories =
+            new ConcurrentHashMap<>();
+
+        private final ConcurrentHashMap<LookupKey, Optional<DLDataValueToTensorConverterFactory<? extends DataValue, ?>>> m_preferredFactories =
+            new ConcurrentHashMap<>();
+    }
+
+    private static final class LookupKey {
+
+        private final DataType m_sourceType;
+
+        private final Class<?> m_bufferType;
+
+        private LookupKey(final DataType sourceType, final Class<?> bufferType) {
+            m_sourceType = sourceType;
+            m_bufferType = bufferType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_sourceType, m_bufferType);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            final LookupKey other = (LookupKey)obj;
+            return other.m_sourceType.equals(m_sourceType) && other.m_bufferType.equals(m_bufferType);
+        }
+    }
 }
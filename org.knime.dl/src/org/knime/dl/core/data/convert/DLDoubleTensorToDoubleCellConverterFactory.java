@@ -50,8 +50,11 @@
 
 import java.util.OptionalLong;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.ExecutionContext;
+import org.knime.dl.core.DLTensor;
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.DLReadableDoubleBuffer;
 import org.knime.dl.util.DLUtils;
@@ -85,11 +88,40 @@ public OptionalLong getDestCount(final DLTensorSpec spec) {
 
 	@Override
 	public DLTensorToDataCellConverter<DLReadableDoubleBuffer, DoubleCell> createConverter() {
-		return (input, out, exec) -> {
+		return new DLDoubleTensorToDoubleCellConverter();
+	}
+
+	private static final class DLDoubleTensorToDoubleCellConverter
+			implements DLTensorToDataCellConverter<DLReadableDoubleBuffer, DoubleCell> {
+
+		private double[] m_example;
+
+		@Override
+		public void convert(final DLTensor<DLReadableDoubleBuffer> input, final DoubleCell[] output,
+				final ExecutionContext exec) {
 			final DLReadableDoubleBuffer buf = input.getBuffer();
 			for (int i = 0; i < buf.size(); i++) {
-				out[i] = new DoubleCell(buf.readNextDouble());
+				output[i] = new DoubleCell(buf.readNextDouble());
+			}
+		}
+
+		@Override
+		public void convertToRows(final DLTensor<DLReadableDoubleBuffer> input, final DoubleCell[] scratch,
+				final DataCell[][] output, final int offset, final int numCellsPerExample,
+				final ExecutionContext exec) {
+			if (numCellsPerExample == 0) {
+				return;
+			}
+			if (m_example == null || m_example.length != numCellsPerExample) {
+				m_example = new double[numCellsPerExample];
+			}
+			final DLReadableDoubleBuffer buf = input.getBuffer();
+			for (final DataCell[] row : output) {
+				buf.readToDoubleArray(m_example, 0, numCellsPerExample);
+				for (int i = 0; i < numCellsPerExample; i++) {
+					row[offset + i] = new DoubleCell(m_example[i]);
+				}
 			}
-		};
+		}
 	}
 }
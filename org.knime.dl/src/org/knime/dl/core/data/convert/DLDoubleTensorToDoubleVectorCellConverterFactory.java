@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.data.convert;
+
+import java.util.OptionalLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.vector.doublevector.DoubleVectorCellFactory;
+import org.knime.core.node.ExecutionContext;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLReadableDoubleBuffer;
+import org.knime.dl.util.DLUtils;
+
+/**
+ * Converts each example of a tensor into a single double vector cell. The values of an example are read from the
+ * tensor's buffer in bulk and are not wrapped in individual cells which makes this converter considerably cheaper than
+ * a list of {@link DLDoubleTensorToDoubleCellConverterFactory double cells} for wide outputs.
+ *
+ * @author agent, agent@local
+ */
+public class DLDoubleTensorToDoubleVectorCellConverterFactory
+		implements DLTensorToDataCellConverterFactory<DLReadableDoubleBuffer, DataCell> {
+
+	private static final OptionalLong DEST_COUNT = OptionalLong.of(1);
+
+	@Override
+	public String getName() {
+		return DoubleVectorCellFactory.TYPE.toPrettyString();
+	}
+
+	@Override
+	public Class<DLReadableDoubleBuffer> getBufferType() {
+		return DLReadableDoubleBuffer.class;
+	}
+
+	@Override
+	public DataType getDestType() {
+		return DoubleVectorCellFactory.TYPE;
+	}
+
+	@Override
+	public OptionalLong getDestCount(final DLTensorSpec spec) {
+		return DEST_COUNT;
+	}
+
+	@Override
+	public DLTensorToDataCellConverter<DLReadableDoubleBuffer, DataCell> createConverter() {
+		return new DLDoubleTensorToDoubleVectorCellConverter();
+	}
+
+	private static final class DLDoubleTensorToDoubleVectorCellConverter
+			implements DLTensorToDataCellConverter<DLReadableDoubleBuffer, DataCell> {
+
+		@Override
+		public void convert(final DLTensor<DLReadableDoubleBuffer> input, final DataCell[] output,
+				final ExecutionContext exec) {
+			final int exampleSize = getExampleSize(input);
+			final DLReadableDoubleBuffer buf = input.getBuffer();
+			for (int i = 0; i < buf.size() / exampleSize; i++) {
+				output[i] = readExample(buf, exampleSize);
+			}
+		}
+
+		@Override
+		public void convertToRows(final DLTensor<DLReadableDoubleBuffer> input, final DataCell[] scratch,
+				final DataCell[][] output, final int offset, final int numCellsPerExample,
+				final ExecutionContext exec) {
+			final int exampleSize = getExampleSize(input);
+			final DLReadableDoubleBuffer buf = input.getBuffer();
+			for (final DataCell[] row : output) {
+				row[offset] = readExample(buf, exampleSize);
+			}
+		}
+
+		private static int getExampleSize(final DLTensor<DLReadableDoubleBuffer> input) {
+			final long exampleSize = DLUtils.Shapes.getFixedSize(input.getSpec().getShape()).getAsLong();
+			if (exampleSize > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The number of entries of one sample, " + exampleSize
+						+ ", is larger than 2^31-1. This is currently not supported.");
+			}
+			return (int) exampleSize;
+		}
+
+		private static DataCell readExample(final DLReadableDoubleBuffer buf, final int exampleSize) {
+			// the vector cell takes ownership of the array, hence a new one per example
+			final double[] values = new double[exampleSize];
+			if (exampleSize > 0) {
+				buf.readToDoubleArray(values, 0, exampleSize);
+			}
+			return DoubleVectorCellFactory.createCell(values);
+		}
+	}
+}
@@ -60,13 +60,15 @@
 import org.knime.dl.core.DLTensorShape;
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.DLWritableFloatBuffer;
+import org.knime.dl.core.data.DLWritableIndexEncodedFloatBuffer;
 import org.knime.dl.util.DLUtils;
 
 /**
  * @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
  */
 public class DLIntCollectionValueToOneHotFloatTensorConverterFactory
-	extends DLAbstractTensorDataValueToTensorConverterFactory<CollectionDataValue, DLWritableFloatBuffer> {
+	extends DLAbstractTensorDataValueToTensorConverterFactory<CollectionDataValue, DLWritableFloatBuffer>
+	implements DLOneHotConverterFactory {
 
 	private static final String NAME = "Collection of Number (integer) to One-Hot Tensor";
 	
@@ -99,6 +101,15 @@ protected void convertInternal(CollectionDataValue element, DLTensor<DLWritableF
 				checkType(element.getElementType());
 				DLWritableFloatBuffer buffer = output.getBuffer();
 				int featureDimSize = getFeatureDimSize(output.getSpec());
+				if (buffer instanceof DLWritableIndexEncodedFloatBuffer) {
+					for (DataCell cell : element) {
+						checkCellNotMissing(cell);
+						int index = ((IntCell)cell).getIntValue();
+						checkIndexValid(index, featureDimSize);
+						((DLWritableIndexEncodedFloatBuffer) buffer).putOneHot(index);
+					}
+					return;
+				}
 				byte[] dummyVector = new byte[featureDimSize];
 				for (DataCell cell : element) {
                     checkCellNotMissing(cell);
@@ -124,7 +135,7 @@ protected long[] getDataShapeInternal(CollectionDataValue element, DLTensorSpec
         return new long[]{element.size(), featureDimSize};
     }
 
-    private static int getFeatureDimSize(DLTensorSpec tensorSpec) {
+    static int getFeatureDimSize(DLTensorSpec tensorSpec) {
 		DLTensorShape shape = tensorSpec.getShape();
 		// in case of 2D time series, the feature dimension is always the last one
 		long featureDimSize = DLUtils.Shapes.getDimSize(shape, shape.getNumDimensions() - 1)
@@ -145,7 +156,7 @@ private static void checkType(DataType type) {
             NAME, type.toPrettyString());
     }
 
-    private static void checkIndexValid(int index, long featureDimSize) {
+    static void checkIndexValid(int index, long featureDimSize) {
         CheckUtils.checkArgument(index >= 0, "Negative index encountered.");
         CheckUtils.checkArgument(index < featureDimSize, "The index %s exceeds the size of the feature dimension %s.",
             index, featureDimSize);
@@ -66,4 +66,30 @@
 	 *            times {@link DLTensorSpec#getBatchSize() batch size}.
 	 */
 	void convert(DLTensor<I> input, O[] output, ExecutionContext exec);
+
+	/**
+	 * Converts the given tensor and writes the cells of each example directly into the cell array of the respective
+	 * output row.
+	 * <P>
+	 * The default implementation delegates to {@link #convert(DLTensor, DataCell[], ExecutionContext)} using the given
+	 * scratch array and copies the cells into the rows afterwards. Converters that can read whole examples from their
+	 * buffer at once should override this method and leave the scratch array untouched.
+	 *
+	 * @param input the tensor to convert
+	 * @param scratch an array of length
+	 *            {@link DLTensorToDataCellConverterFactory#getDestCount(org.knime.dl.core.DLTensorSpec) dest count}
+	 *            times {@link DLTensorSpec#getBatchSize() batch size} that may be used as intermediate storage
+	 * @param output one cell array per example of the batch. The cells of the i-th example are written into
+	 *            <code>output[i]</code>, starting at <b>offset</b>.
+	 * @param offset the position in each output row at which to start writing
+	 * @param numCellsPerExample the number of cells per example, i.e. the dest count
+	 * @param exec needed for the creation of file store cells
+	 */
+	default void convertToRows(final DLTensor<I> input, final O[] scratch, final DataCell[][] output,
+			final int offset, final int numCellsPerExample, final ExecutionContext exec) {
+		convert(input, scratch, exec);
+		for (int i = 0; i < output.length; i++) {
+			System.arraycopy(scratch, i * numCellsPerExample, output[i], offset, numCellsPerExample);
+		}
+	}
 }
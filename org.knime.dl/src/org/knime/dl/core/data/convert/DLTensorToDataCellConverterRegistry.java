@@ -49,12 +49,15 @@
 package org.knime.dl.core.data.convert;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.knime.core.data.DataCell;
@@ -64,6 +67,9 @@
 import org.knime.dl.core.DLTensorSpec;
 import org.knime.dl.core.data.DLReadableBuffer;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * Registry for deep learning output converter factories that allow conversion of {@link DLTensor tensor} types into
  * {@link DataCell data cells}.
@@ -81,6 +87,11 @@ public final class DLTensorToDataCellConverterRegistry extends DLAbstractExtensi
 
     private static final String EXT_POINT_ATTR_DEPRECATED = "deprecated";
 
+    /**
+     * Lookups are keyed by tensor spec, so the number of memoized lookups has to be bounded.
+     */
+    private static final int MAX_MEMOIZED_LOOKUPS = 1000;
+
 	private static DLTensorToDataCellConverterRegistry instance;
 
 	/**
@@ -104,6 +115,18 @@ public static synchronized DLTensorToDataCellConverterRegistry getInstance() {
     /** Map of all converters (also deprecated converters */
     private final HashMap<String, DLTensorToDataCellConverterFactory<?, ?>> m_allConverters = new HashMap<>();
 
+    /**
+     * List converter factories, interned by the identifier of their element converter factory. Remains valid across
+     * registrations as converter factories cannot be unregistered.
+     */
+    private final ConcurrentHashMap<String, DLTensorToListCellConverterFactory<?, ?>> m_listConverters =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Memoized lookup results. Replaced as a whole whenever a converter factory gets registered.
+     */
+    private volatile LookupIndex m_index = new LookupIndex();
+
 	/**
 	 * Creates a new registry instance.
 	 */
@@ -124,26 +147,37 @@ private DLTensorToDataCellConverterRegistry() {
      */
 	public final List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> getFactoriesForSourceType(
 			final Class<? extends DLReadableBuffer> sourceType, final DLTensorSpec sourceSpec) {
-		final ArrayList<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> convs = new ArrayList<>();
-		for (final DLTensorToDataCellConverterFactory<?, ?> candidate : m_converters.values()) {
+		return new ArrayList<>(getFactoriesForSourceType(m_index, sourceType, sourceSpec));
+	}
+
+	private List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> getFactoriesForSourceType(
+			final LookupIndex index, final Class<? extends DLReadableBuffer> sourceType,
+			final DLTensorSpec sourceSpec) {
+		final LookupKey key = new LookupKey(sourceType, sourceSpec);
+		List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> convs = index.m_factories.getIfPresent(key);
+		if (convs != null) {
+			return convs;
+		}
+		final ArrayList<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> newConvs = new ArrayList<>();
+		for (final DLTensorToDataCellConverterFactory<?, ?> candidate : getCandidates(index, sourceType)) {
 		    try {
-		        if (candidate.getBufferType().isAssignableFrom(sourceType)) {
-		            final OptionalLong destCount = candidate.getDestCount(sourceSpec);
-		            convs.add(candidate);
-		            // TODO: Figure out whether this is the best we can do
-		            // Currently a missing destCount is a direct indicator that the converter
-		            // can have multiple outputs
-		            if (!destCount.isPresent() || destCount.getAsLong() > 1) {
-		                // if we have multiple outputs, we can also output a list
-		                convs.add(new DLTensorToListCellConverterFactory<>(candidate));
-		            }
+		        final OptionalLong destCount = candidate.getDestCount(sourceSpec);
+		        newConvs.add(candidate);
+		        // TODO: Figure out whether this is the best we can do
+		        // Currently a missing destCount is a direct indicator that the converter
+		        // can have multiple outputs
+		        if (!destCount.isPresent() || destCount.getAsLong() > 1) {
+		            // if we have multiple outputs, we can also output a list
+		            newConvs.add(getListConverterFactory(candidate));
 		        }
 		    } catch (Throwable t) {
 		        LOGGER.warn("An unexpected error occurred in DLTensorToDataCellConverter '"
 		                + candidate.getIdentifier() + "'.", t);
 		    }
 		}
-		convs.sort(Comparator.comparing(DLTensorToDataCellConverterFactory::getIdentifier));
+		newConvs.sort(Comparator.comparing(DLTensorToDataCellConverterFactory::getIdentifier));
+		convs = Collections.unmodifiableList(newConvs);
+		index.m_factories.put(key, convs);
 		return convs;
 	}
 
@@ -157,8 +191,21 @@ private DLTensorToDataCellConverterRegistry() {
      */
 	public List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> getPreferredFactoriesForSourceType(
 			final Class<? extends DLReadableBuffer> sourceType, final DLTensorSpec sourceSpec) {
-		final List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> convs = getFactoriesForSourceType(
-				sourceType, sourceSpec);
+		final LookupIndex index = m_index;
+		final LookupKey key = new LookupKey(sourceType, sourceSpec);
+		List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> preferred = index.m_preferredFactories
+				.getIfPresent(key);
+		if (preferred == null) {
+			preferred = Collections.unmodifiableList(removeRedundantFactories(
+					new ArrayList<>(getFactoriesForSourceType(index, sourceType, sourceSpec)), sourceType));
+			index.m_preferredFactories.put(key, preferred);
+		}
+		return new ArrayList<>(preferred);
+	}
+
+	private static List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> removeRedundantFactories(
+			final List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>> convs,
+			final Class<? extends DLReadableBuffer> sourceType) {
 		// remove redundant converters
 		for (int i = convs.size() - 1; i >= 0; i--) {
 			final DLTensorToDataCellConverterFactory<?, ? extends DataCell> conv = convs.get(i);
@@ -190,7 +237,7 @@ private DLTensorToDataCellConverterRegistry() {
             final Optional<DLTensorToDataCellConverterFactory<?, ?>> conv =
                 getConverterFactory(extractElementConverter(identifier));
 			if (conv.isPresent()) {
-				return Optional.of(new DLTensorToListCellConverterFactory<>(conv.get()));
+				return Optional.of(getListConverterFactory(conv.get()));
 			} else {
 				return Optional.empty();
 			}
@@ -223,6 +270,44 @@ public final boolean isDeprecated(final String identifier) {
 
     // :access methods
 
+    /**
+     * @return the non-deprecated converter factories that convert from the given buffer type or one of its super
+     *         types
+     */
+    private List<DLTensorToDataCellConverterFactory<?, ?>> getCandidates(final LookupIndex index,
+        final Class<? extends DLReadableBuffer> sourceType) {
+        List<DLTensorToDataCellConverterFactory<?, ?>> candidates = index.m_candidatesForBufferType.get(sourceType);
+        if (candidates == null) {
+            candidates = new ArrayList<>();
+            for (final DLTensorToDataCellConverterFactory<?, ?> candidate : m_converters.values()) {
+                try {
+                    if (candidate.getBufferType().isAssignableFrom(sourceType)) {
+                        candidates.add(candidate);
+                    }
+                } catch (Throwable t) {
+                    LOGGER.warn("An unexpected error occurred in DLTensorToDataCellConverter '"
+                        + candidate.getIdentifier() + "'.", t);
+                }
+            }
+            index.m_candidatesForBufferType.put(sourceType, candidates);
+        }
+        return candidates;
+    }
+
+    private DLTensorToDataCellConverterFactory<?, ? extends DataCell>
+        getListConverterFactory(final DLTensorToDataCellConverterFactory<?, ?> elementConverter) {
+        final String key = elementConverter.getIdentifier();
+        DLTensorToListCellConverterFactory<?, ?> conv = m_listConverters.get(key);
+        if (conv == null) {
+            conv = new DLTensorToListCellConverterFactory<>(elementConverter);
+            final DLTensorToListCellConverterFactory<?, ?> existing = m_listConverters.putIfAbsent(key, conv);
+            if (existing != null) {
+                conv = existing;
+            }
+        }
+        return conv;
+    }
+
     // static helpers:
 
     private static boolean isCollectionConverter(final String identifier) {
@@ -270,7 +355,50 @@ private synchronized void registerConverterInternal(final DLTensorToDataCellConv
         m_allConverters.put(id, converter);
         if (!deprecated) {
             m_converters.put(id, converter);
+            // lookups that are still running fill the discarded index
+            m_index = new LookupIndex();
         }
 	}
 	// :registration
+
+    private static final class LookupIndex {
+
+        private final ConcurrentHashMap<Class<?>, List<DLTensorToDataCellConverterFactory<?, ?>>> m_candidatesForBufferType =
+            new ConcurrentHashMap<>();
+
+        private final Cache<LookupKey, List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>>> m_factories =
+            CacheBuilder.newBuilder().maximumSize(MAX_MEMOIZED_LOOKUPS).build();
+
+        private final Cache<LookupKey, List<DLTensorToDataCellConverterFactory<?, ? extends DataCell>>> m_preferredFactories =
+            CacheBuilder.newBuilder().maximumSize(MAX_MEMOIZED_LOOKUPS).build();
+    }
+
+    private static final class LookupKey {
+
+        private final Class<?> m_sourceType;
+
+        private final DLTensorSpec m_sourceSpec;
+
+        private LookupKey(final Class<?> sourceType, final DLTensorSpec sourceSpec) {
+            m_sourceType = sourceType;
+            m_sourceSpec = sourceSpec;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_sourceType, m_sourceSpec);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            final LookupKey other = (LookupKey)obj;
+            return other.m_sourceType.equals(m_sourceType) && Objects.equals(other.m_sourceSpec, m_sourceSpec);
+        }
+    }
 }
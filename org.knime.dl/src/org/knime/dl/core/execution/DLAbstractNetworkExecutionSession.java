@@ -154,14 +154,25 @@ public N getNetwork() {
 	public void run(final DLExecutionMonitor monitor) throws DLCanceledExecutionException, Exception {
 		// lazily preallocate input tensors
 		if (m_input == null) {
-			m_input = new HashMap<>(m_executionInputSpecs.size());
-			for (final DLTensorSpec spec : m_executionInputSpecs) {
-				m_input.put(spec.getIdentifier(), m_tensorFactory.createWritableTensor(spec));
-			}
+			m_input = createInputTensors();
 		}
 		executeInternal(monitor);
 	}
 
+	/**
+	 * Allocates a new set of input tensors according to the execution input specs of this session. The caller is
+	 * responsible for {@link DLTensor#close() closing} the returned tensors.
+	 *
+	 * @return the newly allocated input tensors
+	 */
+	protected Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createInputTensors() {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>(m_executionInputSpecs.size());
+		for (final DLTensorSpec spec : m_executionInputSpecs) {
+			input.put(spec.getIdentifier(), m_tensorFactory.createWritableTensor(spec));
+		}
+		return input;
+	}
+
 	@Override
 	public void close() throws Exception {
 		if (m_input != null) {
@@ -89,9 +89,9 @@ public final class DLKnimeNetworkOutputConsumer implements DLNetworkOutputConsum
     private final LinkedHashMap<DLTensorId, DLKnimeOutputConsumerHelperStruct> m_helpers;
 
     /**
-     * <code>null</code> before the first call of {@link #accept(Map)}.
+     * <code>-1</code> before the first call of {@link #accept(Map)}.
      */
-    private DataCell[] m_temp;
+    private int m_numCellsPerRow = -1;
 
     /**
      * @param append if true, the output cells created by this instance will be appended to their respective base rows.
@@ -119,10 +119,18 @@ public DLKnimeNetworkOutputConsumer(final RowOutput output, final Supplier<DataR
 
 	@Override
 	public void accept(final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> tensors) {
-		if (m_temp == null) {
+		if (m_numCellsPerRow < 0) {
 			// initialize output structs the first time we know how the network output looks like
 			initialize(tensors);
 		}
+		// batch might be incomplete
+		final DLTensor<? extends DLReadableBuffer> firstTensor = tensors.values().iterator().next();
+		// casting is fine here as the batch size was checked in the initialize method
+		final int batchSize = (int) (firstTensor.getBuffer().size() / firstTensor.getExampleSize());
+		// the rows keep references to their cell arrays, so each row gets a fresh one which the converters fill
+		// directly
+		final DataCell[][] rows = new DataCell[batchSize][m_numCellsPerRow];
+		int c = 0;
 		for (final Entry<DLTensorId, DLKnimeOutputConsumerHelperStruct> entry : m_helpers.entrySet()) {
 			final DLTensorId identifier = entry.getKey();
 			final DLKnimeOutputConsumerHelperStruct helper = entry.getValue();
@@ -130,29 +138,16 @@ public void accept(final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> t
 			try {
 				// converter source type and tensor element type must match
 				final DLTensorToDataCellConverter converter = helper.m_converter;
-				converter.convert(tensor, helper.m_temp, m_exec);
+				converter.convertToRows(tensor, helper.m_temp, rows, c, helper.m_numOutputElements, m_exec);
 			} catch (final BufferUnderflowException ex) {
 				throw new DLInvalidNetworkOutputException("Unexpected network output. Size of network output '"
 						+ tensor.getSpec().getName() + "' did not match its specification.");
 			} catch (final Exception e) {
 				throw new RuntimeException(e);
 			}
+			c += helper.m_numOutputElements;
 		}
-		// batch might be incomplete
-		final DLTensor<? extends DLReadableBuffer> tensor = tensors.values().iterator().next();
-		final long batchSize = tensor.getBuffer().size() / tensor.getExampleSize();
-		for (int r = 0; r < batchSize; r++) {
-			int c = 0;
-	        for (final Entry<DLTensorId, DLKnimeOutputConsumerHelperStruct> entry : m_helpers.entrySet()) {
-	            final DLKnimeOutputConsumerHelperStruct helper = entry.getValue();
-				final DataCell[] temp = helper.m_temp;
-				// casting is fine here as we are already performing exact multiplication in the initialize method
-				final int o = (int) (r * helper.m_numOutputElements);
-				for (int i = 0; i < helper.m_numOutputElements; i++) {
-					m_temp[c + i] = temp[o + i];
-				}
-				c += helper.m_numOutputElements;
-			}
+		for (final DataCell[] cells : rows) {
 			DataRow baseRow;
 			try {
 				baseRow = m_baseRows.get();
@@ -162,9 +157,9 @@ public void accept(final Map<DLTensorId, DLTensor<? extends DLReadableBuffer>> t
 			}
 			try {
 				if (m_append) {
-					m_output.push(new AppendedColumnRow(baseRow, m_temp.clone()));
+					m_output.push(new AppendedColumnRow(baseRow, cells));
 				} else {
-					m_output.push(new DefaultRow(baseRow.getKey(), m_temp));
+					m_output.push(new DefaultRow(baseRow.getKey(), cells));
 				}
 			} catch (final InterruptedException ex) {
 				Thread.currentThread().interrupt();
@@ -190,15 +185,16 @@ private void initialize(final Map<DLTensorId, DLTensor<? extends DLReadableBuffe
             final DLKnimeOutputConsumerHelperStruct helper = entry.getValue();
             final DLTensorSpec tensorSpec = tensors.get(entry.getKey()).getSpec();
 			// must be present by now
-			helper.m_numOutputElements = helper.m_factory.getDestCount(tensorSpec).getAsLong();
-            if (helper.m_numOutputElements > Integer.MAX_VALUE) {
+			final long numOutputElements = helper.m_factory.getDestCount(tensorSpec).getAsLong();
+            if (numOutputElements > Integer.MAX_VALUE) {
                 throw new IllegalArgumentException(
-                    "Number of output elements (" + helper.m_numOutputElements + ") of output '" + tensorSpec.getName()
+                    "Number of output elements (" + numOutputElements + ") of output '" + tensorSpec.getName()
                         + "' is larger than 2^31-1. This is currently not supported.");
             }
+			helper.m_numOutputElements = (int) numOutputElements;
 			try {
 				helper.m_temp = (DataCell[]) Array.newInstance(helper.m_factory.getDestType().getCellClass(),
-						Math.multiplyExact((int) batchSize, (int) helper.m_numOutputElements));
+						Math.multiplyExact((int) batchSize, helper.m_numOutputElements));
 			} catch (final ArithmeticException e) {
                 throw new IllegalArgumentException("Number of output elements of output '" + tensorSpec.getName()
                     + "' times batch size is larger than 2^31-1. This is currently not supported.", e);
@@ -209,7 +205,7 @@ private void initialize(final Map<DLTensorId, DLTensor<? extends DLReadableBuffe
 			throw new IllegalArgumentException("Number of output elements (" + totalNumOutputElements
 					+ ") is larger than 2^31-1. This is currently not supported.");
 		}
-		m_temp = new DataCell[(int) totalNumOutputElements];
+		m_numCellsPerRow = (int) totalNumOutputElements;
 	}
 
 	private static final class DLKnimeOutputConsumerHelperStruct {
@@ -218,8 +214,11 @@ private static final class DLKnimeOutputConsumerHelperStruct {
 
 		private DLTensorToDataCellConverter<?, ?> m_converter;
 
-		private long m_numOutputElements;
+		private int m_numOutputElements;
 
+		/**
+		 * Scratch array for converters that do not write into the output rows directly.
+		 */
 		private DataCell[] m_temp;
 	}
 }
@@ -0,0 +1,326 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.execution;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.dl.core.DLAbstractRowIterator;
+import org.knime.dl.core.DLExecutionSpecCreator;
+import org.knime.dl.core.DLMissingExtensionException;
+import org.knime.dl.core.DLRowIterator;
+import org.knime.dl.core.DLShapeBuckets;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+
+/**
+ * Groups a stream of input rows of different shapes (e.g. sequences of different lengths) into shape buckets that can
+ * each be executed with their own execution shapes, and reassembles the output rows of these buckets in input order.
+ * <P>
+ * The input is processed in windows of a fixed number of rows. Within a window, the rows are divided into batches as
+ * described in {@link DLShapeBuckets}. If sorting is enabled, the rows of a window are sorted by their leading
+ * dimensions before they are divided into batches, so rows of similar lengths end up in the same batch and padding is
+ * minimized.
+ * <P>
+ * Each bucket of the {@link #nextWindow() current window} is consumed via its {@link Bucket#getRowIterator() row
+ * iterator} by an input preparer that {@link org.knime.dl.core.DLAbstractKnimeNetworkInputPreparer#setExamplePadding
+ * pads} the rows to the bucket's shape, and its {@link Bucket#getRowOutput() row output} receives the output rows of
+ * the respective session. Once all buckets of a window are done, {@link #completeWindow()} writes the window's output
+ * rows to the final output in input order.
+ *
+ * @author agent, agent@local
+ */
+public final class DLShapeBucketedRowStream implements AutoCloseable {
+
+	private final DLRowIterator m_source;
+
+	private final RowOutput m_output;
+
+	private final DataTableSpec m_tableSpec;
+
+	private final Map<DLTensorId, int[]> m_columns;
+
+	private final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> m_converters;
+
+	private final int m_batchSize;
+
+	private final int m_windowSize;
+
+	private final boolean m_sortByLength;
+
+	private DataRow[] m_windowOutput;
+
+	/**
+	 * @param source the input rows, must be positioned at the first row
+	 * @param output receives the output rows of all buckets in input order
+	 * @param tableSpec the spec of the input table
+	 * @param columns the columns of the input table that are fed to the network inputs, see {@link DLRowIterator}
+	 * @param converters the converters of the network inputs, used to derive the execution shapes of the rows
+	 * @param batchSize the batch size of the sessions that execute the buckets
+	 * @param windowSize the number of rows that are read and bucketed at once, must not be smaller than the batch size
+	 * @param sortByLength <code>true</code> if the rows of a window should be sorted by their leading dimensions
+	 *            before they are divided into batches
+	 */
+	public DLShapeBucketedRowStream(final DLRowIterator source, final RowOutput output, final DataTableSpec tableSpec,
+			final Map<DLTensorId, int[]> columns,
+			final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> converters, final int batchSize,
+			final int windowSize, final boolean sortByLength) {
+		checkArgument(batchSize > 0, "Batch size must be greater than zero.");
+		checkArgument(windowSize >= batchSize, "Window size must not be smaller than the batch size.");
+		m_source = checkNotNull(source);
+		m_output = checkNotNull(output);
+		m_tableSpec = checkNotNull(tableSpec);
+		m_columns = checkNotNull(columns);
+		m_converters = checkNotNull(converters);
+		m_batchSize = batchSize;
+		m_windowSize = windowSize;
+		m_sortByLength = sortByLength;
+	}
+
+	/**
+	 * @return <code>true</code> if there are input rows left that were not yet part of a window
+	 */
+	public boolean hasNextWindow() {
+		return m_source.hasNext();
+	}
+
+	/**
+	 * Reads the next window of input rows and divides it into buckets. The previous window must be
+	 * {@link #completeWindow() completed}.
+	 *
+	 * @return the buckets of the window, in the order of their first rows in the input
+	 * @throws DLMissingExtensionException if a converter is not available
+	 * @throws NoSuchElementException if there are no input rows left
+	 */
+	public List<Bucket> nextWindow() throws DLMissingExtensionException {
+		if (m_windowOutput != null) {
+			throw new IllegalStateException("The previous window was not completed.");
+		}
+		if (!m_source.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final List<DataRow> rows = new ArrayList<>(m_windowSize);
+		final List<Map<DLTensorId, long[]>> shapes = new ArrayList<>(m_windowSize);
+		while (rows.size() < m_windowSize && m_source.hasNext()) {
+			final DataRow row = m_source.next();
+			rows.add(row);
+			shapes.add(DLExecutionSpecCreator.getExecutionShapes(row, m_columns, m_converters));
+		}
+		final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>();
+		for (final List<Integer> batch : DLShapeBuckets.divideIntoBatches(shapes, m_batchSize, m_sortByLength)) {
+			final Map<DLTensorId, long[]> batchShapes = DLShapeBuckets.getMaximumShapes(batch, shapes);
+			final Bucket bucket = buckets.computeIfAbsent(DLShapeBuckets.getShapesKey(batchShapes),
+					k -> new Bucket(batchShapes));
+			for (final Integer position : batch) {
+				bucket.m_positions.add(position);
+				bucket.m_rows.add(rows.get(position));
+			}
+		}
+		m_windowOutput = new DataRow[rows.size()];
+		final List<Bucket> result = new ArrayList<>(buckets.values());
+		// keep the order of the output close to the one of the input
+		result.sort(Comparator.comparingInt(b -> Collections.min(b.m_positions)));
+		return result;
+	}
+
+	/**
+	 * Writes the output rows of the current window to the final output in input order. Must be called after all
+	 * buckets of the window are done.
+	 *
+	 * @throws InterruptedException if interrupted while writing the output
+	 * @throws IllegalStateException if there is no current window or if output rows of the window are missing
+	 */
+	public void completeWindow() throws InterruptedException {
+		if (m_windowOutput == null) {
+			throw new IllegalStateException("There is no window to complete.");
+		}
+		for (final DataRow row : m_windowOutput) {
+			if (row == null) {
+				throw new IllegalStateException("Execution of the window ended before all input rows were processed.");
+			}
+		}
+		for (final DataRow row : m_windowOutput) {
+			m_output.push(row);
+		}
+		m_windowOutput = null;
+	}
+
+	/**
+	 * Closes the final output. Must be called after all buckets are done.
+	 */
+	@Override
+	public void close() {
+		m_windowOutput = null;
+		m_output.close();
+	}
+
+	/**
+	 * The rows of a window that share the same execution shapes.
+	 */
+	public final class Bucket {
+
+		private final Map<DLTensorId, long[]> m_executionShapes;
+
+		private final List<Integer> m_positions = new ArrayList<>();
+
+		private final List<DataRow> m_rows = new ArrayList<>();
+
+		private final BucketRowIterator m_iterator = new BucketRowIterator();
+
+		private final BucketRowOutput m_rowOutput = new BucketRowOutput();
+
+		private Bucket(final Map<DLTensorId, long[]> executionShapes) {
+			m_executionShapes = Collections.unmodifiableMap(executionShapes);
+		}
+
+		/**
+		 * @return the execution shapes of the network inputs that fit all rows of this bucket
+		 */
+		public Map<DLTensorId, long[]> getExecutionShapes() {
+			return m_executionShapes;
+		}
+
+		/**
+		 * @return the number of rows of this bucket
+		 */
+		public int size() {
+			return m_rows.size();
+		}
+
+		/**
+		 * @return the input rows of this bucket
+		 */
+		public DLRowIterator getRowIterator() {
+			return m_iterator;
+		}
+
+		/**
+		 * @return the output that collects the output rows of this bucket, they must be pushed in the order of the
+		 *         bucket's input rows. Closing it does not close the final output.
+		 */
+		public RowOutput getRowOutput() {
+			return m_rowOutput;
+		}
+
+		private final class BucketRowIterator extends DLAbstractRowIterator {
+
+			private int m_next = 0;
+
+			private BucketRowIterator() {
+				super(m_tableSpec, m_columns);
+			}
+
+			@Override
+			public long size() {
+				return m_rows.size();
+			}
+
+			@Override
+			public boolean hasNext() {
+				return m_next < m_rows.size();
+			}
+
+			@Override
+			public DataRow peek() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return m_rows.get(m_next);
+			}
+
+			@Override
+			public DataRow next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return m_rows.get(m_next++);
+			}
+
+			@Override
+			public void reset() {
+				m_next = 0;
+			}
+
+			@Override
+			public void close() {
+				// the source is owned by the enclosing stream
+			}
+		}
+
+		private final class BucketRowOutput extends RowOutput {
+
+			private int m_next = 0;
+
+			@Override
+			public void push(final DataRow row) {
+				if (m_next >= m_positions.size()) {
+					throw new IllegalStateException("Output row '" + row.getKey() + "' has no corresponding input row.");
+				}
+				m_windowOutput[m_positions.get(m_next++)] = row;
+			}
+
+			@Override
+			public void close() {
+				// the final output is closed by the enclosing stream
+			}
+		}
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.execution;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.dl.core.DLAbstractRowIterator;
+import org.knime.dl.core.DLRowIterator;
+import org.knime.dl.core.DLTensorId;
+
+/**
+ * Splits a stream of input rows into batch-aligned shards that can be processed by several execution sessions in
+ * parallel and reassembles the output rows of these sessions in input order.
+ * <P>
+ * Each session consumes its shards via its own {@link Partition}: the partition's {@link Partition#getRowIterator() row
+ * iterator} is fed to the session's input preparer, the partition's {@link Partition#getRowOutput() row output} to the
+ * session's output consumer. Output rows must be pushed to the partition in the order of the partition's input rows,
+ * which holds for the existing input preparers and output consumers as they are FIFO.
+ * <P>
+ * The number of shards that are fetched but not yet written to the final output is bounded to keep memory consumption
+ * in check if some sessions are slower than others. The partition that holds the oldest pending shard is never blocked
+ * by that bound, so execution always makes progress.
+ *
+ * @author agent, agent@local
+ */
+public final class DLShardedRowStream implements AutoCloseable {
+
+	private final DLRowIterator m_source;
+
+	private final int m_shardSize;
+
+	private final RowOutput m_output;
+
+	private final DataTableSpec m_tableSpec;
+
+	private final Map<DLTensorId, int[]> m_columns;
+
+	private final int m_maxPendingShards;
+
+	/**
+	 * Guards reading from {@link #m_source} and {@link #m_nextShard}.
+	 */
+	private final ReentrantLock m_readLock = new ReentrantLock();
+
+	/**
+	 * Guards writing to {@link #m_output}, {@link #m_completedShards} and {@link #m_nextOutputShard}.
+	 */
+	private final ReentrantLock m_writeLock = new ReentrantLock();
+
+	private final Condition m_shardWritten = m_writeLock.newCondition();
+
+	private final Map<Long, List<DataRow>> m_completedShards = new HashMap<>();
+
+	private volatile long m_nextShard = 0;
+
+	private volatile long m_nextOutputShard = 0;
+
+	private volatile boolean m_sourceExhausted = false;
+
+	/**
+	 * @param source the input rows, must be positioned at the first row
+	 * @param shardSize the number of rows per shard, must equal the batch size of the sessions
+	 * @param output receives the output rows of all sessions in input order
+	 * @param tableSpec the spec of the input table
+	 * @param columns the columns of the input table that are fed to the network inputs, see {@link DLRowIterator}
+	 * @param maxPendingShards the maximum number of shards that are fetched but not yet written to the output. Must be
+	 *            large enough for each session to fill its pipeline.
+	 */
+	public DLShardedRowStream(final DLRowIterator source, final int shardSize, final RowOutput output,
+			final DataTableSpec tableSpec, final Map<DLTensorId, int[]> columns, final int maxPendingShards) {
+		checkArgument(shardSize > 0, "Shard size must be greater than zero.");
+		checkArgument(maxPendingShards > 0, "Maximum number of pending shards must be greater than zero.");
+		m_source = checkNotNull(source);
+		m_shardSize = shardSize;
+		m_output = checkNotNull(output);
+		m_tableSpec = checkNotNull(tableSpec);
+		m_columns = checkNotNull(columns);
+		m_maxPendingShards = maxPendingShards;
+	}
+
+	/**
+	 * Creates a new partition of this stream. Each execution session needs its own partition.
+	 *
+	 * @return the partition
+	 */
+	public Partition createPartition() {
+		return new Partition();
+	}
+
+	/**
+	 * @return <code>true</code> if all input rows have been read and all output rows have been written to the final
+	 *         output
+	 */
+	public boolean isComplete() {
+		m_writeLock.lock();
+		try {
+			return m_sourceExhausted && m_completedShards.isEmpty() && m_nextOutputShard == m_nextShard;
+		} finally {
+			m_writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Closes the final output. Must be called after all partitions are done.
+	 *
+	 * @throws InterruptedException if interrupted while closing the output
+	 */
+	@Override
+	public void close() throws InterruptedException {
+		m_writeLock.lock();
+		try {
+			m_completedShards.clear();
+			m_output.close();
+		} finally {
+			m_writeLock.unlock();
+		}
+	}
+
+	private Shard nextShard(final Partition partition) throws InterruptedException {
+		m_writeLock.lockInterruptibly();
+		try {
+			while (m_nextShard - m_nextOutputShard >= m_maxPendingShards
+					&& !partition.holdsShard(m_nextOutputShard)) {
+				m_shardWritten.await();
+			}
+		} finally {
+			m_writeLock.unlock();
+		}
+		m_readLock.lockInterruptibly();
+		try {
+			if (m_sourceExhausted) {
+				return null;
+			}
+			final List<DataRow> rows = new ArrayList<>(m_shardSize);
+			while (rows.size() < m_shardSize && m_source.hasNext()) {
+				rows.add(m_source.next());
+			}
+			if (rows.size() < m_shardSize) {
+				m_sourceExhausted = true;
+				if (rows.isEmpty()) {
+					return null;
+				}
+			}
+			final Shard shard = new Shard(m_nextShard, rows);
+			// register before publishing the new shard index, see #holdsShard
+			partition.m_pendingShards.add(shard);
+			m_nextShard++;
+			return shard;
+		} finally {
+			m_readLock.unlock();
+		}
+	}
+
+	private void completeShard(final long index, final List<DataRow> rows) throws InterruptedException {
+		m_writeLock.lockInterruptibly();
+		try {
+			m_completedShards.put(index, rows);
+			List<DataRow> next;
+			while ((next = m_completedShards.remove(m_nextOutputShard)) != null) {
+				for (final DataRow row : next) {
+					m_output.push(row);
+				}
+				m_nextOutputShard++;
+				m_shardWritten.signalAll();
+			}
+		} finally {
+			m_writeLock.unlock();
+		}
+	}
+
+	private static final class Shard {
+
+		private final long m_index;
+
+		private final List<DataRow> m_rows;
+
+		private Shard(final long index, final List<DataRow> rows) {
+			m_index = index;
+			m_rows = rows;
+		}
+	}
+
+	/**
+	 * The view of a single execution session on a {@link DLShardedRowStream}.
+	 */
+	public final class Partition {
+
+		/**
+		 * Shards whose rows were (partially) handed out but whose output rows were not (completely) pushed yet. May
+		 * be filled and drained concurrently if network execution is pipelined.
+		 */
+		private final Queue<Shard> m_pendingShards = new ConcurrentLinkedQueue<>();
+
+		private final PartitionRowIterator m_iterator = new PartitionRowIterator();
+
+		private final PartitionRowOutput m_rowOutput = new PartitionRowOutput();
+
+		private Partition() {
+		}
+
+		/**
+		 * @return the input rows of this partition, one shard after the other
+		 */
+		public DLRowIterator getRowIterator() {
+			return m_iterator;
+		}
+
+		/**
+		 * @return the output that collects the output rows of this partition. Closing it does not close the final
+		 *         output.
+		 */
+		public RowOutput getRowOutput() {
+			return m_rowOutput;
+		}
+
+		private boolean holdsShard(final long index) {
+			for (final Shard shard : m_pendingShards) {
+				if (shard.m_index == index) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private final class PartitionRowIterator extends DLAbstractRowIterator {
+
+			private List<DataRow> m_rows;
+
+			private int m_next;
+
+			private boolean m_exhausted = false;
+
+			private PartitionRowIterator() {
+				super(m_tableSpec, m_columns);
+			}
+
+			@Override
+			public long size() {
+				throw new UnsupportedOperationException("The size of a partition is not known in advance.");
+			}
+
+			@Override
+			public boolean hasNext() {
+				if (m_rows != null && m_next < m_rows.size()) {
+					return true;
+				}
+				// only full shards may be followed by another one, this keeps batches and shards aligned
+				if (m_exhausted || (m_rows != null && m_rows.size() < m_shardSize)) {
+					return false;
+				}
+				try {
+					final Shard shard = nextShard(Partition.this);
+					if (shard == null) {
+						m_exhausted = true;
+						return false;
+					}
+					m_rows = shard.m_rows;
+					m_next = 0;
+					return true;
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+
+			@Override
+			public DataRow peek() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return m_rows.get(m_next);
+			}
+
+			@Override
+			public DataRow next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return m_rows.get(m_next++);
+			}
+
+			@Override
+			public void reset() {
+				throw new UnsupportedOperationException("Cannot reset an iterator that runs over a streamable input.");
+			}
+
+			@Override
+			public void close() {
+				// the source is owned by the enclosing stream
+			}
+		}
+
+		private final class PartitionRowOutput extends RowOutput {
+
+			private List<DataRow> m_rows;
+
+			@Override
+			public void push(final DataRow row) throws InterruptedException {
+				final Shard shard = m_pendingShards.peek();
+				if (shard == null) {
+					throw new IllegalStateException("Output row '" + row.getKey() + "' has no corresponding input row.");
+				}
+				if (m_rows == null) {
+					m_rows = new ArrayList<>(shard.m_rows.size());
+				}
+				m_rows.add(row);
+				if (m_rows.size() == shard.m_rows.size()) {
+					final List<DataRow> rows = m_rows;
+					m_rows = null;
+					completeShard(shard.m_index, rows);
+					m_pendingShards.remove();
+				}
+			}
+
+			@Override
+			public void close() {
+				// the final output is closed by the enclosing stream
+			}
+		}
+	}
+}
@@ -61,6 +61,8 @@
 import org.knime.dl.core.DLNetwork;
 import org.knime.dl.core.DLNetworkFixedSizeInputPreparer;
 import org.knime.dl.core.DLNetworkInputProvider;
+import org.knime.dl.core.DLPrefetchingNetworkInputProvider;
+import org.knime.dl.core.DLShapeBucketedInputPreparer;
 import org.knime.dl.core.DLTensor;
 import org.knime.dl.core.DLTensorFactory;
 import org.knime.dl.core.DLTensorId;
@@ -145,16 +147,38 @@ private static boolean doExecInputsSpecsMatchConfig(final DLTrainingConfig train
 	 */
 	protected final DLTensorFactory m_tensorFactory;
 
+	private final boolean m_prefetch;
+
 	/**
-	 * Initialized during the first call of {@link #run(DLTrainingMonitor)}.
+	 * Initialized during the first call of {@link #run(DLTrainingMonitor)}. Remains null if batches are prefetched, the
+	 * prefetching input providers manage their own tensors in that case.
 	 */
 	protected Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> m_trainingInput;
 
 	/**
-	 * Initialized during the first call of {@link #run(DLTrainingMonitor)} if {@link #m_doValidation} is true.
+	 * Initialized during the first call of {@link #run(DLTrainingMonitor)} if {@link #m_doValidation} is true. Remains
+	 * null if batches are prefetched.
 	 */
 	protected Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> m_validationInput;
 
+	/**
+	 * The tensor sets of the buckets of a {@link DLShapeBucketedInputPreparer shape-bucketed} training data preparer,
+	 * created on demand. Remains empty if batches are prefetched.
+	 */
+	private final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_trainingBucketInputs =
+			new HashMap<>();
+
+	/**
+	 * The tensor sets of the buckets of a {@link DLShapeBucketedInputPreparer shape-bucketed} validation data
+	 * preparer, created on demand. Remains empty if batches are prefetched.
+	 */
+	private final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> m_validationBucketInputs =
+			new HashMap<>();
+
+	private final boolean m_bucketedTraining;
+
+	private final boolean m_bucketedValidation;
+
 	/**
 	 * @param network the network to train
 	 * @param trainingConfig the training configuration that specifies how the network will be trained
@@ -162,9 +186,10 @@ private static boolean doExecInputsSpecsMatchConfig(final DLTrainingConfig train
 	 *            network's input tensor specs with respect to the identifiers of the contained specs. A tensor spec is
 	 *            fully defined if it features a non-empty batch size and a {@link DLFixedTensorShape fixed tensor
 	 *            shape}.
-	 * @param trainingInputPreparer the training data preparer
+	 * @param trainingInputPreparer the training data preparer. If it is {@link DLShapeBucketedInputPreparer
+	 *            shape-bucketed}, the execution input specs only serve as templates for the tensors of its buckets.
 	 * @param validationInputPreparer the validation data preparer, may be null in which case no validation will be
-	 *            performed during training
+	 *            performed during training. May be shape-bucketed, too.
 	 * @param tensorFactory the tensor factory that is used to create the network's input and target tensors
 	 */
     protected DLAbstractNetworkTrainingSession(final N network, final CFG trainingConfig,
@@ -179,47 +204,84 @@ protected DLAbstractNetworkTrainingSession(final N network, final CFG trainingCo
 		m_network = network;
 		m_trainingConfig = checkNotNull(trainingConfig);
 		m_executionInputSpecs = executionInputSpecs;
+		m_tensorFactory = tensorFactory;
 		checkNotNull(trainingInputPreparer);
-		m_trainingInputProvider = new DLNetworkInputProvider() {
+		final int prefetchDepth = m_trainingConfig.getPrefetchDepth();
+		m_prefetch = prefetchDepth > 0;
+		m_bucketedTraining = trainingInputPreparer instanceof DLShapeBucketedInputPreparer;
+		m_bucketedValidation = validationInputPreparer instanceof DLShapeBucketedInputPreparer;
+		if (m_prefetch && m_bucketedTraining) {
+			final DLShapeBucketedInputPreparer bucketedPreparer = (DLShapeBucketedInputPreparer) trainingInputPreparer;
+			m_trainingInputProvider = new DLPrefetchingNetworkInputProvider(bucketedPreparer, prefetchDepth,
+					bucket -> createBucketInput(m_trainingConfig.getBatchSize(),
+							bucketedPreparer.getBucketShapes(bucket)));
+		} else if (m_prefetch) {
+			m_trainingInputProvider = new DLPrefetchingNetworkInputProvider(trainingInputPreparer, prefetchDepth,
+					this::createTrainingInput);
+		} else {
+			m_trainingInputProvider = new DLNetworkInputProvider() {
 
-			@Override
-			public long getNumBatches() {
-				return trainingInputPreparer.getNumBatches();
-			}
+				@Override
+				public long getNumBatches() {
+					return trainingInputPreparer.getNumBatches();
+				}
 
-			@Override
-			public Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> get(final long batchIndex)
-					throws DLCanceledExecutionException, DLInvalidNetworkInputException {
-				trainingInputPreparer.prepare(m_trainingInput, batchIndex);
-				return m_trainingInput;
-			}
+				@Override
+				public Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> get(final long batchIndex)
+						throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+					final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = m_bucketedTraining
+							? getBucketInput(m_trainingBucketInputs,
+									(DLShapeBucketedInputPreparer) trainingInputPreparer,
+									m_trainingConfig.getBatchSize(), batchIndex)
+							: m_trainingInput;
+					trainingInputPreparer.prepare(input, batchIndex);
+					return input;
+				}
 
-			@Override
-			public void close() throws Exception {
-				trainingInputPreparer.close();
-			}
-		};
+				@Override
+				public void close() throws Exception {
+					trainingInputPreparer.close();
+				}
+			};
+		}
 		m_doValidation = validationInputPreparer != null;
-		m_validationInputProvider = m_doValidation ? new DLNetworkInputProvider() {
+		if (!m_doValidation) {
+			m_validationInputProvider = null;
+		} else if (m_prefetch && m_bucketedValidation) {
+			final DLShapeBucketedInputPreparer bucketedPreparer =
+					(DLShapeBucketedInputPreparer) validationInputPreparer;
+			m_validationInputProvider = new DLPrefetchingNetworkInputProvider(bucketedPreparer, prefetchDepth,
+					bucket -> createBucketInput(m_trainingConfig.getValidationBatchSize(),
+							bucketedPreparer.getBucketShapes(bucket)));
+		} else if (m_prefetch) {
+			m_validationInputProvider = new DLPrefetchingNetworkInputProvider(validationInputPreparer, prefetchDepth,
+					this::createValidationInput);
+		} else {
+			m_validationInputProvider = new DLNetworkInputProvider() {
 
-			@Override
-			public long getNumBatches() {
-				return validationInputPreparer.getNumBatches();
-			}
+				@Override
+				public long getNumBatches() {
+					return validationInputPreparer.getNumBatches();
+				}
 
-			@Override
-			public Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> get(final long batchIndex)
-					throws DLCanceledExecutionException, DLInvalidNetworkInputException {
-				validationInputPreparer.prepare(m_validationInput, batchIndex);
-				return m_validationInput;
-			}
+				@Override
+				public Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> get(final long batchIndex)
+						throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+					final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = m_bucketedValidation
+							? getBucketInput(m_validationBucketInputs,
+									(DLShapeBucketedInputPreparer) validationInputPreparer,
+									m_trainingConfig.getValidationBatchSize(), batchIndex)
+							: m_validationInput;
+					validationInputPreparer.prepare(input, batchIndex);
+					return input;
+				}
 
-			@Override
-			public void close() throws Exception {
-				validationInputPreparer.close();
-			}
-		} : null;
-		m_tensorFactory = tensorFactory;
+				@Override
+				public void close() throws Exception {
+					validationInputPreparer.close();
+				}
+			};
+		}
 	}
 
 	/**
@@ -248,27 +310,21 @@ public DLTrainingConfig getTrainingConfig() {
 		return m_trainingConfig;
 	}
 
+	@Override
+	public DLNetworkInputProvider getTrainingInputProvider() {
+		return m_trainingInputProvider;
+	}
+
 	@Override
 	public void run(final DLTrainingMonitor<? extends S> monitor) throws DLCanceledExecutionException, Exception {
 		monitor.getTrainingStatus().trainingStarted().raise(null);
-		// lazily preallocate training input/target tensors
-		if (m_trainingInput == null) {
-			m_trainingInput = new HashMap<>(m_executionInputSpecs.size());
-			for (final DLTensorSpec spec : m_executionInputSpecs) {
-				m_trainingInput.put(spec.getIdentifier(), m_tensorFactory.createWritableTensor(spec));
-			}
+		// lazily preallocate training input/target tensors (prefetching providers allocate their own)
+		if (!m_prefetch && !m_bucketedTraining && m_trainingInput == null) {
+			m_trainingInput = createTrainingInput();
 		}
 		// lazily preallocate validation input/target tensors
-		if (m_doValidation && m_validationInput == null) {
-			m_validationInput = new HashMap<>(m_executionInputSpecs.size());
-			for (final DLTensorSpec spec : m_executionInputSpecs) {
-				// we need to replace the training data batch size by the validation data batch size. Specs are fully
-				// defined, no need to check if optionals are present.
-				final DLTensorSpec validationSpec = m_tensorFactory.createExecutionTensorSpec(spec,
-						m_trainingConfig.getValidationBatchSize(), DLUtils.Shapes.getFixedShape(spec.getShape()).get());
-				m_validationInput.put(validationSpec.getIdentifier(),
-						m_tensorFactory.createWritableTensor(validationSpec));
-			}
+		if (!m_prefetch && m_doValidation && !m_bucketedValidation && m_validationInput == null) {
+			m_validationInput = createValidationInput();
 		}
 		trainInternal(monitor);
 		monitor.getTrainingStatus().trainingEnded().raise(null);
@@ -276,11 +332,66 @@ public void run(final DLTrainingMonitor<? extends S> monitor) throws DLCanceledE
 
 	@Override
 	public void close() throws Exception {
+		if (m_prefetch) {
+			// stops prefetching and releases the tensors, the preparers are closed by their owners
+			m_trainingInputProvider.close();
+			if (m_validationInputProvider != null) {
+				m_validationInputProvider.close();
+			}
+		}
 		if (m_trainingInput != null) {
 			m_trainingInput.values().forEach(DLTensor::close);
 		}
 		if (m_validationInput != null) {
 			m_validationInput.values().forEach(DLTensor::close);
 		}
+		m_trainingBucketInputs.values().forEach(i -> i.values().forEach(DLTensor::close));
+		m_trainingBucketInputs.clear();
+		m_validationBucketInputs.values().forEach(i -> i.values().forEach(DLTensor::close));
+		m_validationBucketInputs.clear();
+	}
+
+	private Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> getBucketInput(
+			final Map<Integer, Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>> bucketInputs,
+			final DLShapeBucketedInputPreparer preparer, final long batchSize, final long batchIndex) {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = bucketInputs.computeIfAbsent(
+				preparer.getBucket(batchIndex), b -> createBucketInput(batchSize, preparer.getBucketShapes(b)));
+		// the tensors of a bucket are reused for all of its batches
+		input.values().forEach(t -> t.getBuffer().reset());
+		return input;
+	}
+
+	private Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createBucketInput(final long batchSize,
+			final Map<DLTensorId, long[]> shapes) {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>(m_executionInputSpecs.size());
+		for (final DLTensorSpec spec : m_executionInputSpecs) {
+			final long[] shape = shapes.get(spec.getIdentifier());
+			if (shape == null) {
+				throw new IllegalArgumentException("No shape for network input/target '" + spec.getName() + "'.");
+			}
+			final DLTensorSpec bucketSpec = m_tensorFactory.createExecutionTensorSpec(spec, batchSize, shape);
+			input.put(bucketSpec.getIdentifier(), m_tensorFactory.createWritableTensor(bucketSpec));
+		}
+		return input;
+	}
+
+	private Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createTrainingInput() {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>(m_executionInputSpecs.size());
+		for (final DLTensorSpec spec : m_executionInputSpecs) {
+			input.put(spec.getIdentifier(), m_tensorFactory.createWritableTensor(spec));
+		}
+		return input;
+	}
+
+	private Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> createValidationInput() {
+		final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input = new HashMap<>(m_executionInputSpecs.size());
+		for (final DLTensorSpec spec : m_executionInputSpecs) {
+			// we need to replace the training data batch size by the validation data batch size. Specs are fully
+			// defined, no need to check if optionals are present.
+			final DLTensorSpec validationSpec = m_tensorFactory.createExecutionTensorSpec(spec,
+					m_trainingConfig.getValidationBatchSize(), DLUtils.Shapes.getFixedShape(spec.getShape()).get());
+			input.put(validationSpec.getIdentifier(), m_tensorFactory.createWritableTensor(validationSpec));
+		}
+		return input;
 	}
 }
@@ -0,0 +1,290 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.training;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.knime.core.data.DataRow;
+import org.knime.dl.core.DLCanceledExecutionException;
+import org.knime.dl.core.DLExecutionSpecCreator;
+import org.knime.dl.core.DLInvalidNetworkInputException;
+import org.knime.dl.core.DLMissingExtensionException;
+import org.knime.dl.core.DLRowIterator;
+import org.knime.dl.core.DLShapeBucketedInputPreparer;
+import org.knime.dl.core.DLShapeBuckets;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.DLTensorSpec;
+import org.knime.dl.core.data.DLWritableBuffer;
+import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
+
+/**
+ * Prepares training or validation batches of rows of different shapes (e.g. sequences of different lengths), each
+ * batch padded only to the largest of its rows. The rows are read in windows of a fixed number of rows and each window
+ * is divided into batches as described in {@link DLShapeBuckets}, optionally after sorting its rows by length.
+ * <P>
+ * The batches are planned once, in a pass over the data rows upon construction, such that each pass over the data
+ * consists of the same batches. The rows must therefore be provided in the same order after each reset of the
+ * iterator. If shuffling is enabled, the order of the batches within each window is shuffled before each pass. The
+ * last batch of a group of rows of equal trailing dimensions is filled up by repeating its rows.
+ *
+ * @author agent, agent@local
+ */
+public final class DLKnimeNetworkShapeBucketedInputPreparer extends DLAbstractKnimeNetworkFixedSizeInputPreparer
+		implements DLShapeBucketedInputPreparer {
+
+	private final int m_windowSize;
+
+	private final Random m_shuffleRandom;
+
+	/**
+	 * The planned batches, in the order of their windows.
+	 */
+	private final List<Batch> m_batches = new ArrayList<>();
+
+	private final List<Map<DLTensorId, long[]>> m_bucketShapes = new ArrayList<>();
+
+	/**
+	 * The order in which the planned batches are prepared in the current pass over the data.
+	 */
+	private final int[] m_order;
+
+	/**
+	 * The rows of the window that was read last.
+	 */
+	private final List<DataRow> m_windowRows;
+
+	private long m_lastBatchIndex = -1;
+
+	private int m_window = -1;
+
+	/**
+	 * The window that is read next from the iterator.
+	 */
+	private int m_iteratorWindow = 0;
+
+	/**
+	 * @param iterator provides the data rows. The iterator must be resettable and must provide the rows in the same
+	 *            order after each reset. It must be in a proper initial state (i.e. reset).
+	 * @param columns the columns of the rows that are fed to the network inputs and targets, see {@link DLRowIterator}
+	 * @param batchSize the batch size of the tensors that will be prepared by this instance
+	 * @param converters the converters of the network inputs and targets, used to write the rows into the tensors and
+	 *            to derive the shapes of the rows
+	 * @param windowSize the number of rows that are bucketed at once, must not be smaller than the batch size
+	 * @param sortByLength <code>true</code> if the rows of a window should be sorted by their leading dimensions before
+	 *            they are divided into batches
+	 * @param shuffleRandom the random number generator that is used to shuffle the order of the batches within each
+	 *            window before each pass, may be null in which case the batches are prepared in their planned order
+	 * @throws DLMissingExtensionException if a converter is not available
+	 */
+	public DLKnimeNetworkShapeBucketedInputPreparer(final DLRowIterator iterator, final Map<DLTensorId, int[]> columns,
+			final int batchSize, final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> converters,
+			final int windowSize, final boolean sortByLength, final Random shuffleRandom)
+			throws DLMissingExtensionException {
+		super(iterator, batchSize, getConvertersById(converters));
+		checkArgument(windowSize >= batchSize, "Window size must not be smaller than the batch size.");
+		m_windowSize = windowSize;
+		m_shuffleRandom = shuffleRandom;
+		final Map<String, Integer> buckets = new HashMap<>();
+		for (int window = 0; iterator.hasNext(); window++) {
+			final List<Map<DLTensorId, long[]>> shapes = new ArrayList<>(windowSize);
+			while (shapes.size() < windowSize && iterator.hasNext()) {
+				shapes.add(DLExecutionSpecCreator.getExecutionShapes(iterator.next(), columns, converters));
+			}
+			for (final List<Integer> rows : DLShapeBuckets.divideIntoBatches(shapes, batchSize, sortByLength)) {
+				final Map<DLTensorId, long[]> batchShapes = DLShapeBuckets.getMaximumShapes(rows, shapes);
+				final int bucket = buckets.computeIfAbsent(DLShapeBuckets.getShapesKey(batchShapes), k -> {
+					m_bucketShapes.add(Collections.unmodifiableMap(batchShapes));
+					return m_bucketShapes.size() - 1;
+				});
+				m_batches.add(new Batch(window, rows.stream().mapToInt(Integer::intValue).toArray(), bucket));
+			}
+		}
+		iterator.reset();
+		m_order = new int[m_batches.size()];
+		for (int i = 0; i < m_order.length; i++) {
+			m_order[i] = i;
+		}
+		m_windowRows = new ArrayList<>(windowSize);
+		// rows are padded to the shapes of their batches
+		setExamplePadding(true);
+	}
+
+	@Override
+	public long getNumBatches() {
+		return m_batches.size();
+	}
+
+	@Override
+	public int getNumBuckets() {
+		return m_bucketShapes.size();
+	}
+
+	@Override
+	public int getBucket(final long batchIndex) {
+		return getBatch(batchIndex).m_bucket;
+	}
+
+	@Override
+	public Map<DLTensorId, long[]> getBucketShapes(final int bucket) {
+		return m_bucketShapes.get(bucket);
+	}
+
+	@Override
+	public void prepare(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input, final long batchIndex)
+			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		final Batch batch = getBatch(batchIndex);
+		readWindow(batch.m_window);
+		final List<DataRow> rows = new ArrayList<>(m_batchSize);
+		for (int i = 0; i < m_batchSize; i++) {
+			rows.add(m_windowRows.get(batch.m_rows[i % batch.m_rows.length]));
+		}
+		try {
+			writeRowsInTensors(rows, input);
+		} catch (final DLBufferOverflowExceptionForTensor ex) {
+			throw new DLInvalidNetworkInputException("Node data size for network input/target '"
+					+ ex.getTensor().getSpec().getName() + "' exceeds the size that was derived from the data rows. "
+					+ "Please check the column selection for this input/target.", ex);
+		}
+		for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : input.entrySet()) {
+			final DLTensor<? extends DLWritableBuffer> tensor = entry.getValue();
+			if (tensor.getBuffer().size() != tensor.getExampleSize() * m_batchSize) {
+				throw new DLInvalidNetworkInputException("Node data size for network input/target '"
+						+ tensor.getSpec().getName() + "' does not match the size of the tensor of its shape bucket. "
+						+ "Please check the column selection for this input/target.");
+			}
+		}
+	}
+
+	private Batch getBatch(final long batchIndex) {
+		checkArgument(batchIndex >= 0 && batchIndex < m_order.length, "Batch index out of bounds: %s", batchIndex);
+		if (batchIndex == 0 && m_lastBatchIndex != 0) {
+			// start of the next pass over the data, the bucket of the batch is queried before it is prepared
+			shuffle();
+		}
+		m_lastBatchIndex = batchIndex;
+		return m_batches.get(m_order[(int) batchIndex]);
+	}
+
+	/**
+	 * Shuffles the order of the batches within each window.
+	 */
+	private void shuffle() {
+		if (m_shuffleRandom == null) {
+			return;
+		}
+		int windowStart = 0;
+		for (int i = 1; i <= m_order.length; i++) {
+			if (i == m_order.length || m_batches.get(i).m_window != m_batches.get(windowStart).m_window) {
+				// Fisher-Yates
+				for (int j = i - 1; j > windowStart; j--) {
+					final int k = windowStart + m_shuffleRandom.nextInt(j - windowStart + 1);
+					final int tmp = m_order[j];
+					m_order[j] = m_order[k];
+					m_order[k] = tmp;
+				}
+				windowStart = i;
+			}
+		}
+	}
+
+	private void readWindow(final int window) {
+		if (window == m_window) {
+			return;
+		}
+		if (window < m_iteratorWindow) {
+			m_iterator.reset();
+			m_iteratorWindow = 0;
+		}
+		for (; m_iteratorWindow <= window; m_iteratorWindow++) {
+			m_windowRows.clear();
+			while (m_windowRows.size() < m_windowSize && m_iterator.hasNext()) {
+				m_windowRows.add(m_iterator.next());
+			}
+		}
+		m_window = window;
+	}
+
+	private static Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> getConvertersById(
+			final Map<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> converters) {
+		final Map<DLTensorId, DLDataValueToTensorConverterFactory<?, ?>> convertersById =
+				new LinkedHashMap<>(converters.size());
+		for (final Entry<DLTensorSpec, DLDataValueToTensorConverterFactory<?, ?>> entry : converters.entrySet()) {
+			convertersById.put(entry.getKey().getIdentifier(), entry.getValue());
+		}
+		return convertersById;
+	}
+
+	private static final class Batch {
+
+		private final int m_window;
+
+		/**
+		 * The positions of the rows of the batch within their window.
+		 */
+		private final int[] m_rows;
+
+		private final int m_bucket;
+
+		private Batch(final int window, final int[] rows, final int bucket) {
+			m_window = window;
+			m_rows = rows;
+			m_bucket = bucket;
+		}
+	}
+}
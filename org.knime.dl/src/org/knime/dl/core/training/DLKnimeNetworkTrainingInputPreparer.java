@@ -46,8 +46,12 @@
  */
 package org.knime.dl.core.training;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.node.NodeLogger;
@@ -68,6 +72,19 @@ public final class DLKnimeNetworkTrainingInputPreparer extends DLAbstractKnimeNe
 
 	private static final NodeLogger LOGGER = NodeLogger.getLogger(DLKnimeNetworkTrainingInputPreparer.class);
 
+	private boolean m_cacheEnabled;
+
+	private Random m_shuffleRandom;
+
+	private DLTrainingDataCache m_cache;
+
+	/**
+	 * The order in which the cached examples are read in the current pass over the training data.
+	 */
+	private int[] m_permutation;
+
+	private int m_nextExample;
+
 	/**
 	 * @param iterator provides the input data rows that are used by this instance to prepare (fill) the network tensors
 	 *            fed to {@link #prepare(Map, long)}. The iterator must know its size and must be resettable. It must be
@@ -96,36 +113,157 @@ public long getNumBatches() {
 		return (long) Math.ceil(m_iterator.size() / (double) m_batchSize);
 	}
 
+	/**
+	 * Enables caching of the converted training examples. The examples are converted and cached during the first
+	 * pass over the training data. All later passes read the cached examples instead of converting the data rows
+	 * again. Since the row iterator is not reset in this case, shuffling is done by permuting the order in which the
+	 * cached examples are read.
+	 * <P>
+	 * Caching only applies if all tensors passed to {@link #prepare(Map, long)} are supported by the cache, i.e. if
+	 * their buffers are wrapping buffers of primitive storage. Otherwise, rows are converted in each pass as usual.
+	 *
+	 * @param shuffleRandom the random number generator that is used to permute the cached examples before each pass,
+	 *            may be null in which case each pass feeds the examples in the order of the first pass
+	 */
+	public void enableEpochCache(final Random shuffleRandom) {
+		m_cacheEnabled = true;
+		m_shuffleRandom = shuffleRandom;
+	}
+
 	@Override
 	public void prepare(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input, final long batchIndex)
 			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
-		for (long i = 0; i < m_batchSize; i++) {
-			if (!m_iterator.hasNext()) {
-				// continue at the beginning of the table to fill up incomplete batch
-				m_iterator.reset();
+		if (m_cacheEnabled && m_cache == null) {
+			createCache(input);
+		}
+		if (m_cache != null) {
+			prepareFromCache(input);
+		} else {
+			final List<DataRow> rows = new ArrayList<>(m_batchSize);
+			for (long i = 0; i < m_batchSize; i++) {
+				if (!m_iterator.hasNext()) {
+					// continue at the beginning of the table to fill up incomplete batch
+					m_iterator.reset();
+				}
+				rows.add(m_iterator.next());
+			}
+			writeRows(rows, input);
+		}
+		checkTensorSizes(input, m_batchSize);
+	}
+
+	@Override
+	public void close() throws Exception {
+		try {
+			super.close();
+		} finally {
+			if (m_cache != null) {
+				m_cache.close();
+				m_cache = null;
+			}
+		}
+	}
+
+	private void createCache(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input) {
+		m_cacheEnabled = false;
+		final long size = m_iterator.size();
+		if (size == 0 || size > Integer.MAX_VALUE || !DLTrainingDataCache.isCacheable(input)) {
+			LOGGER.debug("Training data cannot be cached. Data rows will be converted in each epoch.");
+			return;
+		}
+		try {
+			m_cache = new DLTrainingDataCache(input);
+		} catch (final IOException e) {
+			LOGGER.warn("Training data cache could not be created. Data rows will be converted in each epoch.", e);
+		}
+	}
+
+	/**
+	 * Converts the rows of the first pass and adds them to the cache. Once the cache is complete, batches are filled
+	 * from the cache.
+	 */
+	private void prepareFromCache(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input)
+			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		int numExamples = 0;
+		if (!m_cache.isSealed()) {
+			final List<DataRow> rows = new ArrayList<>(m_batchSize);
+			while (rows.size() < m_batchSize && m_iterator.hasNext()) {
+				rows.add(m_iterator.next());
 			}
-			final DataRow row = m_iterator.next();
+			writeRows(rows, input);
+			numExamples = rows.size();
+			// only cache examples that are known to be valid
+			checkTensorSizes(input, numExamples);
 			try {
-				writeDataValuesInTensors(m_iterator.groupByTensor(row), input);
-			} catch (final DLBufferOverflowExceptionForTensor ex) {
-				final DLTensor<?> tensor = ex.getTensor();
-				// must be present
-				final long exampleSize = DLUtils.Shapes.getFixedSize(tensor.getSpec().getShape()).getAsLong();
-				// must be present
-				final long batchSize = tensor.getSpec().getBatchSize().getAsLong();
-				throw new DLInvalidNetworkInputException(
-						"Node training data size for input/target '" + tensor.getSpec().getName()
-								+ "' exceeds the expected size. Neuron count of this input/target is " + exampleSize
-								+ ", batch size is " + batchSize + ". Thus, expected training data size is "
-								+ exampleSize * batchSize + ". Please check the column selection for this input/target "
-								+ "and validate the node's training data.",
-						ex);
+				m_cache.append(input, numExamples);
+				if (!m_iterator.hasNext()) {
+					m_cache.seal();
+					m_permutation = createPermutation((int) m_cache.getNumExamples());
+					m_nextExample = 0;
+				}
+			} catch (final IOException e) {
+				throw new IllegalStateException("An error occurred while caching the training data.", e);
 			}
 		}
-		// check if tensors were filled correctly
+		for (; numExamples < m_batchSize; numExamples++) {
+			if (m_nextExample == m_permutation.length) {
+				// start the next pass over the training data
+				shuffle(m_permutation);
+				m_nextExample = 0;
+			}
+			m_cache.read(m_permutation[m_nextExample++], input);
+		}
+	}
+
+	private int[] createPermutation(final int numExamples) {
+		final int[] permutation = new int[numExamples];
+		for (int i = 0; i < numExamples; i++) {
+			permutation[i] = i;
+		}
+		shuffle(permutation);
+		return permutation;
+	}
+
+	private void shuffle(final int[] permutation) {
+		if (m_shuffleRandom != null) {
+			// Fisher-Yates
+			for (int i = permutation.length - 1; i > 0; i--) {
+				final int j = m_shuffleRandom.nextInt(i + 1);
+				final int tmp = permutation[i];
+				permutation[i] = permutation[j];
+				permutation[j] = tmp;
+			}
+		}
+	}
+
+	private void writeRows(final List<DataRow> rows, final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input)
+			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		try {
+			writeRowsInTensors(rows, input);
+		} catch (final DLBufferOverflowExceptionForTensor ex) {
+			final DLTensor<?> tensor = ex.getTensor();
+			// must be present
+			final long exampleSize = DLUtils.Shapes.getFixedSize(tensor.getSpec().getShape()).getAsLong();
+			// must be present
+			final long batchSize = tensor.getSpec().getBatchSize().getAsLong();
+			throw new DLInvalidNetworkInputException(
+					"Node training data size for input/target '" + tensor.getSpec().getName()
+							+ "' exceeds the expected size. Neuron count of this input/target is " + exampleSize
+							+ ", batch size is " + batchSize + ". Thus, expected training data size is "
+							+ exampleSize * batchSize + ". Please check the column selection for this input/target "
+							+ "and validate the node's training data.",
+					ex);
+		}
+	}
+
+	/**
+	 * Checks if the tensors were filled correctly.
+	 */
+	private void checkTensorSizes(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input,
+			final int numExamples) throws DLInvalidNetworkInputException {
 		for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : input.entrySet()) {
 			final DLTensor<? extends DLWritableBuffer> tensor = entry.getValue();
-			if (tensor.getBuffer().size() != tensor.getExampleSize() * m_batchSize) {
+			if (tensor.getBuffer().size() != tensor.getExampleSize() * numExamples) {
 				// Must be present. Note that exampleSize == tensor.getExampleSize() does not necessarily hold
 				// as the latter is expressed in terms of buffer elements, not input elements ("neurons").
 				final long exampleSize = DLUtils.Shapes.getFixedSize(tensor.getSpec().getShape()).getAsLong();
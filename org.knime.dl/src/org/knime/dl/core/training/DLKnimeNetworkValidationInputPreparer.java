@@ -46,8 +46,16 @@
  */
 package org.knime.dl.core.training;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.node.NodeLogger;
@@ -56,11 +64,18 @@
 import org.knime.dl.core.DLRowIterator;
 import org.knime.dl.core.DLTensor;
 import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.cache.DLMemoryAlertAwareGuavaCache;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
 import org.knime.dl.core.data.DLWritableBuffer;
 import org.knime.dl.core.data.convert.DLDataValueToTensorConverterFactory;
 import org.knime.dl.util.DLUtils;
 
 /**
+ * Each validation phase is executed with the same set of batches. Converted batches are therefore kept in the
+ * {@link DLMemoryAlertAwareGuavaCache#getTensors() tensor region} of the cache (as far as its capacity permits) and
+ * later validation phases restore them from there instead of converting the data rows again.
+ *
  * @author Marcel Wiedenmann, KNIME GmbH, Konstanz, Germany
  * @author Christian Dietz, KNIME GmbH, Konstanz, Germany
  */
@@ -68,6 +83,24 @@ public final class DLKnimeNetworkValidationInputPreparer extends DLAbstractKnime
 
 	private static final NodeLogger LOGGER = NodeLogger.getLogger(DLKnimeNetworkValidationInputPreparer.class);
 
+	/**
+	 * Identifies the batches of this instance in the cache. Batches are keyed by the position of their first row.
+	 */
+	private final String m_cacheKeyPrefix = "validation:" + UUID.randomUUID() + ":";
+
+	private final Set<String> m_cacheKeys = new HashSet<>();
+
+	/**
+	 * The number of rows that would have been consumed from the iterator since its last reset if no batch had been
+	 * restored from the cache.
+	 */
+	private long m_position = 0;
+
+	/**
+	 * The number of rows that were actually consumed from the iterator since its last reset.
+	 */
+	private long m_iteratorPosition = 0;
+
 	/**
 	 * @param iterator provides the input data rows that are used by this instance to prepare (fill) the network tensors
 	 *            fed to {@link #prepare(Map, long)}. The iterator must know its size and must be resettable. It must be
@@ -99,36 +132,57 @@ public long getNumBatches() {
 	@Override
 	public void prepare(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input, final long batchIndex)
 			throws DLCanceledExecutionException, DLInvalidNetworkInputException {
+		final String cacheKey = m_cacheKeyPrefix + m_position;
+		final Optional<Object> cached = DLMemoryAlertAwareGuavaCache.CACHE.getTensors().get(cacheKey);
+		if (cached.isPresent()) {
+			restoreBatch(cached.get(), input);
+			// mirrors the iterator movements below
+			m_position = m_position + m_batchSize <= m_iterator.size() ? m_position + m_batchSize : 0;
+			return;
+		}
+		// catch up on the rows of batches that were restored from the cache
+		if (m_iteratorPosition > m_position) {
+			m_iterator.reset();
+			m_iteratorPosition = 0;
+		}
+		for (; m_iteratorPosition < m_position; m_iteratorPosition++) {
+			m_iterator.next();
+		}
+		final List<DataRow> rows = new ArrayList<>(m_batchSize);
 		boolean reset = false;
 		for (long i = 0; i < m_batchSize; i++) {
 			if (!m_iterator.hasNext()) {
 				// continue at the beginning of the table to fill up incomplete batch
 				m_iterator.reset();
+				m_iteratorPosition = 0;
 				reset = true;
 			}
-			final DataRow row = m_iterator.next();
-			try {
-				writeDataValuesInTensors(m_iterator.groupByTensor(row), input);
-			} catch (final DLBufferOverflowExceptionForTensor ex) {
-				final DLTensor<?> tensor = ex.getTensor();
-				// must be present
-				final long exampleSize = DLUtils.Shapes.getFixedSize(tensor.getSpec().getShape()).getAsLong();
-				// must be present
-				final long batchSize = tensor.getSpec().getBatchSize().getAsLong();
-				throw new DLInvalidNetworkInputException(
-						"Node validation data size for input/target '" + tensor.getSpec().getName()
-								+ "' exceeds the expected size. Neuron count of this input/target is " + exampleSize
-								+ ", batch size is " + batchSize + ". Thus, expected validation data size is "
-								+ exampleSize * batchSize + ". Please check the column selection for this input/target "
-								+ "and validate the node's validation data.",
-						ex);
-			}
+			rows.add(m_iterator.next());
+			m_iteratorPosition++;
+		}
+		try {
+			writeRowsInTensors(rows, input);
+		} catch (final DLBufferOverflowExceptionForTensor ex) {
+			final DLTensor<?> tensor = ex.getTensor();
+			// must be present
+			final long exampleSize = DLUtils.Shapes.getFixedSize(tensor.getSpec().getShape()).getAsLong();
+			// must be present
+			final long batchSize = tensor.getSpec().getBatchSize().getAsLong();
+			throw new DLInvalidNetworkInputException(
+					"Node validation data size for input/target '" + tensor.getSpec().getName()
+							+ "' exceeds the expected size. Neuron count of this input/target is " + exampleSize
+							+ ", batch size is " + batchSize + ". Thus, expected validation data size is "
+							+ exampleSize * batchSize + ". Please check the column selection for this input/target "
+							+ "and validate the node's validation data.",
+					ex);
 		}
 		if (reset) {
 			// Validation outcomes must be comparable. Each validation phase should be executed with the same set of
 			// batches.
 			m_iterator.reset();
+			m_iteratorPosition = 0;
 		}
+		m_position = m_iteratorPosition;
 		// check if tensors were filled correctly
 		for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : input.entrySet()) {
 			final DLTensor<? extends DLWritableBuffer> tensor = entry.getValue();
@@ -145,5 +199,64 @@ public void prepare(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>>
 						+ "and validate the node's validation data.");
 			}
 		}
+		cacheBatch(cacheKey, input);
+	}
+
+	@Override
+	public void close() throws Exception {
+		try {
+			super.close();
+		} finally {
+			m_cacheKeys.forEach(DLMemoryAlertAwareGuavaCache.CACHE.getTensors()::remove);
+			m_cacheKeys.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void cacheBatch(final String cacheKey, final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input) {
+		if (!DLTrainingDataCache.isCacheable(input)) {
+			return;
+		}
+		final Map<DLTensorId, Object> batch = new HashMap<>(input.size());
+		long size = 0;
+		for (final Entry<DLTensorId, DLTensor<? extends DLWritableBuffer>> entry : input.entrySet()) {
+			final DLWrappingDataBuffer<Object> buffer = (DLWrappingDataBuffer<Object>) entry.getValue().getBuffer();
+			final int length = (int) (buffer.size() / buffer.getElementsPerStorageUnit());
+			final Object storage = buffer.getStorageForReading(0, length);
+			// storage positions of packed bit buffers are bit positions, the words that hold them are copied
+			final int storageLength = DLDefaultBitBuffer.hasPackedStorage(buffer)
+					? DLDefaultBitBuffer.getNumWords(length) : length;
+			final Object copy = Array.newInstance(storage.getClass().getComponentType(), storageLength);
+			System.arraycopy(storage, 0, copy, 0, storageLength);
+			batch.put(entry.getKey(), copy);
+			size += (long) storageLength * getElementSize(storage);
+		}
+		DLMemoryAlertAwareGuavaCache.CACHE.getTensors().put(cacheKey, batch, size);
+		m_cacheKeys.add(cacheKey);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void restoreBatch(final Object cached, final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> input) {
+		for (final Entry<DLTensorId, Object> entry : ((Map<DLTensorId, Object>) cached).entrySet()) {
+			final DLTensor<? extends DLWritableBuffer> tensor = input.get(entry.getKey());
+			final DLWrappingDataBuffer<Object> buffer = (DLWrappingDataBuffer<Object>) tensor.getBuffer();
+			// cached batches are complete, see prepare
+			final long length = tensor.getExampleSize() * m_batchSize / buffer.getElementsPerStorageUnit();
+			final int storageLength = Array.getLength(entry.getValue());
+			System.arraycopy(entry.getValue(), 0, buffer.getStorageForWriting(0, length), 0, storageLength);
+		}
+	}
+
+	private static int getElementSize(final Object storage) {
+		final Class<?> type = storage.getClass().getComponentType();
+		if (type == boolean.class || type == byte.class) {
+			return 1;
+		} else if (type == short.class) {
+			return Short.BYTES;
+		} else if (type == int.class || type == float.class) {
+			return Integer.BYTES;
+		} else {
+			return Long.BYTES;
+		}
 	}
 }
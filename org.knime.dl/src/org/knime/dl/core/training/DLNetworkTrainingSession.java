@@ -47,6 +47,7 @@
 package org.knime.dl.core.training;
 
 import org.knime.dl.core.DLCanceledExecutionException;
+import org.knime.dl.core.DLNetworkInputProvider;
 import org.knime.dl.core.DLNetworkSession;
 
 /**
@@ -59,5 +60,10 @@
 
 	DLTrainingConfig getTrainingConfig();
 
+	/**
+	 * @return the provider of the training data batches
+	 */
+	DLNetworkInputProvider getTrainingInputProvider();
+
 	void run(DLTrainingMonitor<? extends S> monitor) throws DLCanceledExecutionException, Exception;
 }
@@ -68,4 +68,12 @@ public interface DLTrainingConfig {
 	 *         performing model evaluation during training.
 	 */
 	long getValidationBatchSize();
+
+	/**
+	 * @return the maximum number of training and validation batches that are prepared in advance while the back end
+	 *         processes the current batch. Zero means that batches are prepared on demand.
+	 */
+	default int getPrefetchDepth() {
+		return 0;
+	}
 }
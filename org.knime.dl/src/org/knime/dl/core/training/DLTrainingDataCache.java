@@ -0,0 +1,452 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent@local): created
+ */
+package org.knime.dl.core.training;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.util.FileUtil;
+import org.knime.dl.core.DLTensor;
+import org.knime.dl.core.DLTensorId;
+import org.knime.dl.core.data.DLDefaultBitBuffer;
+import org.knime.dl.core.data.DLWrappingDataBuffer;
+import org.knime.dl.core.data.DLWritableBuffer;
+
+/**
+ * Caches converted training examples in a memory-mapped file on local disk. The cache is filled during the first pass
+ * over the training data and afterwards allows to feed the examples of later passes (epochs) without converting the
+ * underlying data rows again.
+ * <P>
+ * Examples are stored as records of fixed size, the record of an example consists of the example's slices of all
+ * cached tensors. Hence examples can be read in arbitrary order, e.g. according to a random permutation. Only tensors
+ * whose buffers are {@link DLWrappingDataBuffer wrapping buffers} of primitive storage can be cached, see
+ * {@link #isCacheable(Map)}.
+ * <P>
+ * Instances are not thread-safe.
+ *
+ * @author agent, agent@local
+ */
+final class DLTrainingDataCache implements AutoCloseable {
+
+	/**
+	 * The maximum size of a single mapped region of the cache file.
+	 */
+	private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * @param tensors the tensors to check
+	 * @return true if the contents of all tensors can be cached
+	 */
+	static boolean isCacheable(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors) {
+		for (final DLTensor<? extends DLWritableBuffer> tensor : tensors.values()) {
+			if (!(tensor.getBuffer() instanceof DLWrappingDataBuffer) || tensor.getExampleSize() > Integer.MAX_VALUE) {
+				return false;
+			}
+			if (DLStorageType.of((DLWrappingDataBuffer<?>) tensor.getBuffer()) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private final List<DLTensorId> m_tensorIds;
+
+	private final DLStorageType[] m_storageTypes;
+
+	/**
+	 * Per tensor: the number of storage elements that make up an example.
+	 */
+	private final int[] m_storageExampleSizes;
+
+	private final int m_recordSize;
+
+	private final File m_file;
+
+	private FileChannel m_channel;
+
+	private ByteBuffer m_writeBuffer;
+
+	private long m_numExamples;
+
+	private MappedByteBuffer[] m_regions;
+
+	private long m_examplesPerRegion;
+
+	/**
+	 * Creates an empty cache for tensors of the given layout.
+	 *
+	 * @param tensors the tensors whose examples will be cached, only their layout is considered, must be
+	 *            {@link #isCacheable(Map) cacheable}
+	 * @throws IOException if creating the cache file failed
+	 */
+	DLTrainingDataCache(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors) throws IOException {
+		m_tensorIds = new ArrayList<>(tensors.keySet());
+		final int numTensors = m_tensorIds.size();
+		m_storageTypes = new DLStorageType[numTensors];
+		m_storageExampleSizes = new int[numTensors];
+		int recordSize = 0;
+		for (int i = 0; i < numTensors; i++) {
+			final DLTensor<? extends DLWritableBuffer> tensor = tensors.get(m_tensorIds.get(i));
+			final DLWrappingDataBuffer<?> buffer = (DLWrappingDataBuffer<?>) tensor.getBuffer();
+			m_storageTypes[i] = DLStorageType.of(buffer);
+			m_storageExampleSizes[i] = (int) (tensor.getExampleSize() / buffer.getElementsPerStorageUnit());
+			recordSize = Math.addExact(recordSize, m_storageTypes[i].getRecordSize(m_storageExampleSizes[i]));
+		}
+		m_recordSize = recordSize;
+		m_file = FileUtil.createTempFile("knime-dl-training-cache", ".bin", true);
+		m_channel = FileChannel.open(m_file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		m_writeBuffer = ByteBuffer.allocateDirect(Math.max(WRITE_BUFFER_SIZE, m_recordSize))
+				.order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * @return the number of cached examples
+	 */
+	long getNumExamples() {
+		return m_numExamples;
+	}
+
+	/**
+	 * @return true if the cache was {@link #seal() sealed} and can be read
+	 */
+	boolean isSealed() {
+		return m_regions != null;
+	}
+
+	/**
+	 * Appends the first examples of the given tensors to the cache.
+	 *
+	 * @param tensors the tensors whose examples to cache
+	 * @param numExamples the number of examples to append, counted from the beginning of the tensors
+	 * @throws IOException if writing the cache file failed
+	 */
+	@SuppressWarnings("unchecked")
+	void append(final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors, final int numExamples)
+			throws IOException {
+		if (isSealed()) {
+			throw new IllegalStateException("Training data cache was already sealed.");
+		}
+		final Object[] storages = new Object[m_tensorIds.size()];
+		for (int i = 0; i < storages.length; i++) {
+			storages[i] = ((DLWrappingDataBuffer<Object>) tensors.get(m_tensorIds.get(i)).getBuffer())
+					.getStorageForReading(0, (long) numExamples * m_storageExampleSizes[i]);
+		}
+		for (int e = 0; e < numExamples; e++) {
+			if (m_writeBuffer.remaining() < m_recordSize) {
+				flush();
+			}
+			for (int i = 0; i < storages.length; i++) {
+				m_storageTypes[i].write(m_writeBuffer, storages[i], e * m_storageExampleSizes[i],
+						m_storageExampleSizes[i]);
+			}
+		}
+		m_numExamples += numExamples;
+	}
+
+	/**
+	 * Completes filling the cache and maps the cache file into memory for reading. No examples can be appended
+	 * afterwards.
+	 *
+	 * @throws IOException if writing or mapping the cache file failed
+	 */
+	void seal() throws IOException {
+		flush();
+		m_writeBuffer = null;
+		m_examplesPerRegion = Math.max(MAX_REGION_SIZE / Math.max(m_recordSize, 1), 1);
+		final int numRegions = (int) ((m_numExamples + m_examplesPerRegion - 1) / m_examplesPerRegion);
+		final MappedByteBuffer[] regions = new MappedByteBuffer[numRegions];
+		final long regionSize = m_examplesPerRegion * m_recordSize;
+		final long fileSize = m_numExamples * m_recordSize;
+		for (int r = 0; r < numRegions; r++) {
+			final long position = r * regionSize;
+			regions[r] = m_channel.map(MapMode.READ_ONLY, position, Math.min(regionSize, fileSize - position));
+			regions[r].order(ByteOrder.nativeOrder());
+		}
+		// mapped regions remain valid after the channel was closed
+		m_channel.close();
+		m_channel = null;
+		m_regions = regions;
+	}
+
+	/**
+	 * Appends a cached example to the given tensors.
+	 *
+	 * @param example the index of the example, in the order in which the examples were appended
+	 * @param tensors the tensors to which to append the example, must have the layout of the cached tensors
+	 */
+	@SuppressWarnings("unchecked")
+	void read(final long example, final Map<DLTensorId, DLTensor<? extends DLWritableBuffer>> tensors) {
+		if (!isSealed()) {
+			throw new IllegalStateException("Training data cache must be sealed before it can be read.");
+		}
+		final MappedByteBuffer region = m_regions[(int) (example / m_examplesPerRegion)];
+		region.position((int) ((example % m_examplesPerRegion) * m_recordSize));
+		for (int i = 0; i < m_tensorIds.size(); i++) {
+			final DLWrappingDataBuffer<Object> buffer = (DLWrappingDataBuffer<Object>) tensors
+					.get(m_tensorIds.get(i)).getBuffer();
+			final long startPos = buffer.size() / buffer.getElementsPerStorageUnit();
+			final Object storage = buffer.getStorageForWriting(startPos, m_storageExampleSizes[i]);
+			m_storageTypes[i].read(region, storage, (int) startPos, m_storageExampleSizes[i]);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		m_regions = null;
+		m_writeBuffer = null;
+		if (m_channel != null) {
+			m_channel.close();
+			m_channel = null;
+		}
+		// may fail as long as the file is still mapped, it is deleted on exit in this case
+		m_file.delete();
+	}
+
+	private void flush() throws IOException {
+		m_writeBuffer.flip();
+		while (m_writeBuffer.hasRemaining()) {
+			m_channel.write(m_writeBuffer);
+		}
+		m_writeBuffer.clear();
+	}
+
+	/**
+	 * The primitive storage types of wrapping buffers that can be cached.
+	 */
+	private enum DLStorageType {
+
+		BOOLEAN(1) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				final boolean[] s = (boolean[]) source;
+				for (int i = offset; i < offset + length; i++) {
+					target.put(s[i] ? (byte) 1 : (byte) 0);
+				}
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				final boolean[] t = (boolean[]) target;
+				for (int i = offset; i < offset + length; i++) {
+					t[i] = source.get() != 0;
+				}
+			}
+		},
+		/**
+		 * Bits packed into words, see {@link DLDefaultBitBuffer}. Offsets and lengths are expressed in bits, each
+		 * example is padded to full words in the cache.
+		 */
+		PACKED_BITS(Long.BYTES) {
+
+			@Override
+			int getRecordSize(final int length) {
+				return Math.multiplyExact(DLDefaultBitBuffer.getNumWords(length), Long.BYTES);
+			}
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				final long[] s = (long[]) source;
+				for (int i = 0; i < length; i += Long.SIZE) {
+					target.putLong(DLDefaultBitBuffer.getBits(s, offset + i, Math.min(Long.SIZE, length - i)));
+				}
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				final long[] t = (long[]) target;
+				for (int i = 0; i < length; i += Long.SIZE) {
+					DLDefaultBitBuffer.setBits(t, offset + i, Math.min(Long.SIZE, length - i), source.getLong());
+				}
+			}
+		},
+		BYTE(Byte.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.put((byte[]) source, offset, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.get((byte[]) target, offset, length);
+			}
+		},
+		SHORT(Short.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.asShortBuffer().put((short[]) source, offset, length);
+				skip(target, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.asShortBuffer().get((short[]) target, offset, length);
+				skip(source, length);
+			}
+		},
+		INT(Integer.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.asIntBuffer().put((int[]) source, offset, length);
+				skip(target, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.asIntBuffer().get((int[]) target, offset, length);
+				skip(source, length);
+			}
+		},
+		LONG(Long.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.asLongBuffer().put((long[]) source, offset, length);
+				skip(target, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.asLongBuffer().get((long[]) target, offset, length);
+				skip(source, length);
+			}
+		},
+		FLOAT(Float.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.asFloatBuffer().put((float[]) source, offset, length);
+				skip(target, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.asFloatBuffer().get((float[]) target, offset, length);
+				skip(source, length);
+			}
+		},
+		DOUBLE(Double.BYTES) {
+
+			@Override
+			void write(final ByteBuffer target, final Object source, final int offset, final int length) {
+				target.asDoubleBuffer().put((double[]) source, offset, length);
+				skip(target, length);
+			}
+
+			@Override
+			void read(final ByteBuffer source, final Object target, final int offset, final int length) {
+				source.asDoubleBuffer().get((double[]) target, offset, length);
+				skip(source, length);
+			}
+		};
+
+		private static DLStorageType of(final DLWrappingDataBuffer<?> buffer) {
+			if (DLDefaultBitBuffer.hasPackedStorage(buffer)) {
+				return PACKED_BITS;
+			}
+			final Object storage = buffer.getStorageForReading(0, 0);
+			if (storage instanceof boolean[]) {
+				return BOOLEAN;
+			} else if (storage instanceof byte[]) {
+				return BYTE;
+			} else if (storage instanceof short[]) {
+				return SHORT;
+			} else if (storage instanceof int[]) {
+				return INT;
+			} else if (storage instanceof long[]) {
+				return LONG;
+			} else if (storage instanceof float[]) {
+				return FLOAT;
+			} else if (storage instanceof double[]) {
+				return DOUBLE;
+			}
+			return null;
+		}
+
+		private final int m_elementSize;
+
+		private DLStorageType(final int elementSize) {
+			m_elementSize = elementSize;
+		}
+
+		/**
+		 * @param length the number of storage elements of an example
+		 * @return the number of bytes that an example occupies in a record
+		 */
+		int getRecordSize(final int length) {
+			return Math.multiplyExact(length, m_elementSize);
+		}
+
+		/**
+		 * Advances the position of the buffer past the given number of elements of this type. Needed since the typed
+		 * views used for bulk transfers have independent positions.
+		 */
+		void skip(final ByteBuffer buffer, final int length) {
+			buffer.position(buffer.position() + length * m_elementSize);
+		}
+
+		abstract void write(ByteBuffer target, Object source, int offset, int length);
+
+		abstract void read(ByteBuffer source, Object target, int offset, int length);
+	}
+}